@@ -26,8 +26,7 @@ public class DefaultFunctionEncoder extends FunctionEncoder {
     public String encodeFunction(final Function function) {
         final List<Type> parameters = function.getInputParameters();
 
-        final String methodSignature = buildMethodSignature(function.getName(), parameters);
-        final String methodId = buildMethodId(methodSignature);
+        final String methodId = buildMethodId(function);
 
         final StringBuilder result = new StringBuilder();
         result.append(methodId);
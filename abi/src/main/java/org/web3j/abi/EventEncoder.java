@@ -17,8 +17,6 @@ import java.util.stream.Collectors;
 
 import org.web3j.abi.datatypes.Event;
 import org.web3j.abi.datatypes.Type;
-import org.web3j.crypto.Hash;
-import org.web3j.utils.Numeric;
 
 /**
  * Ethereum filter encoding. Further limited details are available <a
@@ -29,6 +27,9 @@ public class EventEncoder {
     private EventEncoder() {}
 
     public static String encode(Event event) {
+        if (event.getTopic() != null) {
+            return event.getTopic();
+        }
 
         String methodSignature = buildMethodSignature(event.getName(), event.getParameters());
 
@@ -49,8 +50,6 @@ public class EventEncoder {
     }
 
     public static String buildEventSignature(String methodSignature) {
-        byte[] input = methodSignature.getBytes();
-        byte[] hash = Hash.sha3(input);
-        return Numeric.toHexString(hash);
+        return SignatureHashCache.eventTopic(methodSignature);
     }
 }
@@ -22,8 +22,6 @@ import java.util.stream.Collectors;
 import org.web3j.abi.datatypes.Function;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.spi.FunctionEncoderProvider;
-import org.web3j.crypto.Hash;
-import org.web3j.utils.Numeric;
 
 import static org.web3j.abi.TypeDecoder.instantiateType;
 import static org.web3j.abi.TypeReference.makeTypeReference;
@@ -87,9 +85,15 @@ public abstract class FunctionEncoder {
     }
 
     protected static String buildMethodId(final String methodSignature) {
-        final byte[] input = methodSignature.getBytes();
-        final byte[] hash = Hash.sha3(input);
-        return Numeric.toHexString(hash).substring(0, 10);
+        return SignatureHashCache.methodId(methodSignature);
+    }
+
+    protected static String buildMethodId(final Function function) {
+        if (function.getMethodId() != null) {
+            return function.getMethodId();
+        }
+        return buildMethodId(
+                buildMethodSignature(function.getName(), function.getInputParameters()));
     }
 
     private static FunctionEncoder encoder() {
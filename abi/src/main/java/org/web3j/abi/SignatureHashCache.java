@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.web3j.crypto.Keccak256;
+import org.web3j.utils.Numeric;
+
+/**
+ * Process wide cache of Keccak-256 hashes of function and event signatures.
+ *
+ * <p>Signatures are static per contract, so each one only needs to be hashed once. The cache is
+ * bounded, once {@link #MAX_ENTRIES} signatures are held an arbitrary entry is evicted for every
+ * new one added.
+ */
+public final class SignatureHashCache {
+
+    public static final int MAX_ENTRIES = 4096;
+
+    private static final Map<String, String> METHOD_IDS = new ConcurrentHashMap<>();
+    private static final Map<String, String> EVENT_TOPICS = new ConcurrentHashMap<>();
+
+    private SignatureHashCache() {}
+
+    /**
+     * Returns the 4 byte method selector of a function signature, such as {@code
+     * transfer(address,uint256)}.
+     *
+     * @param methodSignature canonical function signature
+     * @return hex encoded selector, prefixed with 0x
+     */
+    public static String methodId(String methodSignature) {
+        return lookup(
+                METHOD_IDS,
+                methodSignature,
+                s -> Numeric.toHexString(Keccak256.hash(s.getBytes()), 0, 4, true));
+    }
+
+    /**
+     * Returns the topic of an event signature, such as {@code Transfer(address,address,uint256)}.
+     *
+     * @param eventSignature canonical event signature
+     * @return hex encoded 32 byte topic, prefixed with 0x
+     */
+    public static String eventTopic(String eventSignature) {
+        return lookup(
+                EVENT_TOPICS,
+                eventSignature,
+                s -> Numeric.toHexString(Keccak256.hash(s.getBytes())));
+    }
+
+    public static int size() {
+        return METHOD_IDS.size() + EVENT_TOPICS.size();
+    }
+
+    public static void clear() {
+        METHOD_IDS.clear();
+        EVENT_TOPICS.clear();
+    }
+
+    private static String lookup(
+            Map<String, String> cache, String signature, Function<String, String> hasher) {
+        String hash = cache.get(signature);
+        if (hash == null) {
+            hash = hasher.apply(signature);
+            if (cache.size() >= MAX_ENTRIES) {
+                evictOne(cache);
+            }
+            cache.put(signature, hash);
+        }
+        return hash;
+    }
+
+    private static void evictOne(Map<String, String> cache) {
+        Iterator<String> iterator = cache.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
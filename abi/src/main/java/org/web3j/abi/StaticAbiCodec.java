@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.web3j.utils.Numeric;
+
+import static org.web3j.abi.datatypes.Type.MAX_BIT_LENGTH;
+
+/**
+ * Encodes and decodes the static elementary ABI types, {@code address}, {@code bool}, {@code
+ * uint<M>}, {@code int<M>} and {@code bytes<M>}, directly from and to their native Java values.
+ *
+ * <p>Each value occupies a single 32 byte word, so values are written in turn to a hex encoded
+ * buffer and read back by word index without building {@link org.web3j.abi.datatypes.Type}
+ * instances or resolving {@link TypeReference} classes. It is used by contract wrappers generated
+ * with precompiled codecs.
+ */
+public final class StaticAbiCodec {
+
+    private static final int WORD_LENGTH = 64;
+    private static final BigInteger TWO_TO_256 = BigInteger.ONE.shiftLeft(MAX_BIT_LENGTH);
+    private static final char[] ZEROS = new char[WORD_LENGTH];
+
+    static {
+        Arrays.fill(ZEROS, '0');
+    }
+
+    private StaticAbiCodec() {}
+
+    public static void encodeAddress(StringBuilder data, String address) {
+        String digits = Numeric.cleanHexPrefix(address);
+        if (digits.length() > 40) {
+            throw new UnsupportedOperationException("Address exceeds 20 bytes: " + address);
+        }
+        data.append(ZEROS, 0, WORD_LENGTH - digits.length());
+        for (int i = 0; i < digits.length(); i++) {
+            char c = digits.charAt(i);
+            if (Character.digit(c, 16) < 0) {
+                throw new NumberFormatException("Invalid address: " + address);
+            }
+            data.append(Character.toLowerCase(c));
+        }
+    }
+
+    public static void encodeBool(StringBuilder data, boolean value) {
+        data.append(ZEROS, 0, WORD_LENGTH - 1).append(value ? '1' : '0');
+    }
+
+    public static void encodeUint(StringBuilder data, BigInteger value, int bitSize) {
+        if (value.signum() < 0 || value.bitLength() > bitSize) {
+            throw new UnsupportedOperationException(
+                    "Value " + value + " is out of range for uint" + bitSize);
+        }
+        appendWord(data, value.toString(16));
+    }
+
+    public static void encodeInt(StringBuilder data, BigInteger value, int bitSize) {
+        if (value.bitLength() >= bitSize) {
+            throw new UnsupportedOperationException(
+                    "Value " + value + " is out of range for int" + bitSize);
+        }
+        appendWord(data, (value.signum() < 0 ? value.add(TWO_TO_256) : value).toString(16));
+    }
+
+    public static void encodeBytes(StringBuilder data, byte[] value, int length) {
+        if (value.length != length) {
+            throw new UnsupportedOperationException(
+                    "Input byte array must be " + length + " bytes long");
+        }
+        data.append(Numeric.toHexStringNoPrefix(value));
+        data.append(ZEROS, 0, WORD_LENGTH - 2 * length);
+    }
+
+    public static String decodeAddress(String data, int word) {
+        int offset = offset(data, word);
+        return "0x" + data.substring(offset + 24, offset + WORD_LENGTH).toLowerCase();
+    }
+
+    public static Boolean decodeBool(String data, int word) {
+        int offset = offset(data, word);
+        for (int i = offset; i < offset + WORD_LENGTH; i++) {
+            if (data.charAt(i) != '0') {
+                return Boolean.TRUE;
+            }
+        }
+        return Boolean.FALSE;
+    }
+
+    public static BigInteger decodeUint(String data, int word) {
+        int offset = offset(data, word);
+        return new BigInteger(data.substring(offset, offset + WORD_LENGTH), 16);
+    }
+
+    public static BigInteger decodeInt(String data, int word) {
+        BigInteger value = decodeUint(data, word);
+        return value.testBit(MAX_BIT_LENGTH - 1) ? value.subtract(TWO_TO_256) : value;
+    }
+
+    public static byte[] decodeBytes(String data, int word, int length) {
+        int offset = offset(data, word);
+        return Numeric.hexStringToByteArray(data.substring(offset, offset + 2 * length));
+    }
+
+    private static void appendWord(StringBuilder data, String hex) {
+        data.append(ZEROS, 0, WORD_LENGTH - hex.length()).append(hex);
+    }
+
+    private static int offset(String data, int word) {
+        int offset = (Numeric.containsHexPrefix(data) ? 2 : 0) + word * WORD_LENGTH;
+        if (data.length() < offset + WORD_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Insufficient data to decode word " + word + " of " + data);
+        }
+        return offset;
+    }
+}
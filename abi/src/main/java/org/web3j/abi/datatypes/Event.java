@@ -23,10 +23,24 @@ import static org.web3j.abi.Utils.convert;
 public class Event {
     private String name;
     private List<TypeReference<Type>> parameters;
+    private String topic;
 
     public Event(String name, List<TypeReference<?>> parameters) {
+        this(name, parameters, null);
+    }
+
+    /**
+     * Creates an event with a precomputed topic, so that encoding does not need to rebuild and hash
+     * the event signature.
+     *
+     * @param name event name
+     * @param parameters event parameters
+     * @param topic hex encoded 32 byte topic prefixed with 0x, or null to compute it
+     */
+    public Event(String name, List<TypeReference<?>> parameters, String topic) {
         this.name = name;
         this.parameters = convert(parameters);
+        this.topic = topic;
     }
 
     public String getName() {
@@ -37,6 +51,10 @@ public class Event {
         return parameters;
     }
 
+    public String getTopic() {
+        return topic;
+    }
+
     public List<TypeReference<Type>> getIndexedParameters() {
         return parameters.stream().filter(TypeReference::isIndexed).collect(Collectors.toList());
     }
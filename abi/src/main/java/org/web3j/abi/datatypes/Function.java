@@ -23,12 +23,31 @@ public class Function {
     private String name;
     private List<Type> inputParameters;
     private List<TypeReference<Type>> outputParameters;
+    private String methodId;
 
     public Function(
             String name, List<Type> inputParameters, List<TypeReference<?>> outputParameters) {
+        this(name, inputParameters, outputParameters, null);
+    }
+
+    /**
+     * Creates a function with a precomputed method selector, so that encoding does not need to
+     * rebuild and hash the function signature.
+     *
+     * @param name function name
+     * @param inputParameters input parameters
+     * @param outputParameters output parameters
+     * @param methodId hex encoded 4 byte selector prefixed with 0x, or null to compute it
+     */
+    public Function(
+            String name,
+            List<Type> inputParameters,
+            List<TypeReference<?>> outputParameters,
+            String methodId) {
         this.name = name;
         this.inputParameters = inputParameters;
         this.outputParameters = convert(outputParameters);
+        this.methodId = methodId;
     }
 
     public String getName() {
@@ -42,4 +61,8 @@ public class Function {
     public List<TypeReference<Type>> getOutputParameters() {
         return outputParameters;
     }
+
+    public String getMethodId() {
+        return methodId;
+    }
 }
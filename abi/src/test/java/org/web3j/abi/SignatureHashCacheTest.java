@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint32;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SignatureHashCacheTest {
+
+    @Before
+    public void setUp() {
+        SignatureHashCache.clear();
+    }
+
+    @Test
+    public void testMethodId() {
+        assertThat(SignatureHashCache.methodId("baz(uint32,bool)"), is("0xcdcd77c0"));
+        assertThat(SignatureHashCache.methodId("baz(uint32,bool)"), is("0xcdcd77c0"));
+        assertThat(SignatureHashCache.size(), is(1));
+    }
+
+    @Test
+    public void testEventTopic() {
+        assertThat(
+                SignatureHashCache.eventTopic("Notify(uint256,uint256)"),
+                is("0x71e71a8458267085d5ab16980fd5f114d2d37f232479c245d523ce8d23ca40ed"));
+        assertThat(SignatureHashCache.size(), is(1));
+    }
+
+    @Test
+    public void testBounded() {
+        for (int i = 0; i < SignatureHashCache.MAX_ENTRIES + 10; i++) {
+            SignatureHashCache.methodId("f" + i + "()");
+        }
+        assertTrue(SignatureHashCache.size() <= SignatureHashCache.MAX_ENTRIES);
+    }
+
+    @Test
+    public void testPrecomputedMethodId() {
+        Function function =
+                new Function(
+                        "baz",
+                        Arrays.asList(new Uint32(BigInteger.valueOf(69)), new Bool(true)),
+                        Collections.emptyList(),
+                        "0xcdcd77c0");
+        Function computed =
+                new Function(
+                        "baz",
+                        Arrays.asList(new Uint32(BigInteger.valueOf(69)), new Bool(true)),
+                        Collections.emptyList());
+
+        assertThat(FunctionEncoder.encode(function), is(FunctionEncoder.encode(computed)));
+        assertThat(SignatureHashCache.size(), is(1));
+    }
+
+    @Test
+    public void testPrecomputedEventTopic() {
+        String topic = "0x71e71a8458267085d5ab16980fd5f114d2d37f232479c245d523ce8d23ca40ed";
+        Event event =
+                new Event(
+                        "Notify",
+                        Arrays.asList(
+                                new TypeReference<Uint256>() {}, new TypeReference<Uint256>() {}),
+                        topic);
+
+        assertThat(EventEncoder.encode(event), is(topic));
+        assertThat(SignatureHashCache.size(), is(0));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.abi.datatypes.generated.Int8;
+import org.web3j.abi.datatypes.generated.Int256;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+public class StaticAbiCodecTest {
+
+    private static final String ADDRESS = "0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338";
+
+    @Test
+    public void testEncodeMatchesTypeEncoder() {
+        assertEncoded(sb -> StaticAbiCodec.encodeAddress(sb, ADDRESS), new Address(ADDRESS));
+        assertEncoded(sb -> StaticAbiCodec.encodeBool(sb, true), new Bool(true));
+        assertEncoded(
+                sb -> StaticAbiCodec.encodeUint(sb, BigInteger.valueOf(255), 8),
+                new Uint8(BigInteger.valueOf(255)));
+        assertEncoded(
+                sb -> StaticAbiCodec.encodeUint(sb, BigInteger.ONE.shiftLeft(255), 256),
+                new Uint256(BigInteger.ONE.shiftLeft(255)));
+        assertEncoded(
+                sb -> StaticAbiCodec.encodeInt(sb, BigInteger.valueOf(-128), 8),
+                new Int8(BigInteger.valueOf(-128)));
+        assertEncoded(
+                sb -> StaticAbiCodec.encodeInt(sb, BigInteger.valueOf(42), 256),
+                new Int256(BigInteger.valueOf(42)));
+        assertEncoded(
+                sb -> StaticAbiCodec.encodeBytes(sb, new byte[] {1, 2, 3, 4}, 4),
+                new Bytes4(new byte[] {1, 2, 3, 4}));
+    }
+
+    @Test
+    public void testEncodeMixedCaseAddress() {
+        StringBuilder data = new StringBuilder();
+        StaticAbiCodec.encodeAddress(data, "0xBE5422D15F39373EB0A97FF8C10FBD0E40E29338");
+        assertThat(data.toString(), is(TypeEncoder.encode(new Address(ADDRESS))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEncodeUintOutOfRange() {
+        StaticAbiCodec.encodeUint(new StringBuilder(), BigInteger.valueOf(256), 8);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEncodeIntOutOfRange() {
+        StaticAbiCodec.encodeInt(new StringBuilder(), BigInteger.valueOf(128), 8);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEncodeBytesWrongLength() {
+        StaticAbiCodec.encodeBytes(new StringBuilder(), new byte[3], 4);
+    }
+
+    @Test
+    public void testDecode() {
+        StringBuilder data = new StringBuilder("0x");
+        StaticAbiCodec.encodeAddress(data, ADDRESS);
+        StaticAbiCodec.encodeBool(data, true);
+        StaticAbiCodec.encodeUint(data, BigInteger.TEN, 256);
+        StaticAbiCodec.encodeInt(data, BigInteger.valueOf(-2), 16);
+        StaticAbiCodec.encodeBytes(data, new byte[] {9, 8, 7, 6}, 4);
+        String encoded = data.toString();
+
+        assertThat(StaticAbiCodec.decodeAddress(encoded, 0), is(ADDRESS));
+        assertThat(StaticAbiCodec.decodeBool(encoded, 1), is(true));
+        assertThat(StaticAbiCodec.decodeUint(encoded, 2), is(BigInteger.TEN));
+        assertThat(StaticAbiCodec.decodeInt(encoded, 3), is(BigInteger.valueOf(-2)));
+        assertArrayEquals(StaticAbiCodec.decodeBytes(encoded, 4, 4), new byte[] {9, 8, 7, 6});
+        assertThat(StaticAbiCodec.decodeBool(encoded.substring(2), 1), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeInsufficientData() {
+        StaticAbiCodec.decodeUint("0x01", 0);
+    }
+
+    private static void assertEncoded(Consumer<StringBuilder> encoder, Type expected) {
+        StringBuilder data = new StringBuilder();
+        encoder.accept(data);
+        assertThat(data.toString(), is(TypeEncoder.encode(expected)));
+    }
+}
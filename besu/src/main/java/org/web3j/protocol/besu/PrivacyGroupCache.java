@@ -0,0 +1,260 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.besu;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+import org.web3j.protocol.admin.methods.response.BooleanResponse;
+import org.web3j.protocol.besu.response.privacy.PrivCreatePrivacyGroup;
+import org.web3j.protocol.besu.response.privacy.PrivFindPrivacyGroup;
+import org.web3j.protocol.besu.response.privacy.PrivacyGroup;
+import org.web3j.utils.Base64String;
+
+/**
+ * Caches the privacy groups found by {@code priv_findPrivacyGroup}, keyed by the set of members.
+ *
+ * <p>Lookups for a set of members are cached for a time to live, or for a separate, usually
+ * shorter, time to live when no group was found. Concurrent lookups for the same set of members
+ * share a single request, and failed lookups are not cached. Groups created or deleted through
+ * {@link #createPrivacyGroup(List, String, String)} and {@link #deletePrivacyGroup(Base64String)}
+ * invalidate the affected lookups, while changes made by other clients are only seen once the
+ * cached lookups expire.
+ *
+ * <pre>
+ *     PrivacyGroupCache cache = new PrivacyGroupCache(besu, 60_000, 5_000);
+ *     List&lt;PrivacyGroup&gt; groups = cache.findPrivacyGroup(Arrays.asList(alice, bob));
+ * </pre>
+ */
+public class PrivacyGroupCache {
+
+    private final Besu besu;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final LongSupplier clock;
+
+    private final Map<List<Base64String>, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache.
+     *
+     * @param besu client used for the lookups
+     * @param ttlMillis how long lookups finding privacy groups are cached
+     * @param negativeTtlMillis how long lookups finding no privacy group are cached
+     */
+    public PrivacyGroupCache(Besu besu, long ttlMillis, long negativeTtlMillis) {
+        this(besu, ttlMillis, negativeTtlMillis, System::currentTimeMillis);
+    }
+
+    PrivacyGroupCache(Besu besu, long ttlMillis, long negativeTtlMillis, LongSupplier clock) {
+        if (ttlMillis < 0 || negativeTtlMillis < 0) {
+            throw new IllegalArgumentException("Time to live can't be negative");
+        }
+        this.besu = besu;
+        this.ttlMillis = ttlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Finds the privacy groups with exactly the given members.
+     *
+     * @param members enclave keys of the members, in any order
+     * @return privacy groups, empty if there is none
+     * @throws IOException if the lookup failed
+     */
+    public List<PrivacyGroup> findPrivacyGroup(List<Base64String> members) throws IOException {
+        try {
+            return findPrivacyGroupAsync(members).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while finding privacy group", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Finds the privacy groups with exactly the given members, without blocking.
+     *
+     * @param members enclave keys of the members, in any order
+     * @return completed with the privacy groups, empty if there is none
+     */
+    public CompletableFuture<List<PrivacyGroup>> findPrivacyGroupAsync(List<Base64String> members) {
+        List<Base64String> key = key(members);
+        long now = clock.getAsLong();
+        Entry created = new Entry();
+        Entry entry =
+                entries.compute(
+                        key,
+                        (k, existing) ->
+                                existing != null && existing.isValid(now) ? existing : created);
+        if (entry == created) {
+            lookup(key, created);
+        }
+        return entry.future;
+    }
+
+    /**
+     * Creates a privacy group, invalidating the cached lookup for its members.
+     *
+     * @param members enclave keys of the members
+     * @param name name of the group
+     * @param description description of the group
+     * @return id of the new group
+     * @throws IOException if the group couldn't be created
+     */
+    public Base64String createPrivacyGroup(
+            List<Base64String> members, String name, String description) throws IOException {
+        try {
+            PrivCreatePrivacyGroup response =
+                    besu.privCreatePrivacyGroup(members, name, description).send();
+            if (response.hasError()) {
+                throw new IOException(
+                        "Error creating privacy group: " + response.getError().getMessage());
+            }
+            return response.getPrivacyGroupId();
+        } finally {
+            invalidate(members);
+        }
+    }
+
+    /**
+     * Deletes a privacy group, invalidating the cached lookups which found it.
+     *
+     * @param privacyGroupId id of the group
+     * @return true if the group was deleted
+     * @throws IOException if the group couldn't be deleted
+     */
+    public boolean deletePrivacyGroup(Base64String privacyGroupId) throws IOException {
+        try {
+            BooleanResponse response = besu.privDeletePrivacyGroup(privacyGroupId).send();
+            if (response.hasError()) {
+                throw new IOException(
+                        "Error deleting privacy group: " + response.getError().getMessage());
+            }
+            return response.success();
+        } finally {
+            invalidate(privacyGroupId);
+        }
+    }
+
+    /**
+     * Discards the cached lookup for a set of members.
+     *
+     * @param members enclave keys of the members, in any order
+     */
+    public void invalidate(List<Base64String> members) {
+        entries.remove(key(members));
+    }
+
+    /**
+     * Discards the cached lookups which found a privacy group.
+     *
+     * @param privacyGroupId id of the group
+     */
+    public void invalidate(Base64String privacyGroupId) {
+        entries.entrySet()
+                .removeIf(
+                        e -> {
+                            // lookups in flight may find the group too
+                            List<PrivacyGroup> groups = e.getValue().future.getNow(null);
+                            return groups == null
+                                    || groups.stream()
+                                            .anyMatch(
+                                                    g ->
+                                                            privacyGroupId.equals(
+                                                                    g.getPrivacyGroupId()));
+                        });
+    }
+
+    /** Discards all cached lookups. */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void lookup(List<Base64String> key, Entry entry) {
+        CompletableFuture<PrivFindPrivacyGroup> request;
+        try {
+            request = besu.privFindPrivacyGroup(new ArrayList<>(key)).sendAsync();
+        } catch (RuntimeException e) {
+            request = new CompletableFuture<>();
+            request.completeExceptionally(e);
+        }
+
+        request.whenComplete(
+                (response, throwable) -> {
+                    if (throwable == null && response.hasError()) {
+                        throwable =
+                                new IOException(
+                                        "Error finding privacy group: "
+                                                + response.getError().getMessage());
+                    }
+                    if (throwable != null) {
+                        entries.remove(key, entry);
+                        entry.future.completeExceptionally(
+                                throwable instanceof CompletionException
+                                                && throwable.getCause() != null
+                                        ? throwable.getCause()
+                                        : throwable);
+                        return;
+                    }
+
+                    List<PrivacyGroup> groups =
+                            response.getGroups() == null
+                                    ? Collections.emptyList()
+                                    : Collections.unmodifiableList(
+                                            new ArrayList<>(response.getGroups()));
+                    entry.expiresAt =
+                            clock.getAsLong() + (groups.isEmpty() ? negativeTtlMillis : ttlMillis);
+                    entry.future.complete(groups);
+                });
+    }
+
+    private static List<Base64String> key(List<Base64String> members) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (Base64String member : members) {
+            sorted.add(member.toString());
+        }
+        List<Base64String> key = new ArrayList<>(sorted.size());
+        for (String member : sorted) {
+            key.add(Base64String.wrap(member));
+        }
+        return Collections.unmodifiableList(key);
+    }
+
+    private static class Entry {
+        private final CompletableFuture<List<PrivacyGroup>> future = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        private boolean isValid(long now) {
+            return !future.isDone() || expiresAt > now;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.besu.crypto.crosschain;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+import org.web3j.crypto.BatchTransactionSigner;
+import org.web3j.crypto.Credentials;
+
+/** Factory methods for {@link BatchTransactionSigner}s of crosschain transactions. */
+public class CrosschainBatchTransactionSigner {
+
+    private CrosschainBatchTransactionSigner() {}
+
+    public static BatchTransactionSigner<CrosschainRawTransaction> create(
+            long chainId, Credentials credentials) {
+        return create(chainId, credentials, ForkJoinPool.commonPool());
+    }
+
+    public static BatchTransactionSigner<CrosschainRawTransaction> create(
+            long chainId, Credentials credentials, ForkJoinPool pool) {
+        return new BatchTransactionSigner<>(
+                CrosschainBatchTransactionSigner::withNonce,
+                rawTransaction ->
+                        CrosschainTransactionEncoder.signMessage(
+                                rawTransaction, chainId, credentials),
+                pool);
+    }
+
+    private static CrosschainRawTransaction withNonce(
+            CrosschainRawTransaction rawTransaction, BigInteger nonce) {
+        return new CrosschainRawTransaction(
+                rawTransaction.type,
+                nonce,
+                rawTransaction.getGasPrice(),
+                rawTransaction.getGasLimit(),
+                rawTransaction.getTo(),
+                rawTransaction.getValue(),
+                rawTransaction.getData(),
+                rawTransaction.getCrosschainContext());
+    }
+}
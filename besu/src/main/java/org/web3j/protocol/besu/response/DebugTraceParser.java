@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.besu.response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.web3j.protocol.core.ResultParser;
+import org.web3j.utils.Numeric;
+
+/**
+ * Reads the result of {@code debug_traceTransaction} while it is parsed, handing each struct log to
+ * a visitor instead of keeping it, so that traces of any length can be processed.
+ *
+ * <pre>
+ *     Response&lt;FullDebugTraceInfo&gt; response =
+ *             besu.debugTraceTransaction(transactionHash, options)
+ *                     .sendStreaming(
+ *                             new DebugTraceParser(
+ *                                     structLog -&gt; ..., EnumSet.of(DebugTraceParser.Field.STACK)));
+ * </pre>
+ *
+ * <p>Fields which are not selected are skipped while parsing and left {@code null}. Disabling them
+ * in the options of the request as well saves the node from sending them.
+ */
+public class DebugTraceParser implements ResultParser<FullDebugTraceInfo> {
+
+    /** Optional fields of a struct log. */
+    public enum Field {
+        STACK,
+        MEMORY,
+        STORAGE
+    }
+
+    private final Consumer<StructLogs> visitor;
+    private final Set<Field> fields;
+
+    public DebugTraceParser(Consumer<StructLogs> visitor) {
+        this(visitor, EnumSet.allOf(Field.class));
+    }
+
+    /**
+     * Creates a parser.
+     *
+     * @param visitor receives each struct log, in execution order
+     * @param fields optional fields to read
+     */
+    public DebugTraceParser(Consumer<StructLogs> visitor, Set<Field> fields) {
+        this.visitor = visitor;
+        this.fields = fields.isEmpty() ? EnumSet.noneOf(Field.class) : EnumSet.copyOf(fields);
+    }
+
+    /**
+     * Reads a trace.
+     *
+     * @return the trace, without its struct logs
+     */
+    @Override
+    public FullDebugTraceInfo parse(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+
+        int gas = 0;
+        boolean failed = false;
+        String returnValue = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "gas":
+                    gas = parser.getValueAsInt();
+                    break;
+                case "failed":
+                    failed = parser.getValueAsBoolean();
+                    break;
+                case "returnValue":
+                    returnValue = parser.getValueAsString();
+                    break;
+                case "structLogs":
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            visitor.accept(parseStructLog(parser));
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return new FullDebugTraceInfo(gas, failed, returnValue, Collections.emptyList());
+    }
+
+    private StructLogs parseStructLog(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+
+        StructLogs structLog = new StructLogs(0, null, 0, 0, 0, null, null, null);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case "pc":
+                    structLog.setPc(parser.getValueAsInt());
+                    break;
+                case "op":
+                    structLog.setOp(parser.getValueAsString());
+                    break;
+                case "gas":
+                    structLog.setGas(parser.getValueAsInt());
+                    break;
+                case "gasCost":
+                    structLog.setGasCost(parser.getValueAsInt());
+                    break;
+                case "depth":
+                    structLog.setDepth(parser.getValueAsInt());
+                    break;
+                case "stack":
+                    structLog.setStack(
+                            fields.contains(Field.STACK) ? parseStrings(parser) : skip(parser));
+                    break;
+                case "memory":
+                    structLog.setMemory(
+                            fields.contains(Field.MEMORY) ? parseStrings(parser) : skip(parser));
+                    break;
+                case "storage":
+                    structLog.setStorage(
+                            fields.contains(Field.STORAGE) ? parseStorage(parser) : skip(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return structLog;
+    }
+
+    private static List<String> parseStrings(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(parser.getValueAsString());
+        }
+        return values;
+    }
+
+    private static Map<BigInteger, String> parseStorage(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        Map<BigInteger, String> storage = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            BigInteger key = Numeric.toBigInt(parser.getCurrentName());
+            parser.nextToken();
+            storage.put(key, parser.getValueAsString());
+        }
+        return storage;
+    }
+
+    private static <T> T skip(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.getCurrentToken() != token) {
+            throw new IOException("Expected " + token + " but found " + parser.getCurrentToken());
+        }
+    }
+}
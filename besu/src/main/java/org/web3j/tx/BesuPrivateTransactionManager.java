@@ -15,6 +15,8 @@ package org.web3j.tx;
 import org.web3j.crypto.Credentials;
 import org.web3j.protocol.besu.Besu;
 import org.web3j.tx.gas.BesuPrivacyGasProvider;
+import org.web3j.tx.response.BatchingPrivateTransactionReceiptProcessor;
+import org.web3j.tx.response.PrivateTransactionReceiptProcessor;
 import org.web3j.utils.Base64String;
 
 /** PrivateTransactionManager implementation for using a Besu node to transact. */
@@ -31,7 +33,65 @@ public class BesuPrivateTransactionManager extends PrivateTransactionManager {
             final Base64String privacyGroupId,
             final int attempts,
             final int sleepDuration) {
-        super(besu, gasProvider, credentials, chainId, privateFrom, attempts, sleepDuration);
+        this(
+                besu,
+                gasProvider,
+                credentials,
+                chainId,
+                privateFrom,
+                privacyGroupId,
+                attempts,
+                sleepDuration,
+                new PrivateNonceManager(besu));
+    }
+
+    /**
+     * Creates a transaction manager waiting for receipts with the given processor, such as a {@link
+     * BatchingPrivateTransactionReceiptProcessor} shared with other transaction managers.
+     */
+    public BesuPrivateTransactionManager(
+            final Besu besu,
+            final BesuPrivacyGasProvider gasProvider,
+            final Credentials credentials,
+            final long chainId,
+            final Base64String privateFrom,
+            final Base64String privacyGroupId,
+            final PrivateTransactionReceiptProcessor transactionReceiptProcessor,
+            final PrivateNonceManager nonceManager) {
+        super(
+                besu,
+                gasProvider,
+                credentials,
+                chainId,
+                privateFrom,
+                transactionReceiptProcessor,
+                nonceManager);
+        this.privacyGroupId = privacyGroupId;
+    }
+
+    /**
+     * Creates a transaction manager allocating nonces with the given nonce manager, which can be
+     * shared with other transaction managers sending from the same account.
+     */
+    public BesuPrivateTransactionManager(
+            final Besu besu,
+            final BesuPrivacyGasProvider gasProvider,
+            final Credentials credentials,
+            final long chainId,
+            final Base64String privateFrom,
+            final Base64String privacyGroupId,
+            final int attempts,
+            final int sleepDuration,
+            final PrivateNonceManager nonceManager) {
+        super(
+                besu,
+                gasProvider,
+                credentials,
+                chainId,
+                privateFrom,
+                attempts,
+                sleepDuration,
+                nonceManager);
         this.privacyGroupId = privacyGroupId;
     }
 
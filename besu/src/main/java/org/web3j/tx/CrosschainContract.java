@@ -27,6 +27,10 @@ package org.web3j.tx;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.datatypes.Function;
@@ -111,6 +115,117 @@ public abstract class CrosschainContract extends Contract {
                         crosschainContext);
     }
 
+    protected CompletableFuture<byte[]> createSignedSubordinateViewAsync(
+            Function function, CrosschainContext crosschainContext) {
+        String method = function.getName();
+
+        return ((CrosschainTransactionManager) this.transactionManager)
+                .createSignedSubordinateViewAsync(
+                        this.gasProvider.getGasPrice(method),
+                        this.gasProvider.getGasLimit(method),
+                        contractAddress,
+                        FunctionEncoder.encode(function),
+                        BigInteger.ZERO,
+                        crosschainContext);
+    }
+
+    protected CompletableFuture<byte[]> createSignedSubordinateTransactionAsync(
+            Function function, CrosschainContext crosschainContext) {
+        return createSignedSubordinateTransactionAsync(
+                function, crosschainContext, BigInteger.ZERO);
+    }
+
+    protected CompletableFuture<byte[]> createSignedSubordinateTransactionAsync(
+            Function function, CrosschainContext crosschainContext, BigInteger weiValue) {
+        String method = function.getName();
+
+        return ((CrosschainTransactionManager) this.transactionManager)
+                .createSignedSubordinateTransactionAsync(
+                        this.gasProvider.getGasPrice(method),
+                        this.gasProvider.getGasLimit(method),
+                        contractAddress,
+                        FunctionEncoder.encode(function),
+                        weiValue,
+                        crosschainContext);
+    }
+
+    /**
+     * Signs subordinate views of the same function, looking up the nonce and the coordination chain
+     * block number once for the whole batch.
+     *
+     * @param functions calls of a single function
+     * @param crosschainContext context shared by all views
+     * @return signed views, in the order of the functions
+     */
+    protected CompletableFuture<List<byte[]>> createSignedSubordinateViewBatch(
+            List<Function> functions, CrosschainContext crosschainContext) {
+        if (functions.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        String method = functions.get(0).getName();
+
+        return ((CrosschainTransactionManager) this.transactionManager)
+                .createSignedSubordinateViewBatch(
+                        this.gasProvider.getGasPrice(method),
+                        this.gasProvider.getGasLimit(method),
+                        contractAddress,
+                        encode(functions),
+                        BigInteger.ZERO,
+                        crosschainContext);
+    }
+
+    /**
+     * Signs subordinate transactions of the same function with consecutive nonces, looking up the
+     * nonce and the coordination chain block number once for the whole batch.
+     *
+     * @param functions calls of a single function
+     * @param crosschainContext context shared by all transactions
+     * @return signed transactions, in the order of the functions
+     */
+    protected CompletableFuture<List<byte[]>> createSignedSubordinateTransactionBatch(
+            List<Function> functions, CrosschainContext crosschainContext) {
+        if (functions.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        String method = functions.get(0).getName();
+
+        return ((CrosschainTransactionManager) this.transactionManager)
+                .createSignedSubordinateTransactionBatch(
+                        this.gasProvider.getGasPrice(method),
+                        this.gasProvider.getGasLimit(method),
+                        contractAddress,
+                        encode(functions),
+                        BigInteger.ZERO,
+                        crosschainContext);
+    }
+
+    private static List<String> encode(List<Function> functions) {
+        List<String> data = new ArrayList<>(functions.size());
+        for (Function function : functions) {
+            data.add(FunctionEncoder.encode(function));
+        }
+        return data;
+    }
+
+    /**
+     * Returns the size of a batch given as one list per function parameter, as used by generated
+     * batch methods.
+     *
+     * @param parameters values of each parameter
+     * @return number of calls in the batch
+     * @throws IllegalArgumentException if the lists differ in size
+     */
+    protected static int batchSize(List<?>... parameters) {
+        int size = parameters[0].size();
+        for (List<?> parameter : parameters) {
+            if (parameter.size() != size) {
+                throw new IllegalArgumentException(
+                        "All batch parameters must have the same number of values");
+            }
+        }
+        return size;
+    }
+
     protected RemoteFunctionCall<TransactionReceipt> executeRemoteCallCrosschainTransaction(
             Function function, CrosschainContext crosschainContext) {
         return executeRemoteCallCrosschainTransaction(function, crosschainContext, BigInteger.ZERO);
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+/**
+ * Reserves ranges of nonces per account for batches of crosschain transactions.
+ *
+ * <p>Each reservation fetches the pending nonce of the account with {@code eth_getTransactionCount}
+ * and hands out a range starting at the greater of that nonce and the end of the ranges already
+ * reserved, so that batches signed concurrently from the same account, such as the subordinate
+ * transactions of a crosschain transaction tree, never share a nonce.
+ *
+ * <p>The local state recovers when it diverges from the node:
+ *
+ * <ul>
+ *   <li>If the node's pending nonce is past the reserved ranges, for instance after transactions
+ *       were sent by another client or with {@link RawTransactionManager#getNonce()}, reservations
+ *       continue from the node's nonce.
+ *   <li>Nonces of transactions which won't be submitted should be handed back with {@link
+ *       #release(String, BigInteger, int)}, and are reused.
+ *   <li>If the node's pending nonce stays behind the reserved ranges without advancing for longer
+ *       than the stale timeout, the reserved transactions are assumed to have been abandoned, for
+ *       instance because a crosschain transaction was aborted, and reservations restart from the
+ *       node's nonce.
+ * </ul>
+ */
+public class CrosschainNonceManager {
+
+    public static final long DEFAULT_STALE_TIMEOUT_MILLIS = 60_000;
+
+    private final Web3j web3j;
+    private final long staleTimeoutMillis;
+    private final LongSupplier clock;
+
+    private final Map<String, NonceState> states = new ConcurrentHashMap<>();
+
+    public CrosschainNonceManager(final Web3j web3j) {
+        this(web3j, DEFAULT_STALE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates a nonce manager.
+     *
+     * @param web3j web3j instance used to fetch pending nonces
+     * @param staleTimeoutMillis how long the node's pending nonce may stay behind the reserved
+     *     ranges without advancing before the reservations are discarded
+     */
+    public CrosschainNonceManager(final Web3j web3j, final long staleTimeoutMillis) {
+        this(web3j, staleTimeoutMillis, System::currentTimeMillis);
+    }
+
+    CrosschainNonceManager(
+            final Web3j web3j, final long staleTimeoutMillis, final LongSupplier clock) {
+        if (staleTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Stale timeout must be positive");
+        }
+        this.web3j = web3j;
+        this.staleTimeoutMillis = staleTimeoutMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Reserves consecutive nonces of an account.
+     *
+     * @param address account address
+     * @param count number of nonces to reserve, zero to get the next nonce without reserving it
+     * @return the first nonce of the range, completed exceptionally with an {@link IOException} if
+     *     the pending nonce could not be fetched
+     */
+    public CompletableFuture<BigInteger> reserve(final String address, final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative");
+        }
+        final NonceState state =
+                states.computeIfAbsent(address.toLowerCase(), k -> new NonceState());
+        return fetch(address)
+                .thenApply(
+                        pending -> {
+                            synchronized (state) {
+                                state.observe(pending, clock.getAsLong(), staleTimeoutMillis);
+                                return state.reserve(count);
+                            }
+                        });
+    }
+
+    /**
+     * Hands back nonces of transactions which won't be submitted, so that they're reserved again
+     * rather than leaving a gap.
+     *
+     * @param address account address
+     * @param first first nonce of the range
+     * @param count number of nonces in the range
+     */
+    public void release(final String address, final BigInteger first, final int count) {
+        final NonceState state = states.get(address.toLowerCase());
+        if (state == null || count <= 0) {
+            return;
+        }
+        synchronized (state) {
+            state.release(first, count);
+        }
+    }
+
+    /**
+     * Discards the reserved ranges of an account, so that reservations continue from the node's
+     * pending nonce.
+     *
+     * @param address account address
+     */
+    public void resync(final String address) {
+        final NonceState state = states.get(address.toLowerCase());
+        if (state != null) {
+            synchronized (state) {
+                state.reset();
+            }
+        }
+    }
+
+    private CompletableFuture<BigInteger> fetch(final String address) {
+        return web3j.ethGetTransactionCount(address, DefaultBlockParameterName.PENDING)
+                .sendAsync()
+                .thenApply(
+                        transactionCount -> {
+                            if (transactionCount.hasError()) {
+                                throw new CompletionException(
+                                        new IOException(
+                                                "Error fetching transaction count: "
+                                                        + transactionCount
+                                                                .getError()
+                                                                .getMessage()));
+                            }
+                            return transactionCount.getTransactionCount();
+                        });
+    }
+
+    private static class NonceState {
+        // Next nonce past the reserved ranges, null if nothing is reserved
+        private BigInteger next;
+        private final TreeSet<BigInteger> released = new TreeSet<>();
+        // Pending nonce last seen, and when it last advanced
+        private BigInteger lastPending;
+        private long lastProgress;
+
+        private void observe(BigInteger pending, long now, long staleTimeoutMillis) {
+            if (lastPending == null || pending.compareTo(lastPending) > 0) {
+                lastProgress = now;
+            }
+            lastPending = pending;
+
+            if (next == null || pending.compareTo(next) >= 0) {
+                // nothing reserved is outstanding, or the node is ahead of us
+                next = pending;
+                released.clear();
+            } else if (now - lastProgress >= staleTimeoutMillis) {
+                // reserved transactions never reached the node
+                next = pending;
+                released.clear();
+                lastProgress = now;
+            } else {
+                released.headSet(pending).clear();
+            }
+        }
+
+        private BigInteger reserve(int count) {
+            if (count == 0) {
+                return released.isEmpty() ? next : released.first();
+            }
+            if (count == 1 && !released.isEmpty()) {
+                return released.pollFirst();
+            }
+            BigInteger first = next;
+            next = next.add(BigInteger.valueOf(count));
+            return first;
+        }
+
+        private void release(BigInteger first, int count) {
+            if (next == null) {
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                BigInteger nonce = first.add(BigInteger.valueOf(i));
+                if (nonce.compareTo(next) < 0
+                        && (lastPending == null || nonce.compareTo(lastPending) >= 0)) {
+                    released.add(nonce);
+                }
+            }
+            // shrink the reserved ranges rather than keeping released nonces at their end
+            while (!released.isEmpty() && released.last().equals(next.subtract(BigInteger.ONE))) {
+                next = released.pollLast();
+            }
+        }
+
+        private void reset() {
+            next = null;
+            released.clear();
+        }
+    }
+}
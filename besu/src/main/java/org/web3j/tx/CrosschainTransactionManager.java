@@ -26,20 +26,25 @@ package org.web3j.tx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.FunctionReturnDecoder;
 import org.web3j.abi.datatypes.Function;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.crypto.Credentials;
-import org.web3j.crypto.Hash;
+import org.web3j.crypto.Keccak256;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.besu.Besu;
 import org.web3j.protocol.besu.crypto.crosschain.CrosschainRawTransaction;
 import org.web3j.protocol.besu.crypto.crosschain.CrosschainTransactionEncoder;
 import org.web3j.protocol.besu.crypto.crosschain.CrosschainTransactionType;
 import org.web3j.protocol.besu.response.crosschain.CrossProcessSubordinateViewResponse;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
 import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
 import org.web3j.protocol.exceptions.TransactionException;
@@ -56,6 +61,7 @@ public class CrosschainTransactionManager extends RawTransactionManager {
     private final BigInteger crosschainCoordinationBlockchainId;
     private final String crosschainCoordinationContractAddress;
     private final BigInteger crosschainTimeoutInBlocks;
+    private final CrosschainNonceManager nonceManager;
 
     public CrosschainTransactionManager(
             final Besu besu,
@@ -66,6 +72,32 @@ public class CrosschainTransactionManager extends RawTransactionManager {
             final BigInteger crosschainCoordinationBlockchainId,
             final String crosschainCoordinationContractAddress,
             final long crosschainTimeoutInBlocks) {
+        this(
+                besu,
+                credentials,
+                chainId,
+                transactionReceiptProcessor,
+                coordinationBlockchain,
+                crosschainCoordinationBlockchainId,
+                crosschainCoordinationContractAddress,
+                crosschainTimeoutInBlocks,
+                new CrosschainNonceManager(besu));
+    }
+
+    /**
+     * Creates a manager reserving nonces from the given nonce manager, which should be shared by
+     * all managers signing for the same account.
+     */
+    public CrosschainTransactionManager(
+            final Besu besu,
+            final Credentials credentials,
+            final BigInteger chainId,
+            final TransactionReceiptProcessor transactionReceiptProcessor,
+            final Web3j coordinationBlockchain,
+            final BigInteger crosschainCoordinationBlockchainId,
+            final String crosschainCoordinationContractAddress,
+            final long crosschainTimeoutInBlocks,
+            final CrosschainNonceManager nonceManager) {
         super(besu, credentials, chainId.longValue(), transactionReceiptProcessor);
         this.besu = besu;
         this.credentials = credentials;
@@ -74,6 +106,7 @@ public class CrosschainTransactionManager extends RawTransactionManager {
         this.crosschainCoordinationBlockchainId = crosschainCoordinationBlockchainId;
         this.crosschainCoordinationContractAddress = crosschainCoordinationContractAddress;
         this.crosschainTimeoutInBlocks = BigInteger.valueOf(crosschainTimeoutInBlocks);
+        this.nonceManager = nonceManager;
     }
 
     public CrosschainTransactionManager(
@@ -128,7 +161,135 @@ public class CrosschainTransactionManager extends RawTransactionManager {
             throws IOException {
         BigInteger nonce = getNonce();
         BigInteger currentBlockNumberOnCoordinationChain =
-                this.coordinationBlockchain.ethBlockNumber().send().getBlockNumber();
+                getBlockNumber(this.coordinationBlockchain.ethBlockNumber().send());
+
+        return signCrosschainTransaction(
+                type,
+                nonce,
+                currentBlockNumberOnCoordinationChain,
+                gasPrice,
+                gasLimit,
+                to,
+                data,
+                value,
+                crosschainContext);
+    }
+
+    /**
+     * Signs a batch of crosschain transactions of the same type with a single coordination chain
+     * block number lookup, made asynchronously. Transactions in the batch are given a range of
+     * consecutive nonces reserved from the {@link CrosschainNonceManager}, so concurrent batches
+     * for the same account don't overlap, while views all use the next nonce without reserving it,
+     * as they would if signed one by one.
+     *
+     * <p>Nonces are only reserved once the block number is known, so a failed lookup doesn't leave
+     * a gap, and are released if signing fails. Nonces of signed transactions which are never
+     * submitted are recovered by the {@link CrosschainNonceManager} once they go stale.
+     */
+    private CompletableFuture<List<byte[]>> createSignedCrosschainTransactionBatch(
+            CrosschainTransactionType type,
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            List<String> data,
+            BigInteger value,
+            CrosschainContext crosschainContext) {
+        if (data.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        CompletableFuture<BigInteger> currentBlockNumberOnCoordinationChain =
+                this.coordinationBlockchain
+                        .ethBlockNumber()
+                        .sendAsync()
+                        .thenApply(
+                                blockNumber -> {
+                                    try {
+                                        return getBlockNumber(blockNumber);
+                                    } catch (IOException e) {
+                                        throw new CompletionException(e);
+                                    }
+                                });
+
+        int count = type == CrosschainTransactionType.SUBORDINATE_VIEW ? 0 : data.size();
+        return currentBlockNumberOnCoordinationChain.thenCompose(
+                blockNumber ->
+                        nonceManager
+                                .reserve(credentials.getAddress(), count)
+                                .thenApply(
+                                        firstNonce -> {
+                                            try {
+                                                return signCrosschainTransactions(
+                                                        type,
+                                                        firstNonce,
+                                                        blockNumber,
+                                                        gasPrice,
+                                                        gasLimit,
+                                                        to,
+                                                        data,
+                                                        value,
+                                                        crosschainContext);
+                                            } catch (RuntimeException e) {
+                                                nonceManager.release(
+                                                        credentials.getAddress(),
+                                                        firstNonce,
+                                                        count);
+                                                throw e;
+                                            }
+                                        }));
+    }
+
+    private List<byte[]> signCrosschainTransactions(
+            CrosschainTransactionType type,
+            BigInteger firstNonce,
+            BigInteger currentBlockNumberOnCoordinationChain,
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            List<String> data,
+            BigInteger value,
+            CrosschainContext crosschainContext) {
+        boolean view = type == CrosschainTransactionType.SUBORDINATE_VIEW;
+        List<byte[]> signedMessages = new ArrayList<>(data.size());
+        for (int i = 0; i < data.size(); i++) {
+            signedMessages.add(
+                    signCrosschainTransaction(
+                            type,
+                            view ? firstNonce : firstNonce.add(BigInteger.valueOf(i)),
+                            currentBlockNumberOnCoordinationChain,
+                            gasPrice,
+                            gasLimit,
+                            to,
+                            data.get(i),
+                            value,
+                            crosschainContext));
+        }
+        return signedMessages;
+    }
+
+    private static BigInteger getBlockNumber(EthBlockNumber blockNumber) throws IOException {
+        if (blockNumber.hasError()) {
+            throw new IOException(
+                    "Error fetching coordination chain block number: "
+                            + blockNumber.getError().getMessage());
+        }
+        return blockNumber.getBlockNumber();
+    }
+
+    public CrosschainNonceManager getNonceManager() {
+        return nonceManager;
+    }
+
+    private byte[] signCrosschainTransaction(
+            CrosschainTransactionType type,
+            BigInteger nonce,
+            BigInteger currentBlockNumberOnCoordinationChain,
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            CrosschainContext crosschainContext) {
         BigInteger crosschainTimeoutBlockNumber =
                 currentBlockNumberOnCoordinationChain.add(this.crosschainTimeoutInBlocks);
 
@@ -167,6 +328,41 @@ public class CrosschainTransactionManager extends RawTransactionManager {
                 crosschainContext);
     }
 
+    public CompletableFuture<byte[]> createSignedSubordinateTransactionAsync(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            CrosschainContext crosschainContext) {
+        return createSignedCrosschainTransactionBatch(
+                        CrosschainTransactionType.SUBORDINATE_TRANSACTION,
+                        gasPrice,
+                        gasLimit,
+                        to,
+                        Collections.singletonList(data),
+                        value,
+                        crosschainContext)
+                .thenApply(signedMessages -> signedMessages.get(0));
+    }
+
+    public CompletableFuture<List<byte[]>> createSignedSubordinateTransactionBatch(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            List<String> data,
+            BigInteger value,
+            CrosschainContext crosschainContext) {
+        return createSignedCrosschainTransactionBatch(
+                CrosschainTransactionType.SUBORDINATE_TRANSACTION,
+                gasPrice,
+                gasLimit,
+                to,
+                data,
+                value,
+                crosschainContext);
+    }
+
     public byte[] createSignedSubordinateDeployLockable(
             BigInteger gasPrice,
             BigInteger gasLimit,
@@ -203,6 +399,41 @@ public class CrosschainTransactionManager extends RawTransactionManager {
                 crosschainContext);
     }
 
+    public CompletableFuture<byte[]> createSignedSubordinateViewAsync(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            String data,
+            BigInteger value,
+            CrosschainContext crosschainContext) {
+        return createSignedCrosschainTransactionBatch(
+                        CrosschainTransactionType.SUBORDINATE_VIEW,
+                        gasPrice,
+                        gasLimit,
+                        to,
+                        Collections.singletonList(data),
+                        value,
+                        crosschainContext)
+                .thenApply(signedMessages -> signedMessages.get(0));
+    }
+
+    public CompletableFuture<List<byte[]>> createSignedSubordinateViewBatch(
+            BigInteger gasPrice,
+            BigInteger gasLimit,
+            String to,
+            List<String> data,
+            BigInteger value,
+            CrosschainContext crosschainContext) {
+        return createSignedCrosschainTransactionBatch(
+                CrosschainTransactionType.SUBORDINATE_VIEW,
+                gasPrice,
+                gasLimit,
+                to,
+                data,
+                value,
+                crosschainContext);
+    }
+
     public byte[] createSignedOriginatingTx(
             BigInteger gasPrice,
             BigInteger gasLimit,
@@ -271,7 +502,7 @@ public class CrosschainTransactionManager extends RawTransactionManager {
                 this.besu.crossSendCrossChainRawTransaction(hexValue).send();
 
         if (transactionResponse != null && !transactionResponse.hasError()) {
-            String txHashLocal = Hash.sha3(hexValue);
+            String txHashLocal = Numeric.toHexString(Keccak256.hash(signedMessage));
             String txHashRemote = transactionResponse.getTransactionHash();
 
             if (!txHashVerifier.verify(txHashLocal, txHashRemote)) {
@@ -17,6 +17,8 @@ import java.util.List;
 import org.web3j.crypto.Credentials;
 import org.web3j.protocol.besu.Besu;
 import org.web3j.tx.gas.BesuPrivacyGasProvider;
+import org.web3j.tx.response.BatchingPrivateTransactionReceiptProcessor;
+import org.web3j.tx.response.PrivateTransactionReceiptProcessor;
 import org.web3j.utils.Base64String;
 import org.web3j.utils.PrivacyGroupUtils;
 
@@ -35,7 +37,66 @@ public class LegacyPrivateTransactionManager extends PrivateTransactionManager {
             final List<Base64String> privateFor,
             final int attempts,
             final int sleepDuration) {
-        super(besu, gasProvider, credentials, chainId, privateFrom, attempts, sleepDuration);
+        this(
+                besu,
+                gasProvider,
+                credentials,
+                chainId,
+                privateFrom,
+                privateFor,
+                attempts,
+                sleepDuration,
+                new PrivateNonceManager(besu));
+    }
+
+    /**
+     * Creates a transaction manager waiting for receipts with the given processor, such as a {@link
+     * BatchingPrivateTransactionReceiptProcessor} shared with other transaction managers.
+     */
+    public LegacyPrivateTransactionManager(
+            final Besu besu,
+            final BesuPrivacyGasProvider gasProvider,
+            final Credentials credentials,
+            final long chainId,
+            final Base64String privateFrom,
+            final List<Base64String> privateFor,
+            final PrivateTransactionReceiptProcessor transactionReceiptProcessor,
+            final PrivateNonceManager nonceManager) {
+        super(
+                besu,
+                gasProvider,
+                credentials,
+                chainId,
+                privateFrom,
+                transactionReceiptProcessor,
+                nonceManager);
+        this.privateFor = privateFor;
+        this.privacyGroupId = PrivacyGroupUtils.generateLegacyGroup(privateFrom, privateFor);
+    }
+
+    /**
+     * Creates a transaction manager allocating nonces with the given nonce manager, which can be
+     * shared with other transaction managers sending from the same account.
+     */
+    public LegacyPrivateTransactionManager(
+            final Besu besu,
+            final BesuPrivacyGasProvider gasProvider,
+            final Credentials credentials,
+            final long chainId,
+            final Base64String privateFrom,
+            final List<Base64String> privateFor,
+            final int attempts,
+            final int sleepDuration,
+            final PrivateNonceManager nonceManager) {
+        super(
+                besu,
+                gasProvider,
+                credentials,
+                chainId,
+                privateFrom,
+                attempts,
+                sleepDuration,
+                nonceManager);
         this.privateFor = privateFor;
         this.privacyGroupId = PrivacyGroupUtils.generateLegacyGroup(privateFrom, privateFor);
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.web3j.protocol.besu.Besu;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.utils.Base64String;
+
+/**
+ * Allocates private transaction nonces per account and privacy group.
+ *
+ * <p>The nonce of an account in a privacy group is fetched with {@code priv_getTransactionCount}
+ * the first time it's needed, after which nonces are allocated locally, so that sending a private
+ * transaction doesn't need an extra round trip and concurrent senders sharing this manager never
+ * use the same nonce. Nonces of transactions which were rejected are handed back with {@link
+ * #release(String, Base64String, BigInteger)} and reused, so no gap is left, and {@link
+ * #resync(String, Base64String)} discards the local state when it no longer matches the node, for
+ * instance after another client sent transactions from the same account.
+ */
+public class PrivateNonceManager {
+
+    private final Besu besu;
+    private final Map<Key, NonceState> states = new ConcurrentHashMap<>();
+
+    public PrivateNonceManager(final Besu besu) {
+        this.besu = besu;
+    }
+
+    /**
+     * Allocates the next nonce of an account in a privacy group.
+     *
+     * @param address account address
+     * @param privacyGroupId privacy group
+     * @return nonce to use for the next transaction
+     * @throws IOException if the nonce had to be fetched and the request failed
+     */
+    public BigInteger allocate(final String address, final Base64String privacyGroupId)
+            throws IOException {
+        final NonceState state =
+                states.computeIfAbsent(new Key(address, privacyGroupId), k -> new NonceState());
+        synchronized (state) {
+            if (state.next == null) {
+                state.next = fetch(address, privacyGroupId);
+            }
+            if (!state.released.isEmpty()) {
+                return state.released.pollFirst();
+            }
+            final BigInteger nonce = state.next;
+            state.next = nonce.add(BigInteger.ONE);
+            return nonce;
+        }
+    }
+
+    /**
+     * Hands back a nonce of a transaction which was not accepted by the node, so that it's
+     * allocated again rather than leaving a gap.
+     *
+     * @param address account address
+     * @param privacyGroupId privacy group
+     * @param nonce nonce previously returned by {@link #allocate(String, Base64String)}
+     */
+    public void release(
+            final String address, final Base64String privacyGroupId, final BigInteger nonce) {
+        final NonceState state = states.get(new Key(address, privacyGroupId));
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (state.next == null || nonce.compareTo(state.next) >= 0) {
+                // allocated before a resync, the fetched nonce already accounts for it
+                return;
+            }
+            state.released.add(nonce);
+            // shrink the allocated range rather than keeping released nonces at its end
+            while (!state.released.isEmpty()
+                    && state.released.last().equals(state.next.subtract(BigInteger.ONE))) {
+                state.next = state.released.pollLast();
+            }
+        }
+    }
+
+    /**
+     * Discards the local nonce of an account in a privacy group, so that it's fetched from the node
+     * on the next allocation.
+     *
+     * @param address account address
+     * @param privacyGroupId privacy group
+     */
+    public void resync(final String address, final Base64String privacyGroupId) {
+        final NonceState state = states.get(new Key(address, privacyGroupId));
+        if (state != null) {
+            synchronized (state) {
+                state.next = null;
+                state.released.clear();
+            }
+        }
+    }
+
+    private BigInteger fetch(final String address, final Base64String privacyGroupId)
+            throws IOException {
+        final EthGetTransactionCount transactionCount =
+                besu.privGetTransactionCount(address, privacyGroupId).send();
+        if (transactionCount.hasError()) {
+            throw new IOException(
+                    "Error fetching private transaction count: "
+                            + transactionCount.getError().getMessage());
+        }
+        return transactionCount.getTransactionCount();
+    }
+
+    private static class NonceState {
+        private BigInteger next;
+        private final TreeSet<BigInteger> released = new TreeSet<>();
+    }
+
+    private static class Key {
+        private final String address;
+        private final Base64String privacyGroupId;
+
+        private Key(final String address, final Base64String privacyGroupId) {
+            this.address = address.toLowerCase();
+            this.privacyGroupId = privacyGroupId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return address.equals(key.address) && privacyGroupId.equals(key.privacyGroupId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(address, privacyGroupId);
+        }
+    }
+}
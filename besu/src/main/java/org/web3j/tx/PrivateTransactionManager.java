@@ -46,6 +46,7 @@ public abstract class PrivateTransactionManager extends TransactionManager {
     private final Credentials credentials;
     private final long chainId;
     private final Base64String privateFrom;
+    private final PrivateNonceManager nonceManager;
 
     protected PrivateTransactionManager(
             final Besu besu,
@@ -53,7 +54,8 @@ public abstract class PrivateTransactionManager extends TransactionManager {
             final Credentials credentials,
             final long chainId,
             final Base64String privateFrom,
-            final PrivateTransactionReceiptProcessor transactionReceiptProcessor) {
+            final PrivateTransactionReceiptProcessor transactionReceiptProcessor,
+            final PrivateNonceManager nonceManager) {
         super(transactionReceiptProcessor, credentials.getAddress());
         this.besu = besu;
         this.gasProvider = gasProvider;
@@ -61,6 +63,43 @@ public abstract class PrivateTransactionManager extends TransactionManager {
         this.chainId = chainId;
         this.privateFrom = privateFrom;
         this.transactionReceiptProcessor = transactionReceiptProcessor;
+        this.nonceManager = nonceManager;
+    }
+
+    protected PrivateTransactionManager(
+            final Besu besu,
+            final BesuPrivacyGasProvider gasProvider,
+            final Credentials credentials,
+            final long chainId,
+            final Base64String privateFrom,
+            final PrivateTransactionReceiptProcessor transactionReceiptProcessor) {
+        this(
+                besu,
+                gasProvider,
+                credentials,
+                chainId,
+                privateFrom,
+                transactionReceiptProcessor,
+                new PrivateNonceManager(besu));
+    }
+
+    protected PrivateTransactionManager(
+            final Besu besu,
+            final BesuPrivacyGasProvider gasProvider,
+            final Credentials credentials,
+            final long chainId,
+            final Base64String privateFrom,
+            final int attempts,
+            final int sleepDuration,
+            final PrivateNonceManager nonceManager) {
+        this(
+                besu,
+                gasProvider,
+                credentials,
+                chainId,
+                privateFrom,
+                new PollingPrivateTransactionReceiptProcessor(besu, attempts, sleepDuration),
+                nonceManager);
     }
 
     protected PrivateTransactionManager(
@@ -77,7 +116,9 @@ public abstract class PrivateTransactionManager extends TransactionManager {
                 credentials,
                 chainId,
                 privateFrom,
-                new PollingPrivateTransactionReceiptProcessor(besu, attempts, sleepDuration));
+                attempts,
+                sleepDuration,
+                new PrivateNonceManager(besu));
     }
 
     protected PrivateTransactionManager(
@@ -114,7 +155,15 @@ public abstract class PrivateTransactionManager extends TransactionManager {
 
     protected abstract Object privacyGroupIdOrPrivateFor();
 
-    @SuppressWarnings("unchecked")
+    public PrivateNonceManager getNonceManager() {
+        return nonceManager;
+    }
+
+    /**
+     * Signs and sends a private transaction, using the next nonce of the {@link
+     * PrivateNonceManager}. If the node rejects the nonce, the nonce is fetched again and the
+     * transaction is resent once.
+     */
     @Override
     public EthSendTransaction sendTransaction(
             final BigInteger gasPrice,
@@ -125,10 +174,42 @@ public abstract class PrivateTransactionManager extends TransactionManager {
             boolean constructor)
             throws IOException {
 
-        final BigInteger nonce =
-                besu.privGetTransactionCount(credentials.getAddress(), getPrivacyGroupId())
-                        .send()
-                        .getTransactionCount();
+        final String address = credentials.getAddress();
+        final Base64String privacyGroupId = getPrivacyGroupId();
+
+        EthSendTransaction ethSendTransaction = null;
+        for (int attempt = 0; attempt < 2; attempt++) {
+            final BigInteger nonce = nonceManager.allocate(address, privacyGroupId);
+            try {
+                ethSendTransaction =
+                        besu.eeaSendRawTransaction(
+                                        signTransaction(nonce, gasPrice, gasLimit, to, data))
+                                .send();
+            } catch (IOException | RuntimeException e) {
+                // the transaction may have reached the node, so its nonce can't be reused
+                nonceManager.resync(address, privacyGroupId);
+                throw e;
+            }
+
+            if (!ethSendTransaction.hasError()) {
+                break;
+            } else if (isNonceError(ethSendTransaction)) {
+                nonceManager.resync(address, privacyGroupId);
+            } else {
+                nonceManager.release(address, privacyGroupId, nonce);
+                break;
+            }
+        }
+        return ethSendTransaction;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String signTransaction(
+            final BigInteger nonce,
+            final BigInteger gasPrice,
+            final BigInteger gasLimit,
+            final String to,
+            final String data) {
 
         final Object privacyGroupIdOrPrivateFor = privacyGroupIdOrPrivateFor();
 
@@ -157,11 +238,13 @@ public abstract class PrivateTransactionManager extends TransactionManager {
                             RESTRICTED);
         }
 
-        final String rawSignedTransaction =
-                Numeric.toHexString(
-                        PrivateTransactionEncoder.signMessage(transaction, chainId, credentials));
+        return Numeric.toHexString(
+                PrivateTransactionEncoder.signMessage(transaction, chainId, credentials));
+    }
 
-        return besu.eeaSendRawTransaction(rawSignedTransaction).send();
+    private static boolean isNonceError(final EthSendTransaction ethSendTransaction) {
+        final String message = ethSendTransaction.getError().getMessage();
+        return message != null && message.toLowerCase().contains("nonce");
     }
 
     @Override
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.besu.Besu;
+import org.web3j.protocol.besu.response.privacy.PrivGetTransactionReceipt;
+import org.web3j.protocol.besu.response.privacy.PrivateTransactionReceipt;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
+
+/**
+ * Private transaction receipt processor that waits for any number of receipts with a single
+ * scheduled task.
+ *
+ * <p>The task checks the block number every {@code pollingFrequency} milliseconds, and once a new
+ * block is seen it requests the receipts of all outstanding transactions in one JSON-RPC batch of
+ * {@code priv_getTransactionReceipt} calls. A transaction fails once its receipt hasn't been found
+ * after {@code attempts} new blocks.
+ *
+ * <p>{@link #submit(String)} returns without blocking, while {@link
+ * #waitForTransactionReceipt(String)} blocks the calling thread only, so it can be used with a
+ * {@link org.web3j.tx.PrivateTransactionManager}.
+ */
+public class BatchingPrivateTransactionReceiptProcessor extends PrivateTransactionReceiptProcessor {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(BatchingPrivateTransactionReceiptProcessor.class);
+
+    private final Besu besu;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final long pollingFrequency;
+    private final int attempts;
+
+    private final ConcurrentLinkedQueue<PendingReceipt> pendingReceipts =
+            new ConcurrentLinkedQueue<>();
+
+    private BigInteger lastBlockNumber;
+    private ScheduledFuture<?> schedule;
+    private boolean shutdown;
+
+    public BatchingPrivateTransactionReceiptProcessor(
+            Besu besu, long pollingFrequency, int attempts) {
+        this(besu, Async.defaultExecutorService(), pollingFrequency, attempts);
+    }
+
+    public BatchingPrivateTransactionReceiptProcessor(
+            Besu besu,
+            ScheduledExecutorService scheduledExecutorService,
+            long pollingFrequency,
+            int attempts) {
+        super(besu);
+        if (pollingFrequency <= 0 || attempts <= 0) {
+            throw new IllegalArgumentException("Polling frequency and attempts must be positive");
+        }
+        this.besu = besu;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.pollingFrequency = pollingFrequency;
+        this.attempts = attempts;
+    }
+
+    /**
+     * Queues a private transaction to wait for its receipt.
+     *
+     * @param transactionHash hash of the private marker transaction
+     * @return completed with the receipt, or exceptionally with a {@link TransactionException}
+     */
+    public CompletableFuture<PrivateTransactionReceipt> submit(String transactionHash) {
+        PendingReceipt pendingReceipt = new PendingReceipt(transactionHash);
+        synchronized (this) {
+            if (shutdown) {
+                pendingReceipt.future.completeExceptionally(
+                        new TransactionException(
+                                "Receipt processor has been shut down", transactionHash));
+                return pendingReceipt.future;
+            }
+            pendingReceipts.add(pendingReceipt);
+            if (schedule == null) {
+                schedule =
+                        scheduledExecutorService.scheduleWithFixedDelay(
+                                this::poll, 0, pollingFrequency, TimeUnit.MILLISECONDS);
+            }
+        }
+        return pendingReceipt.future;
+    }
+
+    @Override
+    public PrivateTransactionReceipt waitForTransactionReceipt(String transactionHash)
+            throws IOException, TransactionException {
+        try {
+            return submit(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TransactionException) {
+                throw (TransactionException) e.getCause();
+            }
+            throw new TransactionException(e.getCause());
+        }
+    }
+
+    /** Stops polling, failing the transactions still waiting for their receipt. */
+    public void shutdown() {
+        synchronized (this) {
+            shutdown = true;
+            if (schedule != null) {
+                schedule.cancel(false);
+            }
+        }
+        PendingReceipt pendingReceipt;
+        while ((pendingReceipt = pendingReceipts.poll()) != null) {
+            pendingReceipt.future.completeExceptionally(
+                    new TransactionException(
+                            "Receipt processor has been shut down",
+                            pendingReceipt.transactionHash));
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingReceipts.size();
+    }
+
+    void poll() {
+        try {
+            if (pendingReceipts.isEmpty()) {
+                return;
+            }
+
+            EthBlockNumber ethBlockNumber = besu.ethBlockNumber().send();
+            if (ethBlockNumber.hasError()) {
+                log.warn("Error fetching block number: {}", ethBlockNumber.getError().getMessage());
+                return;
+            }
+            BigInteger blockNumber = ethBlockNumber.getBlockNumber();
+            if (lastBlockNumber != null && blockNumber.compareTo(lastBlockNumber) <= 0) {
+                return;
+            }
+            lastBlockNumber = blockNumber;
+
+            List<PendingReceipt> polled = new ArrayList<>(pendingReceipts);
+            if (!polled.isEmpty()) {
+                pollReceipts(polled);
+            }
+        } catch (Throwable e) {
+            // All exceptions must be caught, otherwise polling stops without any notification
+            log.error("Error sending batch request", e);
+        }
+    }
+
+    private void pollReceipts(List<PendingReceipt> polled) throws IOException {
+        BatchRequest batch = besu.newBatch();
+        for (PendingReceipt pendingReceipt : polled) {
+            batch.add(besu.privGetTransactionReceipt(pendingReceipt.transactionHash));
+        }
+        BatchResponse batchResponse = batch.send();
+
+        for (int i = 0; i < polled.size(); i++) {
+            PendingReceipt pendingReceipt = polled.get(i);
+            PrivGetTransactionReceipt transactionReceipt =
+                    (PrivGetTransactionReceipt) batchResponse.getResponses().get(i);
+
+            if (transactionReceipt.hasError()) {
+                fail(
+                        pendingReceipt,
+                        "Error processing request: " + transactionReceipt.getError().getMessage());
+            } else if (transactionReceipt.getTransactionReceipt().isPresent()) {
+                pendingReceipts.remove(pendingReceipt);
+                pendingReceipt.future.complete(transactionReceipt.getTransactionReceipt().get());
+            } else if (++pendingReceipt.blocks >= attempts) {
+                fail(
+                        pendingReceipt,
+                        "Transaction receipt was not generated after "
+                                + attempts
+                                + " blocks for transaction: "
+                                + pendingReceipt.transactionHash);
+            }
+        }
+    }
+
+    private void fail(PendingReceipt pendingReceipt, String message) {
+        pendingReceipts.remove(pendingReceipt);
+        pendingReceipt.future.completeExceptionally(
+                new TransactionException(message, pendingReceipt.transactionHash));
+    }
+
+    /**
+     * Compared by identity, so that a transaction hash submitted twice is waited for, and
+     * completed, twice.
+     */
+    private static class PendingReceipt {
+        private final String transactionHash;
+        private final CompletableFuture<PrivateTransactionReceipt> future =
+                new CompletableFuture<>();
+        private int blocks;
+
+        private PendingReceipt(String transactionHash) {
+            this.transactionHash = transactionHash;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.besu;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.admin.methods.response.BooleanResponse;
+import org.web3j.protocol.besu.response.privacy.PrivFindPrivacyGroup;
+import org.web3j.protocol.besu.response.privacy.PrivacyGroup;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.utils.Base64String;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PrivacyGroupCacheTest {
+
+    private static final Base64String ALICE =
+            Base64String.wrap("A1aVtMxLCUHmBVHXoZzzBgPbW/wj5axDpW9X8l91SGo=");
+    private static final Base64String BOB =
+            Base64String.wrap("Ko2bVqD+nNlNYL5EE7y3IdOnviftjiizpjRt+HTuFBs=");
+    private static final String GROUP_ID = "68/Cq0mVjB8FbXDLE1tbDRAvD/srluIok137uFOaClM=";
+
+    private List<PrivacyGroup> groups;
+    private CompletableFuture<PrivFindPrivacyGroup> pending;
+    private boolean error;
+
+    private Web3jService service;
+    private long now;
+    private PrivacyGroupCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        service = mock(Web3jService.class);
+        when(service.sendAsync(any(Request.class), eq(PrivFindPrivacyGroup.class)))
+                .thenAnswer(
+                        invocation -> {
+                            if (pending != null) {
+                                return pending;
+                            }
+                            PrivFindPrivacyGroup response = new PrivFindPrivacyGroup();
+                            if (error) {
+                                response.setError(new Response.Error(-50100, "Enclave error"));
+                            } else {
+                                response.setResult(groups);
+                            }
+                            return CompletableFuture.completedFuture(response);
+                        });
+        BooleanResponse deleted = new BooleanResponse();
+        deleted.setResult(true);
+        when(service.send(any(Request.class), eq(BooleanResponse.class))).thenReturn(deleted);
+        cache = new PrivacyGroupCache(Besu.build(service), 1000, 100, () -> now);
+    }
+
+    @Test
+    public void testCachesLookupsBySetOfMembers() throws IOException {
+        groups = Collections.singletonList(group());
+
+        List<PrivacyGroup> groups = cache.findPrivacyGroup(Arrays.asList(ALICE, BOB));
+        assertEquals(1, groups.size());
+        assertSame(groups, cache.findPrivacyGroup(Arrays.asList(BOB, ALICE)));
+        verify(service, times(1)).sendAsync(any(Request.class), eq(PrivFindPrivacyGroup.class));
+
+        now += 1000;
+        cache.findPrivacyGroup(Arrays.asList(ALICE, BOB));
+        verify(service, times(2)).sendAsync(any(Request.class), eq(PrivFindPrivacyGroup.class));
+    }
+
+    @Test
+    public void testCachesMissingGroupsForNegativeTtl() throws IOException {
+        groups = Collections.emptyList();
+
+        assertTrue(cache.findPrivacyGroup(Arrays.asList(ALICE, BOB)).isEmpty());
+        now += 99;
+        assertTrue(cache.findPrivacyGroup(Arrays.asList(ALICE, BOB)).isEmpty());
+        verify(service, times(1)).sendAsync(any(Request.class), eq(PrivFindPrivacyGroup.class));
+
+        now += 1;
+        groups = Collections.singletonList(group());
+        assertEquals(1, cache.findPrivacyGroup(Arrays.asList(ALICE, BOB)).size());
+        verify(service, times(2)).sendAsync(any(Request.class), eq(PrivFindPrivacyGroup.class));
+    }
+
+    @Test
+    public void testCoalescesConcurrentLookups() throws Exception {
+        pending = new CompletableFuture<>();
+
+        CompletableFuture<List<PrivacyGroup>> first =
+                cache.findPrivacyGroupAsync(Arrays.asList(ALICE, BOB));
+        CompletableFuture<List<PrivacyGroup>> second =
+                cache.findPrivacyGroupAsync(Arrays.asList(BOB, ALICE));
+        assertSame(first, second);
+        verify(service, times(1)).sendAsync(any(Request.class), eq(PrivFindPrivacyGroup.class));
+
+        PrivFindPrivacyGroup response = new PrivFindPrivacyGroup();
+        response.setResult(Collections.singletonList(group()));
+        pending.complete(response);
+        assertEquals(1, first.get().size());
+    }
+
+    @Test
+    public void testDoesNotCacheFailures() throws IOException {
+        error = true;
+        try {
+            cache.findPrivacyGroup(Arrays.asList(ALICE, BOB));
+            fail();
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("Enclave error"));
+        }
+        assertEquals(0, cache.size());
+
+        error = false;
+        groups = Collections.singletonList(group());
+        assertFalse(cache.findPrivacyGroup(Arrays.asList(ALICE, BOB)).isEmpty());
+    }
+
+    @Test
+    public void testDeleteInvalidatesLookups() throws IOException {
+        groups = Collections.singletonList(group());
+        cache.findPrivacyGroup(Arrays.asList(ALICE, BOB));
+        groups = Collections.emptyList();
+        cache.findPrivacyGroup(Collections.singletonList(ALICE));
+        assertEquals(2, cache.size());
+
+        assertTrue(cache.deletePrivacyGroup(Base64String.wrap(GROUP_ID)));
+        assertEquals(1, cache.size());
+
+        assertTrue(cache.findPrivacyGroup(Arrays.asList(ALICE, BOB)).isEmpty());
+        verify(service, times(3)).sendAsync(any(Request.class), eq(PrivFindPrivacyGroup.class));
+    }
+
+    private static PrivacyGroup group() {
+        return new PrivacyGroup(
+                GROUP_ID, PrivacyGroup.Type.PANTHEON, "group", "", Arrays.asList(ALICE, BOB));
+    }
+}
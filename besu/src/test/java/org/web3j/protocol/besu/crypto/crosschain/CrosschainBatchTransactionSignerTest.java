@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.besu.crypto.crosschain;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import org.web3j.crypto.BatchTransactionSigner;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CrosschainBatchTransactionSignerTest {
+
+    private static final Credentials CREDENTIALS =
+            Credentials.create("8f2a55949038a9610f50fb23b5883af3b4ecb3c3bb792cbcefbd1542c692be63");
+    private static final long CHAIN_ID = 2018;
+
+    @Test
+    public void testSignAssignsNoncesInOrder() {
+        List<CrosschainRawTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            transactions.add(createTransaction(BigInteger.ZERO, i));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<BatchTransactionSigner.SignedTransaction> signed;
+        try {
+            signed =
+                    CrosschainBatchTransactionSigner.create(CHAIN_ID, CREDENTIALS, pool)
+                            .sign(transactions, BigInteger.TEN);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(transactions.size(), signed.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            BigInteger nonce = BigInteger.valueOf(10 + i);
+            byte[] expected =
+                    CrosschainTransactionEncoder.signMessage(
+                            createTransaction(nonce, i), CHAIN_ID, CREDENTIALS);
+            BatchTransactionSigner.SignedTransaction signedTransaction = signed.get(i);
+
+            assertEquals(nonce, signedTransaction.getNonce());
+            assertArrayEquals(expected, signedTransaction.getSignedMessage());
+            assertEquals(
+                    Numeric.toHexString(Hash.sha3(expected)),
+                    signedTransaction.getTransactionHash());
+        }
+    }
+
+    @Test
+    public void testSignKeepsTypeAndNonces() {
+        List<CrosschainRawTransaction> transactions = new ArrayList<>();
+        transactions.add(createTransaction(BigInteger.valueOf(5), 0));
+        transactions.add(createTransaction(BigInteger.valueOf(3), 1));
+
+        List<BatchTransactionSigner.SignedTransaction> signed =
+                CrosschainBatchTransactionSigner.create(CHAIN_ID, CREDENTIALS).sign(transactions);
+
+        assertEquals(BigInteger.valueOf(5), signed.get(0).getNonce());
+        assertEquals(BigInteger.valueOf(3), signed.get(1).getNonce());
+        assertArrayEquals(
+                CrosschainTransactionEncoder.signMessage(
+                        transactions.get(1), CHAIN_ID, CREDENTIALS),
+                signed.get(1).getSignedMessage());
+    }
+
+    private static CrosschainRawTransaction createTransaction(BigInteger nonce, int index) {
+        return CrosschainRawTransaction.createTransaction(
+                CrosschainTransactionType.SINGLECHAIN_DEPLOY_LOCKABLE,
+                nonce,
+                BigInteger.valueOf(1000),
+                BigInteger.valueOf(3000000),
+                null,
+                BigInteger.ZERO,
+                "0x" + Integer.toHexString(0x100 + index),
+                null);
+    }
+}
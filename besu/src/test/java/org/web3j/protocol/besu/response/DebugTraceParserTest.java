@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.besu.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.besu.Besu;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.ResponseStreams;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DebugTraceParserTest {
+
+    private static final String TRACE =
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+                    + "\"gas\":21000,\"failed\":false,\"returnValue\":\"\",\"structLogs\":["
+                    + "{\"pc\":0,\"op\":\"PUSH1\",\"gas\":79000,\"gasCost\":3,\"depth\":1,"
+                    + "\"stack\":[],\"memory\":[],\"storage\":{}},"
+                    + "{\"pc\":2,\"op\":\"SSTORE\",\"gas\":78997,\"gasCost\":20000,\"depth\":1,"
+                    + "\"stack\":[\"0x1\",\"0x0\"],"
+                    + "\"memory\":[\"0000000000000000000000000000000000000000000000000000000000000080\"],"
+                    + "\"storage\":{\"0000000000000000000000000000000000000000000000000000000000000000\":"
+                    + "\"0000000000000000000000000000000000000000000000000000000000000001\"}}"
+                    + "]}}";
+
+    @Test
+    public void testVisitsStructLogs() throws IOException {
+        List<StructLogs> structLogs = new ArrayList<>();
+
+        Response<FullDebugTraceInfo> response =
+                besu(TRACE)
+                        .debugTraceTransaction("0x01", Collections.emptyMap())
+                        .sendStreaming(new DebugTraceParser(structLogs::add));
+
+        assertFalse(response.hasError());
+        assertEquals(1, response.getId());
+        assertEquals(21000, response.getResult().getGas());
+        assertTrue(response.getResult().getStructLogs().isEmpty());
+
+        assertEquals(2, structLogs.size());
+        StructLogs sstore = structLogs.get(1);
+        assertEquals("SSTORE", sstore.getOp());
+        assertEquals(20000, sstore.getGasCost());
+        assertEquals(Arrays.asList("0x1", "0x0"), sstore.getStack());
+        assertEquals(1, sstore.getMemory().size());
+        assertEquals(
+                "0000000000000000000000000000000000000000000000000000000000000001",
+                sstore.getStorage().get(BigInteger.ZERO));
+    }
+
+    @Test
+    public void testSkipsUnselectedFields() throws IOException {
+        List<StructLogs> structLogs = new ArrayList<>();
+
+        besu(TRACE)
+                .debugTraceTransaction("0x01", Collections.emptyMap())
+                .sendStreaming(
+                        new DebugTraceParser(
+                                structLogs::add, EnumSet.of(DebugTraceParser.Field.STACK)));
+
+        StructLogs sstore = structLogs.get(1);
+        assertEquals(78997, sstore.getGas());
+        assertEquals(Arrays.asList("0x1", "0x0"), sstore.getStack());
+        assertNull(sstore.getMemory());
+        assertNull(sstore.getStorage());
+    }
+
+    @Test
+    public void testError() throws IOException {
+        List<StructLogs> structLogs = new ArrayList<>();
+
+        Response<FullDebugTraceInfo> response =
+                besu("{\"jsonrpc\":\"2.0\",\"id\":1,"
+                                + "\"error\":{\"code\":-32000,\"message\":\"Transaction not found\"}}")
+                        .debugTraceTransaction("0x01", Collections.emptyMap())
+                        .sendStreaming(new DebugTraceParser(structLogs::add));
+
+        assertTrue(response.hasError());
+        assertEquals("Transaction not found", response.getError().getMessage());
+        assertNull(response.getResult());
+        assertTrue(structLogs.isEmpty());
+    }
+
+    @Test
+    public void testParsesResponseReadAsWhole() throws IOException {
+        List<StructLogs> structLogs = new ArrayList<>();
+
+        Response<?> whole = ObjectMapperFactory.getObjectMapper().readValue(TRACE, Response.class);
+        Response<FullDebugTraceInfo> response =
+                ResponseStreams.read(
+                        whole,
+                        new DebugTraceParser(
+                                structLogs::add, EnumSet.noneOf(DebugTraceParser.Field.class)));
+
+        assertEquals(21000, response.getResult().getGas());
+        assertEquals(2, structLogs.size());
+        assertNull(structLogs.get(0).getStack());
+    }
+
+    private static Besu besu(String reply) {
+        return Besu.build(
+                new Service(false) {
+                    @Override
+                    protected InputStream performIO(String payload) {
+                        return new ByteArrayInputStream(reply.getBytes(StandardCharsets.UTF_8));
+                    }
+
+                    @Override
+                    public void close() {}
+                });
+    }
+}
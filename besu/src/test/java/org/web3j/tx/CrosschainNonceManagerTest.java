@@ -0,0 +1,225 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.besu.Besu;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CrosschainNonceManagerTest {
+
+    private static final String ADDRESS = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+
+    private Besu besu;
+    private Request<?, EthGetTransactionCount> transactionCountRequest;
+    private final AtomicLong clock = new AtomicLong();
+    private CrosschainNonceManager nonceManager;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        besu = mock(Besu.class);
+        transactionCountRequest = mock(Request.class);
+        doReturn(transactionCountRequest)
+                .when(besu)
+                .ethGetTransactionCount(anyString(), any(DefaultBlockParameter.class));
+        when(transactionCountRequest.sendAsync())
+                .thenReturn(CompletableFuture.completedFuture(transactionCount(5)));
+
+        nonceManager = new CrosschainNonceManager(besu, 1000, clock::get);
+    }
+
+    @Test
+    public void testReservesConsecutiveRanges() throws Exception {
+        assertEquals(BigInteger.valueOf(5), nonceManager.reserve(ADDRESS, 3).get());
+        // views use the next nonce without reserving it
+        assertEquals(BigInteger.valueOf(8), nonceManager.reserve(ADDRESS, 0).get());
+        assertEquals(BigInteger.valueOf(8), nonceManager.reserve(ADDRESS.toUpperCase(), 1).get());
+        assertEquals(BigInteger.valueOf(9), nonceManager.reserve(ADDRESS, 1).get());
+    }
+
+    @Test
+    public void testContinuesFromNodeWhenAhead() throws Exception {
+        nonceManager.reserve(ADDRESS, 2).get();
+
+        // transactions were sent by another client
+        when(transactionCountRequest.sendAsync())
+                .thenReturn(CompletableFuture.completedFuture(transactionCount(12)));
+
+        assertEquals(BigInteger.valueOf(12), nonceManager.reserve(ADDRESS, 1).get());
+    }
+
+    @Test
+    public void testReleasedNoncesAreReused() throws Exception {
+        assertEquals(BigInteger.valueOf(5), nonceManager.reserve(ADDRESS, 2).get());
+        assertEquals(BigInteger.valueOf(7), nonceManager.reserve(ADDRESS, 2).get());
+
+        // a range in the middle is reused one nonce at a time
+        nonceManager.release(ADDRESS, BigInteger.valueOf(5), 2);
+        assertEquals(BigInteger.valueOf(5), nonceManager.reserve(ADDRESS, 1).get());
+
+        // the range at the end shrinks the reserved ranges
+        nonceManager.release(ADDRESS, BigInteger.valueOf(7), 2);
+        assertEquals(BigInteger.valueOf(6), nonceManager.reserve(ADDRESS, 0).get());
+        assertEquals(BigInteger.valueOf(6), nonceManager.reserve(ADDRESS, 1).get());
+        assertEquals(BigInteger.valueOf(7), nonceManager.reserve(ADDRESS, 3).get());
+    }
+
+    @Test
+    public void testStaleReservationsAreDiscarded() throws Exception {
+        assertEquals(BigInteger.valueOf(5), nonceManager.reserve(ADDRESS, 3).get());
+
+        // the node is behind, but transactions are still landing
+        clock.set(900);
+        when(transactionCountRequest.sendAsync())
+                .thenReturn(CompletableFuture.completedFuture(transactionCount(6)));
+        assertEquals(BigInteger.valueOf(8), nonceManager.reserve(ADDRESS, 1).get());
+
+        clock.set(1800);
+        assertEquals(BigInteger.valueOf(9), nonceManager.reserve(ADDRESS, 1).get());
+
+        // the remaining transactions never landed
+        clock.set(1900);
+        assertEquals(BigInteger.valueOf(6), nonceManager.reserve(ADDRESS, 1).get());
+        assertEquals(BigInteger.valueOf(7), nonceManager.reserve(ADDRESS, 1).get());
+    }
+
+    @Test
+    public void testResyncFetchesNonceAgain() throws Exception {
+        nonceManager.reserve(ADDRESS, 2).get();
+
+        when(transactionCountRequest.sendAsync())
+                .thenReturn(CompletableFuture.completedFuture(transactionCount(9)));
+        nonceManager.resync(ADDRESS);
+
+        assertEquals(BigInteger.valueOf(9), nonceManager.reserve(ADDRESS, 1).get());
+    }
+
+    @Test
+    public void testErrorResponseFailsReservationAndIsRetried() throws Exception {
+        EthGetTransactionCount error = new EthGetTransactionCount();
+        error.setError(new Response.Error(-32000, "unavailable"));
+        when(transactionCountRequest.sendAsync())
+                .thenReturn(
+                        CompletableFuture.completedFuture(error),
+                        CompletableFuture.completedFuture(transactionCount(5)));
+
+        try {
+            nonceManager.reserve(ADDRESS, 1).get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+
+        assertEquals(BigInteger.valueOf(5), nonceManager.reserve(ADDRESS, 1).get());
+    }
+
+    @Test
+    public void testConcurrentReservationsDontOverlap() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BigInteger>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> nonceManager.reserve(ADDRESS, 2).get()));
+            }
+
+            Set<BigInteger> nonces = new HashSet<>();
+            for (Future<BigInteger> future : futures) {
+                BigInteger first = future.get();
+                nonces.add(first);
+                nonces.add(first.add(BigInteger.ONE));
+            }
+            assertEquals(200, nonces.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBlockNumberErrorFailsBatch() throws Exception {
+        Web3j coordinationBlockchain = mock(Web3j.class);
+        Request<?, EthBlockNumber> blockNumberRequest = mock(Request.class);
+        doReturn(blockNumberRequest).when(coordinationBlockchain).ethBlockNumber();
+        EthBlockNumber error = new EthBlockNumber();
+        error.setError(new Response.Error(-32000, "unavailable"));
+        when(blockNumberRequest.sendAsync()).thenReturn(CompletableFuture.completedFuture(error));
+
+        CrosschainTransactionManager transactionManager =
+                new CrosschainTransactionManager(
+                        besu,
+                        Credentials.create(
+                                "8f2a55949038a9610f50fb23b5883af3b4ecb3c3bb792cbcefbd1542c692be63"),
+                        BigInteger.valueOf(2018),
+                        null,
+                        coordinationBlockchain,
+                        BigInteger.ONE,
+                        ADDRESS,
+                        10,
+                        nonceManager);
+
+        try {
+            transactionManager
+                    .createSignedSubordinateTransactionBatch(
+                            BigInteger.ONE,
+                            BigInteger.TEN,
+                            ADDRESS,
+                            Collections.singletonList("0x"),
+                            BigInteger.ZERO,
+                            null)
+                    .get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+        // no nonces were reserved
+        assertEquals(BigInteger.valueOf(5), nonceManager.reserve(ADDRESS, 1).get());
+    }
+
+    private static EthGetTransactionCount transactionCount(long count) {
+        EthGetTransactionCount transactionCount = new EthGetTransactionCount();
+        transactionCount.setResult("0x" + Long.toHexString(count));
+        return transactionCount;
+    }
+}
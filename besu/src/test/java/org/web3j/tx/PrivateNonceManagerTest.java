@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.besu.Besu;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionCount;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.utils.Base64String;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PrivateNonceManagerTest {
+
+    private static final String ADDRESS = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+    private static final Base64String PRIVACY_GROUP_ID =
+            Base64String.wrap("A1aVtMxLCUHmBVHXoZzzBgPbW/wj5axDpW9X8l91SGo=");
+    private static final Base64String OTHER_PRIVACY_GROUP_ID =
+            Base64String.wrap("Ko2bVqD+nNlNYL5EE7y3IdOnviftjiizpjRt+HTuFBs=");
+
+    private Besu besu;
+    private Request<?, EthGetTransactionCount> transactionCountRequest;
+    private PrivateNonceManager nonceManager;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        besu = mock(Besu.class);
+        transactionCountRequest = mock(Request.class);
+        doReturn(transactionCountRequest)
+                .when(besu)
+                .privGetTransactionCount(anyString(), any(Base64String.class));
+        when(transactionCountRequest.send()).thenReturn(transactionCount(5));
+
+        nonceManager = new PrivateNonceManager(besu);
+    }
+
+    @Test
+    public void testAllocatesLocallyAfterFirstFetch() throws IOException {
+        assertEquals(BigInteger.valueOf(5), nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID));
+        assertEquals(BigInteger.valueOf(6), nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID));
+        assertEquals(
+                BigInteger.valueOf(7),
+                nonceManager.allocate(ADDRESS.toUpperCase().replace("0X", "0x"), PRIVACY_GROUP_ID));
+
+        verify(transactionCountRequest, times(1)).send();
+
+        // each privacy group has its own nonce
+        assertEquals(BigInteger.valueOf(5), nonceManager.allocate(ADDRESS, OTHER_PRIVACY_GROUP_ID));
+        verify(transactionCountRequest, times(2)).send();
+    }
+
+    @Test
+    public void testReleasedNoncesAreReused() throws IOException {
+        BigInteger first = nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID);
+        BigInteger second = nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID);
+        nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID);
+
+        nonceManager.release(ADDRESS, PRIVACY_GROUP_ID, first);
+        assertEquals(first, nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID));
+
+        // releasing the last allocated nonces shrinks the range instead
+        nonceManager.release(ADDRESS, PRIVACY_GROUP_ID, BigInteger.valueOf(7));
+        nonceManager.release(ADDRESS, PRIVACY_GROUP_ID, second);
+        assertEquals(second, nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID));
+        assertEquals(BigInteger.valueOf(7), nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID));
+        assertEquals(BigInteger.valueOf(8), nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID));
+    }
+
+    @Test
+    public void testResyncFetchesNonceAgain() throws IOException {
+        nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID);
+        nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID);
+
+        when(transactionCountRequest.send()).thenReturn(transactionCount(9));
+        nonceManager.resync(ADDRESS, PRIVACY_GROUP_ID);
+        // nonces allocated before the resync are not handed out again
+        nonceManager.release(ADDRESS, PRIVACY_GROUP_ID, BigInteger.valueOf(6));
+
+        assertEquals(BigInteger.valueOf(9), nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID));
+        assertEquals(BigInteger.valueOf(10), nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID));
+    }
+
+    @Test
+    public void testConcurrentAllocationsAreUnique() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BigInteger>> futures = new ArrayList<>();
+            Callable<BigInteger> allocate = () -> nonceManager.allocate(ADDRESS, PRIVACY_GROUP_ID);
+            for (int i = 0; i < 200; i++) {
+                futures.add(executor.submit(allocate));
+            }
+
+            Set<BigInteger> nonces = new HashSet<>();
+            for (Future<BigInteger> future : futures) {
+                nonces.add(future.get());
+            }
+            assertEquals(200, nonces.size());
+            verify(transactionCountRequest, times(1)).send();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTransactionManagerResendsOnNonceError() throws IOException {
+        Request<?, EthSendTransaction> sendRequest = mock(Request.class);
+        doReturn(sendRequest).when(besu).eeaSendRawTransaction(anyString());
+        EthSendTransaction nonceTooLow = new EthSendTransaction();
+        nonceTooLow.setError(new Response.Error(-32000, "Nonce too low"));
+        EthSendTransaction sent = new EthSendTransaction();
+        sent.setResult("0xabc");
+        when(sendRequest.send()).thenReturn(nonceTooLow, sent);
+
+        BesuPrivateTransactionManager transactionManager =
+                new BesuPrivateTransactionManager(
+                        besu,
+                        null,
+                        Credentials.create(
+                                "8f2a55949038a9610f50fb23b5883af3b4ecb3c3bb792cbcefbd1542c692be63"),
+                        2018,
+                        PRIVACY_GROUP_ID,
+                        PRIVACY_GROUP_ID,
+                        1,
+                        0,
+                        nonceManager);
+
+        EthSendTransaction response =
+                transactionManager.sendTransaction(
+                        BigInteger.ONE, BigInteger.TEN, ADDRESS, "0x", BigInteger.ZERO);
+
+        assertFalse(response.hasError());
+        verify(sendRequest, times(2)).send();
+        verify(transactionCountRequest, times(2)).send();
+    }
+
+    private static EthGetTransactionCount transactionCount(long count) {
+        EthGetTransactionCount transactionCount = new EthGetTransactionCount();
+        transactionCount.setResult("0x" + Long.toHexString(count));
+        return transactionCount;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.besu.Besu;
+import org.web3j.protocol.besu.response.privacy.PrivGetTransactionReceipt;
+import org.web3j.protocol.besu.response.privacy.PrivateTransactionReceipt;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchingPrivateTransactionReceiptProcessorTest {
+
+    private static final String TRANSACTION_HASH_1 = "0x01";
+    private static final String TRANSACTION_HASH_2 = "0x02";
+
+    private final Map<String, PrivateTransactionReceipt> receipts = new HashMap<>();
+    private long blockNumber = 1;
+
+    private Web3jService service;
+    private BatchingPrivateTransactionReceiptProcessor processor;
+
+    @Before
+    public void setUp() throws Exception {
+        service = mock(Web3jService.class);
+        when(service.send(any(Request.class), eq(EthBlockNumber.class)))
+                .thenAnswer(
+                        invocation -> {
+                            EthBlockNumber ethBlockNumber = new EthBlockNumber();
+                            ethBlockNumber.setResult("0x" + Long.toHexString(blockNumber));
+                            return ethBlockNumber;
+                        });
+        when(service.send(any(Request.class), eq(PrivGetTransactionReceipt.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+                            PrivGetTransactionReceipt transactionReceipt =
+                                    new PrivGetTransactionReceipt();
+                            transactionReceipt.setResult(
+                                    receipts.get((String) request.getParams().get(0)));
+                            return transactionReceipt;
+                        });
+        when(service.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batch = (BatchRequest) invocation.getArguments()[0];
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ? extends Response<?>> request : batch.getRequests()) {
+                                responses.add(service.send(request, request.getResponseType()));
+                            }
+                            return new BatchResponse(batch.getRequests(), responses);
+                        });
+        processor =
+                new BatchingPrivateTransactionReceiptProcessor(
+                        Besu.build(service), mock(ScheduledExecutorService.class), 1000, 3);
+    }
+
+    @Test
+    public void testRequestsAllReceiptsInOneBatchPerBlock() throws Exception {
+        CompletableFuture<PrivateTransactionReceipt> first = processor.submit(TRANSACTION_HASH_1);
+        CompletableFuture<PrivateTransactionReceipt> second = processor.submit(TRANSACTION_HASH_2);
+
+        processor.poll();
+        verify(service, times(1)).sendBatch(any(BatchRequest.class));
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+
+        // no new block, no receipt requests
+        PrivateTransactionReceipt receipt = mock(PrivateTransactionReceipt.class);
+        receipts.put(TRANSACTION_HASH_1, receipt);
+        processor.poll();
+        verify(service, times(1)).sendBatch(any(BatchRequest.class));
+
+        blockNumber++;
+        processor.poll();
+        verify(service, times(2)).sendBatch(any(BatchRequest.class));
+        assertSame(receipt, first.get());
+        assertFalse(second.isDone());
+        assertEquals(1, processor.getPendingCount());
+    }
+
+    @Test
+    public void testFailsAfterAttempts() throws Exception {
+        CompletableFuture<PrivateTransactionReceipt> future = processor.submit(TRANSACTION_HASH_1);
+
+        processor.poll();
+        blockNumber++;
+        processor.poll();
+        assertFalse(future.isDone());
+
+        blockNumber++;
+        processor.poll();
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, processor.getPendingCount());
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(TransactionException.class));
+            assertThat(
+                    ((TransactionException) e.getCause()).getTransactionHash().get(),
+                    is(TRANSACTION_HASH_1));
+        }
+    }
+
+    @Test
+    public void testShutdownFailsPendingReceipts() {
+        CompletableFuture<PrivateTransactionReceipt> future = processor.submit(TRANSACTION_HASH_1);
+
+        processor.shutdown();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertTrue(processor.submit(TRANSACTION_HASH_2).isCompletedExceptionally());
+    }
+}
@@ -31,6 +31,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Modifier;
 
@@ -38,6 +39,8 @@ import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import org.slf4j.Logger;
@@ -63,6 +66,7 @@ public class CrosschainSolidityFunctionWrapper extends SolidityFunctionWrapper {
     private static final String BESU = "besu";
     private static final String CROSSCHAIN_TRANSACTION_MANAGER = "crosschainTransactionManager";
     private static final String CROSSCHAIN_CONTEXT = "crosschainContext";
+    private static final String BATCH_SUFFIX = "Batch";
 
     private static final String CODEGEN_WARNING =
             "<p>Auto generated code.\n"
@@ -502,6 +506,15 @@ public class CrosschainSolidityFunctionWrapper extends SolidityFunctionWrapper {
                         inputParams,
                         useUpperCase);
                 results.add(methodBuilder.build());
+
+                results.add(
+                        buildConstantFunctionAsSubordinateViewAsync(
+                                functionDefinition, outputParameterTypes, useUpperCase));
+                if (!functionDefinition.getInputs().isEmpty()) {
+                    results.add(
+                            buildConstantFunctionAsSubordinateViewBatch(
+                                    functionDefinition, outputParameterTypes, useUpperCase));
+                }
             }
             if (generateSendTxForCalls) {
                 AbiDefinition sendFuncDefinition = new AbiDefinition(functionDefinition);
@@ -528,6 +541,15 @@ public class CrosschainSolidityFunctionWrapper extends SolidityFunctionWrapper {
                         functionDefinition, methodBuilder, inputParams, useUpperCase);
                 results.add(methodBuilder.build());
 
+                results.add(
+                        buildTransactionFunctionAsSubordinateTransactionAsync(
+                                functionDefinition, useUpperCase));
+                if (!functionDefinition.getInputs().isEmpty()) {
+                    results.add(
+                            buildTransactionFunctionAsSubordinateTransactionBatch(
+                                    functionDefinition, useUpperCase));
+                }
+
                 // Create the function as an originating crosschain transaction method.
                 functionName = functionDefinition.getName() + "_AsCrosschainOriginatingTransaction";
                 methodBuilder =
@@ -555,30 +577,95 @@ public class CrosschainSolidityFunctionWrapper extends SolidityFunctionWrapper {
             List<TypeName> outputParameterTypes,
             String inputParams,
             boolean useUpperCase) {
-        String functionName = functionDefinition.getName();
-
         // Return the byte array representing the signed transaction
         methodBuilder.returns(ArrayTypeName.of(TypeName.BYTE));
 
-        TypeName typeName = outputParameterTypes.get(0);
+        addSubordinateViewFunction(
+                functionDefinition,
+                methodBuilder,
+                outputParameterTypes.get(0),
+                inputParams,
+                useUpperCase);
+
+        methodBuilder.addStatement(
+                "return createSignedSubordinateView(function, " + CROSSCHAIN_CONTEXT + ")");
+    }
+
+    private MethodSpec buildConstantFunctionAsSubordinateViewAsync(
+            AbiDefinition functionDefinition,
+            List<TypeName> outputParameterTypes,
+            boolean useUpperCase)
+            throws ClassNotFoundException {
+        MethodSpec.Builder methodBuilder =
+                MethodSpec.methodBuilder(
+                                functionDefinition.getName()
+                                        + "_AsSignedCrosschainSubordinateViewAsync")
+                        .addModifiers(Modifier.PUBLIC);
+        String inputParams = addParameters(methodBuilder, functionDefinition.getInputs());
+        methodBuilder.addParameter(
+                ClassName.get(CrosschainContext.class), CROSSCHAIN_CONTEXT, Modifier.FINAL);
+        methodBuilder.returns(
+                ParameterizedTypeName.get(
+                        ClassName.get(CompletableFuture.class), ArrayTypeName.of(TypeName.BYTE)));
+
+        addSubordinateViewFunction(
+                functionDefinition,
+                methodBuilder,
+                outputParameterTypes.get(0),
+                inputParams,
+                useUpperCase);
 
+        methodBuilder.addStatement(
+                "return createSignedSubordinateViewAsync(function, " + CROSSCHAIN_CONTEXT + ")");
+        return methodBuilder.build();
+    }
+
+    private MethodSpec buildConstantFunctionAsSubordinateViewBatch(
+            AbiDefinition functionDefinition,
+            List<TypeName> outputParameterTypes,
+            boolean useUpperCase)
+            throws ClassNotFoundException {
+        MethodSpec.Builder methodBuilder =
+                MethodSpec.methodBuilder(
+                                functionDefinition.getName()
+                                        + "_AsSignedCrosschainSubordinateViewBatch")
+                        .addModifiers(Modifier.PUBLIC);
+        String inputParams = addBatchParameters(methodBuilder, functionDefinition);
+
+        addSubordinateViewFunction(
+                functionDefinition,
+                methodBuilder,
+                outputParameterTypes.get(0),
+                inputParams,
+                useUpperCase);
+
+        methodBuilder.addStatement("functions.add(function)");
+        methodBuilder.endControlFlow();
+        methodBuilder.addStatement(
+                "return createSignedSubordinateViewBatch(functions, " + CROSSCHAIN_CONTEXT + ")");
+        return methodBuilder.build();
+    }
+
+    private void addSubordinateViewFunction(
+            AbiDefinition functionDefinition,
+            MethodSpec.Builder methodBuilder,
+            TypeName outputParameterType,
+            String inputParams,
+            boolean useUpperCase) {
         methodBuilder.addStatement(
                 "final $T function = "
                         + "new $T($N, \n$T.<$T>asList($L), "
                         + "\n$T.<$T<?>>asList(new $T<$T>() {}))",
                 Function.class,
                 Function.class,
-                funcNameToConst(functionName, useUpperCase),
+                funcNameToConst(functionDefinition.getName(), useUpperCase),
                 Arrays.class,
                 Type.class,
                 inputParams,
                 Arrays.class,
                 TypeReference.class,
                 TypeReference.class,
-                typeName);
-
-        methodBuilder.addStatement(
-                "return createSignedSubordinateView(function, " + CROSSCHAIN_CONTEXT + ")");
+                outputParameterType);
     }
 
     private void buildTransactionFunctionAsSubordinateTransaction(
@@ -592,28 +679,126 @@ public class CrosschainSolidityFunctionWrapper extends SolidityFunctionWrapper {
             weiParam = ", " + WEI_VALUE;
         }
 
-        String functionName = functionDefinition.getName();
-
         // Return the byte array representing the signed transaction
         methodBuilder.returns(ArrayTypeName.of(TypeName.BYTE));
 
+        addSubordinateTransactionFunction(
+                functionDefinition, methodBuilder, inputParams, useUpperCase);
+
+        methodBuilder.addStatement(
+                "return createSignedSubordinateTransaction(function, "
+                        + CROSSCHAIN_CONTEXT
+                        + weiParam
+                        + ")");
+    }
+
+    private MethodSpec buildTransactionFunctionAsSubordinateTransactionAsync(
+            AbiDefinition functionDefinition, boolean useUpperCase) throws ClassNotFoundException {
+        MethodSpec.Builder methodBuilder =
+                MethodSpec.methodBuilder(
+                                functionDefinition.getName()
+                                        + "_AsSignedCrosschainSubordinateTransactionAsync")
+                        .addModifiers(Modifier.PUBLIC);
+        String inputParams = addParameters(methodBuilder, functionDefinition.getInputs());
+        methodBuilder.addParameter(
+                ClassName.get(CrosschainContext.class), CROSSCHAIN_CONTEXT, Modifier.FINAL);
+        methodBuilder.returns(
+                ParameterizedTypeName.get(
+                        ClassName.get(CompletableFuture.class), ArrayTypeName.of(TypeName.BYTE)));
+
+        addSubordinateTransactionFunction(
+                functionDefinition, methodBuilder, inputParams, useUpperCase);
+
+        methodBuilder.addStatement(
+                "return createSignedSubordinateTransactionAsync(function, "
+                        + CROSSCHAIN_CONTEXT
+                        + ")");
+        return methodBuilder.build();
+    }
+
+    private MethodSpec buildTransactionFunctionAsSubordinateTransactionBatch(
+            AbiDefinition functionDefinition, boolean useUpperCase) throws ClassNotFoundException {
+        MethodSpec.Builder methodBuilder =
+                MethodSpec.methodBuilder(
+                                functionDefinition.getName()
+                                        + "_AsSignedCrosschainSubordinateTransactionBatch")
+                        .addModifiers(Modifier.PUBLIC);
+        String inputParams = addBatchParameters(methodBuilder, functionDefinition);
+
+        addSubordinateTransactionFunction(
+                functionDefinition, methodBuilder, inputParams, useUpperCase);
+
+        methodBuilder.addStatement("functions.add(function)");
+        methodBuilder.endControlFlow();
+        methodBuilder.addStatement(
+                "return createSignedSubordinateTransactionBatch(functions, "
+                        + CROSSCHAIN_CONTEXT
+                        + ")");
+        return methodBuilder.build();
+    }
+
+    private void addSubordinateTransactionFunction(
+            AbiDefinition functionDefinition,
+            MethodSpec.Builder methodBuilder,
+            String inputParams,
+            boolean useUpperCase) {
         methodBuilder.addStatement(
                 "final $T function = new $T(\n$N, \n$T.<$T>asList($L), \n$T"
                         + ".<$T<?>>emptyList())",
                 Function.class,
                 Function.class,
-                funcNameToConst(functionName, useUpperCase),
+                funcNameToConst(functionDefinition.getName(), useUpperCase),
                 Arrays.class,
                 Type.class,
                 inputParams,
                 Collections.class,
                 TypeReference.class);
+    }
 
+    /**
+     * Adds one list parameter per function parameter and the crosschain context to a batch method,
+     * and opens a loop over the batch which declares each function parameter in turn.
+     *
+     * @return the function's input parameters, as used inside the loop
+     */
+    private String addBatchParameters(
+            MethodSpec.Builder methodBuilder, AbiDefinition functionDefinition)
+            throws ClassNotFoundException {
+        MethodSpec.Builder elementBuilder = MethodSpec.methodBuilder("element");
+        String inputParams = addParameters(elementBuilder, functionDefinition.getInputs());
+        List<ParameterSpec> parameters = elementBuilder.build().parameters;
+
+        List<String> batchNames = new ArrayList<>(parameters.size());
+        for (ParameterSpec parameter : parameters) {
+            String batchName = parameter.name + BATCH_SUFFIX;
+            methodBuilder.addParameter(
+                    ParameterizedTypeName.get(ClassName.get(List.class), parameter.type.box()),
+                    batchName);
+            batchNames.add(batchName);
+        }
+        methodBuilder.addParameter(
+                ClassName.get(CrosschainContext.class), CROSSCHAIN_CONTEXT, Modifier.FINAL);
+        methodBuilder.returns(
+                ParameterizedTypeName.get(
+                        ClassName.get(CompletableFuture.class),
+                        ParameterizedTypeName.get(
+                                ClassName.get(List.class), ArrayTypeName.of(TypeName.BYTE))));
+
+        methodBuilder.addStatement("final int size = batchSize($L)", String.join(", ", batchNames));
         methodBuilder.addStatement(
-                "return createSignedSubordinateTransaction(function, "
-                        + CROSSCHAIN_CONTEXT
-                        + weiParam
-                        + ")");
+                "final $T functions = new $T<$T>(size)",
+                ParameterizedTypeName.get(List.class, Function.class),
+                ArrayList.class,
+                Function.class);
+        methodBuilder.beginControlFlow("for (int i = 0; i < size; i++)");
+        for (int i = 0; i < parameters.size(); i++) {
+            methodBuilder.addStatement(
+                    "final $T $N = $N.get(i)",
+                    parameters.get(i).type,
+                    parameters.get(i).name,
+                    batchNames.get(i));
+        }
+        return inputParams;
     }
 
     private void buildTransactionFunctionAsOriginatingTransaction(
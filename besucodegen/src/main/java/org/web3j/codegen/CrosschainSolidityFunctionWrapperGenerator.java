@@ -170,6 +170,12 @@ public class CrosschainSolidityFunctionWrapperGenerator extends FunctionWrapperG
             args = tail(args);
         }
 
+        if (args.length > 0
+                && args[0].equals(IncrementalFunctionWrapperGenerator.COMMAND_GENERATE_ALL)) {
+            CommandLine.run(new IncrementalPicocliRunner(), tail(args));
+            return;
+        }
+
         if (args.length > 0 && args[0].equals(COMMAND_GENERATE)) {
             args = tail(args);
         }
@@ -285,4 +291,36 @@ public class CrosschainSolidityFunctionWrapperGenerator extends FunctionWrapperG
             }
         }
     }
+
+    @Command(
+            name = IncrementalFunctionWrapperGenerator.COMMAND_PREFIX,
+            mixinStandardHelpOptions = true,
+            version = "4.0",
+            sortOptions = false)
+    private static class IncrementalPicocliRunner
+            extends IncrementalFunctionWrapperGenerator.PicocliRunner {
+
+        @Option(
+                names = {"-cc", CROSSCHAIN_ARG},
+                description = "generate lockable contracts for crosschain.",
+                required = false)
+        private boolean crosschain = false;
+
+        @Override
+        IncrementalFunctionWrapperGenerator createGenerator(
+                boolean useJavaTypes, int addressLength, String configuration) {
+            if (!crosschain) {
+                return super.createGenerator(useJavaTypes, addressLength, configuration);
+            }
+            return new IncrementalFunctionWrapperGenerator(
+                    () ->
+                            new CrosschainSolidityFunctionWrapper(
+                                    useJavaTypes, primitiveTypes, false, addressLength),
+                    CrosschainContract.class,
+                    destinationFileDir,
+                    packageName,
+                    configuration,
+                    threads);
+        }
+    }
 }
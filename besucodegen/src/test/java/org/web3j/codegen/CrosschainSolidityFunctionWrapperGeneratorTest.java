@@ -25,8 +25,15 @@ package org.web3j.codegen;
  */
 
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.List;
 
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
 public class CrosschainSolidityFunctionWrapperGeneratorTest
         extends SolidityFunctionWrapperGeneratorTest {
 
@@ -41,6 +48,34 @@ public class CrosschainSolidityFunctionWrapperGeneratorTest
         this.solidityBaseDir = url.getPath();
     }
 
+    @Test
+    public void testGenerateAllCrosschainWrappers() throws Exception {
+        CrosschainSolidityFunctionWrapperGenerator.main(
+                new String[] {
+                    "solidity",
+                    "generate-all",
+                    "-cc",
+                    solidityBaseDir + "/greeter/build/Greeter.abi",
+                    "-o",
+                    tempDirPath,
+                    "-p",
+                    "org.web3j.unittests.crosschain"
+                });
+
+        String source =
+                new String(
+                        Files.readAllBytes(
+                                Paths.get(
+                                        tempDirPath,
+                                        "org",
+                                        "web3j",
+                                        "unittests",
+                                        "crosschain",
+                                        "Greeter.java")),
+                        StandardCharsets.UTF_8);
+        assertTrue(source.contains("extends CrosschainContract"));
+    }
+
     protected void executeMain(final List<String> options) {
         SolidityFunctionWrapperGenerator.main(options.toArray(new String[options.size()]));
     }
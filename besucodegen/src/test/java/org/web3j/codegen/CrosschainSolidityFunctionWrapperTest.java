@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.codegen;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.squareup.javapoet.MethodSpec;
+import org.junit.Test;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+public class CrosschainSolidityFunctionWrapperTest {
+
+    private final CrosschainSolidityFunctionWrapper crosschainSolidityFunctionWrapper =
+            new CrosschainSolidityFunctionWrapper(true, false, false, Address.DEFAULT_LENGTH);
+
+    @Test
+    public void testBuildSubordinateViewAsyncAndBatch() throws Exception {
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        true,
+                        Arrays.asList(new AbiDefinition.NamedType("param", "uint8")),
+                        "functionName",
+                        Arrays.asList(new AbiDefinition.NamedType("result", "int8")),
+                        "type",
+                        false);
+
+        List<MethodSpec> methodSpecs =
+                crosschainSolidityFunctionWrapper.buildFunctions(functionDefinition);
+
+        assertThat(methodSpecs.size(), is(4));
+        assertThat(
+                methodSpecs.get(2).toString(),
+                is(
+                        "public java.util.concurrent.CompletableFuture<byte[]> functionName_AsSignedCrosschainSubordinateViewAsync(java.math.BigInteger param, final org.web3j.tx.CrosschainContext crosschainContext) {\n"
+                                + "  final org.web3j.abi.datatypes.Function function = new org.web3j.abi.datatypes.Function(FUNC_FUNCTIONNAME, \n"
+                                + "      java.util.Arrays.<org.web3j.abi.datatypes.Type>asList(new org.web3j.abi.datatypes.generated.Uint8(param)), \n"
+                                + "      java.util.Arrays.<org.web3j.abi.TypeReference<?>>asList(new org.web3j.abi.TypeReference<org.web3j.abi.datatypes.generated.Int8>() {}));\n"
+                                + "  return createSignedSubordinateViewAsync(function, crosschainContext);\n"
+                                + "}\n"));
+        assertThat(
+                methodSpecs.get(3).toString(),
+                is(
+                        "public java.util.concurrent.CompletableFuture<java.util.List<byte[]>> functionName_AsSignedCrosschainSubordinateViewBatch(java.util.List<java.math.BigInteger> paramBatch, final org.web3j.tx.CrosschainContext crosschainContext) {\n"
+                                + "  final int size = batchSize(paramBatch);\n"
+                                + "  final java.util.List<org.web3j.abi.datatypes.Function> functions = new java.util.ArrayList<org.web3j.abi.datatypes.Function>(size);\n"
+                                + "  for (int i = 0; i < size; i++) {\n"
+                                + "    final java.math.BigInteger param = paramBatch.get(i);\n"
+                                + "    final org.web3j.abi.datatypes.Function function = new org.web3j.abi.datatypes.Function(FUNC_FUNCTIONNAME, \n"
+                                + "        java.util.Arrays.<org.web3j.abi.datatypes.Type>asList(new org.web3j.abi.datatypes.generated.Uint8(param)), \n"
+                                + "        java.util.Arrays.<org.web3j.abi.TypeReference<?>>asList(new org.web3j.abi.TypeReference<org.web3j.abi.datatypes.generated.Int8>() {}));\n"
+                                + "    functions.add(function);\n"
+                                + "  }\n"
+                                + "  return createSignedSubordinateViewBatch(functions, crosschainContext);\n"
+                                + "}\n"));
+    }
+
+    @Test
+    public void testBuildSubordinateTransactionAsyncAndBatch() throws Exception {
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        false,
+                        Arrays.asList(
+                                new AbiDefinition.NamedType("param1", "address"),
+                                new AbiDefinition.NamedType("param2", "uint256")),
+                        "functionName",
+                        Arrays.asList(),
+                        "type",
+                        false);
+
+        List<MethodSpec> methodSpecs =
+                crosschainSolidityFunctionWrapper.buildFunctions(functionDefinition);
+
+        assertThat(methodSpecs.size(), is(5));
+        assertThat(
+                methodSpecs.get(2).toString(),
+                is(
+                        "public java.util.concurrent.CompletableFuture<byte[]> functionName_AsSignedCrosschainSubordinateTransactionAsync(java.lang.String param1, java.math.BigInteger param2, final org.web3j.tx.CrosschainContext crosschainContext) {\n"
+                                + "  final org.web3j.abi.datatypes.Function function = new org.web3j.abi.datatypes.Function(\n"
+                                + "      FUNC_FUNCTIONNAME, \n"
+                                + "      java.util.Arrays.<org.web3j.abi.datatypes.Type>asList(new org.web3j.abi.datatypes.Address(param1), \n"
+                                + "      new org.web3j.abi.datatypes.generated.Uint256(param2)), \n"
+                                + "      java.util.Collections.<org.web3j.abi.TypeReference<?>>emptyList());\n"
+                                + "  return createSignedSubordinateTransactionAsync(function, crosschainContext);\n"
+                                + "}\n"));
+        assertThat(
+                methodSpecs.get(3).toString(),
+                is(
+                        "public java.util.concurrent.CompletableFuture<java.util.List<byte[]>> functionName_AsSignedCrosschainSubordinateTransactionBatch(java.util.List<java.lang.String> param1Batch, java.util.List<java.math.BigInteger> param2Batch, final org.web3j.tx.CrosschainContext crosschainContext) {\n"
+                                + "  final int size = batchSize(param1Batch, param2Batch);\n"
+                                + "  final java.util.List<org.web3j.abi.datatypes.Function> functions = new java.util.ArrayList<org.web3j.abi.datatypes.Function>(size);\n"
+                                + "  for (int i = 0; i < size; i++) {\n"
+                                + "    final java.lang.String param1 = param1Batch.get(i);\n"
+                                + "    final java.math.BigInteger param2 = param2Batch.get(i);\n"
+                                + "    final org.web3j.abi.datatypes.Function function = new org.web3j.abi.datatypes.Function(\n"
+                                + "        FUNC_FUNCTIONNAME, \n"
+                                + "        java.util.Arrays.<org.web3j.abi.datatypes.Type>asList(new org.web3j.abi.datatypes.Address(param1), \n"
+                                + "        new org.web3j.abi.datatypes.generated.Uint256(param2)), \n"
+                                + "        java.util.Collections.<org.web3j.abi.TypeReference<?>>emptyList());\n"
+                                + "    functions.add(function);\n"
+                                + "  }\n"
+                                + "  return createSignedSubordinateTransactionBatch(functions, crosschainContext);\n"
+                                + "}\n"));
+    }
+
+    @Test
+    public void testNoBatchWithoutInputs() throws Exception {
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        false, Arrays.asList(), "functionName", Arrays.asList(), "type", false);
+
+        List<MethodSpec> methodSpecs =
+                crosschainSolidityFunctionWrapper.buildFunctions(functionDefinition);
+
+        assertThat(methodSpecs.size(), is(4));
+        assertThat(
+                methodSpecs.get(2).name,
+                is("functionName_AsSignedCrosschainSubordinateTransactionAsync"));
+    }
+}
@@ -25,6 +25,8 @@ abstract class FunctionWrapperGenerator {
     static final String JAVA_TYPES_ARG = "--javaTypes";
     static final String SOLIDITY_TYPES_ARG = "--solidityTypes";
     static final String PRIMITIVE_TYPES_ARG = "--primitiveTypes";
+    static final String PRECOMPILED_CODECS_ARG = "--precompiledCodecs";
+    static final String MULTICALL_ARG = "--multicall";
     static final String CROSSCHAIN_ARG = "--crosschain";
 
     final File destinationDirLocation;
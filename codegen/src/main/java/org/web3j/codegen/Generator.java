@@ -12,8 +12,14 @@
  */
 package org.web3j.codegen;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.TypeSpec;
@@ -27,7 +33,52 @@ class Generator {
                         .skipJavaLangImports(true)
                         .build();
 
-        javaFile.writeTo(new File(destinationDir));
+        Path directory = Paths.get(destinationDir);
+        for (String component : packageName.split("\\.")) {
+            if (!component.isEmpty()) {
+                directory = directory.resolve(component);
+            }
+        }
+        Files.createDirectories(directory);
+
+        writeAtomically(
+                directory.resolve(typeSpec.name + ".java"),
+                javaFile.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replaces the content of a file, so that readers see either the old or the new content in
+     * full. The file is left untouched if its content is unchanged, to preserve its modification
+     * time for incremental builds.
+     *
+     * @param target file to write
+     * @param content new content
+     * @throws IOException if the file couldn't be written
+     */
+    static void writeAtomically(Path target, byte[] content) throws IOException {
+        if (Files.isRegularFile(target) && Arrays.equals(Files.readAllBytes(target), content)) {
+            return;
+        }
+
+        Path temporary =
+                Files.createTempFile(
+                        target.toAbsolutePath().getParent(),
+                        target.getFileName().toString(),
+                        ".tmp");
+        try {
+            Files.write(temporary, content);
+            try {
+                Files.move(
+                        temporary,
+                        target,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
     }
 
     static String buildWarning(Class cls) {
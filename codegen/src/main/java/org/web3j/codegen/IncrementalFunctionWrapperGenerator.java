@@ -0,0 +1,515 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.codegen;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import picocli.CommandLine;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.AbiDefinition;
+import org.web3j.tx.Contract;
+import org.web3j.utils.Numeric;
+import org.web3j.utils.Strings;
+
+import static org.web3j.codegen.Console.exitError;
+import static org.web3j.codegen.FunctionWrapperGenerator.JAVA_TYPES_ARG;
+import static org.web3j.codegen.FunctionWrapperGenerator.MULTICALL_ARG;
+import static org.web3j.codegen.FunctionWrapperGenerator.PRECOMPILED_CODECS_ARG;
+import static org.web3j.codegen.FunctionWrapperGenerator.PRIMITIVE_TYPES_ARG;
+import static org.web3j.codegen.FunctionWrapperGenerator.SOLIDITY_TYPES_ARG;
+import static org.web3j.codegen.FunctionWrapperGenerator.getFileNameNoExtension;
+import static org.web3j.utils.Collection.tail;
+import static picocli.CommandLine.Command;
+import static picocli.CommandLine.Help.Visibility.ALWAYS;
+import static picocli.CommandLine.Option;
+import static picocli.CommandLine.Parameters;
+
+/**
+ * Generates wrappers for many contracts in one run.
+ *
+ * <p>Inputs are Solidity ABI files, with an optional bin file of the same name alongside, Truffle
+ * JSON files, whose wrappers are named after the contract name of the artifact, or directories
+ * which are searched for ABI files. A hash of each input and of the generator configuration is kept
+ * in {@value #STATE_FILE_NAME} in the destination directory, and wrappers whose hash is unchanged
+ * and whose source file still exists are skipped. The remaining wrappers are generated in parallel,
+ * and each source file is written atomically so that a failed or interrupted run never leaves a
+ * partially written wrapper behind.
+ */
+public class IncrementalFunctionWrapperGenerator {
+
+    public static final String COMMAND_SOLIDITY = "solidity";
+    public static final String COMMAND_GENERATE_ALL = "generate-all";
+    public static final String COMMAND_PREFIX = COMMAND_SOLIDITY + " " + COMMAND_GENERATE_ALL;
+
+    public static final String STATE_FILE_NAME = ".web3j-codegen.properties";
+
+    private static final String ABI_EXTENSION = ".abi";
+    private static final String BIN_EXTENSION = ".bin";
+    private static final String TRUFFLE_EXTENSION = ".json";
+
+    private final Supplier<? extends SolidityFunctionWrapper> wrapperFactory;
+    private final Class<? extends Contract> contractClass;
+    private final File destinationDir;
+    private final String basePackageName;
+    private final String configuration;
+    private final int threads;
+
+    /**
+     * Creates a generator.
+     *
+     * @param wrapperFactory creates a wrapper generator per contract, as wrapper generators aren't
+     *     thread safe
+     * @param contractClass base class of the generated wrappers
+     * @param destinationDir destination base directory
+     * @param basePackageName package of the generated wrappers
+     * @param configuration describes the options of the wrapper generators, changing it regenerates
+     *     all wrappers
+     * @param threads number of wrappers generated in parallel
+     */
+    public IncrementalFunctionWrapperGenerator(
+            Supplier<? extends SolidityFunctionWrapper> wrapperFactory,
+            Class<? extends Contract> contractClass,
+            File destinationDir,
+            String basePackageName,
+            String configuration,
+            int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thread count must be positive");
+        }
+        this.wrapperFactory = wrapperFactory;
+        this.contractClass = contractClass;
+        this.destinationDir = destinationDir;
+        this.basePackageName = basePackageName;
+        this.configuration =
+                configuration
+                        + "\n"
+                        + contractClass.getName()
+                        + "\n"
+                        + wrapperFactory.get().getWeb3jVersion();
+        this.threads = threads;
+    }
+
+    /**
+     * Generates wrappers for the given inputs which are out of date.
+     *
+     * @param inputs ABI files, Truffle JSON files, or directories containing ABI files
+     * @param force regenerate all wrappers, even if up to date
+     * @return outcome of the run
+     * @throws IOException if an input directory or the state file couldn't be read or written
+     * @throws InterruptedException if interrupted while waiting for wrappers to be generated
+     */
+    public Result generate(List<File> inputs, boolean force)
+            throws IOException, InterruptedException {
+        Path stateFile = destinationDir.toPath().resolve(STATE_FILE_NAME);
+        Properties previousState = loadState(stateFile);
+        Map<String, String> state = new ConcurrentHashMap<>();
+        for (String key : previousState.stringPropertyNames()) {
+            state.put(key, previousState.getProperty(key));
+        }
+
+        Result result = new Result();
+        Map<String, Input> pending = new LinkedHashMap<>();
+        for (File file : expand(inputs)) {
+            Input input;
+            try {
+                input = new Input(file);
+            } catch (IOException e) {
+                result.failed.put(file, e);
+                continue;
+            }
+            if (pending.containsKey(input.className)) {
+                result.failed.put(
+                        file,
+                        new IllegalArgumentException(
+                                "Duplicate contract "
+                                        + input.className
+                                        + " in "
+                                        + pending.get(input.className).file));
+                continue;
+            }
+
+            try {
+                input.hash = hash(input);
+            } catch (IOException e) {
+                result.failed.put(file, e);
+                continue;
+            }
+            if (!force
+                    && input.hash.equals(state.get(input.className))
+                    && input.output().exists()) {
+                result.skipped.add(file);
+            } else {
+                pending.put(input.className, input);
+            }
+        }
+
+        ExecutorService executor =
+                Executors.newFixedThreadPool(Math.min(threads, 1 + pending.size()));
+        try {
+            Map<Input, Future<?>> futures = new LinkedHashMap<>();
+            for (Input input : pending.values()) {
+                state.remove(input.className);
+                futures.put(
+                        input,
+                        executor.submit(
+                                () -> {
+                                    generate(input);
+                                    state.put(input.className, input.hash);
+                                    return null;
+                                }));
+            }
+
+            for (Map.Entry<Input, Future<?>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                    result.generated.add(entry.getKey().file);
+                } catch (ExecutionException e) {
+                    result.failed.put(
+                            entry.getKey().file,
+                            e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            saveState(stateFile, state);
+        }
+        return result;
+    }
+
+    private void generate(Input input) throws IOException, ClassNotFoundException {
+        String binary = Contract.BIN_NOT_PROVIDED;
+        List<AbiDefinition> abi;
+        Map<String, String> addresses = null;
+
+        ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        if (input.truffle) {
+            TruffleJsonFunctionWrapperGenerator.Contract c = input.truffleContract;
+            binary = c.getBytecode();
+            abi = c.getAbi();
+            addresses = TruffleJsonFunctionWrapperGenerator.getDeployedAddresses(c);
+        } else {
+            abi = Arrays.asList(objectMapper.readValue(input.file, AbiDefinition[].class));
+            if (input.binFile.exists()) {
+                binary =
+                        new String(
+                                Files.readAllBytes(input.binFile.toPath()), StandardCharsets.UTF_8);
+            }
+        }
+
+        if (abi.isEmpty()) {
+            throw new IOException("Unable to parse input ABI file " + input.file);
+        }
+
+        wrapperFactory
+                .get()
+                .generateJavaFiles(
+                        contractClass,
+                        input.contractName,
+                        binary,
+                        abi,
+                        destinationDir.toString(),
+                        basePackageName,
+                        addresses);
+    }
+
+    private String hash(Input input) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(basePackageName.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(Files.readAllBytes(input.file.toPath()));
+        if (!input.truffle && input.binFile.exists()) {
+            digest.update((byte) 0);
+            digest.update(Files.readAllBytes(input.binFile.toPath()));
+        }
+        return Numeric.toHexStringNoPrefix(digest.digest());
+    }
+
+    private static List<File> expand(List<File> inputs) throws IOException {
+        List<File> files = new ArrayList<>();
+        for (File input : inputs) {
+            if (input.isDirectory()) {
+                try (Stream<Path> paths = Files.walk(input.toPath())) {
+                    files.addAll(
+                            paths.filter(path -> path.toString().endsWith(ABI_EXTENSION))
+                                    .filter(Files::isRegularFile)
+                                    .sorted()
+                                    .map(Path::toFile)
+                                    .collect(Collectors.toList()));
+                }
+            } else {
+                files.add(input);
+            }
+        }
+        return files;
+    }
+
+    private static Properties loadState(Path stateFile) throws IOException {
+        Properties state = new Properties();
+        if (Files.isRegularFile(stateFile)) {
+            try (InputStream in = Files.newInputStream(stateFile)) {
+                state.load(in);
+            }
+        }
+        return state;
+    }
+
+    private static void saveState(Path stateFile, Map<String, String> state) throws IOException {
+        StringBuilder content = new StringBuilder("# Hashes of web3j wrapper generator inputs\n");
+        for (Map.Entry<String, String> entry : new TreeMap<>(state).entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        Files.createDirectories(stateFile.toAbsolutePath().getParent());
+        Generator.writeAtomically(stateFile, content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private class Input {
+
+        private final File file;
+        private final File binFile;
+        private final boolean truffle;
+        private final TruffleJsonFunctionWrapperGenerator.Contract truffleContract;
+        private final String contractName;
+        private final String className;
+        private String hash;
+
+        private Input(File file) throws IOException {
+            this.file = file;
+            this.truffle = file.getName().endsWith(TRUFFLE_EXTENSION);
+            String fileName = getFileNameNoExtension(file.getName());
+            if (truffle) {
+                // Truffle artifacts carry the contract name, which the file name needn't match
+                truffleContract = TruffleJsonFunctionWrapperGenerator.loadContractDefinition(file);
+                if (truffleContract == null) {
+                    throw new IOException("Unable to parse input json file " + file);
+                }
+                contractName =
+                        Strings.isEmpty(truffleContract.getContractName())
+                                ? fileName
+                                : truffleContract.getContractName();
+            } else {
+                truffleContract = null;
+                contractName = fileName;
+            }
+            this.binFile = new File(file.getParentFile(), fileName + BIN_EXTENSION);
+            this.className = basePackageName + "." + Strings.capitaliseFirstLetter(contractName);
+        }
+
+        private File output() {
+            return new File(destinationDir, className.replace('.', File.separatorChar) + ".java");
+        }
+    }
+
+    /** Outcome of a run, listing the inputs in each state. */
+    public static class Result {
+
+        private final List<File> generated = new ArrayList<>();
+        private final List<File> skipped = new ArrayList<>();
+        private final Map<File, Exception> failed = new LinkedHashMap<>();
+
+        public List<File> getGenerated() {
+            return Collections.unmodifiableList(generated);
+        }
+
+        public List<File> getSkipped() {
+            return Collections.unmodifiableList(skipped);
+        }
+
+        public Map<File, Exception> getFailed() {
+            return Collections.unmodifiableMap(failed);
+        }
+
+        public boolean isSuccessful() {
+            return failed.isEmpty();
+        }
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(COMMAND_SOLIDITY)) {
+            args = tail(args);
+        }
+
+        if (args.length > 0 && args[0].equals(COMMAND_GENERATE_ALL)) {
+            args = tail(args);
+        }
+
+        CommandLine.run(new PicocliRunner(), args);
+    }
+
+    @Command(
+            name = COMMAND_PREFIX,
+            mixinStandardHelpOptions = true,
+            version = "4.0",
+            sortOptions = false)
+    static class PicocliRunner implements Runnable {
+
+        @Parameters(
+                description = "ABI files, Truffle JSON files or directories containing ABI files.",
+                arity = "1..*")
+        List<File> inputs;
+
+        @Option(
+                names = {"-o", "--outputDir"},
+                description = "destination base directory.",
+                required = true)
+        File destinationFileDir;
+
+        @Option(
+                names = {"-p", "--package"},
+                description = "base package name.",
+                required = true)
+        String packageName;
+
+        @Option(
+                names = {"-al", "--addressLength"},
+                description = "address length in bytes (defaults to 20).",
+                required = false)
+        int addressLength = Address.DEFAULT_LENGTH / Byte.SIZE;
+
+        @Option(
+                names = {"-jt", JAVA_TYPES_ARG},
+                description = "use native Java types.",
+                required = false,
+                showDefaultValue = ALWAYS)
+        boolean javaTypes = true;
+
+        @Option(
+                names = {"-st", SOLIDITY_TYPES_ARG},
+                description = "use solidity types.",
+                required = false)
+        boolean solidityTypes;
+
+        @Option(
+                names = {"-pt", PRIMITIVE_TYPES_ARG},
+                description = "use Java primitive types.",
+                required = false)
+        boolean primitiveTypes = false;
+
+        @Option(
+                names = {"-pc", PRECOMPILED_CODECS_ARG},
+                description = "encode and decode static types without reflection.",
+                required = false)
+        boolean precompiledCodecs = false;
+
+        @Option(
+                names = {"-mc", MULTICALL_ARG},
+                description = "allow all constant function calls to be aggregated.",
+                required = false)
+        boolean multicall = false;
+
+        @Option(
+                names = {"-t", "--threads"},
+                description = "number of wrappers generated in parallel (defaults to cores).",
+                required = false)
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        @Option(
+                names = {"-f", "--force"},
+                description = "regenerate wrappers that are up to date.",
+                required = false)
+        boolean force = false;
+
+        @Override
+        public void run() {
+            try {
+                // grouping is not implemented in picocli yet(planned for 3.1), therefore
+                // simply check if solidityTypes were requested
+                boolean useJavaTypes = !(solidityTypes);
+                int addressLength = this.addressLength * Byte.SIZE;
+
+                String configuration =
+                        Stream.of(
+                                        useJavaTypes,
+                                        primitiveTypes,
+                                        addressLength,
+                                        precompiledCodecs,
+                                        multicall)
+                                .map(String::valueOf)
+                                .collect(Collectors.joining(","));
+
+                report(
+                        createGenerator(useJavaTypes, addressLength, configuration)
+                                .generate(inputs, force));
+            } catch (Exception e) {
+                exitError(e);
+            }
+        }
+
+        IncrementalFunctionWrapperGenerator createGenerator(
+                boolean useJavaTypes, int addressLength, String configuration) {
+            return new IncrementalFunctionWrapperGenerator(
+                    () ->
+                            new SolidityFunctionWrapper(
+                                    useJavaTypes,
+                                    primitiveTypes,
+                                    false,
+                                    addressLength,
+                                    precompiledCodecs,
+                                    multicall),
+                    Contract.class,
+                    destinationFileDir,
+                    packageName,
+                    configuration,
+                    threads);
+        }
+
+        static void report(Result result) {
+            System.out.println(
+                    "Generated "
+                            + result.getGenerated().size()
+                            + ", skipped "
+                            + result.getSkipped().size()
+                            + " up to date, failed "
+                            + result.getFailed().size());
+            for (Map.Entry<File, Exception> failure : result.getFailed().entrySet()) {
+                System.err.println(failure.getKey() + ": " + failure.getValue().getMessage());
+            }
+            if (!result.isSuccessful()) {
+                exitError("Wrapper generation failed");
+            }
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +46,8 @@ import org.slf4j.LoggerFactory;
 
 import org.web3j.abi.EventEncoder;
 import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.SignatureHashCache;
+import org.web3j.abi.StaticAbiCodec;
 import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Event;
@@ -74,6 +77,7 @@ import org.web3j.tx.Contract;
 import org.web3j.tx.TransactionManager;
 import org.web3j.tx.gas.ContractGasProvider;
 import org.web3j.utils.Collection;
+import org.web3j.utils.Numeric;
 import org.web3j.utils.Strings;
 import org.web3j.utils.Version;
 
@@ -114,6 +118,8 @@ public class SolidityFunctionWrapper extends Generator {
     protected final boolean useNativeJavaTypes;
     protected final boolean useJavaPrimitiveTypes;
     protected final boolean generateSendTxForCalls;
+    protected final boolean precompiledCodecs;
+    protected final boolean multicall;
 
     private final int addressLength;
 
@@ -124,6 +130,11 @@ public class SolidityFunctionWrapper extends Generator {
 
     private static final String regex = "(\\w+)(?:\\[(.*?)\\])(?:\\[(.*?)\\])?";
     private static final Pattern pattern = Pattern.compile(regex);
+    private static final Pattern STATIC_TYPE =
+            Pattern.compile("address|bool|u?int[0-9]*|bytes([1-9]|[12][0-9]|3[0-2])");
+
+    // selector constant names of the class being generated, mapped to their selectors
+    private final Map<String, String> selectorConstants = new LinkedHashMap<>();
 
     private final GenerationReporter reporter;
 
@@ -157,6 +168,42 @@ public class SolidityFunctionWrapper extends Generator {
                 TRANSACTION_MANAGER);
     }
 
+    public SolidityFunctionWrapper(
+            boolean useNativeJavaTypes,
+            boolean useJavaPrimitiveTypes,
+            boolean generateSendTxForCalls,
+            int addressLength,
+            boolean precompiledCodecs) {
+        this(
+                useNativeJavaTypes,
+                useJavaPrimitiveTypes,
+                generateSendTxForCalls,
+                addressLength,
+                precompiledCodecs,
+                false);
+    }
+
+    public SolidityFunctionWrapper(
+            boolean useNativeJavaTypes,
+            boolean useJavaPrimitiveTypes,
+            boolean generateSendTxForCalls,
+            int addressLength,
+            boolean precompiledCodecs,
+            boolean multicall) {
+        this(
+                useNativeJavaTypes,
+                useJavaPrimitiveTypes,
+                generateSendTxForCalls,
+                addressLength,
+                new LogGenerationReporter(LOGGER),
+                Web3j.class,
+                WEB3J,
+                TransactionManager.class,
+                TRANSACTION_MANAGER,
+                precompiledCodecs,
+                multicall);
+    }
+
     public SolidityFunctionWrapper(
             boolean useNativeJavaTypes,
             boolean useJavaPrimitiveTypes,
@@ -185,11 +232,54 @@ public class SolidityFunctionWrapper extends Generator {
             String web3jVariableName,
             Class transactionManagerClass,
             String transactoinManagerVariableName) {
+        this(
+                useNativeJavaTypes,
+                useJavaPrimitiveTypes,
+                generateSendTxForCalls,
+                addressLength,
+                reporter,
+                web3jClass,
+                web3jVariableName,
+                transactionManagerClass,
+                transactoinManagerVariableName,
+                false,
+                false);
+    }
+
+    /**
+     * Creates a wrapper generator.
+     *
+     * <p>With {@code precompiledCodecs}, functions and events whose parameters are all static
+     * elementary types are generated with a static final selector or topic, and encode and decode
+     * their values in straight-line code using {@link StaticAbiCodec}, rather than building {@link
+     * Function} and {@link TypeReference} instances and decoding them reflectively. Such functions
+     * return a {@link RemoteCall} rather than a {@link RemoteFunctionCall}. This only applies when
+     * native Java types are used with the default address length.
+     *
+     * <p>With {@code multicall}, every constant function is generated so that its {@link
+     * RemoteFunctionCall} can be aggregated with other calls by a {@link
+     * org.web3j.tx.MulticallBatcher}, including functions returning tuples or arrays. Constant
+     * functions then don't use precompiled codecs.
+     */
+    public SolidityFunctionWrapper(
+            boolean useNativeJavaTypes,
+            boolean useJavaPrimitiveTypes,
+            boolean generateSendTxForCalls,
+            int addressLength,
+            GenerationReporter reporter,
+            Class web3jClass,
+            String web3jVariableName,
+            Class transactionManagerClass,
+            String transactoinManagerVariableName,
+            boolean precompiledCodecs,
+            boolean multicall) {
         this.useNativeJavaTypes = useNativeJavaTypes;
         this.useJavaPrimitiveTypes = useJavaPrimitiveTypes;
         this.addressLength = addressLength;
         this.reporter = reporter;
         this.generateSendTxForCalls = generateSendTxForCalls;
+        this.precompiledCodecs = precompiledCodecs;
+        this.multicall = multicall;
 
         this.web3jClass = web3jClass;
         this.web3jVariableName = web3jVariableName;
@@ -362,6 +452,7 @@ public class SolidityFunctionWrapper extends Generator {
 
         Set<String> duplicateFunctionNames = getDuplicateFunctionNames(functionDefinitions);
         List<MethodSpec> methodSpecs = new ArrayList<>();
+        selectorConstants.clear();
         for (AbiDefinition functionDefinition : functionDefinitions) {
             if (functionDefinition.getType().equals(TYPE_FUNCTION)) {
                 String functionName = funcNameToConst(functionDefinition.getName(), true);
@@ -373,6 +464,14 @@ public class SolidityFunctionWrapper extends Generator {
             }
         }
 
+        for (Map.Entry<String, String> selector : selectorConstants.entrySet()) {
+            classBuilder.addField(
+                    FieldSpec.builder(String.class, selector.getKey())
+                            .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                            .initializer("$S", selector.getValue())
+                            .build());
+        }
+
         return methodSpecs;
     }
 
@@ -1012,15 +1111,24 @@ public class SolidityFunctionWrapper extends Generator {
         final List<TypeName> outputParameterTypes =
                 buildTypeNames(functionDefinition.getOutputs(), useJavaPrimitiveTypes);
 
+        final boolean precompiled =
+                usePrecompiledCodec(functionDefinition.getInputs())
+                        && usePrecompiledCodec(functionDefinition.getOutputs());
+
         if (functionDefinition.isConstant()) {
             // Avoid generating runtime exception call
             if (functionDefinition.hasOutputs()) {
-                buildConstantFunction(
-                        functionDefinition,
-                        methodBuilder,
-                        outputParameterTypes,
-                        inputParams,
-                        useUpperCase);
+                if (precompiled && !multicall) {
+                    buildPrecompiledConstantFunction(
+                            functionDefinition, methodBuilder, outputParameterTypes);
+                } else {
+                    buildConstantFunction(
+                            functionDefinition,
+                            methodBuilder,
+                            outputParameterTypes,
+                            inputParams,
+                            useUpperCase);
+                }
 
                 results.add(methodBuilder.build());
             }
@@ -1032,13 +1140,214 @@ public class SolidityFunctionWrapper extends Generator {
         }
 
         if (!functionDefinition.isConstant()) {
-            buildTransactionFunction(functionDefinition, methodBuilder, inputParams, useUpperCase);
+            if (precompiled) {
+                buildPrecompiledTransactionFunction(
+                        functionDefinition, methodBuilder, useUpperCase);
+            } else {
+                buildTransactionFunction(
+                        functionDefinition, methodBuilder, inputParams, useUpperCase);
+            }
             results.add(methodBuilder.build());
         }
 
         return results;
     }
 
+    /**
+     * Returns true if the given parameters can be encoded and decoded by {@link StaticAbiCodec},
+     * that is precompiled codecs are enabled and all parameters are static elementary types.
+     */
+    boolean usePrecompiledCodec(List<AbiDefinition.NamedType> namedTypes)
+            throws ClassNotFoundException {
+        if (!precompiledCodecs
+                || !useNativeJavaTypes
+                || addressLength != Address.DEFAULT_LENGTH
+                || namedTypes == null) {
+            return false;
+        }
+        for (AbiDefinition.NamedType namedType : namedTypes) {
+            if (!STATIC_TYPE.matcher(namedType.getType()).matches()) {
+                return false;
+            }
+            // with primitive types enabled some integers map to Java primitives instead
+            TypeName typeName = buildTypeName(namedType.getType(), useJavaPrimitiveTypes);
+            if (!(typeName instanceof ClassName)
+                    || ((ClassName) typeName).packageName().endsWith(".primitive")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void buildPrecompiledConstantFunction(
+            AbiDefinition functionDefinition,
+            MethodSpec.Builder methodBuilder,
+            List<TypeName> outputParameterTypes) {
+
+        List<AbiDefinition.NamedType> outputs = functionDefinition.getOutputs();
+        CodeBlock.Builder decoder = CodeBlock.builder();
+        TypeName returnType;
+        if (outputs.size() == 1) {
+            returnType = getNativeType(outputParameterTypes.get(0));
+            decoder.add(buildStaticDecode(outputs.get(0).getType(), "result", 0));
+        } else {
+            returnType =
+                    ParameterizedTypeName.get(
+                            ClassName.get("org.web3j.tuples.generated", "Tuple" + outputs.size()),
+                            buildReturnTypes(outputParameterTypes).toArray(new TypeName[0]));
+            decoder.add("new $T(", returnType);
+            for (int i = 0; i < outputs.size(); i++) {
+                decoder.add(i == 0 ? "\n" : ",\n");
+                decoder.add(buildStaticDecode(outputs.get(i).getType(), "result", i));
+            }
+            decoder.add(")");
+        }
+        methodBuilder.returns(buildRemoteCall(returnType));
+
+        String data = buildStaticEncode(functionDefinition, methodBuilder);
+        methodBuilder.addStatement(
+                "return executeRemoteCallEncoded($L, result -> $L)", data, decoder.build());
+    }
+
+    void buildPrecompiledTransactionFunction(
+            AbiDefinition functionDefinition,
+            MethodSpec.Builder methodBuilder,
+            boolean useUpperCase) {
+
+        if (functionDefinition.hasOutputs()) {
+            reporter.report(
+                    String.format(
+                            "Definition of the function %s returns a value but is not defined as a view function. "
+                                    + "Please ensure it contains the view modifier if you want to read the return value",
+                            functionDefinition.getName()));
+        }
+
+        if (functionDefinition.isPayable()) {
+            methodBuilder.addParameter(BigInteger.class, WEI_VALUE);
+        }
+        methodBuilder.returns(buildRemoteCall(TypeName.get(TransactionReceipt.class)));
+
+        String data = buildStaticEncode(functionDefinition, methodBuilder);
+        String funcName = funcNameToConst(functionDefinition.getName(), useUpperCase);
+        if (functionDefinition.isPayable()) {
+            methodBuilder.addStatement(
+                    "return executeRemoteCallEncodedTransaction($L, $N, $N)",
+                    data,
+                    WEI_VALUE,
+                    funcName);
+        } else {
+            methodBuilder.addStatement(
+                    "return executeRemoteCallEncodedTransaction($L, $T.ZERO, $N)",
+                    data,
+                    BigInteger.class,
+                    funcName);
+        }
+    }
+
+    /**
+     * Adds statements encoding the function inputs after its selector.
+     *
+     * @return expression evaluating to the encoded call data
+     */
+    private String buildStaticEncode(
+            AbiDefinition functionDefinition, MethodSpec.Builder methodBuilder) {
+        List<AbiDefinition.NamedType> inputs = functionDefinition.getInputs();
+        String selector = buildSelectorConstant(functionDefinition);
+        if (inputs.isEmpty()) {
+            return selector;
+        }
+
+        methodBuilder.addStatement(
+                "final $1T data = new $1T($2L).append($3N)",
+                StringBuilder.class,
+                10 + 64 * inputs.size(),
+                selector);
+        for (int i = 0; i < inputs.size(); i++) {
+            String type = inputs.get(i).getType();
+            String name = createValidParamName(inputs.get(i).getName(), i);
+            if (type.equals("address")) {
+                methodBuilder.addStatement(
+                        "$T.encodeAddress(data, $N)", StaticAbiCodec.class, name);
+            } else if (type.equals("bool")) {
+                methodBuilder.addStatement("$T.encodeBool(data, $N)", StaticAbiCodec.class, name);
+            } else if (type.startsWith("bytes")) {
+                methodBuilder.addStatement(
+                        "$T.encodeBytes(data, $N, $L)",
+                        StaticAbiCodec.class,
+                        name,
+                        staticTypeSize(type, "bytes"));
+            } else if (type.startsWith("uint")) {
+                methodBuilder.addStatement(
+                        "$T.encodeUint(data, $N, $L)",
+                        StaticAbiCodec.class,
+                        name,
+                        staticTypeSize(type, "uint"));
+            } else {
+                methodBuilder.addStatement(
+                        "$T.encodeInt(data, $N, $L)",
+                        StaticAbiCodec.class,
+                        name,
+                        staticTypeSize(type, "int"));
+            }
+        }
+        return "data.toString()";
+    }
+
+    private static CodeBlock buildStaticDecode(String type, String data, int word) {
+        if (type.equals("address")) {
+            return CodeBlock.of("$T.decodeAddress($L, $L)", StaticAbiCodec.class, data, word);
+        } else if (type.equals("bool")) {
+            return CodeBlock.of("$T.decodeBool($L, $L)", StaticAbiCodec.class, data, word);
+        } else if (type.startsWith("bytes")) {
+            return CodeBlock.of(
+                    "$T.decodeBytes($L, $L, $L)",
+                    StaticAbiCodec.class,
+                    data,
+                    word,
+                    staticTypeSize(type, "bytes"));
+        } else if (type.startsWith("uint")) {
+            return CodeBlock.of("$T.decodeUint($L, $L)", StaticAbiCodec.class, data, word);
+        } else {
+            return CodeBlock.of("$T.decodeInt($L, $L)", StaticAbiCodec.class, data, word);
+        }
+    }
+
+    private static int staticTypeSize(String type, String prefix) {
+        String size = type.substring(prefix.length());
+        return size.isEmpty() ? Type.MAX_BIT_LENGTH : Integer.parseInt(size);
+    }
+
+    private static String buildCanonicalSignature(
+            String name, List<AbiDefinition.NamedType> namedTypes) {
+        return name
+                + namedTypes.stream()
+                        .map(namedType -> canonicalType(namedType.getType()))
+                        .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static String canonicalType(String type) {
+        return type.equals("uint") || type.equals("int") ? type + Type.MAX_BIT_LENGTH : type;
+    }
+
+    /** Registers the selector constant of a function, returning its name. */
+    private String buildSelectorConstant(AbiDefinition functionDefinition) {
+        String selector =
+                SignatureHashCache.methodId(
+                        buildCanonicalSignature(
+                                functionDefinition.getName(), functionDefinition.getInputs()));
+        String name =
+                "SELECTOR_"
+                        + funcNameToConst(functionDefinition.getName(), true)
+                                .substring(FUNC_NAME_PREFIX.length());
+        String existing = selectorConstants.get(name);
+        if (existing != null && !existing.equals(selector)) {
+            // overloaded function
+            name = name + "_" + Numeric.cleanHexPrefix(selector).toUpperCase();
+        }
+        selectorConstants.put(name, selector);
+        return name;
+    }
+
     protected void buildConstantFunction(
             AbiDefinition functionDefinition,
             MethodSpec.Builder methodBuilder,
@@ -1086,22 +1395,41 @@ public class SolidityFunctionWrapper extends Generator {
                     TypeName listType = ParameterizedTypeName.get(List.class, Type.class);
 
                     CodeBlock.Builder callCode = CodeBlock.builder();
-                    callCode.addStatement(
-                            "$T result = "
-                                    + "($T) executeCallSingleValueReturn(function, $T.class)",
-                            listType,
-                            listType,
-                            nativeReturnTypeName);
+                    if (multicall) {
+                        callCode.addStatement(
+                                "$T result = " + "($T) convertSingleValueReturn(results, $T.class)",
+                                listType,
+                                listType,
+                                nativeReturnTypeName);
+                    } else {
+                        callCode.addStatement(
+                                "$T result = "
+                                        + "($T) executeCallSingleValueReturn(function, $T.class)",
+                                listType,
+                                listType,
+                                nativeReturnTypeName);
+                    }
                     callCode.addStatement("return convertToNative(result)");
 
+                    MethodSpec.Builder callMethod =
+                            multicall
+                                    ? MethodSpec.methodBuilder("convert")
+                                            .addParameter(
+                                                    ParameterizedTypeName.get(
+                                                            List.class, Type.class),
+                                                    "results")
+                                    : MethodSpec.methodBuilder("call");
                     TypeSpec callableType =
                             TypeSpec.anonymousClassBuilder("")
                                     .addSuperinterface(
                                             ParameterizedTypeName.get(
-                                                    ClassName.get(Callable.class),
+                                                    multicall
+                                                            ? ClassName.get(
+                                                                    Contract.ResultConverter.class)
+                                                            : ClassName.get(Callable.class),
                                                     nativeReturnTypeName))
                                     .addMethod(
-                                            MethodSpec.methodBuilder("call")
+                                            callMethod
                                                     .addAnnotation(Override.class)
                                                     .addAnnotation(
                                                             AnnotationSpec.builder(
@@ -1118,10 +1446,16 @@ public class SolidityFunctionWrapper extends Generator {
                                                     .build())
                                     .build();
 
-                    methodBuilder.addStatement(
-                            "return new $T(function,\n$L)",
-                            buildRemoteFunctionCall(nativeReturnTypeName),
-                            callableType);
+                    if (multicall) {
+                        methodBuilder.addStatement(
+                                "return executeRemoteCallMultipleValueReturn(function,\n$L)",
+                                callableType);
+                    } else {
+                        methodBuilder.addStatement(
+                                "return new $T(function,\n$L)",
+                                buildRemoteFunctionCall(nativeReturnTypeName),
+                                callableType);
+                    }
                 } else {
                     methodBuilder.addStatement(
                             "return executeRemoteCallSingleValueReturn(function, $T.class)",
@@ -1381,6 +1715,20 @@ public class SolidityFunctionWrapper extends Generator {
                 buildEventResponseObject(
                         responseClassName, indexedParameters, nonIndexedParameters));
 
+        if (usePrecompiledCodec(inputs)) {
+            String topicName = buildEventDefinitionName(functionName) + "_TOPIC";
+            classBuilder.addField(
+                    FieldSpec.builder(String.class, topicName)
+                            .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                            .initializer(
+                                    "$S",
+                                    SignatureHashCache.eventTopic(
+                                            buildCanonicalSignature(functionName, inputs)))
+                            .build());
+            return buildPrecompiledEventFunctions(
+                    responseClassName, functionName, topicName, inputs);
+        }
+
         List<MethodSpec> methods = new ArrayList<>();
         methods.add(
                 buildEventTransactionReceiptFunction(
@@ -1393,6 +1741,95 @@ public class SolidityFunctionWrapper extends Generator {
         return methods;
     }
 
+    private List<MethodSpec> buildPrecompiledEventFunctions(
+            String responseClassName,
+            String functionName,
+            String topicName,
+            List<AbiDefinition.NamedType> inputs) {
+
+        ClassName responseType = ClassName.get("", responseClassName);
+        String decoderName = "decode" + Strings.capitaliseFirstLetter(functionName) + "Event";
+
+        MethodSpec.Builder decoder =
+                MethodSpec.methodBuilder(decoderName)
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .addParameter(Log.class, "log")
+                        .returns(responseType)
+                        .addStatement("$1T typedResponse = new $1T()", responseType)
+                        .addStatement("typedResponse.log = log");
+        int topic = 1;
+        int word = 0;
+        for (AbiDefinition.NamedType input : inputs) {
+            if (input.isIndexed()) {
+                decoder.addStatement(
+                        "typedResponse.$L = $L",
+                        input.getName(),
+                        buildStaticDecode(
+                                input.getType(), "log.getTopics().get(" + topic++ + ")", 0));
+            } else {
+                decoder.addStatement(
+                        "typedResponse.$L = $L",
+                        input.getName(),
+                        buildStaticDecode(input.getType(), "log.getData()", word++));
+            }
+        }
+        decoder.addStatement("return typedResponse");
+
+        MethodSpec.Builder receiptFunction =
+                MethodSpec.methodBuilder(
+                                "get" + Strings.capitaliseFirstLetter(functionName) + "Events")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(TransactionReceipt.class, "transactionReceipt")
+                        .returns(ParameterizedTypeName.get(ClassName.get(List.class), responseType))
+                        .addStatement(
+                                "$1T responses = new $1T()",
+                                ParameterizedTypeName.get(
+                                        ClassName.get(ArrayList.class), responseType))
+                        .beginControlFlow("for ($T log : transactionReceipt.getLogs())", Log.class)
+                        .addStatement(
+                                "$T topics = log.getTopics()",
+                                ParameterizedTypeName.get(List.class, String.class))
+                        .beginControlFlow(
+                                "if (topics != null && !topics.isEmpty() && $N.equals(topics.get(0)))",
+                                topicName)
+                        .addStatement("responses.add($N(log))", decoderName)
+                        .endControlFlow()
+                        .endControlFlow()
+                        .addStatement("return responses");
+
+        String flowableName = Strings.lowercaseFirstLetter(functionName) + "EventFlowable";
+        ParameterizedTypeName flowableType =
+                ParameterizedTypeName.get(ClassName.get(Flowable.class), responseType);
+        MethodSpec.Builder flowableFunction =
+                MethodSpec.methodBuilder(flowableName)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(EthFilter.class, FILTER)
+                        .returns(flowableType)
+                        .addStatement(
+                                "return web3j.ethLogFlowable(filter).map(log -> $N(log))",
+                                decoderName);
+
+        MethodSpec.Builder defaultFlowableFunction =
+                MethodSpec.methodBuilder(flowableName)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(DefaultBlockParameter.class, START_BLOCK)
+                        .addParameter(DefaultBlockParameter.class, END_BLOCK)
+                        .returns(flowableType)
+                        .addStatement(
+                                "$1T filter = new $1T($2L, $3L, getContractAddress())",
+                                EthFilter.class,
+                                START_BLOCK,
+                                END_BLOCK)
+                        .addStatement("filter.addSingleTopic($N)", topicName)
+                        .addStatement("return $N(filter)", flowableName);
+
+        return Arrays.asList(
+                decoder.build(),
+                receiptFunction.build(),
+                flowableFunction.build(),
+                defaultFlowableFunction.build());
+    }
+
     CodeBlock buildTypedResponse(
             String objectName,
             List<org.web3j.codegen.SolidityFunctionWrapper.NamedTypeName> indexedParameters,
@@ -1516,12 +1953,12 @@ public class SolidityFunctionWrapper extends Generator {
         List<TypeName> typeArguments = tupleType.typeArguments;
 
         CodeBlock.Builder tupleConstructor = CodeBlock.builder();
-        tupleConstructor
-                .addStatement(
-                        "$T results = executeCallMultipleValueReturn(function)",
-                        ParameterizedTypeName.get(List.class, Type.class))
-                .add("return new $T(", tupleType)
-                .add("$>$>");
+        if (!multicall) {
+            tupleConstructor.addStatement(
+                    "$T results = executeCallMultipleValueReturn(function)",
+                    ParameterizedTypeName.get(List.class, Type.class));
+        }
+        tupleConstructor.add("return new $T(", tupleType).add("$>$>");
 
         String resultStringSimple = "\n($T) results.get($L)";
         if (useNativeJavaTypes) {
@@ -1557,6 +1994,32 @@ public class SolidityFunctionWrapper extends Generator {
         }
         tupleConstructor.add("$<$<");
 
+        if (multicall) {
+            TypeSpec converterType =
+                    TypeSpec.anonymousClassBuilder("")
+                            .addSuperinterface(
+                                    ParameterizedTypeName.get(
+                                            ClassName.get(Contract.ResultConverter.class),
+                                            tupleType))
+                            .addMethod(
+                                    MethodSpec.methodBuilder("convert")
+                                            .addAnnotation(Override.class)
+                                            .addModifiers(Modifier.PUBLIC)
+                                            .addParameter(
+                                                    ParameterizedTypeName.get(
+                                                            List.class, Type.class),
+                                                    "results")
+                                            .addException(Exception.class)
+                                            .returns(tupleType)
+                                            .addCode(tupleConstructor.build())
+                                            .build())
+                            .build();
+
+            methodBuilder.addStatement(
+                    "return executeRemoteCallMultipleValueReturn(function,\n$L)", converterType);
+            return;
+        }
+
         TypeSpec callableType =
                 TypeSpec.anonymousClassBuilder("")
                         .addSuperinterface(
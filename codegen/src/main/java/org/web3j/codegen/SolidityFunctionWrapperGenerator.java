@@ -54,6 +54,10 @@ public class SolidityFunctionWrapperGenerator extends FunctionWrapperGenerator {
      * -jt, --javaTypes       use native java types.
      * Default: true
      * -st, --solidityTypes   use solidity types.
+     * -pc, --precompiledCodecs
+     * encode and decode static types without reflection.
+     * -mc, --multicall
+     * allow all constant function calls to be aggregated.
      */
 
     private final File binFile;
@@ -65,6 +69,10 @@ public class SolidityFunctionWrapperGenerator extends FunctionWrapperGenerator {
 
     private final boolean generateSendTxForCalls;
 
+    private final boolean precompiledCodecs;
+
+    private final boolean multicall;
+
     protected SolidityFunctionWrapperGenerator(
             File binFile,
             File abiFile,
@@ -100,6 +108,62 @@ public class SolidityFunctionWrapperGenerator extends FunctionWrapperGenerator {
             Class<? extends Contract> contractClass,
             int addressLength) {
 
+        this(
+                binFile,
+                abiFile,
+                destinationDir,
+                contractName,
+                basePackageName,
+                useJavaNativeTypes,
+                useJavaPrimitiveTypes,
+                generateSendTxForCalls,
+                contractClass,
+                addressLength,
+                false);
+    }
+
+    protected SolidityFunctionWrapperGenerator(
+            File binFile,
+            File abiFile,
+            File destinationDir,
+            String contractName,
+            String basePackageName,
+            boolean useJavaNativeTypes,
+            boolean useJavaPrimitiveTypes,
+            boolean generateSendTxForCalls,
+            Class<? extends Contract> contractClass,
+            int addressLength,
+            boolean precompiledCodecs) {
+
+        this(
+                binFile,
+                abiFile,
+                destinationDir,
+                contractName,
+                basePackageName,
+                useJavaNativeTypes,
+                useJavaPrimitiveTypes,
+                generateSendTxForCalls,
+                contractClass,
+                addressLength,
+                precompiledCodecs,
+                false);
+    }
+
+    protected SolidityFunctionWrapperGenerator(
+            File binFile,
+            File abiFile,
+            File destinationDir,
+            String contractName,
+            String basePackageName,
+            boolean useJavaNativeTypes,
+            boolean useJavaPrimitiveTypes,
+            boolean generateSendTxForCalls,
+            Class<? extends Contract> contractClass,
+            int addressLength,
+            boolean precompiledCodecs,
+            boolean multicall) {
+
         super(
                 contractClass,
                 destinationDir,
@@ -112,6 +176,8 @@ public class SolidityFunctionWrapperGenerator extends FunctionWrapperGenerator {
         this.contractName = contractName;
         this.addressLength = addressLength;
         this.generateSendTxForCalls = generateSendTxForCalls;
+        this.precompiledCodecs = precompiledCodecs;
+        this.multicall = multicall;
     }
 
     protected List<AbiDefinition> loadContractDefinition(File absFile) throws IOException {
@@ -138,7 +204,9 @@ public class SolidityFunctionWrapperGenerator extends FunctionWrapperGenerator {
                             useJavaNativeTypes,
                             useJavaPrimitiveTypes,
                             generateSendTxForCalls,
-                            addressLength)
+                            addressLength,
+                            precompiledCodecs,
+                            multicall)
                     .generateJavaFiles(
                             contractClass,
                             contractName,
@@ -227,6 +295,18 @@ public class SolidityFunctionWrapperGenerator extends FunctionWrapperGenerator {
                 required = false)
         private boolean primitiveTypes = false;
 
+        @Option(
+                names = {"-pc", PRECOMPILED_CODECS_ARG},
+                description = "encode and decode static types without reflection.",
+                required = false)
+        private boolean precompiledCodecs = false;
+
+        @Option(
+                names = {"-mc", MULTICALL_ARG},
+                description = "allow all constant function calls to be aggregated.",
+                required = false)
+        private boolean multicall = false;
+
         @Override
         public void run() {
             try {
@@ -246,7 +326,11 @@ public class SolidityFunctionWrapperGenerator extends FunctionWrapperGenerator {
                                 packageName,
                                 useJavaTypes,
                                 primitiveTypes,
-                                addressLength)
+                                false,
+                                Contract.class,
+                                addressLength,
+                                precompiledCodecs,
+                                multicall)
                         .generate();
             } catch (Exception e) {
                 exitError(e);
@@ -117,6 +117,16 @@ public class TruffleJsonFunctionWrapperGenerator extends FunctionWrapperGenerato
     }
 
     @SuppressWarnings("unchecked")
+    static Map<String, String> getDeployedAddresses(Contract c) {
+        if (c.networks != null && !c.networks.isEmpty()) {
+            return c.networks.entrySet().stream()
+                    .filter(e -> (e.getValue() != null && e.getValue().getAddress() != null))
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getAddress()));
+        } else {
+            return Collections.EMPTY_MAP;
+        }
+    }
+
     public void generate() throws IOException, ClassNotFoundException {
 
         File truffleJsonFile = new File(jsonFileLocation);
@@ -133,20 +143,7 @@ public class TruffleJsonFunctionWrapperGenerator extends FunctionWrapperGenerato
         } else {
             String className = Strings.capitaliseFirstLetter(contractName);
             System.out.printf("Generating " + basePackageName + "." + className + " ... ");
-            Map<String, String> addresses;
-            if (c.networks != null && !c.networks.isEmpty()) {
-                addresses =
-                        c.networks.entrySet().stream()
-                                .filter(
-                                        e ->
-                                                (e.getValue() != null
-                                                        && e.getValue().getAddress() != null))
-                                .collect(
-                                        Collectors.toMap(
-                                                Map.Entry::getKey, e -> e.getValue().getAddress()));
-            } else {
-                addresses = Collections.EMPTY_MAP;
-            }
+            Map<String, String> addresses = getDeployedAddresses(c);
             new SolidityFunctionWrapper(useJavaNativeTypes, Address.DEFAULT_LENGTH)
                     .generateJavaFiles(
                             contractName,
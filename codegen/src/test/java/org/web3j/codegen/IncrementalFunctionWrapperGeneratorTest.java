@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.codegen;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.TempFileProvider;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.tx.Contract;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalFunctionWrapperGeneratorTest extends TempFileProvider {
+
+    private static final String PACKAGE_NAME = "org.web3j.unittests.java";
+
+    private File inputDir;
+    private File outputDir;
+    private Path greeterSource;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        URL url = IncrementalFunctionWrapperGeneratorTest.class.getResource("/solidity/greeter");
+        File greeterDir = new File(new File(url.getPath()), "build");
+
+        inputDir = new File(tempDirPath, "input");
+        outputDir = new File(tempDirPath, "output");
+        assertTrue(inputDir.mkdirs());
+        for (String name : Arrays.asList("Greeter.abi", "Greeter.bin", "Mortal.abi")) {
+            Files.copy(new File(greeterDir, name).toPath(), new File(inputDir, name).toPath());
+        }
+
+        greeterSource =
+                outputDir
+                        .toPath()
+                        .resolve(PACKAGE_NAME.replace('.', File.separatorChar))
+                        .resolve("Greeter.java");
+    }
+
+    @Test
+    public void testSkipsUpToDateWrappers() throws Exception {
+        IncrementalFunctionWrapperGenerator.Result result = generate(false);
+        assertTrue(result.isSuccessful());
+        assertEquals(2, result.getGenerated().size());
+        assertEquals(0, result.getSkipped().size());
+        assertTrue(Files.exists(greeterSource));
+        assertTrue(
+                Files.exists(
+                        outputDir
+                                .toPath()
+                                .resolve(IncrementalFunctionWrapperGenerator.STATE_FILE_NAME)));
+
+        result = generate(false);
+        assertTrue(result.isSuccessful());
+        assertEquals(0, result.getGenerated().size());
+        assertEquals(2, result.getSkipped().size());
+
+        result = generate(true);
+        assertEquals(2, result.getGenerated().size());
+    }
+
+    @Test
+    public void testRegeneratesChangedAndMissingWrappers() throws Exception {
+        generate(false);
+
+        Files.write(new File(inputDir, "Greeter.bin").toPath(), "0x00".getBytes());
+        IncrementalFunctionWrapperGenerator.Result result = generate(false);
+        assertEquals(
+                Collections.singletonList(new File(inputDir, "Greeter.abi")),
+                result.getGenerated());
+        assertEquals(1, result.getSkipped().size());
+        assertTrue(
+                new String(Files.readAllBytes(greeterSource), StandardCharsets.UTF_8)
+                        .contains("BINARY = \"0x00\""));
+
+        Files.delete(greeterSource);
+        result = generate(false);
+        assertEquals(1, result.getGenerated().size());
+        assertTrue(Files.exists(greeterSource));
+    }
+
+    @Test
+    public void testReportsInvalidInputs() throws Exception {
+        File invalid = new File(inputDir, "Invalid.abi");
+        Files.write(invalid.toPath(), "[]".getBytes());
+
+        IncrementalFunctionWrapperGenerator.Result result = generate(false);
+        assertEquals(2, result.getGenerated().size());
+        assertEquals(Collections.singleton(invalid), result.getFailed().keySet());
+
+        result = generate(false);
+        assertEquals(0, result.getGenerated().size());
+        assertEquals(Collections.singleton(invalid), result.getFailed().keySet());
+    }
+
+    @Test
+    public void testNamesTruffleWrappersAfterContractName() throws Exception {
+        URL url =
+                IncrementalFunctionWrapperGeneratorTest.class.getResource(
+                        "/truffle/MetaCoin/build/contracts/MetaCoin.json");
+        File artifact = new File(tempDirPath, "metacoin-artifact.json");
+        Files.copy(new File(url.getPath()).toPath(), artifact.toPath());
+
+        IncrementalFunctionWrapperGenerator.Result result =
+                generate(Collections.singletonList(artifact), false);
+
+        assertTrue(result.isSuccessful());
+        assertTrue(
+                Files.exists(
+                        outputDir
+                                .toPath()
+                                .resolve(PACKAGE_NAME.replace('.', File.separatorChar))
+                                .resolve("MetaCoin.java")));
+    }
+
+    private IncrementalFunctionWrapperGenerator.Result generate(boolean force) throws Exception {
+        return generate(Collections.singletonList(inputDir), force);
+    }
+
+    private IncrementalFunctionWrapperGenerator.Result generate(List<File> inputs, boolean force)
+            throws Exception {
+        return new IncrementalFunctionWrapperGenerator(
+                        () -> new SolidityFunctionWrapper(true, Address.DEFAULT_LENGTH),
+                        Contract.class,
+                        outputDir,
+                        PACKAGE_NAME,
+                        "test",
+                        2)
+                .generate(inputs, force);
+    }
+}
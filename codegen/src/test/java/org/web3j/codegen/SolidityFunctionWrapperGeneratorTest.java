@@ -29,10 +29,13 @@ import org.web3j.TempFileProvider;
 import org.web3j.utils.Strings;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.web3j.codegen.FunctionWrapperGenerator.JAVA_TYPES_ARG;
+import static org.web3j.codegen.FunctionWrapperGenerator.MULTICALL_ARG;
+import static org.web3j.codegen.FunctionWrapperGenerator.PRECOMPILED_CODECS_ARG;
 import static org.web3j.codegen.FunctionWrapperGenerator.PRIMITIVE_TYPES_ARG;
 import static org.web3j.codegen.FunctionWrapperGenerator.SOLIDITY_TYPES_ARG;
 import static org.web3j.codegen.SolidityFunctionWrapperGenerator.COMMAND_GENERATE;
@@ -142,6 +145,37 @@ public class SolidityFunctionWrapperGeneratorTest extends TempFileProvider {
         testCodeGenerationJvmTypes("primitive", "Primitive", true);
     }
 
+    @Test
+    public void testPrecompiledCodecs() throws Exception {
+        testCodeGeneration(
+                emptyList(),
+                "contracts",
+                "HumanStandardToken",
+                JAVA_TYPES_ARG,
+                true,
+                singletonList(PRECOMPILED_CODECS_ARG));
+        testCodeGeneration(
+                emptyList(),
+                "primitive",
+                "Primitive",
+                JAVA_TYPES_ARG,
+                true,
+                Arrays.asList(PRIMITIVE_TYPES_ARG, PRECOMPILED_CODECS_ARG));
+    }
+
+    @Test
+    public void testMulticall() throws Exception {
+        testCodeGeneration(
+                emptyList(),
+                "arrays",
+                "Arrays",
+                JAVA_TYPES_ARG,
+                true,
+                Arrays.asList(PRECOMPILED_CODECS_ARG, MULTICALL_ARG));
+        testCodeGeneration(
+                emptyList(), "misc", "Misc", JAVA_TYPES_ARG, true, singletonList(MULTICALL_ARG));
+    }
+
     private void testCodeGenerationJvmTypes(String contractName, String inputFileName)
             throws Exception {
         testCodeGeneration(contractName, inputFileName, JAVA_TYPES_ARG, true);
@@ -150,7 +184,12 @@ public class SolidityFunctionWrapperGeneratorTest extends TempFileProvider {
     private void testCodeGenerationJvmTypes(
             String contractName, String inputFileName, boolean primitive) throws Exception {
         testCodeGeneration(
-                emptyList(), contractName, inputFileName, JAVA_TYPES_ARG, true, primitive);
+                emptyList(),
+                contractName,
+                inputFileName,
+                JAVA_TYPES_ARG,
+                true,
+                primitive ? singletonList(PRIMITIVE_TYPES_ARG) : emptyList());
     }
 
     private void testCodeGenerationSolidityTypes(String contractName, String inputFileName)
@@ -171,7 +210,7 @@ public class SolidityFunctionWrapperGeneratorTest extends TempFileProvider {
             String types,
             boolean useBin)
             throws Exception {
-        testCodeGeneration(prefixes, contractName, inputFileName, types, useBin, false);
+        testCodeGeneration(prefixes, contractName, inputFileName, types, useBin, emptyList());
     }
 
     private void testCodeGeneration(
@@ -180,7 +219,7 @@ public class SolidityFunctionWrapperGeneratorTest extends TempFileProvider {
             String inputFileName,
             String types,
             boolean useBin,
-            boolean primitives)
+            List<String> extraOptions)
             throws Exception {
         String packageName = null;
         if (types.equals(JAVA_TYPES_ARG)) {
@@ -219,9 +258,7 @@ public class SolidityFunctionWrapperGeneratorTest extends TempFileProvider {
         options.add("-o");
         options.add(tempDirPath);
 
-        if (primitives) {
-            options.add(PRIMITIVE_TYPES_ARG);
-        }
+        options.addAll(extraOptions);
 
         executeMain(options);
 
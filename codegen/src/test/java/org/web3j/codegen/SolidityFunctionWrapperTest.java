@@ -39,7 +39,9 @@ import org.web3j.abi.datatypes.generated.StaticArray2;
 import org.web3j.abi.datatypes.generated.StaticArray3;
 import org.web3j.abi.datatypes.generated.Uint256;
 import org.web3j.abi.datatypes.generated.Uint64;
+import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.methods.response.AbiDefinition;
+import org.web3j.tx.TransactionManager;
 
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -270,6 +272,203 @@ public class SolidityFunctionWrapperTest extends TempFileProvider {
         assertThat(methodSpec.toString(), is(expected));
     }
 
+    @Test
+    public void testBuildFunctionPrecompiledSingleValueReturn() throws Exception {
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        true,
+                        Arrays.asList(new AbiDefinition.NamedType("_owner", "address")),
+                        "balanceOf",
+                        Arrays.asList(new AbiDefinition.NamedType("balance", "uint256")),
+                        "function",
+                        false);
+
+        MethodSpec methodSpec = precompiledWrapper().buildFunction(functionDefinition);
+
+        String expected =
+                "public org.web3j.protocol.core.RemoteCall<java.math.BigInteger> balanceOf(java.lang.String _owner) {\n"
+                        + "  final java.lang.StringBuilder data = new java.lang.StringBuilder(74).append(SELECTOR_BALANCEOF);\n"
+                        + "  org.web3j.abi.StaticAbiCodec.encodeAddress(data, _owner);\n"
+                        + "  return executeRemoteCallEncoded(data.toString(), result -> org.web3j.abi.StaticAbiCodec.decodeUint(result, 0));\n"
+                        + "}\n";
+
+        assertThat(methodSpec.toString(), is(expected));
+    }
+
+    @Test
+    public void testBuildFunctionPrecompiledMultipleValueReturn() throws Exception {
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        true,
+                        Arrays.asList(
+                                new AbiDefinition.NamedType("param1", "int8"),
+                                new AbiDefinition.NamedType("param2", "bytes32")),
+                        "functionName",
+                        Arrays.asList(
+                                new AbiDefinition.NamedType("result1", "bool"),
+                                new AbiDefinition.NamedType("result2", "uint")),
+                        "function",
+                        false);
+
+        MethodSpec methodSpec = precompiledWrapper().buildFunction(functionDefinition);
+
+        String expected =
+                "public org.web3j.protocol.core.RemoteCall<org.web3j.tuples.generated.Tuple2<java.lang.Boolean, java.math.BigInteger>> functionName(java.math.BigInteger param1, byte[] param2) {\n"
+                        + "  final java.lang.StringBuilder data = new java.lang.StringBuilder(138).append(SELECTOR_FUNCTIONNAME);\n"
+                        + "  org.web3j.abi.StaticAbiCodec.encodeInt(data, param1, 8);\n"
+                        + "  org.web3j.abi.StaticAbiCodec.encodeBytes(data, param2, 32);\n"
+                        + "  return executeRemoteCallEncoded(data.toString(), result -> new org.web3j.tuples.generated.Tuple2<java.lang.Boolean, java.math.BigInteger>(\n"
+                        + "      org.web3j.abi.StaticAbiCodec.decodeBool(result, 0),\n"
+                        + "      org.web3j.abi.StaticAbiCodec.decodeUint(result, 1)));\n"
+                        + "}\n";
+
+        assertThat(methodSpec.toString(), is(expected));
+    }
+
+    @Test
+    public void testBuildPayableFunctionPrecompiledTransaction() throws Exception {
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        false,
+                        Arrays.asList(
+                                new AbiDefinition.NamedType("_to", "address"),
+                                new AbiDefinition.NamedType("_value", "uint256")),
+                        "transfer",
+                        Collections.emptyList(),
+                        "function",
+                        true);
+
+        MethodSpec methodSpec = precompiledWrapper().buildFunction(functionDefinition);
+
+        String expected =
+                "public org.web3j.protocol.core.RemoteCall<org.web3j.protocol.core.methods.response.TransactionReceipt> transfer(java.lang.String _to, java.math.BigInteger _value, java.math.BigInteger weiValue) {\n"
+                        + "  final java.lang.StringBuilder data = new java.lang.StringBuilder(138).append(SELECTOR_TRANSFER);\n"
+                        + "  org.web3j.abi.StaticAbiCodec.encodeAddress(data, _to);\n"
+                        + "  org.web3j.abi.StaticAbiCodec.encodeUint(data, _value, 256);\n"
+                        + "  return executeRemoteCallEncodedTransaction(data.toString(), weiValue, FUNC_TRANSFER);\n"
+                        + "}\n";
+
+        assertThat(methodSpec.toString(), is(expected));
+    }
+
+    @Test
+    public void testBuildFunctionPrecompiledFallsBackForDynamicTypes() throws Exception {
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        true,
+                        Arrays.asList(new AbiDefinition.NamedType("param", "uint8")),
+                        "functionName",
+                        Arrays.asList(new AbiDefinition.NamedType("result", "string")),
+                        "function",
+                        false);
+
+        assertThat(
+                precompiledWrapper().buildFunction(functionDefinition).toString(),
+                is(solidityFunctionWrapper.buildFunction(functionDefinition).toString()));
+    }
+
+    @Test
+    public void testBuildEventPrecompiled() throws Exception {
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        false,
+                        Arrays.asList(
+                                new AbiDefinition.NamedType("_from", "address", true),
+                                new AbiDefinition.NamedType("_to", "address", true),
+                                new AbiDefinition.NamedType("_value", "uint256", false)),
+                        "Transfer",
+                        Collections.emptyList(),
+                        "event",
+                        false);
+        TypeSpec.Builder builder = TypeSpec.classBuilder("testClass");
+
+        builder.addMethods(
+                precompiledWrapper()
+                        .buildFunctionDefinitions(
+                                "testClass",
+                                builder,
+                                Collections.singletonList(functionDefinition)));
+
+        String expected =
+                "class testClass {\n"
+                        + "  public static final org.web3j.abi.datatypes.Event TRANSFER_EVENT = new org.web3j.abi.datatypes.Event(\"Transfer\", \n"
+                        + "      java.util.Arrays.<org.web3j.abi.TypeReference<?>>asList(new org.web3j.abi.TypeReference<org.web3j.abi.datatypes.Address>(true) {}, new org.web3j.abi.TypeReference<org.web3j.abi.datatypes.Address>(true) {}, new org.web3j.abi.TypeReference<org.web3j.abi.datatypes.generated.Uint256>() {}));\n"
+                        + "  ;\n"
+                        + "\n"
+                        + "  public static final java.lang.String TRANSFER_EVENT_TOPIC = \"0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef\";\n"
+                        + "\n"
+                        + "  private static TransferEventResponse decodeTransferEvent(org.web3j.protocol.core.methods.response.Log log) {\n"
+                        + "    TransferEventResponse typedResponse = new TransferEventResponse();\n"
+                        + "    typedResponse.log = log;\n"
+                        + "    typedResponse._from = org.web3j.abi.StaticAbiCodec.decodeAddress(log.getTopics().get(1), 0);\n"
+                        + "    typedResponse._to = org.web3j.abi.StaticAbiCodec.decodeAddress(log.getTopics().get(2), 0);\n"
+                        + "    typedResponse._value = org.web3j.abi.StaticAbiCodec.decodeUint(log.getData(), 0);\n"
+                        + "    return typedResponse;\n"
+                        + "  }\n"
+                        + "\n"
+                        + "  public java.util.List<TransferEventResponse> getTransferEvents(org.web3j.protocol.core.methods.response.TransactionReceipt transactionReceipt) {\n"
+                        + "    java.util.ArrayList<TransferEventResponse> responses = new java.util.ArrayList<TransferEventResponse>();\n"
+                        + "    for (org.web3j.protocol.core.methods.response.Log log : transactionReceipt.getLogs()) {\n"
+                        + "      java.util.List<java.lang.String> topics = log.getTopics();\n"
+                        + "      if (topics != null && !topics.isEmpty() && TRANSFER_EVENT_TOPIC.equals(topics.get(0))) {\n"
+                        + "        responses.add(decodeTransferEvent(log));\n"
+                        + "      }\n"
+                        + "    }\n"
+                        + "    return responses;\n"
+                        + "  }\n"
+                        + "\n"
+                        + "  public io.reactivex.Flowable<TransferEventResponse> transferEventFlowable(org.web3j.protocol.core.methods.request.EthFilter filter) {\n"
+                        + "    return web3j.ethLogFlowable(filter).map(log -> decodeTransferEvent(log));\n"
+                        + "  }\n"
+                        + "\n"
+                        + "  public io.reactivex.Flowable<TransferEventResponse> transferEventFlowable(org.web3j.protocol.core.DefaultBlockParameter startBlock, org.web3j.protocol.core.DefaultBlockParameter endBlock) {\n"
+                        + "    org.web3j.protocol.core.methods.request.EthFilter filter = new org.web3j.protocol.core.methods.request.EthFilter(startBlock, endBlock, getContractAddress());\n"
+                        + "    filter.addSingleTopic(TRANSFER_EVENT_TOPIC);\n"
+                        + "    return transferEventFlowable(filter);\n"
+                        + "  }\n"
+                        + "\n"
+                        + "  public static class TransferEventResponse extends org.web3j.protocol.core.methods.response.BaseEventResponse {\n"
+                        + "    public java.lang.String _from;\n"
+                        + "\n"
+                        + "    public java.lang.String _to;\n"
+                        + "\n"
+                        + "    public java.math.BigInteger _value;\n"
+                        + "  }\n"
+                        + "}\n";
+
+        assertThat(builder.build().toString(), is(expected));
+    }
+
+    private SolidityFunctionWrapper precompiledWrapper() {
+        return new SolidityFunctionWrapper(
+                true,
+                false,
+                false,
+                Address.DEFAULT_LENGTH,
+                generationReporter,
+                Web3j.class,
+                "web3j",
+                TransactionManager.class,
+                "transactionManager",
+                true,
+                false);
+    }
+
+    private SolidityFunctionWrapper multicallWrapper() {
+        return new SolidityFunctionWrapper(
+                true,
+                false,
+                false,
+                Address.DEFAULT_LENGTH,
+                generationReporter,
+                Web3j.class,
+                "web3j",
+                TransactionManager.class,
+                "transactionManager",
+                true,
+                true);
+    }
+
     @Test
     public void testBuildFunctionConstantSingleValueRawListReturn() throws Exception {
         AbiDefinition functionDefinition =
@@ -425,6 +624,74 @@ public class SolidityFunctionWrapperTest extends TempFileProvider {
         assertThat(methodSpec.toString(), is(expected));
     }
 
+    @Test
+    public void testBuildFunctionMulticallMultipleValueReturn() throws Exception {
+
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        true,
+                        Arrays.asList(new AbiDefinition.NamedType("param1", "uint8")),
+                        "functionName",
+                        Arrays.asList(
+                                new AbiDefinition.NamedType("result1", "int8"),
+                                new AbiDefinition.NamedType("result2", "int32")),
+                        "type",
+                        false);
+
+        MethodSpec methodSpec = multicallWrapper().buildFunction(functionDefinition);
+
+        String expected =
+                "public org.web3j.protocol.core.RemoteFunctionCall<org.web3j.tuples.generated.Tuple2<java.math.BigInteger, java.math.BigInteger>> functionName(java.math.BigInteger param1) {\n"
+                        + "  final org.web3j.abi.datatypes.Function function = new org.web3j.abi.datatypes.Function(FUNC_FUNCTIONNAME, \n"
+                        + "      java.util.Arrays.<org.web3j.abi.datatypes.Type>asList(new org.web3j.abi.datatypes.generated.Uint8(param1)), \n"
+                        + "      java.util.Arrays.<org.web3j.abi.TypeReference<?>>asList(new org.web3j.abi.TypeReference<org.web3j.abi.datatypes.generated.Int8>() {}, new org.web3j.abi.TypeReference<org.web3j.abi.datatypes.generated.Int32>() {}));\n"
+                        + "  return executeRemoteCallMultipleValueReturn(function,\n"
+                        + "      new org.web3j.tx.Contract.ResultConverter<org.web3j.tuples.generated.Tuple2<java.math.BigInteger, java.math.BigInteger>>() {\n"
+                        + "        @java.lang.Override\n"
+                        + "        public org.web3j.tuples.generated.Tuple2<java.math.BigInteger, java.math.BigInteger> convert(java.util.List<org.web3j.abi.datatypes.Type> results) throws java.lang.Exception {\n"
+                        + "          return new org.web3j.tuples.generated.Tuple2<java.math.BigInteger, java.math.BigInteger>(\n"
+                        + "              (java.math.BigInteger) results.get(0).getValue(), \n"
+                        + "              (java.math.BigInteger) results.get(1).getValue());\n"
+                        + "        }\n"
+                        + "      });\n"
+                        + "}\n";
+
+        assertThat(methodSpec.toString(), is(expected));
+    }
+
+    @Test
+    public void testBuildFunctionMulticallListReturn() throws Exception {
+
+        AbiDefinition functionDefinition =
+                new AbiDefinition(
+                        true,
+                        Arrays.asList(new AbiDefinition.NamedType("param1", "uint8")),
+                        "functionName",
+                        Arrays.asList(new AbiDefinition.NamedType("result1", "address[]")),
+                        "type",
+                        false);
+
+        MethodSpec methodSpec = multicallWrapper().buildFunction(functionDefinition);
+
+        String expected =
+                "public org.web3j.protocol.core.RemoteFunctionCall<java.util.List> functionName(java.math.BigInteger param1) {\n"
+                        + "  final org.web3j.abi.datatypes.Function function = new org.web3j.abi.datatypes.Function(FUNC_FUNCTIONNAME, \n"
+                        + "      java.util.Arrays.<org.web3j.abi.datatypes.Type>asList(new org.web3j.abi.datatypes.generated.Uint8(param1)), \n"
+                        + "      java.util.Arrays.<org.web3j.abi.TypeReference<?>>asList(new org.web3j.abi.TypeReference<org.web3j.abi.datatypes.DynamicArray<org.web3j.abi.datatypes.Address>>() {}));\n"
+                        + "  return executeRemoteCallMultipleValueReturn(function,\n"
+                        + "      new org.web3j.tx.Contract.ResultConverter<java.util.List>() {\n"
+                        + "        @java.lang.Override\n"
+                        + "        @java.lang.SuppressWarnings(\"unchecked\")\n"
+                        + "        public java.util.List convert(java.util.List<org.web3j.abi.datatypes.Type> results) throws java.lang.Exception {\n"
+                        + "          java.util.List<org.web3j.abi.datatypes.Type> result = (java.util.List<org.web3j.abi.datatypes.Type>) convertSingleValueReturn(results, java.util.List.class);\n"
+                        + "          return convertToNative(result);\n"
+                        + "        }\n"
+                        + "      });\n"
+                        + "}\n";
+
+        assertThat(methodSpec.toString(), is(expected));
+    }
+
     @Test
     public void testBuildEventConstantMultipleValueReturn() throws Exception {
 
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+
+/**
+ * Compares the default object mapper with {@link ObjectMapperFactory#getStrictObjectMapper()} on a
+ * block with 150 full transactions and a receipt with 4 logs, which are typical of mainnet.
+ *
+ * <p>Run with {@code ./gradlew :core:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseDeserializationBenchmark {
+
+    private static final int TRANSACTIONS = 150;
+    private static final int LOGS = 4;
+
+    private final ObjectMapper defaultMapper = ObjectMapperFactory.getObjectMapper();
+    private final ObjectMapper strictMapper = ObjectMapperFactory.getStrictObjectMapper();
+
+    private byte[] block;
+    private byte[] receipt;
+
+    @Setup
+    public void setUp() {
+        StringBuilder transactions = new StringBuilder();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            if (i > 0) {
+                transactions.append(',');
+            }
+            transactions.append(transaction(i));
+        }
+        block =
+                response(
+                                "{\"number\":\"0x8a61c8\","
+                                        + "\"hash\":\""
+                                        + hash(1)
+                                        + "\",\"parentHash\":\""
+                                        + hash(2)
+                                        + "\",\"nonce\":\"0x3a8fd2f2b7d1c5b4\","
+                                        + "\"sha3Uncles\":\""
+                                        + hash(3)
+                                        + "\",\"logsBloom\":\"0x"
+                                        + repeat("0a", 256)
+                                        + "\",\"transactionsRoot\":\""
+                                        + hash(4)
+                                        + "\",\"stateRoot\":\""
+                                        + hash(5)
+                                        + "\",\"receiptsRoot\":\""
+                                        + hash(6)
+                                        + "\",\"miner\":\""
+                                        + address(1)
+                                        + "\",\"mixHash\":\""
+                                        + hash(7)
+                                        + "\",\"difficulty\":\"0x7ce6bd4b9f0c5\","
+                                        + "\"totalDifficulty\":\"0x2d4c5a2bd69f4ad1bec\","
+                                        + "\"extraData\":\"0x5050594520686976656f6e2d6575322d31\","
+                                        + "\"size\":\"0x8a3b\",\"gasLimit\":\"0x7a121d\","
+                                        + "\"gasUsed\":\"0x79f7b4\",\"timestamp\":\"0x5d7d8e0c\","
+                                        + "\"transactions\":["
+                                        + transactions
+                                        + "],\"uncles\":[]}")
+                        .getBytes();
+
+        StringBuilder logs = new StringBuilder();
+        for (int i = 0; i < LOGS; i++) {
+            if (i > 0) {
+                logs.append(',');
+            }
+            logs.append(log(i));
+        }
+        receipt =
+                response(
+                                "{\"transactionHash\":\""
+                                        + hash(8)
+                                        + "\",\"transactionIndex\":\"0x3a\",\"blockHash\":\""
+                                        + hash(1)
+                                        + "\",\"blockNumber\":\"0x8a61c8\","
+                                        + "\"cumulativeGasUsed\":\"0x4c3e2a\",\"gasUsed\":\"0x1e4f3\","
+                                        + "\"contractAddress\":null,\"status\":\"0x1\",\"from\":\""
+                                        + address(2)
+                                        + "\",\"to\":\""
+                                        + address(3)
+                                        + "\",\"logs\":["
+                                        + logs
+                                        + "],\"logsBloom\":\"0x"
+                                        + repeat("0a", 256)
+                                        + "\"}")
+                        .getBytes();
+    }
+
+    @Benchmark
+    public EthBlock blockDefault() throws IOException {
+        return defaultMapper.readValue(block, EthBlock.class);
+    }
+
+    @Benchmark
+    public EthBlock blockStrict() throws IOException {
+        return strictMapper.readValue(block, EthBlock.class);
+    }
+
+    @Benchmark
+    public EthGetTransactionReceipt receiptDefault() throws IOException {
+        return defaultMapper.readValue(receipt, EthGetTransactionReceipt.class);
+    }
+
+    @Benchmark
+    public EthGetTransactionReceipt receiptStrict() throws IOException {
+        return strictMapper.readValue(receipt, EthGetTransactionReceipt.class);
+    }
+
+    private static String transaction(int i) {
+        return "{\"hash\":\""
+                + hash(100 + i)
+                + "\",\"nonce\":\"0x"
+                + Integer.toHexString(i * 7)
+                + "\",\"blockHash\":\""
+                + hash(1)
+                + "\",\"blockNumber\":\"0x8a61c8\",\"transactionIndex\":\"0x"
+                + Integer.toHexString(i)
+                + "\",\"from\":\""
+                + address(10 + i)
+                + "\",\"to\":\""
+                + address(500 + i)
+                + "\",\"value\":\"0x2386f26fc10000\",\"gas\":\"0x5208\","
+                + "\"gasPrice\":\"0x3b9aca00\",\"input\":\"0xa9059cbb"
+                + repeat("00", 12)
+                + address(7).substring(2)
+                + repeat("00", 31)
+                + "64\",\"r\":\""
+                + hash(1000 + i)
+                + "\",\"s\":\""
+                + hash(2000 + i)
+                + "\",\"v\":\"0x25\"}";
+    }
+
+    private static String log(int i) {
+        return "{\"removed\":false,\"logIndex\":\"0x"
+                + Integer.toHexString(i)
+                + "\",\"transactionIndex\":\"0x3a\",\"transactionHash\":\""
+                + hash(8)
+                + "\",\"blockHash\":\""
+                + hash(1)
+                + "\",\"blockNumber\":\"0x8a61c8\",\"address\":\""
+                + address(3)
+                + "\",\"data\":\"0x"
+                + repeat("00", 31)
+                + "64\",\"topics\":[\"0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef\",\""
+                + hash(3000 + i)
+                + "\",\""
+                + hash(4000 + i)
+                + "\"]}";
+    }
+
+    private static String response(String result) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + result + "}";
+    }
+
+    private static String hash(int seed) {
+        return "0x" + repeat(String.format("%08x", seed * 2654435761L & 0xffffffffL), 8);
+    }
+
+    private static String address(int seed) {
+        return "0x" + repeat(String.format("%08x", seed * 40503L & 0xffffffffL), 5);
+    }
+
+    private static String repeat(String value, int count) {
+        StringBuilder builder = new StringBuilder(value.length() * count);
+        for (int i = 0; i < count; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
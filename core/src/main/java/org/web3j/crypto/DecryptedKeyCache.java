@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Keeps the private keys decrypted from keystores, so that loading a keystore again with the same
+ * password doesn't run its key derivation function.
+ *
+ * <p>Entries are keyed by a hash of the password and the keystore content, and expire after a time
+ * to live, with the least recently used entries evicted once the cache is full. The cached copy of
+ * a private key is overwritten with zeros when its entry expires, is evicted or is invalidated.
+ * Copies held by the {@link Credentials} returned to callers are not affected.
+ */
+public class DecryptedKeyCache {
+
+    private static final int PRIVATE_KEY_SIZE = 32;
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries maximum number of keys kept
+     * @param ttlMillis how long a key is kept after being decrypted
+     */
+    public DecryptedKeyCache(int maxEntries, long ttlMillis) {
+        this(maxEntries, ttlMillis, System::currentTimeMillis);
+    }
+
+    DecryptedKeyCache(int maxEntries, long ttlMillis, LongSupplier clock) {
+        if (maxEntries <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Maximum entries and time to live must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries =
+                new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                        if (size() > DecryptedKeyCache.this.maxEntries) {
+                            eldest.getValue().clear();
+                            return true;
+                        }
+                        return false;
+                    }
+                };
+    }
+
+    synchronized ECKeyPair get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.getAsLong()) {
+            entries.remove(key).clear();
+            return null;
+        }
+        return ECKeyPair.create(entry.privateKey);
+    }
+
+    synchronized void put(String key, ECKeyPair keyPair) {
+        Entry previous =
+                entries.put(
+                        key,
+                        new Entry(
+                                Numeric.toBytesPadded(keyPair.getPrivateKey(), PRIVATE_KEY_SIZE),
+                                clock.getAsLong() + ttlMillis));
+        if (previous != null) {
+            previous.clear();
+        }
+    }
+
+    /** Removes expired keys, overwriting them with zeros. */
+    public synchronized void evictExpired() {
+        long now = clock.getAsLong();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt <= now) {
+                entry.clear();
+                iterator.remove();
+            }
+        }
+    }
+
+    /** Removes all keys, overwriting them with zeros. */
+    public synchronized void invalidateAll() {
+        for (Entry entry : entries.values()) {
+            entry.clear();
+        }
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    static String key(String password, byte[] keystore) {
+        byte[] passwordBytes = password.getBytes(StandardCharsets.UTF_8);
+        byte[] input = new byte[passwordBytes.length + 1 + keystore.length];
+        System.arraycopy(passwordBytes, 0, input, 0, passwordBytes.length);
+        System.arraycopy(keystore, 0, input, passwordBytes.length + 1, keystore.length);
+        try {
+            return Numeric.toHexStringNoPrefix(Hash.sha256(input));
+        } finally {
+            Arrays.fill(passwordBytes, (byte) 0);
+            Arrays.fill(input, (byte) 0);
+        }
+    }
+
+    private static class Entry {
+        private final byte[] privateKey;
+        private final long expiresAt;
+
+        private Entry(byte[] privateKey, long expiresAt) {
+            this.privateKey = privateKey;
+            this.expiresAt = expiresAt;
+        }
+
+        private void clear() {
+            Arrays.fill(privateKey, (byte) 0);
+        }
+    }
+}
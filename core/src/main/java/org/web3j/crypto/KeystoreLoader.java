@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+
+/**
+ * Decrypts keystore files in parallel.
+ *
+ * <p>Scrypt needs {@code 128 * r * (N + p + 2)} bytes for each decryption, about 256 MB for the
+ * standard parameters, so the number of keystores decrypted at once is limited by a memory budget
+ * as well as by the number of threads. A keystore that needs more memory than the whole budget is
+ * decrypted on its own.
+ *
+ * <p>If a {@link DecryptedKeyCache} is supplied, keystores already decrypted with the same password
+ * are not decrypted again.
+ */
+public class KeystoreLoader {
+
+    private final int threads;
+    private final int memoryBudgetKib;
+    private final DecryptedKeyCache cache;
+
+    private final Semaphore memory;
+
+    /**
+     * Creates a loader using one thread per processor and at most half of the maximum heap size for
+     * scrypt, without caching decrypted keys.
+     */
+    public KeystoreLoader() {
+        this(
+                Runtime.getRuntime().availableProcessors(),
+                Runtime.getRuntime().maxMemory() / 2,
+                null);
+    }
+
+    /**
+     * Creates a loader.
+     *
+     * @param threads maximum number of keystores decrypted at once
+     * @param memoryBudget maximum number of bytes used by concurrent scrypt decryptions
+     * @param cache cache of decrypted keys, or null to always decrypt
+     */
+    public KeystoreLoader(int threads, long memoryBudget, DecryptedKeyCache cache) {
+        if (threads <= 0 || memoryBudget <= 0) {
+            throw new IllegalArgumentException("Threads and memory budget must be positive");
+        }
+        this.threads = threads;
+        this.memoryBudgetKib = (int) Math.min(Integer.MAX_VALUE, Math.max(1, memoryBudget / 1024));
+        this.cache = cache;
+        this.memory = new Semaphore(memoryBudgetKib, true);
+    }
+
+    /**
+     * Loads all keystore files in a directory, skipping hidden files and subdirectories.
+     *
+     * @param directory keystore directory
+     * @param password password of all keystores
+     * @return credentials and failures, in file name order
+     * @throws IOException if the directory can't be listed
+     */
+    public Result loadDirectory(File directory, String password) throws IOException {
+        File[] files = directory.listFiles(file -> file.isFile() && !file.isHidden());
+        if (files == null) {
+            throw new IOException("Unable to list keystore directory " + directory);
+        }
+        Arrays.sort(files);
+        return load(Arrays.asList(files), password);
+    }
+
+    /**
+     * Loads keystore files encrypted with the same password.
+     *
+     * @param files keystore files
+     * @param password password of all keystores
+     * @return credentials and failures, in the order of the given files
+     */
+    public Result load(List<File> files, String password) {
+        return load(files, file -> password);
+    }
+
+    /**
+     * Loads keystore files, each with its own password.
+     *
+     * @param files keystore files
+     * @param passwords password of each keystore file
+     * @return credentials and failures, in the order of the given files
+     */
+    public Result load(List<File> files, Function<File, String> passwords) {
+        Result result = new Result();
+        if (files.isEmpty()) {
+            return result;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, files.size()));
+        try {
+            List<Future<Credentials>> futures = new ArrayList<>(files.size());
+            for (File file : files) {
+                futures.add(executor.submit(() -> load(file, passwords.apply(file))));
+            }
+            for (int i = 0; i < files.size(); i++) {
+                File file = files.get(i);
+                try {
+                    result.credentials.put(file, futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    result.failures.put(file, cause instanceof Exception ? (Exception) cause : e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.failures.put(file, e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    /**
+     * Loads a single keystore file.
+     *
+     * @param file keystore file
+     * @param password keystore password
+     * @return credentials
+     * @throws IOException if the file can't be read or parsed
+     * @throws CipherException if the keystore can't be decrypted with the password
+     */
+    public Credentials load(File file, String password) throws IOException, CipherException {
+        byte[] content = Files.readAllBytes(file.toPath());
+        WalletFile walletFile = WalletUtils.objectMapper.readValue(content, WalletFile.class);
+
+        String key = null;
+        if (cache != null) {
+            key = DecryptedKeyCache.key(password, content);
+            ECKeyPair cached = cache.get(key);
+            if (cached != null) {
+                return Credentials.create(cached);
+            }
+        }
+
+        int permits = permits(walletFile);
+        try {
+            memory.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to decrypt " + file, e);
+        }
+        ECKeyPair keyPair;
+        try {
+            keyPair = Wallet.decrypt(password, walletFile);
+        } finally {
+            memory.release(permits);
+        }
+
+        if (cache != null) {
+            cache.put(key, keyPair);
+        }
+        return Credentials.create(keyPair);
+    }
+
+    int permits(WalletFile walletFile) {
+        WalletFile.Crypto crypto = walletFile.getCrypto();
+        if (crypto == null || !(crypto.getKdfparams() instanceof WalletFile.ScryptKdfParams)) {
+            return 1;
+        }
+        WalletFile.ScryptKdfParams params = (WalletFile.ScryptKdfParams) crypto.getKdfparams();
+        long bytes = 128L * params.getR() * ((long) params.getN() + params.getP() + 2);
+        long kib = (bytes + 1023) / 1024;
+        return (int) Math.max(1, Math.min(memoryBudgetKib, kib));
+    }
+
+    /** Credentials loaded and keystores that couldn't be loaded. */
+    public static class Result {
+        private final Map<File, Credentials> credentials = new LinkedHashMap<>();
+        private final Map<File, Exception> failures = new LinkedHashMap<>();
+
+        public Map<File, Credentials> getCredentials() {
+            return Collections.unmodifiableMap(credentials);
+        }
+
+        public Map<File, Exception> getFailures() {
+            return Collections.unmodifiableMap(failures);
+        }
+    }
+}
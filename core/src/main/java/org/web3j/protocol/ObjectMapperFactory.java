@@ -23,15 +23,22 @@ import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.deserializer.FastResponseModule;
 import org.web3j.protocol.deserializer.RawResponseDeserializer;
 
 /** Factory for managing our ObjectMapper instances. */
 public class ObjectMapperFactory {
 
     private static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper RAW_RESPONSE_OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper STRICT_OBJECT_MAPPER = new ObjectMapper();
 
     static {
         configureObjectMapper(DEFAULT_OBJECT_MAPPER, false);
+        configureObjectMapper(RAW_RESPONSE_OBJECT_MAPPER, true);
+
+        STRICT_OBJECT_MAPPER.registerModule(new FastResponseModule());
+        STRICT_OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
     public static ObjectMapper getObjectMapper() {
@@ -43,7 +50,19 @@ public class ObjectMapperFactory {
             return DEFAULT_OBJECT_MAPPER;
         }
 
-        return configureObjectMapper(new ObjectMapper(), true);
+        return RAW_RESPONSE_OBJECT_MAPPER;
+    }
+
+    /**
+     * Returns a mapper tuned for high request volumes. It only accepts strict JSON, which node
+     * responses always are, and reads blocks, transactions, receipts and logs with hand-written
+     * deserializers rather than reflective bean binding.
+     *
+     * @return strict object mapper
+     * @see FastResponseModule
+     */
+    public static ObjectMapper getStrictObjectMapper() {
+        return STRICT_OBJECT_MAPPER;
     }
 
     public static ObjectReader getObjectReader() {
@@ -12,15 +12,26 @@
  */
 package org.web3j.protocol;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.reactivex.Flowable;
 
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.ResponseStreams;
+import org.web3j.protocol.core.ResultParser;
 import org.web3j.protocol.websocket.events.Notification;
 import org.web3j.utils.Async;
 
@@ -28,9 +39,22 @@ import org.web3j.utils.Async;
 public abstract class Service implements Web3jService {
 
     protected final ObjectMapper objectMapper;
+    private final boolean includeRawResponses;
 
     public Service(boolean includeRawResponses) {
-        objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this(ObjectMapperFactory.getObjectMapper(includeRawResponses), includeRawResponses);
+    }
+
+    /**
+     * Creates a service reading responses with the given mapper, such as {@link
+     * ObjectMapperFactory#getStrictObjectMapper()}.
+     *
+     * @param objectMapper mapper used to write requests and read responses
+     * @param includeRawResponses whether the mapper includes raw responses
+     */
+    public Service(ObjectMapper objectMapper, boolean includeRawResponses) {
+        this.objectMapper = objectMapper;
+        this.includeRawResponses = includeRawResponses;
     }
 
     protected abstract InputStream performIO(String payload) throws IOException;
@@ -48,12 +72,78 @@ public abstract class Service implements Web3jService {
         }
     }
 
+    @Override
+    public <T> Response<T> sendStreaming(Request request, ResultParser<T> resultParser)
+            throws IOException {
+        String payload = objectMapper.writeValueAsString(request);
+
+        try (InputStream result = performIO(payload)) {
+            if (result == null) {
+                return null;
+            }
+            try (JsonParser parser = objectMapper.getFactory().createParser(result)) {
+                return ResponseStreams.read(parser, resultParser);
+            }
+        }
+    }
+
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request jsonRpc20Request, Class<T> responseType) {
         return Async.run(() -> send(jsonRpc20Request, responseType));
     }
 
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        if (requests.isEmpty()) {
+            return new BatchResponse(requests, new ArrayList<>());
+        }
+        String payload = objectMapper.writeValueAsString(requests);
+
+        JsonNode replies;
+        try (InputStream result = performIO(payload)) {
+            if (result == null) {
+                return null;
+            }
+            replies = objectMapper.readTree(result);
+        }
+        if (replies == null || !replies.isArray()) {
+            throw new IOException("Batch reply is not a JSON array");
+        }
+
+        // replies to a batch may come in any order
+        Map<Long, JsonNode> replyForId = new HashMap<>();
+        for (JsonNode reply : replies) {
+            replyForId.put(reply.path("id").asLong(), reply);
+        }
+
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        for (Request<?, ? extends Response<?>> request : requests) {
+            JsonNode reply = replyForId.get(request.getId());
+            if (reply == null) {
+                throw new IOException(
+                        String.format("No reply to batched request with id %d", request.getId()));
+            }
+            responses.add(readReply(reply, request.getResponseType()));
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+    private <T> T readReply(JsonNode reply, Class<T> responseType) throws IOException {
+        if (includeRawResponses) {
+            // raw responses are read back from the input stream the response was parsed from
+            return objectMapper.readValue(
+                    new ByteArrayInputStream(objectMapper.writeValueAsBytes(reply)), responseType);
+        }
+        return objectMapper.treeToValue(reply, responseType);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return Async.run(() -> sendBatch(batchRequest));
+    }
+
     @Override
     public <T extends Notification<?>> Flowable<T> subscribe(
             Request request, String unsubscribeMethod, Class<T> responseType) {
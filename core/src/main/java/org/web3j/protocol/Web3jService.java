@@ -13,12 +13,19 @@
 package org.web3j.protocol;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import io.reactivex.Flowable;
 
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.ResponseStreams;
+import org.web3j.protocol.core.ResultParser;
+import org.web3j.protocol.websocket.SubscriptionBuffer;
 import org.web3j.protocol.websocket.events.Notification;
 
 /** Services API. */
@@ -46,6 +53,60 @@ public interface Web3jService {
      */
     <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType);
 
+    /**
+     * Performs a JSON-RPC batch request. Unless overridden, the requests are sent one by one.
+     *
+     * @param batchRequest batch of requests to perform
+     * @return replies in the order of the requests
+     * @throws IOException thrown if failed to perform a request
+     */
+    default BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        List<Response<?>> responses = new ArrayList<>();
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            responses.add(send(request, request.getResponseType()));
+        }
+        return new BatchResponse(batchRequest.getRequests(), responses);
+    }
+
+    /**
+     * Performs an asynchronous JSON-RPC batch request. Unless overridden, the requests are sent
+     * without waiting for each other's replies.
+     *
+     * @param batchRequest batch of requests to perform
+     * @return CompletableFuture that will be completed when all replies are returned or if a
+     *     request has failed
+     */
+    default CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        List<CompletableFuture<? extends Response<?>>> replies = new ArrayList<>();
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            replies.add(sendAsync(request, request.getResponseType()));
+        }
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture[0]))
+                .thenApply(
+                        ignored -> {
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (CompletableFuture<? extends Response<?>> reply : replies) {
+                                responses.add(reply.join());
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+    }
+
+    /**
+     * Performs a JSON-RPC request, handing the result to a parser while it is read rather than
+     * binding it as a whole. Unless overridden, the response is read as a whole first.
+     *
+     * @param request request to perform
+     * @param resultParser parser of the result
+     * @param <T> type of the value kept as the result
+     * @return response holding the value returned by the result parser
+     * @throws IOException thrown if failed to perform a request
+     */
+    default <T> Response<T> sendStreaming(Request request, ResultParser<T> resultParser)
+            throws IOException {
+        return ResponseStreams.read(send(request, Response.class), resultParser);
+    }
+
     /**
      * Subscribe to a stream of notifications. A stream of notifications is opened by by performing
      * a specified JSON-RPC request and is closed by calling the unsubscribe method. Different
@@ -65,6 +126,27 @@ public interface Web3jService {
     <T extends Notification<?>> Flowable<T> subscribe(
             Request request, String unsubscribeMethod, Class<T> responseType);
 
+    /**
+     * Subscribe to a stream of notifications, buffering notifications for slow consumers according
+     * to the given policy.
+     *
+     * @param request JSON-RPC request that will be send to subscribe to a stream of events
+     * @param unsubscribeMethod method that will be called to unsubscribe from a stream of
+     *     notifications
+     * @param responseType class of incoming events objects in a stream
+     * @param buffer buffering policy for notifications not yet requested by a consumer
+     * @param <T> type of incoming event objects
+     * @return a {@link Flowable} instance that emits incoming events
+     * @see #subscribe(Request, String, Class)
+     */
+    default <T extends Notification<?>> Flowable<T> subscribe(
+            Request request,
+            String unsubscribeMethod,
+            Class<T> responseType,
+            SubscriptionBuffer buffer) {
+        return buffer.apply(subscribe(request, unsubscribeMethod, responseType));
+    }
+
     /**
      * Closes resources used by the service.
      *
@@ -25,6 +25,7 @@ import io.reactivex.Flowable;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.filters.FilterPoller;
 import org.web3j.protocol.core.methods.request.ShhFilter;
 import org.web3j.protocol.core.methods.request.ShhPost;
 import org.web3j.protocol.core.methods.request.Transaction;
@@ -79,6 +80,7 @@ import org.web3j.protocol.core.methods.response.ShhVersion;
 import org.web3j.protocol.core.methods.response.Web3ClientVersion;
 import org.web3j.protocol.core.methods.response.Web3Sha3;
 import org.web3j.protocol.rx.JsonRpc2_0Rx;
+import org.web3j.protocol.websocket.SubscriptionBuffer;
 import org.web3j.protocol.websocket.events.LogNotification;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
 import org.web3j.utils.Async;
@@ -103,7 +105,11 @@ public class JsonRpc2_0Web3j implements Web3j {
             long pollingInterval,
             ScheduledExecutorService scheduledExecutorService) {
         this.web3jService = web3jService;
-        this.web3jRx = new JsonRpc2_0Rx(this, scheduledExecutorService);
+        this.web3jRx =
+                new JsonRpc2_0Rx(
+                        this,
+                        scheduledExecutorService,
+                        new FilterPoller(this, scheduledExecutorService, pollingInterval));
         this.blockTime = pollingInterval;
         this.scheduledExecutorService = scheduledExecutorService;
     }
@@ -634,29 +640,46 @@ public class JsonRpc2_0Web3j implements Web3j {
     @Override
     public Flowable<NewHeadsNotification> newHeadsNotifications() {
         return web3jService.subscribe(
-                new Request<>(
-                        "eth_subscribe",
-                        Collections.singletonList("newHeads"),
-                        web3jService,
-                        EthSubscribe.class),
-                "eth_unsubscribe",
-                NewHeadsNotification.class);
+                newHeadsSubscribeRequest(), "eth_unsubscribe", NewHeadsNotification.class);
+    }
+
+    @Override
+    public Flowable<NewHeadsNotification> newHeadsNotifications(SubscriptionBuffer buffer) {
+        return web3jService.subscribe(
+                newHeadsSubscribeRequest(), "eth_unsubscribe", NewHeadsNotification.class, buffer);
+    }
+
+    private Request<?, EthSubscribe> newHeadsSubscribeRequest() {
+        return new Request<>(
+                "eth_subscribe",
+                Collections.singletonList("newHeads"),
+                web3jService,
+                EthSubscribe.class);
     }
 
     @Override
     public Flowable<LogNotification> logsNotifications(
             List<String> addresses, List<String> topics) {
+        return web3jService.subscribe(
+                logsSubscribeRequest(addresses, topics), "eth_unsubscribe", LogNotification.class);
+    }
 
-        Map<String, Object> params = createLogsParams(addresses, topics);
-
+    @Override
+    public Flowable<LogNotification> logsNotifications(
+            List<String> addresses, List<String> topics, SubscriptionBuffer buffer) {
         return web3jService.subscribe(
-                new Request<>(
-                        "eth_subscribe",
-                        Arrays.asList("logs", params),
-                        web3jService,
-                        EthSubscribe.class),
+                logsSubscribeRequest(addresses, topics),
                 "eth_unsubscribe",
-                LogNotification.class);
+                LogNotification.class,
+                buffer);
+    }
+
+    private Request<?, EthSubscribe> logsSubscribeRequest(
+            List<String> addresses, List<String> topics) {
+        Map<String, Object> params = createLogsParams(addresses, topics);
+
+        return new Request<>(
+                "eth_subscribe", Arrays.asList("logs", params), web3jService, EthSubscribe.class);
     }
 
     private Map<String, Object> createLogsParams(List<String> addresses, List<String> topics) {
@@ -761,6 +784,11 @@ public class JsonRpc2_0Web3j implements Web3j {
         return web3jRx.replayPastAndFutureTransactionsFlowable(startBlock, blockTime);
     }
 
+    @Override
+    public BatchRequest newBatch() {
+        return new BatchRequest(web3jService);
+    }
+
     @Override
     public void shutdown() {
         scheduledExecutorService.shutdown();
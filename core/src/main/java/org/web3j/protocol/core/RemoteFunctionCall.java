@@ -28,10 +28,28 @@ import org.web3j.abi.datatypes.Type;
 public class RemoteFunctionCall<T> extends RemoteCall<T> {
 
     private final Function function;
+    private final CallTarget target;
+    private final ResultDecoder<T> decoder;
 
     public RemoteFunctionCall(Function function, Callable<T> callable) {
+        this(function, null, null, callable);
+    }
+
+    /**
+     * Creates a call which can be aggregated with other calls, for instance by a {@link
+     * org.web3j.tx.MulticallBatcher}.
+     *
+     * @param function function to call
+     * @param target contract and block the function is called against
+     * @param decoder decodes the value returned by the function
+     * @param callable performs the call on its own
+     */
+    public RemoteFunctionCall(
+            Function function, CallTarget target, ResultDecoder<T> decoder, Callable<T> callable) {
         super(callable);
         this.function = function;
+        this.target = target;
+        this.decoder = decoder;
     }
 
     /**
@@ -52,4 +70,75 @@ public class RemoteFunctionCall<T> extends RemoteCall<T> {
     public List<Type> decodeFunctionResponse(String response) {
         return FunctionReturnDecoder.decode(response, function.getOutputParameters());
     }
+
+    /**
+     * Whether this call carries enough information to be sent as part of an aggregate call.
+     *
+     * @return true if the call target and result decoder are known
+     */
+    public boolean isAggregatable() {
+        return target != null && decoder != null;
+    }
+
+    /**
+     * Returns the contract and block this call is made against.
+     *
+     * @return call target, or null if the call isn't aggregatable
+     */
+    public CallTarget getTarget() {
+        return target;
+    }
+
+    /**
+     * Converts the raw value returned by the function to the result of this call.
+     *
+     * @param response value returned by the function
+     * @return result of this call
+     * @throws Exception if the value can't be decoded
+     * @throws UnsupportedOperationException if the call isn't aggregatable
+     */
+    public T decodeResult(String response) throws Exception {
+        if (decoder == null) {
+            throw new UnsupportedOperationException("Call has no result decoder");
+        }
+        return decoder.decode(response);
+    }
+
+    /**
+     * Decodes the value returned by a function.
+     *
+     * @param <T> decoded type
+     */
+    public interface ResultDecoder<T> {
+        T decode(String response) throws Exception;
+    }
+
+    /** The contract, caller and block a function call is made against. */
+    public static class CallTarget {
+
+        private final String contractAddress;
+        private final String fromAddress;
+        private final DefaultBlockParameter defaultBlockParameter;
+
+        public CallTarget(
+                String contractAddress,
+                String fromAddress,
+                DefaultBlockParameter defaultBlockParameter) {
+            this.contractAddress = contractAddress;
+            this.fromAddress = fromAddress;
+            this.defaultBlockParameter = defaultBlockParameter;
+        }
+
+        public String getContractAddress() {
+            return contractAddress;
+        }
+
+        public String getFromAddress() {
+            return fromAddress;
+        }
+
+        public DefaultBlockParameter getDefaultBlockParameter() {
+            return defaultBlockParameter;
+        }
+    }
 }
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.reactivex.Flowable;
 
 import org.web3j.protocol.Web3jService;
@@ -77,10 +78,33 @@ public class Request<S, T extends Response> {
         this.id = id;
     }
 
+    @JsonIgnore
+    public Class<T> getResponseType() {
+        return responseType;
+    }
+
     public T send() throws IOException {
         return web3jService.send(this, responseType);
     }
 
+    /**
+     * Sends the request, handing the result to a parser while it is read rather than binding it to
+     * the response type, for results too large to be held in memory.
+     *
+     * <p>Only services reading the response from a connection, such as {@link
+     * org.web3j.protocol.http.HttpService}, avoid holding the whole response in memory. Others,
+     * including the IPC services, read the response as a whole before handing the result to the
+     * parser.
+     *
+     * @param resultParser parser of the result
+     * @param <R> type of the value kept as the result
+     * @return response holding the value returned by the result parser
+     * @throws IOException if the request failed
+     */
+    public <R> Response<R> sendStreaming(ResultParser<R> resultParser) throws IOException {
+        return web3jService.sendStreaming(this, resultParser);
+    }
+
     public CompletableFuture<T> sendAsync() {
         return web3jService.sendAsync(this, responseType);
     }
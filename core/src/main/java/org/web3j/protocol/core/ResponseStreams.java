@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.web3j.protocol.ObjectMapperFactory;
+
+/** Reads JSON-RPC responses with a {@link ResultParser}. */
+public final class ResponseStreams {
+
+    private ResponseStreams() {}
+
+    /**
+     * Reads a JSON-RPC response, handing its result to a result parser.
+     *
+     * @param parser parser positioned before the response
+     * @param resultParser parser of the result
+     * @param <T> type of the value kept as the result
+     * @return response holding the value returned by the result parser
+     * @throws IOException if the response could not be read
+     */
+    public static <T> Response<T> read(JsonParser parser, ResultParser<T> resultParser)
+            throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("JSON-RPC response is not a JSON object");
+        }
+
+        Response<T> response = new Response<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "id":
+                    response.setId(parser.getValueAsLong());
+                    break;
+                case "jsonrpc":
+                    response.setJsonrpc(parser.getValueAsString());
+                    break;
+                case "error":
+                    response.setError(parser.readValueAs(Response.Error.class));
+                    break;
+                case "result":
+                    if (token != JsonToken.VALUE_NULL) {
+                        response.setResult(resultParser.parse(parser));
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Hands the result of a response which has already been read to a result parser, for services
+     * which can't stream responses.
+     *
+     * @param response response read as a whole
+     * @param resultParser parser of the result
+     * @param <T> type of the value kept as the result
+     * @return response holding the value returned by the result parser
+     * @throws IOException if the result could not be read
+     */
+    public static <T> Response<T> read(Response<?> response, ResultParser<T> resultParser)
+            throws IOException {
+        Response<T> parsed = new Response<>();
+        parsed.setId(response.getId());
+        parsed.setJsonrpc(response.getJsonrpc());
+        parsed.setError(response.getError());
+
+        if (response.getResult() != null) {
+            ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+            try (JsonParser parser =
+                    objectMapper.treeAsTokens(objectMapper.valueToTree(response.getResult()))) {
+                parser.nextToken();
+                parsed.setResult(resultParser.parse(parser));
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Reads the result of a JSON-RPC response while it is parsed, rather than binding it as a whole.
+ *
+ * <p>Used with {@link Request#sendStreaming(ResultParser)} for results too large to be held in
+ * memory, such as transaction traces.
+ *
+ * @param <T> type of the value kept once the result has been read
+ */
+@FunctionalInterface
+public interface ResultParser<T> {
+
+    /**
+     * Reads a result.
+     *
+     * @param parser parser positioned on the first token of the result, to be left on its last
+     *     token
+     * @return value kept as the result of the response
+     * @throws IOException if the result could not be read
+     */
+    T parse(JsonParser parser) throws IOException;
+}
@@ -55,6 +55,48 @@ public abstract class Filter<T> {
     }
 
     public void run(ScheduledExecutorService scheduledExecutorService, long blockTime) {
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.blockTime = blockTime;
+        // this runs in the caller thread as if any exceptions are encountered, we shouldn't
+        // proceed with creating the scheduled task below
+        install();
+
+        /*
+        We want the filter to be resilient against client issues. On numerous occasions
+        users have reported socket timeout exceptions when connected over HTTP to Geth and
+        Parity clients. For examples, refer to
+        https://github.com/web3j/web3j/issues/144 and
+        https://github.com/ethereum/go-ethereum/issues/15243.
+
+        Hence we consume errors and log them as errors, allowing our polling for changes to
+        resume. The downside of this approach is that users will not be notified of
+        downstream connection issues. But given the intermittent nature of the connection
+        issues, this seems like a reasonable compromise.
+
+        The alternative approach would be to have another thread that blocks waiting on
+        schedule.get(), catching any Exceptions thrown, and passing them back up to the
+        caller. However, the user would then be required to recreate subscriptions manually
+        which isn't ideal given the aforementioned issues.
+        */
+        schedule =
+                scheduledExecutorService.scheduleAtFixedRate(
+                        () -> {
+                            try {
+                                this.pollFilter();
+                            } catch (Throwable e) {
+                                // All exceptions must be caught, otherwise our job terminates
+                                // without
+                                // any notification
+                                log.error("Error sending request", e);
+                            }
+                        },
+                        0,
+                        blockTime,
+                        TimeUnit.MILLISECONDS);
+    }
+
+    /** Installs the filter on the node and passes the logs it already matches to the callback. */
+    void install() {
         try {
             EthFilter ethFilter = sendRequest();
             if (ethFilter.hasError()) {
@@ -62,49 +104,16 @@ public abstract class Filter<T> {
             }
 
             filterId = ethFilter.getFilterId();
-            this.scheduledExecutorService = scheduledExecutorService;
-            this.blockTime = blockTime;
-            // this runs in the caller thread as if any exceptions are encountered, we shouldn't
-            // proceed with creating the scheduled task below
             getInitialFilterLogs();
-
-            /*
-            We want the filter to be resilient against client issues. On numerous occasions
-            users have reported socket timeout exceptions when connected over HTTP to Geth and
-            Parity clients. For examples, refer to
-            https://github.com/web3j/web3j/issues/144 and
-            https://github.com/ethereum/go-ethereum/issues/15243.
-
-            Hence we consume errors and log them as errors, allowing our polling for changes to
-            resume. The downside of this approach is that users will not be notified of
-            downstream connection issues. But given the intermittent nature of the connection
-            issues, this seems like a reasonable compromise.
-
-            The alternative approach would be to have another thread that blocks waiting on
-            schedule.get(), catching any Exceptions thrown, and passing them back up to the
-            caller. However, the user would then be required to recreate subscriptions manually
-            which isn't ideal given the aforementioned issues.
-            */
-            schedule =
-                    scheduledExecutorService.scheduleAtFixedRate(
-                            () -> {
-                                try {
-                                    this.pollFilter(ethFilter);
-                                } catch (Throwable e) {
-                                    // All exceptions must be caught, otherwise our job terminates
-                                    // without
-                                    // any notification
-                                    log.error("Error sending request", e);
-                                }
-                            },
-                            0,
-                            blockTime,
-                            TimeUnit.MILLISECONDS);
         } catch (IOException e) {
             throwException(e);
         }
     }
 
+    BigInteger getFilterId() {
+        return filterId;
+    }
+
     private void getInitialFilterLogs() {
         try {
             Optional<Request<?, EthLog>> maybeRequest = this.getFilterLogs(this.filterId);
@@ -122,13 +131,21 @@ public abstract class Filter<T> {
         }
     }
 
-    private void pollFilter(EthFilter ethFilter) {
+    private void pollFilter() {
         EthLog ethLog = null;
         try {
             ethLog = web3j.ethGetFilterChanges(filterId).send();
         } catch (IOException e) {
             throwException(e);
         }
+        processChanges(ethLog);
+    }
+
+    /**
+     * Passes the changes returned by {@code eth_getFilterChanges} to the callback, reinstalling the
+     * filter if the node no longer knows about it.
+     */
+    void processChanges(EthLog ethLog) {
         if (ethLog.hasError()) {
             Error error = ethLog.getError();
             switch (error.getCode()) {
@@ -150,13 +167,23 @@ public abstract class Filter<T> {
 
     private void reinstallFilter() {
         log.warn("The filter has not been found. Filter id: " + filterId);
-        schedule.cancel(true);
-        this.run(scheduledExecutorService, blockTime);
+        if (schedule != null) {
+            schedule.cancel(true);
+            this.run(scheduledExecutorService, blockTime);
+        } else {
+            // polled by a FilterPoller
+            install();
+        }
     }
 
     public void cancel() {
-        schedule.cancel(false);
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
+        uninstall();
+    }
 
+    void uninstall() {
         try {
             EthUninstallFilter ethUninstallFilter = web3j.ethUninstallFilter(filterId).send();
             if (ethUninstallFilter.hasError()) {
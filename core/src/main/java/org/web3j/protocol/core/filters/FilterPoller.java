@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.methods.response.EthLog;
+
+/**
+ * Polls any number of filters with a single scheduled task.
+ *
+ * <p>On each tick the changes of all filters are requested in one JSON-RPC batch of {@code
+ * eth_getFilterChanges} calls, and routed to the callback of each filter. The tick adapts to the
+ * rate at which the node reports changes: it follows half of the observed interval between changes,
+ * kept within the given bounds.
+ *
+ * <p>Each {@link org.web3j.protocol.core.JsonRpc2_0Web3j} instance polls the filters behind its
+ * block, pending transaction and log flowables with its own poller.
+ *
+ * <pre>
+ *     FilterPoller poller = new FilterPoller(web3j, scheduledExecutorService, 15_000);
+ *     poller.add(new LogFilter(web3j, log -&gt; ..., ethFilter));
+ * </pre>
+ */
+public class FilterPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterPoller.class);
+
+    // Weight of the latest observation in the observed interval between changes
+    private static final double SMOOTHING = 0.2;
+
+    private final Web3j web3j;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final long minPollingInterval;
+    private final long maxPollingInterval;
+
+    private final List<Filter<?>> filters = new CopyOnWriteArrayList<>();
+
+    private volatile long pollingInterval;
+    private double observedInterval;
+    private long lastChangeTime = -1;
+
+    private ScheduledFuture<?> schedule;
+    private boolean started;
+    private boolean cancelled;
+
+    /**
+     * Creates a poller for the given block time, polling at least every block time and at most four
+     * times per block time.
+     *
+     * @param web3j web3j instance to poll
+     * @param scheduledExecutorService executor running the polling task
+     * @param blockTime expected block time in milliseconds
+     */
+    public FilterPoller(
+            Web3j web3j, ScheduledExecutorService scheduledExecutorService, long blockTime) {
+        this(web3j, scheduledExecutorService, blockTime, Math.max(1, blockTime / 4), blockTime);
+    }
+
+    public FilterPoller(
+            Web3j web3j,
+            ScheduledExecutorService scheduledExecutorService,
+            long initialPollingInterval,
+            long minPollingInterval,
+            long maxPollingInterval) {
+        if (minPollingInterval <= 0
+                || minPollingInterval > initialPollingInterval
+                || initialPollingInterval > maxPollingInterval) {
+            throw new IllegalArgumentException("Invalid polling intervals");
+        }
+        this.web3j = web3j;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.pollingInterval = initialPollingInterval;
+        this.minPollingInterval = minPollingInterval;
+        this.maxPollingInterval = maxPollingInterval;
+        this.observedInterval = initialPollingInterval * 2;
+    }
+
+    /**
+     * Installs a filter and polls it from now on.
+     *
+     * @param filter filter to poll
+     * @throws FilterException if the filter could not be installed
+     */
+    public void add(Filter<?> filter) {
+        filter.install();
+        filters.add(filter);
+        start();
+    }
+
+    /**
+     * Stops polling a filter and uninstalls it from the node.
+     *
+     * @param filter filter to remove
+     * @throws FilterException if the filter could not be uninstalled
+     */
+    public void remove(Filter<?> filter) {
+        if (filters.remove(filter)) {
+            filter.uninstall();
+        }
+    }
+
+    /** Stops polling and uninstalls all filters. */
+    public synchronized void cancel() {
+        cancelled = true;
+        if (schedule != null) {
+            schedule.cancel(false);
+        }
+        for (Filter<?> filter : filters) {
+            try {
+                remove(filter);
+            } catch (FilterException e) {
+                log.warn("Failed to uninstall filter with id {}", filter.getFilterId(), e);
+            }
+        }
+    }
+
+    public long getPollingInterval() {
+        return pollingInterval;
+    }
+
+    public int getFilterCount() {
+        return filters.size();
+    }
+
+    private synchronized void start() {
+        if (!started) {
+            started = true;
+            // the first filter is polled right away, as it would be when polled on its own
+            schedule(0);
+        }
+    }
+
+    private void scheduleNext() {
+        schedule(pollingInterval);
+    }
+
+    private synchronized void schedule(long delay) {
+        if (!cancelled) {
+            schedule = scheduledExecutorService.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void poll() {
+        try {
+            List<Filter<?>> polled = new ArrayList<>(filters);
+            if (!polled.isEmpty()) {
+                pollFilters(polled);
+            }
+        } catch (Throwable e) {
+            // All exceptions must be caught, otherwise polling stops without any notification
+            log.error("Error sending batch request", e);
+        } finally {
+            scheduleNext();
+        }
+    }
+
+    private void pollFilters(List<Filter<?>> polled) throws Exception {
+        BatchRequest batch = web3j.newBatch();
+        for (Filter<?> filter : polled) {
+            batch.add(web3j.ethGetFilterChanges(filter.getFilterId()));
+        }
+        BatchResponse batchResponse = batch.send();
+
+        boolean changed = false;
+        for (int i = 0; i < polled.size(); i++) {
+            EthLog ethLog = (EthLog) batchResponse.getResponses().get(i);
+            changed |=
+                    !ethLog.hasError() && ethLog.getLogs() != null && !ethLog.getLogs().isEmpty();
+            try {
+                polled.get(i).processChanges(ethLog);
+            } catch (Throwable e) {
+                log.error("Error processing changes of filter {}", polled.get(i).getFilterId(), e);
+            }
+        }
+        if (changed) {
+            adaptPollingInterval(System.currentTimeMillis());
+        }
+    }
+
+    synchronized void adaptPollingInterval(long changeTime) {
+        if (lastChangeTime >= 0) {
+            long interval = changeTime - lastChangeTime;
+            observedInterval = SMOOTHING * interval + (1 - SMOOTHING) * observedInterval;
+            pollingInterval =
+                    Math.max(
+                            minPollingInterval,
+                            Math.min(maxPollingInterval, (long) (observedInterval / 2)));
+        }
+        lastChangeTime = changeTime;
+    }
+}
@@ -15,17 +15,14 @@ package org.web3j.protocol.core.methods.response;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
 import org.web3j.utils.Numeric;
 
@@ -587,8 +584,6 @@ public class EthBlock extends Response<EthBlock.Block> {
     public static class ResultTransactionDeserialiser
             extends JsonDeserializer<List<TransactionResult>> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
-
         @Override
         public List<TransactionResult> deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
@@ -598,18 +593,16 @@ public class EthBlock extends Response<EthBlock.Block> {
             JsonToken nextToken = jsonParser.nextToken();
 
             if (nextToken == JsonToken.START_OBJECT) {
-                Iterator<TransactionObject> transactionObjectIterator =
-                        objectReader.readValues(jsonParser, TransactionObject.class);
-                while (transactionObjectIterator.hasNext()) {
-                    transactionResults.add(transactionObjectIterator.next());
+                while (nextToken == JsonToken.START_OBJECT) {
+                    transactionResults.add(
+                            deserializationContext.readValue(jsonParser, TransactionObject.class));
+                    nextToken = jsonParser.nextToken();
                 }
             } else if (nextToken == JsonToken.VALUE_STRING) {
-                jsonParser.getValueAsString();
-
-                Iterator<TransactionHash> transactionHashIterator =
-                        objectReader.readValues(jsonParser, TransactionHash.class);
-                while (transactionHashIterator.hasNext()) {
-                    transactionResults.add(transactionHashIterator.next());
+                while (nextToken == JsonToken.VALUE_STRING) {
+                    transactionResults.add(
+                            deserializationContext.readValue(jsonParser, TransactionHash.class));
+                    nextToken = jsonParser.nextToken();
                 }
             }
 
@@ -619,14 +612,12 @@ public class EthBlock extends Response<EthBlock.Block> {
 
     public static class ResponseDeserialiser extends JsonDeserializer<Block> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
-
         @Override
         public Block deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, Block.class);
+                return deserializationContext.readValue(jsonParser, Block.class);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
@@ -19,9 +19,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.ObjectReader;
 
-import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.Response;
 
 /** eth_getTransactionReceipt. */
@@ -33,14 +31,12 @@ public class EthGetTransactionReceipt extends Response<TransactionReceipt> {
 
     public static class ResponseDeserialiser extends JsonDeserializer<TransactionReceipt> {
 
-        private ObjectReader objectReader = ObjectMapperFactory.getObjectReader();
-
         @Override
         public TransactionReceipt deserialize(
                 JsonParser jsonParser, DeserializationContext deserializationContext)
                 throws IOException {
             if (jsonParser.getCurrentToken() != JsonToken.VALUE_NULL) {
-                return objectReader.readValue(jsonParser, TransactionReceipt.class);
+                return deserializationContext.readValue(jsonParser, TransactionReceipt.class);
             } else {
                 return null; // null is wrapped by Optional in above getter
             }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import org.web3j.protocol.core.methods.response.Log;
+
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.NONE;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readBytes;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readInterned;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readLong;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readString;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.toHex;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.toHexQuantity;
+
+/**
+ * Compact alternative to {@link Log}, decoded once when the JSON-RPC response is read.
+ *
+ * <p>Quantities are held as {@code long}, with {@code -1} standing for an absent value such as the
+ * block number of a pending log, and hashes, addresses and data as byte arrays. Addresses and
+ * topics are shared between logs with equal values. Byte arrays returned by getters must not be
+ * modified.
+ */
+@JsonDeserialize(using = CompactLog.Deserializer.class)
+public class CompactLog {
+
+    private static final byte[][] NO_TOPICS = new byte[0][];
+
+    private boolean removed;
+    private long logIndex = NONE;
+    private long transactionIndex = NONE;
+    private long blockNumber = NONE;
+    private byte[] transactionHash;
+    private byte[] blockHash;
+    private byte[] address;
+    private byte[] data;
+    private String type;
+    private byte[][] topics = NO_TOPICS;
+
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    public long getLogIndex() {
+        return logIndex;
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public boolean isPending() {
+        return blockNumber == NONE;
+    }
+
+    public byte[] getTransactionHashBytes() {
+        return transactionHash;
+    }
+
+    public String getTransactionHash() {
+        return toHex(transactionHash);
+    }
+
+    public byte[] getBlockHashBytes() {
+        return blockHash;
+    }
+
+    public String getBlockHash() {
+        return toHex(blockHash);
+    }
+
+    public byte[] getAddressBytes() {
+        return address;
+    }
+
+    public String getAddress() {
+        return toHex(address);
+    }
+
+    public byte[] getDataBytes() {
+        return data;
+    }
+
+    public String getData() {
+        return toHex(data);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getTopicCount() {
+        return topics.length;
+    }
+
+    public byte[] getTopicBytes(int index) {
+        return topics[index];
+    }
+
+    public List<String> getTopics() {
+        List<String> result = new ArrayList<>(topics.length);
+        for (byte[] topic : topics) {
+            result.add(toHex(topic));
+        }
+        return result;
+    }
+
+    /**
+     * Converts this log to the regular representation.
+     *
+     * @return equivalent log
+     */
+    public Log toLog() {
+        return new Log(
+                removed,
+                toHexQuantity(logIndex),
+                toHexQuantity(transactionIndex),
+                getTransactionHash(),
+                getBlockHash(),
+                toHexQuantity(blockNumber),
+                getAddress(),
+                getData(),
+                type,
+                getTopics());
+    }
+
+    static CompactLog read(JsonParser parser) throws IOException {
+        CompactLog log = new CompactLog();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "removed":
+                    log.removed = parser.getValueAsBoolean();
+                    break;
+                case "logIndex":
+                    log.logIndex = readLong(parser);
+                    break;
+                case "transactionIndex":
+                    log.transactionIndex = readLong(parser);
+                    break;
+                case "blockNumber":
+                    log.blockNumber = readLong(parser);
+                    break;
+                case "transactionHash":
+                    log.transactionHash = readBytes(parser);
+                    break;
+                case "blockHash":
+                    log.blockHash = readBytes(parser);
+                    break;
+                case "address":
+                    log.address = readInterned(parser);
+                    break;
+                case "data":
+                    log.data = readBytes(parser);
+                    break;
+                case "type":
+                    log.type = readString(parser);
+                    break;
+                case "topics":
+                    log.topics = readTopics(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return log;
+    }
+
+    private static byte[][] readTopics(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            return NO_TOPICS;
+        }
+        List<byte[]> topics = new ArrayList<>(4);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            topics.add(readInterned(parser));
+        }
+        return topics.toArray(new byte[topics.size()][]);
+    }
+
+    static List<CompactLog> readList(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<CompactLog> logs = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            logs.add(read(parser));
+        }
+        return logs;
+    }
+
+    public static class Deserializer extends JsonDeserializer<CompactLog> {
+        @Override
+        public CompactLog deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            return read(parser);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.utils.Numeric;
+
+/**
+ * Creates requests whose responses are read into the compact models of this package, rather than
+ * the regular response types.
+ *
+ * <p>Compact models decode hashes, addresses and data to bytes and quantities to primitives once,
+ * as the response is read, which considerably reduces the memory held by long-running indexers
+ * retaining many logs or receipts. Use {@link CompactLog#toLog()} and the equivalent methods where
+ * the regular representation is needed.
+ */
+public class CompactRequests {
+
+    private final Web3jService web3jService;
+
+    public CompactRequests(Web3jService web3jService) {
+        this.web3jService = web3jService;
+    }
+
+    public Request<?, EthCompactLog> ethGetLogs(EthFilter ethFilter) {
+        return new Request<>(
+                "eth_getLogs", Arrays.asList(ethFilter), web3jService, EthCompactLog.class);
+    }
+
+    public Request<?, EthCompactLog> ethGetFilterLogs(BigInteger filterId) {
+        return new Request<>(
+                "eth_getFilterLogs",
+                Arrays.asList(Numeric.toHexStringWithPrefixSafe(filterId)),
+                web3jService,
+                EthCompactLog.class);
+    }
+
+    /**
+     * Only applicable to log filters, block and pending transaction filters return hashes.
+     *
+     * @param filterId log filter id
+     * @return request for the logs since the last poll
+     */
+    public Request<?, EthCompactLog> ethGetFilterChanges(BigInteger filterId) {
+        return new Request<>(
+                "eth_getFilterChanges",
+                Arrays.asList(Numeric.toHexStringWithPrefixSafe(filterId)),
+                web3jService,
+                EthCompactLog.class);
+    }
+
+    public Request<?, EthGetCompactTransactionReceipt> ethGetTransactionReceipt(
+            String transactionHash) {
+        return new Request<>(
+                "eth_getTransactionReceipt",
+                Arrays.asList(transactionHash),
+                web3jService,
+                EthGetCompactTransactionReceipt.class);
+    }
+
+    public Request<?, EthCompactTransaction> ethGetTransactionByHash(String transactionHash) {
+        return new Request<>(
+                "eth_getTransactionByHash",
+                Arrays.asList(transactionHash),
+                web3jService,
+                EthCompactTransaction.class);
+    }
+}
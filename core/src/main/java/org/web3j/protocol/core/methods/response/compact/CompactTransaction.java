@@ -0,0 +1,269 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import org.web3j.protocol.core.methods.response.Transaction;
+
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.NONE;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.bigQuantity;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readBytes;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readInterned;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readLong;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readString;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.smallQuantity;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.toBigInteger;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.toHex;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.toHexQuantity;
+
+/**
+ * Compact alternative to {@link Transaction}, decoded once when the JSON-RPC response is read. See
+ * {@link CompactLog} for how values are held. Nonce, value and gas price are held as a {@code
+ * long}, and only as a {@link BigInteger} when too large for it.
+ */
+@JsonDeserialize(using = CompactTransaction.Deserializer.class)
+public class CompactTransaction {
+
+    private byte[] hash;
+    private long nonce = NONE;
+    private BigInteger bigNonce;
+    private byte[] blockHash;
+    private long blockNumber = NONE;
+    private long transactionIndex = NONE;
+    private byte[] from;
+    private byte[] to;
+    private long value = NONE;
+    private BigInteger bigValue;
+    private long gasPrice = NONE;
+    private BigInteger bigGasPrice;
+    private long gas = NONE;
+    private byte[] input;
+    private byte[] creates;
+    private byte[] publicKey;
+    private byte[] raw;
+    private byte[] r;
+    private byte[] s;
+    private long v;
+
+    public byte[] getHashBytes() {
+        return hash;
+    }
+
+    public String getHash() {
+        return toHex(hash);
+    }
+
+    public BigInteger getNonce() {
+        return toBigInteger(nonce, bigNonce);
+    }
+
+    public byte[] getBlockHashBytes() {
+        return blockHash;
+    }
+
+    public String getBlockHash() {
+        return toHex(blockHash);
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public boolean isPending() {
+        return blockNumber == NONE;
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public byte[] getFromBytes() {
+        return from;
+    }
+
+    public String getFrom() {
+        return toHex(from);
+    }
+
+    public byte[] getToBytes() {
+        return to;
+    }
+
+    public String getTo() {
+        return toHex(to);
+    }
+
+    public BigInteger getValue() {
+        return toBigInteger(value, bigValue);
+    }
+
+    public BigInteger getGasPrice() {
+        return toBigInteger(gasPrice, bigGasPrice);
+    }
+
+    public long getGas() {
+        return gas;
+    }
+
+    public byte[] getInputBytes() {
+        return input;
+    }
+
+    public String getInput() {
+        return toHex(input);
+    }
+
+    public String getCreates() {
+        return toHex(creates);
+    }
+
+    public String getPublicKey() {
+        return toHex(publicKey);
+    }
+
+    public byte[] getRawBytes() {
+        return raw;
+    }
+
+    public String getRaw() {
+        return toHex(raw);
+    }
+
+    public String getR() {
+        return toHex(r);
+    }
+
+    public String getS() {
+        return toHex(s);
+    }
+
+    public long getV() {
+        return v;
+    }
+
+    /**
+     * Converts this transaction to the regular representation.
+     *
+     * @return equivalent transaction
+     */
+    public Transaction toTransaction() {
+        return new Transaction(
+                getHash(),
+                toHexQuantity(getNonce()),
+                getBlockHash(),
+                toHexQuantity(blockNumber),
+                toHexQuantity(transactionIndex),
+                getFrom(),
+                getTo(),
+                toHexQuantity(getValue()),
+                toHexQuantity(gas),
+                toHexQuantity(getGasPrice()),
+                getInput(),
+                getCreates(),
+                getPublicKey(),
+                getRaw(),
+                getR(),
+                getS(),
+                v);
+    }
+
+    static CompactTransaction read(JsonParser parser) throws IOException {
+        CompactTransaction transaction = new CompactTransaction();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "hash":
+                    transaction.hash = readBytes(parser);
+                    break;
+                case "nonce":
+                    String nonce = readString(parser);
+                    transaction.nonce = smallQuantity(nonce);
+                    transaction.bigNonce = bigQuantity(nonce);
+                    break;
+                case "blockHash":
+                    transaction.blockHash = readBytes(parser);
+                    break;
+                case "blockNumber":
+                    transaction.blockNumber = readLong(parser);
+                    break;
+                case "transactionIndex":
+                    transaction.transactionIndex = readLong(parser);
+                    break;
+                case "from":
+                    transaction.from = readInterned(parser);
+                    break;
+                case "to":
+                    transaction.to = readInterned(parser);
+                    break;
+                case "value":
+                    String value = readString(parser);
+                    transaction.value = smallQuantity(value);
+                    transaction.bigValue = bigQuantity(value);
+                    break;
+                case "gasPrice":
+                    String gasPrice = readString(parser);
+                    transaction.gasPrice = smallQuantity(gasPrice);
+                    transaction.bigGasPrice = bigQuantity(gasPrice);
+                    break;
+                case "gas":
+                    transaction.gas = readLong(parser);
+                    break;
+                case "input":
+                    transaction.input = readBytes(parser);
+                    break;
+                case "creates":
+                    transaction.creates = readBytes(parser);
+                    break;
+                case "publicKey":
+                    transaction.publicKey = readBytes(parser);
+                    break;
+                case "raw":
+                    transaction.raw = readBytes(parser);
+                    break;
+                case "r":
+                    transaction.r = readBytes(parser);
+                    break;
+                case "s":
+                    transaction.s = readBytes(parser);
+                    break;
+                case "v":
+                    transaction.v =
+                            parser.getCurrentToken() == JsonToken.VALUE_STRING
+                                    ? readLong(parser)
+                                    : parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return transaction;
+    }
+
+    public static class Deserializer extends JsonDeserializer<CompactTransaction> {
+        @Override
+        public CompactTransaction deserialize(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            return read(parser);
+        }
+    }
+}
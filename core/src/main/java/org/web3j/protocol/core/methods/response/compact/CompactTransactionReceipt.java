@@ -0,0 +1,226 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.NONE;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readBytes;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readInterned;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.readLong;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.toHex;
+import static org.web3j.protocol.core.methods.response.compact.CompactValues.toHexQuantity;
+
+/**
+ * Compact alternative to {@link TransactionReceipt}, decoded once when the JSON-RPC response is
+ * read. See {@link CompactLog} for how values are held.
+ */
+@JsonDeserialize(using = CompactTransactionReceipt.Deserializer.class)
+public class CompactTransactionReceipt {
+
+    private byte[] transactionHash;
+    private long transactionIndex = NONE;
+    private byte[] blockHash;
+    private long blockNumber = NONE;
+    private long cumulativeGasUsed = NONE;
+    private long gasUsed = NONE;
+    private byte[] contractAddress;
+    private byte[] root;
+    // status is only present on Byzantium transactions onwards
+    private long status = NONE;
+    private byte[] from;
+    private byte[] to;
+    private List<CompactLog> logs = Collections.emptyList();
+    private byte[] logsBloom;
+
+    public byte[] getTransactionHashBytes() {
+        return transactionHash;
+    }
+
+    public String getTransactionHash() {
+        return toHex(transactionHash);
+    }
+
+    public long getTransactionIndex() {
+        return transactionIndex;
+    }
+
+    public byte[] getBlockHashBytes() {
+        return blockHash;
+    }
+
+    public String getBlockHash() {
+        return toHex(blockHash);
+    }
+
+    public long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public long getCumulativeGasUsed() {
+        return cumulativeGasUsed;
+    }
+
+    public long getGasUsed() {
+        return gasUsed;
+    }
+
+    public String getContractAddress() {
+        return toHex(contractAddress);
+    }
+
+    public String getRoot() {
+        return toHex(root);
+    }
+
+    /**
+     * Returns the status of the transaction.
+     *
+     * @return 1 for success, 0 for failure, -1 for receipts from before Byzantium
+     */
+    public long getStatus() {
+        return status;
+    }
+
+    public boolean isStatusOK() {
+        return status == NONE || status == 1;
+    }
+
+    public byte[] getFromBytes() {
+        return from;
+    }
+
+    public String getFrom() {
+        return toHex(from);
+    }
+
+    public byte[] getToBytes() {
+        return to;
+    }
+
+    public String getTo() {
+        return toHex(to);
+    }
+
+    public List<CompactLog> getLogs() {
+        return logs;
+    }
+
+    public byte[] getLogsBloomBytes() {
+        return logsBloom;
+    }
+
+    public String getLogsBloom() {
+        return toHex(logsBloom);
+    }
+
+    /**
+     * Converts this receipt to the regular representation.
+     *
+     * @return equivalent receipt
+     */
+    public TransactionReceipt toTransactionReceipt() {
+        List<Log> regularLogs = new ArrayList<>(logs.size());
+        for (CompactLog log : logs) {
+            regularLogs.add(log.toLog());
+        }
+        return new TransactionReceipt(
+                getTransactionHash(),
+                toHexQuantity(transactionIndex),
+                getBlockHash(),
+                toHexQuantity(blockNumber),
+                toHexQuantity(cumulativeGasUsed),
+                toHexQuantity(gasUsed),
+                getContractAddress(),
+                getRoot(),
+                toHexQuantity(status),
+                getFrom(),
+                getTo(),
+                regularLogs,
+                getLogsBloom());
+    }
+
+    static CompactTransactionReceipt read(JsonParser parser) throws IOException {
+        CompactTransactionReceipt receipt = new CompactTransactionReceipt();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "transactionHash":
+                    receipt.transactionHash = readBytes(parser);
+                    break;
+                case "transactionIndex":
+                    receipt.transactionIndex = readLong(parser);
+                    break;
+                case "blockHash":
+                    receipt.blockHash = readBytes(parser);
+                    break;
+                case "blockNumber":
+                    receipt.blockNumber = readLong(parser);
+                    break;
+                case "cumulativeGasUsed":
+                    receipt.cumulativeGasUsed = readLong(parser);
+                    break;
+                case "gasUsed":
+                    receipt.gasUsed = readLong(parser);
+                    break;
+                case "contractAddress":
+                    receipt.contractAddress = readBytes(parser);
+                    break;
+                case "root":
+                    receipt.root = readBytes(parser);
+                    break;
+                case "status":
+                    receipt.status = readLong(parser);
+                    break;
+                case "from":
+                    receipt.from = readInterned(parser);
+                    break;
+                case "to":
+                    receipt.to = readInterned(parser);
+                    break;
+                case "logs":
+                    List<CompactLog> logs = CompactLog.readList(parser);
+                    receipt.logs = logs == null ? Collections.emptyList() : logs;
+                    break;
+                case "logsBloom":
+                    receipt.logsBloom = readBytes(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return receipt;
+    }
+
+    public static class Deserializer extends JsonDeserializer<CompactTransactionReceipt> {
+        @Override
+        public CompactTransactionReceipt deserialize(
+                JsonParser parser, DeserializationContext context) throws IOException {
+            return read(parser);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.web3j.utils.Numeric;
+
+/** Decoding of JSON-RPC values into their compact form. */
+final class CompactValues {
+
+    // Quantity stored in a long field which is absent
+    static final long NONE = -1;
+
+    // Addresses and topics repeat across logs, so equal values share one array. The least recently
+    // used values are evicted, so frequent ones stay shared.
+    private static final int MAX_INTERNED = 8192;
+    private static final Map<ByteBuffer, byte[]> interned =
+            new LinkedHashMap<ByteBuffer, byte[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ByteBuffer, byte[]> eldest) {
+                    return size() > MAX_INTERNED;
+                }
+            };
+
+    private CompactValues() {}
+
+    /** Reads a quantity which fits in a long, or {@link #NONE} if null. */
+    static long readLong(JsonParser parser) throws IOException {
+        String hex = readString(parser);
+        return hex == null ? NONE : Long.parseLong(Numeric.cleanHexPrefix(hex), 16);
+    }
+
+    /**
+     * Decodes a quantity of up to 60 bits, larger quantities are decoded by {@link
+     * #bigQuantity(String)}.
+     */
+    static long smallQuantity(String hex) {
+        if (hex == null) {
+            return NONE;
+        }
+        String digits = Numeric.cleanHexPrefix(hex);
+        return digits.length() <= 15 ? Long.parseLong(digits, 16) : NONE;
+    }
+
+    static BigInteger bigQuantity(String hex) {
+        if (hex == null) {
+            return null;
+        }
+        String digits = Numeric.cleanHexPrefix(hex);
+        return digits.length() <= 15 ? null : new BigInteger(digits, 16);
+    }
+
+    static BigInteger toBigInteger(long value, BigInteger bigValue) {
+        if (bigValue != null) {
+            return bigValue;
+        }
+        return value == NONE ? null : BigInteger.valueOf(value);
+    }
+
+    static byte[] readBytes(JsonParser parser) throws IOException {
+        String hex = readString(parser);
+        return hex == null ? null : Numeric.hexStringToByteArray(hex);
+    }
+
+    static byte[] readInterned(JsonParser parser) throws IOException {
+        byte[] value = readBytes(parser);
+        if (value == null) {
+            return null;
+        }
+        ByteBuffer key = ByteBuffer.wrap(value);
+        synchronized (interned) {
+            byte[] existing = interned.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            interned.put(key, value);
+        }
+        return value;
+    }
+
+    static String readString(JsonParser parser) throws IOException {
+        return parser.getCurrentToken() == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    static String toHex(byte[] value) {
+        return value == null ? null : Numeric.toHexString(value);
+    }
+
+    static String toHexQuantity(long value) {
+        return value == NONE ? null : Numeric.encodeQuantity(BigInteger.valueOf(value));
+    }
+
+    static String toHexQuantity(BigInteger value) {
+        return value == null ? null : Numeric.encodeQuantity(value);
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.deserializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+/**
+ * Registers hand-written deserializers for the largest and most frequently read response objects:
+ * blocks, transactions, receipts and logs.
+ *
+ * <p>These read each field straight from the token stream into the object's setters, avoiding the
+ * reflective property lookups of the default bean deserializer. Unknown fields are skipped.
+ */
+public class FastResponseModule extends SimpleModule {
+
+    public FastResponseModule() {
+        super("FastResponseModule");
+        addDeserializer(Log.class, new LogDeserializer<>(Log::new));
+        addDeserializer(EthLog.LogObject.class, new LogDeserializer<>(EthLog.LogObject::new));
+        addDeserializer(Transaction.class, new TransactionDeserializer<>(Transaction::new));
+        addDeserializer(
+                EthBlock.TransactionObject.class,
+                new TransactionDeserializer<>(EthBlock.TransactionObject::new));
+        addDeserializer(TransactionReceipt.class, new TransactionReceiptDeserializer());
+        addDeserializer(EthBlock.Block.class, new BlockDeserializer());
+    }
+
+    private abstract static class FieldDeserializer<T> extends JsonDeserializer<T> {
+
+        @Override
+        public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            T value = create();
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            }
+            while (token == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.VALUE_NULL) {
+                    if (!readField(value, field, parser, context)) {
+                        parser.skipChildren();
+                    }
+                }
+                token = parser.nextToken();
+            }
+            return value;
+        }
+
+        abstract T create();
+
+        /** Reads the current value into the given field, returning false if it is unknown. */
+        abstract boolean readField(
+                T value, String field, JsonParser parser, DeserializationContext context)
+                throws IOException;
+    }
+
+    static class LogDeserializer<T extends Log> extends FieldDeserializer<T> {
+
+        private final Supplier<T> factory;
+
+        LogDeserializer(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        T create() {
+            return factory.get();
+        }
+
+        @Override
+        boolean readField(T log, String field, JsonParser parser, DeserializationContext context)
+                throws IOException {
+            switch (field) {
+                case "removed":
+                    log.setRemoved(parser.getValueAsBoolean());
+                    return true;
+                case "logIndex":
+                    log.setLogIndex(parser.getValueAsString());
+                    return true;
+                case "transactionIndex":
+                    log.setTransactionIndex(parser.getValueAsString());
+                    return true;
+                case "transactionHash":
+                    log.setTransactionHash(parser.getValueAsString());
+                    return true;
+                case "blockHash":
+                    log.setBlockHash(parser.getValueAsString());
+                    return true;
+                case "blockNumber":
+                    log.setBlockNumber(parser.getValueAsString());
+                    return true;
+                case "address":
+                    log.setAddress(parser.getValueAsString());
+                    return true;
+                case "data":
+                    log.setData(parser.getValueAsString());
+                    return true;
+                case "type":
+                    log.setType(parser.getValueAsString());
+                    return true;
+                case "topics":
+                    log.setTopics(readStrings(parser));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static class TransactionDeserializer<T extends Transaction> extends FieldDeserializer<T> {
+
+        private final Supplier<T> factory;
+
+        TransactionDeserializer(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        T create() {
+            return factory.get();
+        }
+
+        @Override
+        boolean readField(
+                T transaction, String field, JsonParser parser, DeserializationContext context)
+                throws IOException {
+            switch (field) {
+                case "hash":
+                    transaction.setHash(parser.getValueAsString());
+                    return true;
+                case "nonce":
+                    transaction.setNonce(parser.getValueAsString());
+                    return true;
+                case "blockHash":
+                    transaction.setBlockHash(parser.getValueAsString());
+                    return true;
+                case "blockNumber":
+                    transaction.setBlockNumber(parser.getValueAsString());
+                    return true;
+                case "transactionIndex":
+                    transaction.setTransactionIndex(parser.getValueAsString());
+                    return true;
+                case "from":
+                    transaction.setFrom(parser.getValueAsString());
+                    return true;
+                case "to":
+                    transaction.setTo(parser.getValueAsString());
+                    return true;
+                case "value":
+                    transaction.setValue(parser.getValueAsString());
+                    return true;
+                case "gasPrice":
+                    transaction.setGasPrice(parser.getValueAsString());
+                    return true;
+                case "gas":
+                    transaction.setGas(parser.getValueAsString());
+                    return true;
+                case "input":
+                    transaction.setInput(parser.getValueAsString());
+                    return true;
+                case "creates":
+                    transaction.setCreates(parser.getValueAsString());
+                    return true;
+                case "publicKey":
+                    transaction.setPublicKey(parser.getValueAsString());
+                    return true;
+                case "raw":
+                    transaction.setRaw(parser.getValueAsString());
+                    return true;
+                case "r":
+                    transaction.setR(parser.getValueAsString());
+                    return true;
+                case "s":
+                    transaction.setS(parser.getValueAsString());
+                    return true;
+                case "v":
+                    // Geth returns a hex-encoded string, Parity a number
+                    if (parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                        transaction.setV(parser.getText());
+                    } else {
+                        transaction.setV(parser.getLongValue());
+                    }
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static class TransactionReceiptDeserializer extends FieldDeserializer<TransactionReceipt> {
+
+        private final LogDeserializer<Log> logDeserializer = new LogDeserializer<>(Log::new);
+
+        @Override
+        TransactionReceipt create() {
+            return new TransactionReceipt();
+        }
+
+        @Override
+        boolean readField(
+                TransactionReceipt receipt,
+                String field,
+                JsonParser parser,
+                DeserializationContext context)
+                throws IOException {
+            switch (field) {
+                case "transactionHash":
+                    receipt.setTransactionHash(parser.getValueAsString());
+                    return true;
+                case "transactionIndex":
+                    receipt.setTransactionIndex(parser.getValueAsString());
+                    return true;
+                case "blockHash":
+                    receipt.setBlockHash(parser.getValueAsString());
+                    return true;
+                case "blockNumber":
+                    receipt.setBlockNumber(parser.getValueAsString());
+                    return true;
+                case "cumulativeGasUsed":
+                    receipt.setCumulativeGasUsed(parser.getValueAsString());
+                    return true;
+                case "gasUsed":
+                    receipt.setGasUsed(parser.getValueAsString());
+                    return true;
+                case "contractAddress":
+                    receipt.setContractAddress(parser.getValueAsString());
+                    return true;
+                case "root":
+                    receipt.setRoot(parser.getValueAsString());
+                    return true;
+                case "status":
+                    receipt.setStatus(parser.getValueAsString());
+                    return true;
+                case "from":
+                    receipt.setFrom(parser.getValueAsString());
+                    return true;
+                case "to":
+                    receipt.setTo(parser.getValueAsString());
+                    return true;
+                case "logs":
+                    List<Log> logs = new ArrayList<>();
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        logs.add(logDeserializer.deserialize(parser, context));
+                    }
+                    receipt.setLogs(logs);
+                    return true;
+                case "logsBloom":
+                    receipt.setLogsBloom(parser.getValueAsString());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    static class BlockDeserializer extends FieldDeserializer<EthBlock.Block> {
+
+        private final TransactionDeserializer<EthBlock.TransactionObject> transactionDeserializer =
+                new TransactionDeserializer<>(EthBlock.TransactionObject::new);
+
+        @Override
+        EthBlock.Block create() {
+            return new EthBlock.Block();
+        }
+
+        @Override
+        boolean readField(
+                EthBlock.Block block,
+                String field,
+                JsonParser parser,
+                DeserializationContext context)
+                throws IOException {
+            switch (field) {
+                case "number":
+                    block.setNumber(parser.getValueAsString());
+                    return true;
+                case "hash":
+                    block.setHash(parser.getValueAsString());
+                    return true;
+                case "parentHash":
+                    block.setParentHash(parser.getValueAsString());
+                    return true;
+                case "nonce":
+                    block.setNonce(parser.getValueAsString());
+                    return true;
+                case "sha3Uncles":
+                    block.setSha3Uncles(parser.getValueAsString());
+                    return true;
+                case "logsBloom":
+                    block.setLogsBloom(parser.getValueAsString());
+                    return true;
+                case "transactionsRoot":
+                    block.setTransactionsRoot(parser.getValueAsString());
+                    return true;
+                case "stateRoot":
+                    block.setStateRoot(parser.getValueAsString());
+                    return true;
+                case "receiptsRoot":
+                    block.setReceiptsRoot(parser.getValueAsString());
+                    return true;
+                case "author":
+                    block.setAuthor(parser.getValueAsString());
+                    return true;
+                case "miner":
+                    block.setMiner(parser.getValueAsString());
+                    return true;
+                case "mixHash":
+                    block.setMixHash(parser.getValueAsString());
+                    return true;
+                case "difficulty":
+                    block.setDifficulty(parser.getValueAsString());
+                    return true;
+                case "totalDifficulty":
+                    block.setTotalDifficulty(parser.getValueAsString());
+                    return true;
+                case "extraData":
+                    block.setExtraData(parser.getValueAsString());
+                    return true;
+                case "size":
+                    block.setSize(parser.getValueAsString());
+                    return true;
+                case "gasLimit":
+                    block.setGasLimit(parser.getValueAsString());
+                    return true;
+                case "gasUsed":
+                    block.setGasUsed(parser.getValueAsString());
+                    return true;
+                case "timestamp":
+                    block.setTimestamp(parser.getValueAsString());
+                    return true;
+                case "transactions":
+                    block.setTransactions(readTransactions(parser, context));
+                    return true;
+                case "uncles":
+                    block.setUncles(readStrings(parser));
+                    return true;
+                case "sealFields":
+                    block.setSealFields(readStrings(parser));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private List<EthBlock.TransactionResult> readTransactions(
+                JsonParser parser, DeserializationContext context) throws IOException {
+            List<EthBlock.TransactionResult> transactions = new ArrayList<>();
+            JsonToken token = parser.nextToken();
+            while (token != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    transactions.add(transactionDeserializer.deserialize(parser, context));
+                } else {
+                    transactions.add(new EthBlock.TransactionHash(parser.getValueAsString()));
+                }
+                token = parser.nextToken();
+            }
+            return transactions;
+        }
+    }
+
+    private static List<String> readStrings(JsonParser parser) throws IOException {
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(parser.getValueAsString());
+        }
+        return values;
+    }
+}
@@ -20,6 +20,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import okhttp3.CipherSuite;
 import okhttp3.ConnectionSpec;
 import okhttp3.Headers;
@@ -33,6 +35,7 @@ import okio.BufferedSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.Service;
 import org.web3j.protocol.exceptions.ClientConnectionException;
 
@@ -105,6 +108,21 @@ public class HttpService extends Service {
         this.includeRawResponse = includeRawResponses;
     }
 
+    /**
+     * Creates a service reading responses with the given mapper, for instance {@link
+     * ObjectMapperFactory#getStrictObjectMapper()} for high request volumes.
+     *
+     * @param url node url
+     * @param httpClient client used to send requests
+     * @param objectMapper mapper used to write requests and read responses
+     */
+    public HttpService(String url, OkHttpClient httpClient, ObjectMapper objectMapper) {
+        super(objectMapper, false);
+        this.url = url;
+        this.httpClient = httpClient;
+        this.includeRawResponse = false;
+    }
+
     public HttpService(OkHttpClient httpClient, boolean includeRawResponses) {
         this(DEFAULT_URL, httpClient, includeRawResponses);
     }
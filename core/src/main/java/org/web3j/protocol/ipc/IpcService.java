@@ -16,10 +16,15 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import com.fasterxml.jackson.core.JsonParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.web3j.protocol.Service;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.ResponseStreams;
+import org.web3j.protocol.core.ResultParser;
 
 /** Ipc service implementation. */
 public class IpcService extends Service {
@@ -40,13 +45,8 @@ public class IpcService extends Service {
 
     @Override
     protected InputStream performIO(String payload) throws IOException {
-        IOFacade io = getIO();
-        io.write(payload);
-        log.debug(">> " + payload);
-
-        String result = io.read();
+        String result = exchange(payload);
         log.debug("<< " + result);
-        io.close();
 
         // It's not ideal converting back into an inputStream, but we want
         // to be consistent with the HTTPService API.
@@ -54,6 +54,33 @@ public class IpcService extends Service {
         return new ByteArrayInputStream(result.getBytes("UTF-8"));
     }
 
+    /**
+     * Sends the request, handing the result to a parser. IPC responses are read as a whole before
+     * being parsed, so unlike {@link org.web3j.protocol.http.HttpService} the whole response is
+     * held in memory, although only once, and it isn't logged.
+     */
+    @Override
+    public <T> Response<T> sendStreaming(Request request, ResultParser<T> resultParser)
+            throws IOException {
+        String payload = objectMapper.writeValueAsString(request);
+        String result = exchange(payload);
+        log.debug("<< {} characters", result.length());
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(result)) {
+            return ResponseStreams.read(parser, resultParser);
+        }
+    }
+
+    private String exchange(String payload) throws IOException {
+        IOFacade io = getIO();
+        io.write(payload);
+        log.debug(">> " + payload);
+
+        String result = io.read();
+        io.close();
+        return result;
+    }
+
     @Override
     public void close() throws IOException {}
 }
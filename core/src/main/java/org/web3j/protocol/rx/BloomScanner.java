@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.utils.Bloom;
+
+/**
+ * Finds the transaction receipts with logs matching an address and topic filter, using the {@code
+ * logsBloom} of blocks to only fetch the receipts of blocks which may contain such logs.
+ *
+ * <p>The filter follows {@code eth_getLogs}: a log matches if it was emitted by one of the
+ * addresses, and each of its topics is one of the topics given for that position. An empty list of
+ * addresses or topics for a position matches anything. Receipts are checked against their own bloom
+ * and then log by log, so only receipts with a matching log are emitted.
+ *
+ * <p>The receipts of a matching block are fetched in a single asynchronous batch request, with the
+ * receipts of several blocks fetched at once.
+ */
+public class BloomScanner {
+
+    // Number of matching blocks whose receipts are fetched at once
+    private static final int MAX_CONCURRENT_BLOCKS = 8;
+
+    private final Web3j web3j;
+
+    private final Bloom.Key[] addressKeys;
+    private final List<Bloom.Key[]> topicKeys = new ArrayList<>();
+    private final Set<String> addresses = new HashSet<>();
+    private final List<Set<String>> topics = new ArrayList<>();
+
+    private final AtomicLong scannedBlocks = new AtomicLong();
+    private final AtomicLong matchedBlocks = new AtomicLong();
+
+    /**
+     * Creates a scanner.
+     *
+     * @param web3j web3j instance used to fetch blocks and receipts
+     * @param addresses addresses emitting the logs, or empty for any address
+     * @param topics topics of the logs by position, where an empty list matches any topic
+     */
+    public BloomScanner(Web3j web3j, List<String> addresses, List<List<String>> topics) {
+        this.web3j = web3j;
+        this.addressKeys = keys(addresses, this.addresses);
+        for (List<String> position : topics) {
+            Set<String> values = new HashSet<>();
+            topicKeys.add(keys(position, values));
+            this.topics.add(values);
+        }
+    }
+
+    public BloomScanner(Web3j web3j, List<String> addresses) {
+        this(web3j, addresses, Collections.emptyList());
+    }
+
+    private static Bloom.Key[] keys(List<String> values, Set<String> normalized) {
+        Bloom.Key[] keys = new Bloom.Key[values.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Bloom.Key.of(values.get(i));
+            normalized.add(values.get(i).toLowerCase());
+        }
+        return keys;
+    }
+
+    /**
+     * Returns whether a block or receipt with the given bloom may contain a matching log.
+     *
+     * @param logsBloom hex encoded bloom, or null if not known
+     * @return false if no log can match
+     */
+    public boolean mightMatch(String logsBloom) {
+        if (logsBloom == null) {
+            return true;
+        }
+        Bloom bloom = Bloom.fromHex(logsBloom);
+        if (addressKeys.length > 0 && !bloom.mightContainAny(addressKeys)) {
+            return false;
+        }
+        for (Bloom.Key[] keys : topicKeys) {
+            if (keys.length > 0 && !bloom.mightContainAny(keys)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a log matches the filter.
+     *
+     * @param log log to check
+     * @return true if the log matches
+     */
+    public boolean matches(Log log) {
+        if (!addresses.isEmpty()
+                && (log.getAddress() == null
+                        || !addresses.contains(log.getAddress().toLowerCase()))) {
+            return false;
+        }
+        List<String> logTopics =
+                log.getTopics() == null ? Collections.emptyList() : log.getTopics();
+        for (int i = 0; i < topics.size(); i++) {
+            Set<String> values = topics.get(i);
+            if (values.isEmpty()) {
+                continue;
+            }
+            if (i >= logTopics.size() || !values.contains(logTopics.get(i).toLowerCase())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits the receipts with matching logs of the blocks
+     * in the requested range.
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock block number to finish with
+     * @return a {@link Flowable} instance to emit receipts in the order of the blocks
+     */
+    public Flowable<TransactionReceipt> scan(
+            DefaultBlockParameter startBlock, DefaultBlockParameter endBlock) {
+        return scan(web3j.replayPastBlocksFlowable(startBlock, endBlock, false));
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits the receipts with matching logs of the given
+     * blocks.
+     *
+     * @param blocks blocks to scan
+     * @return a {@link Flowable} instance to emit receipts in the order of the blocks
+     */
+    public Flowable<TransactionReceipt> scan(Flowable<EthBlock> blocks) {
+        return blocks.map(EthBlock::getBlock)
+                .filter(
+                        block -> {
+                            scannedBlocks.incrementAndGet();
+                            boolean match = mightMatch(block.getLogsBloom());
+                            if (match) {
+                                matchedBlocks.incrementAndGet();
+                            }
+                            return match;
+                        })
+                .concatMapEager(this::receipts, MAX_CONCURRENT_BLOCKS, 1)
+                .filter(
+                        receipt ->
+                                mightMatch(receipt.getLogsBloom())
+                                        && receipt.getLogs().stream().anyMatch(this::matches));
+    }
+
+    private Flowable<TransactionReceipt> receipts(EthBlock.Block block) {
+        List<EthBlock.TransactionResult> transactions = block.getTransactions();
+        if (transactions.isEmpty()) {
+            return Flowable.empty();
+        }
+        BatchRequest batch = web3j.newBatch();
+        for (EthBlock.TransactionResult<?> transaction : transactions) {
+            batch.add(web3j.ethGetTransactionReceipt(transactionHash(transaction)));
+        }
+        return sendAsync(batch).flatMapIterable(BloomScanner::toReceipts);
+    }
+
+    /** Fails if a receipt could not be fetched, as its logs might match. */
+    private static List<TransactionReceipt> toReceipts(BatchResponse batchResponse)
+            throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchResponse.getRequests();
+        List<? extends Response<?>> responses = batchResponse.getResponses();
+        List<TransactionReceipt> receipts = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Object transactionHash = requests.get(i).getParams().get(0);
+            EthGetTransactionReceipt response =
+                    i < responses.size() ? (EthGetTransactionReceipt) responses.get(i) : null;
+            if (response != null && response.hasError()) {
+                throw new IOException(
+                        "Error fetching receipt of transaction "
+                                + transactionHash
+                                + ": "
+                                + response.getError().getMessage());
+            }
+            Optional<TransactionReceipt> receipt =
+                    response == null ? Optional.empty() : response.getTransactionReceipt();
+            if (!receipt.isPresent()) {
+                throw new IOException("Missing receipt of transaction " + transactionHash);
+            }
+            receipts.add(receipt.get());
+        }
+        return receipts;
+    }
+
+    private static Flowable<BatchResponse> sendAsync(BatchRequest batch) {
+        return Flowable.create(
+                emitter ->
+                        batch.sendAsync()
+                                .whenComplete(
+                                        (response, throwable) -> {
+                                            if (throwable instanceof CompletionException) {
+                                                emitter.onError(throwable.getCause());
+                                            } else if (throwable != null) {
+                                                emitter.onError(throwable);
+                                            } else if (response == null) {
+                                                emitter.onError(
+                                                        new IOException("Empty batch response"));
+                                            } else {
+                                                emitter.onNext(response);
+                                                emitter.onComplete();
+                                            }
+                                        }),
+                BackpressureStrategy.BUFFER);
+    }
+
+    private static String transactionHash(EthBlock.TransactionResult<?> transaction) {
+        Object value = transaction.get();
+        if (value instanceof EthBlock.TransactionObject) {
+            return ((EthBlock.TransactionObject) value).getHash();
+        }
+        return (String) value;
+    }
+
+    /**
+     * Returns the number of blocks checked against the filter.
+     *
+     * @return number of scanned blocks
+     */
+    public long getScannedBlockCount() {
+        return scannedBlocks.get();
+    }
+
+    /**
+     * Returns the number of blocks whose bloom matched, and whose receipts were fetched.
+     *
+     * @return number of matched blocks
+     */
+    public long getMatchedBlockCount() {
+        return matchedBlocks.get();
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * Follows the canonical chain of a node, detecting chain reorganisations.
+ *
+ * <p>The number, hash and parent hash of the most recent blocks are kept in a bounded buffer. A new
+ * block whose parent is not the current head means the chain was reorganised: its ancestors are
+ * fetched until a block in the buffer is reached, the blocks of the abandoned branch are reported
+ * as removed, most recent first, and the blocks of the new branch are reported as added, oldest
+ * first. Blocks skipped by the source are fetched the same way. If no block in the buffer is
+ * reached within the capacity of the buffer, the chain is reset to the new branch.
+ *
+ * <pre>
+ *     CanonicalChainFlowable chain = CanonicalChainFlowable.create(web3j, false);
+ *     chain.events().subscribe(event -&gt; ...);
+ *     chain.confirmed(12).subscribe(block -&gt; ...);
+ * </pre>
+ *
+ * <p>All subscriptions share a single subscription to the stream of blocks and a single buffer, so
+ * ancestors are only fetched once and every subscription sees the same reorgs. The chain is
+ * followed from the first block seen while there is at least one subscription.
+ */
+public class CanonicalChainFlowable {
+
+    public static final int DEFAULT_CAPACITY = 128;
+
+    private final Web3j web3j;
+    private final boolean fullTransactionObjects;
+    private final int capacity;
+
+    private final Chain chain = new Chain();
+    private final Flowable<BlockEvent> events;
+
+    /**
+     * Creates a canonical chain over a stream of blocks.
+     *
+     * @param web3j web3j instance used to fetch the ancestors of blocks
+     * @param blocks stream of new blocks, such as {@link Web3jRx#blockFlowable(boolean)}
+     * @param fullTransactionObjects whether fetched blocks should contain full transactions
+     * @param capacity number of recent blocks kept, bounding the depth of followed reorgs
+     */
+    public CanonicalChainFlowable(
+            Web3j web3j, Flowable<EthBlock> blocks, boolean fullTransactionObjects, int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        this.web3j = web3j;
+        this.fullTransactionObjects = fullTransactionObjects;
+        this.capacity = capacity;
+        this.events =
+                Flowable.defer(
+                                () -> {
+                                    chain.clear();
+                                    return blocks.concatMapIterable(
+                                            block -> chain.onBlock(block.getBlock()));
+                                })
+                        .publish()
+                        .refCount();
+    }
+
+    public static CanonicalChainFlowable create(Web3j web3j, boolean fullTransactionObjects) {
+        return new CanonicalChainFlowable(
+                web3j,
+                web3j.blockFlowable(fullTransactionObjects),
+                fullTransactionObjects,
+                DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits blocks added to and removed from the canonical
+     * chain, and resets of the chain after reorgs deeper than the buffer capacity.
+     *
+     * @return a {@link Flowable} instance to emit chain events
+     */
+    public Flowable<BlockEvent> events() {
+        return events;
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits each block of the canonical chain once it is
+     * buried under the given number of blocks. Confirmed blocks are fetched by hash, as only their
+     * headers are kept. A block is emitted once, so reorgs deeper than the confirmation depth are
+     * not reflected.
+     *
+     * @param confirmations number of blocks built on top of an emitted block
+     * @return a {@link Flowable} instance to emit confirmed blocks in ascending order
+     */
+    public Flowable<EthBlock.Block> confirmed(int confirmations) {
+        if (confirmations < 0 || confirmations >= capacity) {
+            throw new IllegalArgumentException(
+                    "Confirmations must be between 0 and " + (capacity - 1));
+        }
+        return Flowable.defer(
+                () -> {
+                    Confirmations confirmed = new Confirmations(confirmations);
+                    return events.concatMapIterable(confirmed::onEvent)
+                            .map(header -> fetch(header.hash));
+                });
+    }
+
+    private EthBlock.Block fetch(String hash) throws IOException {
+        EthBlock ethBlock = web3j.ethGetBlockByHash(hash, fullTransactionObjects).send();
+        if (ethBlock.hasError() || ethBlock.getBlock() == null) {
+            throw new IOException("Unable to fetch block " + hash);
+        }
+        return ethBlock.getBlock();
+    }
+
+    /** A change to the canonical chain. */
+    public abstract static class BlockEvent {
+        private final BigInteger blockNumber;
+        private final String blockHash;
+
+        BlockEvent(BigInteger blockNumber, String blockHash) {
+            this.blockNumber = blockNumber;
+            this.blockHash = blockHash;
+        }
+
+        public BigInteger getBlockNumber() {
+            return blockNumber;
+        }
+
+        public String getBlockHash() {
+            return blockHash;
+        }
+    }
+
+    /** A block which became part of the canonical chain. */
+    public static class BlockAdded extends BlockEvent {
+        private final EthBlock.Block block;
+
+        BlockAdded(EthBlock.Block block) {
+            super(block.getNumber(), block.getHash());
+            this.block = block;
+        }
+
+        public EthBlock.Block getBlock() {
+            return block;
+        }
+    }
+
+    /** A block which is no longer part of the canonical chain. */
+    public static class BlockRemoved extends BlockEvent {
+        BlockRemoved(BigInteger blockNumber, String blockHash) {
+            super(blockNumber, blockHash);
+        }
+    }
+
+    /**
+     * The chain was reorganised deeper than the buffer capacity, or the source skipped more blocks
+     * than it holds. Blocks up to the former head given by this event may no longer be canonical,
+     * but are not reported as removed. The blocks of the new branch which were fetched follow as
+     * added blocks.
+     */
+    public static class ChainReset extends BlockEvent {
+        ChainReset(BigInteger blockNumber, String blockHash) {
+            super(blockNumber, blockHash);
+        }
+    }
+
+    /** Number, hash and parent hash of a block. */
+    private static class Header {
+        private final BigInteger number;
+        private final String hash;
+        private final String parentHash;
+
+        Header(EthBlock.Block block) {
+            this.number = block.getNumber();
+            this.hash = block.getHash();
+            this.parentHash = block.getParentHash();
+        }
+    }
+
+    /** Canonical chain shared by all subscriptions. */
+    private class Chain {
+        // Headers of the most recent blocks of the canonical chain, the head last
+        private final Deque<Header> recent = new ArrayDeque<>(capacity);
+
+        synchronized void clear() {
+            recent.clear();
+        }
+
+        synchronized List<BlockEvent> onBlock(EthBlock.Block block) throws IOException {
+            if (block == null) {
+                return Collections.emptyList();
+            }
+            if (recent.isEmpty()) {
+                return Collections.singletonList(add(block));
+            }
+            if (contains(block.getHash())) {
+                // already seen
+                return Collections.emptyList();
+            }
+
+            List<BlockEvent> events = new ArrayList<>();
+
+            // Fetch the new branch back to a block we know
+            Deque<EthBlock.Block> branch = new ArrayDeque<>();
+            branch.push(block);
+            EthBlock.Block oldest = block;
+            while (!contains(oldest.getParentHash())) {
+                if (branch.size() >= capacity
+                        || oldest.getNumber().compareTo(recent.peekFirst().number) <= 0) {
+                    Header head = recent.peekLast();
+                    events.add(new ChainReset(head.number, head.hash));
+                    recent.clear();
+                    break;
+                }
+                oldest = fetch(oldest.getParentHash());
+                branch.push(oldest);
+            }
+
+            if (!recent.isEmpty()) {
+                String ancestor = oldest.getParentHash();
+                while (!recent.peekLast().hash.equals(ancestor)) {
+                    Header removed = recent.removeLast();
+                    events.add(new BlockRemoved(removed.number, removed.hash));
+                }
+            }
+            for (EthBlock.Block added : branch) {
+                events.add(add(added));
+            }
+            return events;
+        }
+
+        /**
+         * Returns the headers of the canonical blocks with numbers in the given range.
+         *
+         * @param after number of the block before the range, exclusive
+         * @param upTo number of the last block of the range, inclusive
+         * @return headers in ascending order
+         */
+        synchronized List<Header> between(BigInteger after, BigInteger upTo) {
+            List<Header> headers = new ArrayList<>();
+            for (Header header : recent) {
+                if (header.number.compareTo(after) > 0 && header.number.compareTo(upTo) <= 0) {
+                    headers.add(header);
+                }
+            }
+            return headers;
+        }
+
+        private BlockAdded add(EthBlock.Block block) {
+            if (recent.size() == capacity) {
+                recent.removeFirst();
+            }
+            recent.addLast(new Header(block));
+            return new BlockAdded(block);
+        }
+
+        private boolean contains(String hash) {
+            Iterator<Header> iterator = recent.descendingIterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().hash.equals(hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** Progress of the confirmed blocks of a single subscription. */
+    private class Confirmations {
+        private final int confirmations;
+        private BigInteger lastConfirmed;
+
+        Confirmations(int confirmations) {
+            this.confirmations = confirmations;
+        }
+
+        List<Header> onEvent(BlockEvent event) {
+            if (!(event instanceof BlockAdded)) {
+                return Collections.emptyList();
+            }
+            if (lastConfirmed == null) {
+                // blocks added before this subscription started are not confirmed
+                lastConfirmed = event.getBlockNumber().subtract(BigInteger.ONE);
+            }
+            BigInteger confirmedNumber =
+                    event.getBlockNumber().subtract(BigInteger.valueOf(confirmations));
+            List<Header> confirmed = chain.between(lastConfirmed, confirmedNumber);
+            if (!confirmed.isEmpty()) {
+                lastConfirmed = confirmed.get(confirmed.size() - 1).number;
+            }
+            return confirmed;
+        }
+    }
+}
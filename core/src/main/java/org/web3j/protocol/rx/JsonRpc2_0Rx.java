@@ -29,6 +29,7 @@ import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
 import org.web3j.protocol.core.filters.BlockFilter;
+import org.web3j.protocol.core.filters.FilterPoller;
 import org.web3j.protocol.core.filters.LogFilter;
 import org.web3j.protocol.core.filters.PendingTransactionFilter;
 import org.web3j.protocol.core.methods.response.EthBlock;
@@ -42,11 +43,35 @@ public class JsonRpc2_0Rx {
     private final Web3j web3j;
     private final ScheduledExecutorService scheduledExecutorService;
     private final Scheduler scheduler;
-
+    private final FilterPoller filterPoller;
+
+    /**
+     * Creates a reactive API polling each filter on its own schedule, at the polling interval given
+     * when the filter is created.
+     *
+     * @param web3j web3j instance
+     * @param scheduledExecutorService executor polling filters
+     */
     public JsonRpc2_0Rx(Web3j web3j, ScheduledExecutorService scheduledExecutorService) {
+        this(web3j, scheduledExecutorService, null);
+    }
+
+    /**
+     * Creates a reactive API polling all filters with the given poller, whose polling interval
+     * replaces the one given when a filter is created.
+     *
+     * @param web3j web3j instance
+     * @param scheduledExecutorService executor running asynchronous tasks
+     * @param filterPoller poller polling all filters in a single batch
+     */
+    public JsonRpc2_0Rx(
+            Web3j web3j,
+            ScheduledExecutorService scheduledExecutorService,
+            FilterPoller filterPoller) {
         this.web3j = web3j;
         this.scheduledExecutorService = scheduledExecutorService;
         this.scheduler = Schedulers.from(scheduledExecutorService);
+        this.filterPoller = filterPoller;
     }
 
     public Flowable<String> ethBlockHashFlowable(long pollingInterval) {
@@ -85,8 +110,13 @@ public class JsonRpc2_0Rx {
             FlowableEmitter<? super T> emitter,
             long pollingInterval) {
 
-        filter.run(scheduledExecutorService, pollingInterval);
-        emitter.setCancellable(filter::cancel);
+        if (filterPoller != null) {
+            filterPoller.add(filter);
+            emitter.setCancellable(() -> filterPoller.remove(filter));
+        } else {
+            filter.run(scheduledExecutorService, pollingInterval);
+            emitter.setCancellable(filter::cancel);
+        }
     }
 
     public Flowable<Transaction> transactionFlowable(long pollingInterval) {
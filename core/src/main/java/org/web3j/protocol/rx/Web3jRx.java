@@ -21,6 +21,7 @@ import org.web3j.protocol.core.methods.request.EthFilter;
 import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.protocol.websocket.SubscriptionBuffer;
 import org.web3j.protocol.websocket.events.LogNotification;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
 
@@ -194,6 +195,15 @@ public interface Web3jRx {
      */
     Flowable<NewHeadsNotification> newHeadsNotifications();
 
+    /**
+     * Creates a {@link Flowable} instance that emits a notification when a new header is appended
+     * to a chain, buffering notifications for slow consumers according to the given policy.
+     *
+     * @param buffer buffering policy, {@link SubscriptionBuffer#latest()} is usually sufficient
+     * @return a {@link Flowable} instance that emits a notification for every new header
+     */
+    Flowable<NewHeadsNotification> newHeadsNotifications(SubscriptionBuffer buffer);
+
     /**
      * Creates aa {@link Flowable} instance that emits notifications for logs included in new
      * imported blocks.
@@ -205,4 +215,18 @@ public interface Web3jRx {
      * @return a {@link Flowable} instance that emits logs included in new blocks
      */
     Flowable<LogNotification> logsNotifications(List<String> addresses, List<String> topics);
+
+    /**
+     * Creates a {@link Flowable} instance that emits notifications for logs included in new
+     * imported blocks, buffering notifications for slow consumers according to the given policy.
+     *
+     * @param addresses only return logs from this list of address. Return logs from all addresses
+     *     if the list is empty
+     * @param topics only return logs that match specified topics. Returns logs for all topics if
+     *     the list is empty
+     * @param buffer buffering policy for logs not yet requested by a consumer
+     * @return a {@link Flowable} instance that emits logs included in new blocks
+     */
+    Flowable<LogNotification> logsNotifications(
+            List<String> addresses, List<String> topics, SubscriptionBuffer buffer);
 }
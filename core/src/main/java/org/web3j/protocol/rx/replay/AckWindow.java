@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx.replay;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * Tracks the blocks emitted by a replay in order, and commits the last block of the contiguous run
+ * of fully acknowledged blocks, so that an acknowledgement received out of order never commits past
+ * a block which is still being processed.
+ */
+class AckWindow {
+
+    private final ResumableReplay replay;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+
+    AckWindow(ResumableReplay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Starts tracking an emitted block.
+     *
+     * @param block emitted block
+     * @param acks number of acknowledgements completing the block
+     * @return the entry to acknowledge
+     * @throws IOException thrown if the block needs no acknowledgement and could not be committed
+     */
+    synchronized Entry track(EthBlock.Block block, int acks) throws IOException {
+        Entry entry = new Entry(block, acks);
+        entries.addLast(entry);
+        if (acks == 0) {
+            commitAcknowledged();
+        }
+        return entry;
+    }
+
+    synchronized void ack(Entry entry) throws IOException {
+        if (--entry.remaining == 0) {
+            commitAcknowledged();
+        }
+    }
+
+    private void commitAcknowledged() throws IOException {
+        EthBlock.Block watermark = null;
+        int acknowledged = 0;
+        for (Entry entry : entries) {
+            if (entry.remaining != 0) {
+                break;
+            }
+            watermark = entry.block;
+            acknowledged++;
+        }
+        if (watermark != null) {
+            // blocks are only dropped once committed, so a failed commit is retried on the next ack
+            replay.commit(watermark);
+            for (int i = 0; i < acknowledged; i++) {
+                entries.removeFirst();
+            }
+        }
+    }
+
+    static class Entry {
+        private final EthBlock.Block block;
+        private int remaining;
+
+        private Entry(EthBlock.Block block, int remaining) {
+            this.block = block;
+            this.remaining = remaining;
+        }
+    }
+}
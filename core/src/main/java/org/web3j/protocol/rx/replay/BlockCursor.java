@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx.replay;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+/** Position of a replay: the last block processed, identified by its number and hash. */
+public class BlockCursor {
+
+    private final BigInteger blockNumber;
+    private final String blockHash;
+
+    public BlockCursor(BigInteger blockNumber, String blockHash) {
+        this.blockNumber = blockNumber;
+        this.blockHash = blockHash;
+    }
+
+    public BigInteger getBlockNumber() {
+        return blockNumber;
+    }
+
+    public String getBlockHash() {
+        return blockHash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BlockCursor)) {
+            return false;
+        }
+        BlockCursor that = (BlockCursor) o;
+        return Objects.equals(blockNumber, that.blockNumber)
+                && Objects.equals(blockHash, that.blockHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(blockNumber, blockHash);
+    }
+
+    @Override
+    public String toString() {
+        return "BlockCursor{blockNumber=" + blockNumber + ", blockHash='" + blockHash + "'}";
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx.replay;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/** Durable storage for the position of a {@link ResumableReplay}. */
+public interface CursorStore {
+
+    /**
+     * Returns the last committed cursor.
+     *
+     * @return last committed cursor, or empty if none was committed yet
+     * @throws IOException thrown if the cursor could not be read
+     */
+    Optional<BlockCursor> load() throws IOException;
+
+    /**
+     * Durably stores a cursor. Once this method returns, the cursor must survive a restart.
+     *
+     * @param cursor cursor to store
+     * @throws IOException thrown if the cursor could not be stored
+     */
+    void commit(BlockCursor cursor) throws IOException;
+}
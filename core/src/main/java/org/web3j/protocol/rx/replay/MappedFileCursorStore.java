@@ -0,0 +1,215 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Cursor store keeping cursors in an append-only, memory-mapped file.
+ *
+ * <p>Each commit appends a fixed size record holding the block number, the block hash and a
+ * checksum, and forces it to disk. On open the file is scanned up to the first record with an
+ * invalid checksum, so a record torn by a crash is ignored and the previous one is used. Once the
+ * file is full, it is atomically replaced by a file holding only the latest record.
+ */
+public class MappedFileCursorStore implements CursorStore, Closeable {
+
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    // block number, block hash and checksum
+    static final int RECORD_SIZE = Long.BYTES + 32 + Integer.BYTES;
+
+    private final Path path;
+    private final int capacity;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int position;
+    private BlockCursor last;
+
+    public MappedFileCursorStore(Path path) throws IOException {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens a cursor store, creating its file if it doesn't exist.
+     *
+     * @param path file holding the cursors
+     * @param capacity number of records kept before the file is compacted
+     * @throws IOException thrown if the file could not be opened
+     */
+    public MappedFileCursorStore(Path path, int capacity) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.path = path;
+        this.capacity = capacity;
+        map();
+        scan();
+    }
+
+    @Override
+    public synchronized Optional<BlockCursor> load() {
+        return Optional.ofNullable(last);
+    }
+
+    @Override
+    public synchronized void commit(BlockCursor cursor) throws IOException {
+        if (channel == null) {
+            throw new IOException("Cursor store is closed");
+        }
+        if (position == capacity) {
+            compact(cursor);
+        } else {
+            buffer.position(position * RECORD_SIZE);
+            writeRecord(buffer, cursor);
+            buffer.force();
+            position++;
+        }
+        last = cursor;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            unmap(buffer);
+            buffer = null;
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void map() throws IOException {
+        channel =
+                FileChannel.open(
+                        path,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+    }
+
+    private void scan() {
+        position = 0;
+        last = null;
+        while (position < capacity) {
+            buffer.position(position * RECORD_SIZE);
+            BlockCursor cursor = readRecord(buffer);
+            if (cursor == null) {
+                break;
+            }
+            last = cursor;
+            position++;
+        }
+    }
+
+    private void compact(BlockCursor cursor) throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        writeRecord(record, cursor);
+        record.flip();
+        try (FileChannel out =
+                FileChannel.open(
+                        compacted,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.WRITE)) {
+            while (record.hasRemaining()) {
+                out.write(record);
+            }
+            out.force(true);
+        }
+
+        // the file can't be replaced while it's still mapped on some platforms
+        close();
+        Files.move(
+                compacted,
+                path,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        map();
+        position = 1;
+    }
+
+    /**
+     * Releases the mapping of a buffer, which is otherwise only released once the buffer is garbage
+     * collected. There is no public API for this, so if neither the Java 9+ nor the Java 8 internal
+     * API is accessible, the mapping is left to the garbage collector.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // left to the garbage collector
+        }
+    }
+
+    private static void writeRecord(ByteBuffer buffer, BlockCursor cursor) {
+        byte[] hash = Numeric.hexStringToByteArray(cursor.getBlockHash());
+        if (hash.length != 32) {
+            throw new IllegalArgumentException("Block hash must be 32 bytes long");
+        }
+        long blockNumber = cursor.getBlockNumber().longValueExact();
+        buffer.putLong(blockNumber);
+        buffer.put(hash);
+        buffer.putInt(checksum(blockNumber, hash));
+    }
+
+    private static BlockCursor readRecord(ByteBuffer buffer) {
+        long blockNumber = buffer.getLong();
+        byte[] hash = new byte[32];
+        buffer.get(hash);
+        int checksum = buffer.getInt();
+        if (checksum != checksum(blockNumber, hash)) {
+            return null;
+        }
+        return new BlockCursor(BigInteger.valueOf(blockNumber), Numeric.toHexString(hash));
+    }
+
+    private static int checksum(long blockNumber, byte[] hash) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(Long.BYTES).putLong(blockNumber).array());
+        crc.update(hash);
+        return (int) crc.getValue();
+    }
+}
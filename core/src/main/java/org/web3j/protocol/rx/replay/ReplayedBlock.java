@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx.replay;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.web3j.protocol.core.methods.response.EthBlock;
+
+/**
+ * A block emitted by a {@link ResumableReplay}. Once the block has been processed it should be
+ * acknowledged, so that a restarted replay continues after it.
+ */
+public class ReplayedBlock {
+
+    private final EthBlock.Block block;
+    private final AckWindow window;
+    private final AckWindow.Entry entry;
+
+    private final AtomicBoolean acked = new AtomicBoolean();
+
+    ReplayedBlock(EthBlock.Block block, AckWindow window, AckWindow.Entry entry) {
+        this.block = block;
+        this.window = window;
+        this.entry = entry;
+    }
+
+    public EthBlock.Block getBlock() {
+        return block;
+    }
+
+    /**
+     * Marks this block as processed. Once all blocks emitted before it were acknowledged too, the
+     * block is committed. Acknowledging a block again has no effect.
+     *
+     * @throws IOException thrown if the cursor could not be stored
+     */
+    public void ack() throws IOException {
+        if (acked.compareAndSet(false, true)) {
+            window.ack(entry);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx.replay;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.Transaction;
+
+/**
+ * Replays blocks, or their transactions, from where a previous run left off.
+ *
+ * <p>The position of the replay is kept in a {@link CursorStore}. Each emitted block must be {@link
+ * ReplayedBlock#ack() acknowledged} once processed. Blocks may be acknowledged in any order; the
+ * replay commits the number and hash of the last block for which it and all blocks emitted before
+ * it were acknowledged. When the replay is started again, it continues with the block after the
+ * committed one. Transaction replays treat a block as acknowledged once all of its transactions are
+ * {@link ReplayedTransaction#ack() acknowledged}.
+ *
+ * <p>Delivery is at-least-once: blocks or transactions processed after the committed block when the
+ * process stopped, including acknowledged ones emitted after a block still being processed, are
+ * emitted again, so processing should be idempotent.
+ *
+ * <pre>
+ *     ResumableReplay replay =
+ *             new ResumableReplay(web3j, new MappedFileCursorStore(Paths.get("indexer.cursor")));
+ *     replay.replayPastAndFutureBlocksFlowable(DefaultBlockParameterName.EARLIEST, false)
+ *             .subscribe(replayed -&gt; {
+ *                 index(replayed.getBlock());
+ *                 replayed.ack();
+ *             });
+ * </pre>
+ */
+public class ResumableReplay {
+
+    private final Web3j web3j;
+    private final CursorStore cursorStore;
+
+    private BigInteger committed;
+
+    public ResumableReplay(Web3j web3j, CursorStore cursorStore) {
+        this.web3j = web3j;
+        this.cursorStore = cursorStore;
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits blocks from the block after the last
+     * acknowledged one, or from the given start block if none was acknowledged yet, up to the given
+     * end block.
+     *
+     * @param startBlock block to start with if the replay has no cursor
+     * @param endBlock block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *     transaction hashes
+     * @return a {@link Flowable} instance to emit these blocks
+     */
+    public Flowable<ReplayedBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects) {
+        return Flowable.defer(
+                () ->
+                        wrap(
+                                web3j.replayPastBlocksFlowable(
+                                        resumeFrom(startBlock), endBlock, fullTransactionObjects)));
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits blocks from the block after the last
+     * acknowledged one, or from the given start block if none was acknowledged yet, and then new
+     * blocks as they are created.
+     *
+     * @param startBlock block to start with if the replay has no cursor
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *     transaction hashes
+     * @return a {@link Flowable} instance to emit all requested blocks and future
+     */
+    public Flowable<ReplayedBlock> replayPastAndFutureBlocksFlowable(
+            DefaultBlockParameter startBlock, boolean fullTransactionObjects) {
+        return Flowable.defer(
+                () ->
+                        wrap(
+                                web3j.replayPastAndFutureBlocksFlowable(
+                                        resumeFrom(startBlock), fullTransactionObjects)));
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits the transactions of blocks from the block
+     * after the last committed one, or from the given start block if none was committed yet, up to
+     * the given end block. A block is committed once all of its transactions are {@link
+     * ReplayedTransaction#ack() acknowledged}.
+     *
+     * @param startBlock block to start with if the replay has no cursor
+     * @param endBlock block number to finish with
+     * @return a {@link Flowable} instance to emit these transactions in the order they appear in
+     *     the blocks
+     */
+    public Flowable<ReplayedTransaction> replayPastTransactionsFlowable(
+            DefaultBlockParameter startBlock, DefaultBlockParameter endBlock) {
+        return Flowable.defer(
+                () ->
+                        wrapTransactions(
+                                web3j.replayPastBlocksFlowable(
+                                        resumeFrom(startBlock), endBlock, true)));
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits the transactions of blocks from the block
+     * after the last committed one, or from the given start block if none was committed yet, and
+     * then the transactions of new blocks as they are created. A block is committed once all of its
+     * transactions are {@link ReplayedTransaction#ack() acknowledged}.
+     *
+     * @param startBlock block to start with if the replay has no cursor
+     * @return a {@link Flowable} instance to emit all requested transactions and future
+     */
+    public Flowable<ReplayedTransaction> replayPastAndFutureTransactionsFlowable(
+            DefaultBlockParameter startBlock) {
+        return Flowable.defer(
+                () ->
+                        wrapTransactions(
+                                web3j.replayPastAndFutureBlocksFlowable(
+                                        resumeFrom(startBlock), true)));
+    }
+
+    private Flowable<ReplayedBlock> wrap(Flowable<EthBlock> blocks) {
+        AckWindow window = new AckWindow(this);
+        return blocks.map(
+                ethBlock -> {
+                    EthBlock.Block block = ethBlock.getBlock();
+                    return new ReplayedBlock(block, window, window.track(block, 1));
+                });
+    }
+
+    private Flowable<ReplayedTransaction> wrapTransactions(Flowable<EthBlock> blocks) {
+        AckWindow window = new AckWindow(this);
+        return blocks.flatMapIterable(
+                ethBlock -> {
+                    EthBlock.Block block = ethBlock.getBlock();
+                    List<EthBlock.TransactionResult> results = block.getTransactions();
+                    AckWindow.Entry entry = window.track(block, results.size());
+                    List<ReplayedTransaction> transactions = new ArrayList<>(results.size());
+                    for (EthBlock.TransactionResult result : results) {
+                        transactions.add(
+                                new ReplayedTransaction((Transaction) result.get(), window, entry));
+                    }
+                    return transactions;
+                });
+    }
+
+    private DefaultBlockParameter resumeFrom(DefaultBlockParameter startBlock) throws IOException {
+        Optional<BlockCursor> cursor = cursorStore.load();
+        if (!cursor.isPresent()) {
+            return startBlock;
+        }
+        verifyCanonical(cursor.get());
+        synchronized (this) {
+            committed = cursor.get().getBlockNumber();
+        }
+        return new DefaultBlockParameterNumber(committed.add(BigInteger.ONE));
+    }
+
+    /** Fails if the committed block is no longer part of the canonical chain. */
+    private void verifyCanonical(BlockCursor cursor) throws IOException {
+        EthBlock ethBlock =
+                web3j.ethGetBlockByNumber(
+                                new DefaultBlockParameterNumber(cursor.getBlockNumber()), false)
+                        .send();
+        EthBlock.Block block = ethBlock.getBlock();
+        if (block == null || !cursor.getBlockHash().equalsIgnoreCase(block.getHash())) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Committed block %s with hash %s is no longer canonical",
+                            cursor.getBlockNumber(), cursor.getBlockHash()));
+        }
+    }
+
+    synchronized void commit(EthBlock.Block block) throws IOException {
+        BigInteger number = block.getNumber();
+        if (committed == null || number.compareTo(committed) > 0) {
+            cursorStore.commit(new BlockCursor(number, block.getHash()));
+            committed = number;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Controls how a {@link WebSocketService} reconnects after its connection drops.
+ *
+ * <p>Reconnection attempts are delayed with exponential backoff and full jitter, that is the delay
+ * before attempt {@code n} is a random value between zero and {@code min(maxDelay, initialDelay *
+ * 2^(n - 1))}. Once reconnected, live subscriptions are re-established, and if backfill is enabled
+ * {@code newHeads} and {@code logs} subscriptions are sent the notifications missed while
+ * disconnected.
+ */
+public class ReconnectPolicy {
+
+    public static final long DEFAULT_INITIAL_DELAY_MILLIS = 500;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 30_000;
+    public static final int DEFAULT_MAX_ATTEMPTS = 20;
+    public static final int DEFAULT_BACKFILL_BATCH_SIZE = 100;
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final int maxAttempts;
+    private final boolean backfill;
+    private final int backfillBatchSize;
+
+    public ReconnectPolicy(
+            long initialDelayMillis,
+            long maxDelayMillis,
+            int maxAttempts,
+            boolean backfill,
+            int backfillBatchSize) {
+        if (initialDelayMillis <= 0 || maxDelayMillis < initialDelayMillis) {
+            throw new IllegalArgumentException("Invalid reconnect delays");
+        }
+        if (maxAttempts <= 0 || backfillBatchSize <= 0) {
+            throw new IllegalArgumentException("Attempts and backfill batch size must be positive");
+        }
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxAttempts = maxAttempts;
+        this.backfill = backfill;
+        this.backfillBatchSize = backfillBatchSize;
+    }
+
+    /**
+     * Reconnects with the default backoff and backfills missed notifications.
+     *
+     * @return reconnect policy
+     */
+    public static ReconnectPolicy withBackfill() {
+        return new ReconnectPolicy(
+                DEFAULT_INITIAL_DELAY_MILLIS,
+                DEFAULT_MAX_DELAY_MILLIS,
+                DEFAULT_MAX_ATTEMPTS,
+                true,
+                DEFAULT_BACKFILL_BATCH_SIZE);
+    }
+
+    /**
+     * Reconnects with the default backoff, without backfilling missed notifications.
+     *
+     * @return reconnect policy
+     */
+    public static ReconnectPolicy withoutBackfill() {
+        return new ReconnectPolicy(
+                DEFAULT_INITIAL_DELAY_MILLIS,
+                DEFAULT_MAX_DELAY_MILLIS,
+                DEFAULT_MAX_ATTEMPTS,
+                false,
+                DEFAULT_BACKFILL_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the delay before a reconnection attempt.
+     *
+     * @param attempt attempt number, starting from 1
+     * @return delay in milliseconds
+     */
+    public long getDelayMillis(int attempt) {
+        long ceiling = maxDelayMillis;
+        if (attempt - 1 < Long.numberOfLeadingZeros(initialDelayMillis) - 1) {
+            ceiling = Math.min(maxDelayMillis, initialDelayMillis << (attempt - 1));
+        }
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public boolean isBackfill() {
+        return backfill;
+    }
+
+    public int getBackfillBatchSize() {
+        return backfillBatchSize;
+    }
+}
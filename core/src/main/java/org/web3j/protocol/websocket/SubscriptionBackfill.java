@@ -0,0 +1,227 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.utils.Numeric;
+
+/**
+ * Fetches the {@code newHeads} and {@code logs} notifications a subscription missed while its
+ * connection was down, from the block after the last delivered event up to the current head.
+ *
+ * <p>Blocks are requested {@code batchSize} at a time, with the requests of a batch sent without
+ * waiting for each other's replies; logs are requested with one {@code eth_getLogs} call per range
+ * of {@code batchSize} blocks. Nothing here blocks, since replies are processed on the WebSocket
+ * thread.
+ */
+class SubscriptionBackfill {
+
+    private static final String NEW_HEADS = "newHeads";
+    private static final String LOGS = "logs";
+
+    private final Web3jService web3jService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    SubscriptionBackfill(Web3jService web3jService, ObjectMapper objectMapper, int batchSize) {
+        this.web3jService = web3jService;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    static boolean supports(WebSocketSubscription<?> subscription) {
+        String kind = subscription.getKind();
+        return NEW_HEADS.equals(kind) || LOGS.equals(kind);
+    }
+
+    <T> CompletableFuture<List<T>> backfill(
+            WebSocketSubscription<T> subscription, String subscriptionId) {
+        BigInteger lastBlockNumber = subscription.getLastBlockNumber();
+        if (lastBlockNumber == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        Request<?, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.<String>emptyList(),
+                        web3jService,
+                        EthBlockNumber.class);
+        return request.sendAsync()
+                .thenCompose(
+                        ethBlockNumber -> {
+                            checkError(ethBlockNumber);
+                            BigInteger head = ethBlockNumber.getBlockNumber();
+                            List<T> events = new ArrayList<>();
+                            if (NEW_HEADS.equals(subscription.getKind())) {
+                                return fetchHeads(
+                                        lastBlockNumber.add(BigInteger.ONE),
+                                        head,
+                                        subscription,
+                                        subscriptionId,
+                                        events);
+                            } else {
+                                // logs of the last block may not all have been delivered
+                                return fetchLogs(
+                                        lastBlockNumber,
+                                        head,
+                                        subscription,
+                                        subscriptionId,
+                                        events);
+                            }
+                        });
+    }
+
+    private <T> CompletableFuture<List<T>> fetchHeads(
+            BigInteger from,
+            BigInteger to,
+            WebSocketSubscription<T> subscription,
+            String subscriptionId,
+            List<T> events) {
+        if (from.compareTo(to) > 0) {
+            return CompletableFuture.completedFuture(events);
+        }
+        BigInteger batchEnd = batchEnd(from, to);
+
+        List<CompletableFuture<JsonNodeResponse>> replies = new ArrayList<>();
+        for (BigInteger number = from;
+                number.compareTo(batchEnd) <= 0;
+                number = number.add(BigInteger.ONE)) {
+            replies.add(
+                    send(
+                            "eth_getBlockByNumber",
+                            Arrays.asList(Numeric.encodeQuantity(number), false)));
+        }
+
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture[0]))
+                .thenCompose(
+                        ignored -> {
+                            for (CompletableFuture<JsonNodeResponse> reply : replies) {
+                                JsonNode block = result(reply.join());
+                                if (!block.isNull()) {
+                                    events.add(toNotification(block, subscription, subscriptionId));
+                                }
+                            }
+                            return fetchHeads(
+                                    batchEnd.add(BigInteger.ONE),
+                                    to,
+                                    subscription,
+                                    subscriptionId,
+                                    events);
+                        });
+    }
+
+    private <T> CompletableFuture<List<T>> fetchLogs(
+            BigInteger from,
+            BigInteger to,
+            WebSocketSubscription<T> subscription,
+            String subscriptionId,
+            List<T> events) {
+        if (from.compareTo(to) > 0) {
+            return CompletableFuture.completedFuture(events);
+        }
+        BigInteger batchEnd = batchEnd(from, to);
+
+        Map<String, Object> filter = new HashMap<>(logsFilter(subscription));
+        filter.put("fromBlock", Numeric.encodeQuantity(from));
+        filter.put("toBlock", Numeric.encodeQuantity(batchEnd));
+
+        return send("eth_getLogs", Collections.singletonList(filter))
+                .thenCompose(
+                        reply -> {
+                            for (JsonNode log : result(reply)) {
+                                events.add(toNotification(log, subscription, subscriptionId));
+                            }
+                            return fetchLogs(
+                                    batchEnd.add(BigInteger.ONE),
+                                    to,
+                                    subscription,
+                                    subscriptionId,
+                                    events);
+                        });
+    }
+
+    private BigInteger batchEnd(BigInteger from, BigInteger to) {
+        return from.add(BigInteger.valueOf(batchSize - 1)).min(to);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> logsFilter(WebSocketSubscription<?> subscription) {
+        List<?> params = subscription.getRequest().getParams();
+        if (params.size() > 1 && params.get(1) instanceof Map) {
+            return (Map<String, Object>) params.get(1);
+        }
+        return Collections.emptyMap();
+    }
+
+    private CompletableFuture<JsonNodeResponse> send(String method, List<?> params) {
+        return new Request<>(method, params, web3jService, JsonNodeResponse.class).sendAsync();
+    }
+
+    private static JsonNode result(JsonNodeResponse response) {
+        checkError(response);
+        JsonNode result = response.getResult();
+        return result == null ? NullNode.getInstance() : result;
+    }
+
+    private static void checkError(Response<?> response) {
+        if (response.hasError()) {
+            throw new CompletionException(
+                    new IOException(
+                            String.format(
+                                    "Backfill request failed with error: %s",
+                                    response.getError().getMessage())));
+        }
+    }
+
+    /** Wraps a fetched block or log the way the node would have sent it to the subscription. */
+    private <T> T toNotification(
+            JsonNode result, WebSocketSubscription<T> subscription, String subscriptionId) {
+        ObjectNode params = objectMapper.createObjectNode();
+        params.put("subscription", subscriptionId);
+        params.set("result", result);
+
+        ObjectNode notification = objectMapper.createObjectNode();
+        notification.put("jsonrpc", "2.0");
+        notification.put("method", "eth_subscription");
+        notification.set("params", params);
+        try {
+            return objectMapper.treeToValue(notification, subscription.getResponseType());
+        } catch (JsonProcessingException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /** Reply to a request whose result is processed as a JSON tree. */
+    static class JsonNodeResponse extends Response<JsonNode> {}
+}
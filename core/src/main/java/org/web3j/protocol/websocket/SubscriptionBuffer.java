@@ -0,0 +1,274 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.BackpressureOverflowStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.FlowableOperator;
+import io.reactivex.FlowableSubscriber;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Buffering policy for notifications received on a subscription, applied between the WebSocket
+ * reader and a consumer which may not keep up with the rate notifications arrive at.
+ *
+ * <p>Each policy counts the number of overflows, that is notifications which were dropped, or for
+ * {@link Strategy#BLOCK} the number of times the reader had to wait for the consumer. A policy
+ * instance can be shared between subscriptions, in which case the count is the total over all of
+ * them.
+ */
+public class SubscriptionBuffer {
+
+    /** How to handle notifications arriving while the buffer is full. */
+    public enum Strategy {
+        /** Buffer everything, memory use is unbounded. */
+        UNBOUNDED,
+        /** Bounded buffer, the subscription fails once it overflows. */
+        BOUNDED,
+        /** Bounded ring buffer, the oldest buffered notification is dropped on overflow. */
+        DROP_OLDEST,
+        /** Only keep the latest notification, suited to newHeads. */
+        LATEST,
+        /** Bounded buffer, the WebSocket reader is blocked until there is space. */
+        BLOCK
+    }
+
+    private final Strategy strategy;
+    private final int capacity;
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    private SubscriptionBuffer(Strategy strategy, int capacity) {
+        if (strategy != Strategy.UNBOUNDED && capacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        this.strategy = strategy;
+        this.capacity = capacity;
+    }
+
+    public static SubscriptionBuffer unbounded() {
+        return new SubscriptionBuffer(Strategy.UNBOUNDED, 0);
+    }
+
+    public static SubscriptionBuffer bounded(int capacity) {
+        return new SubscriptionBuffer(Strategy.BOUNDED, capacity);
+    }
+
+    public static SubscriptionBuffer dropOldest(int capacity) {
+        return new SubscriptionBuffer(Strategy.DROP_OLDEST, capacity);
+    }
+
+    public static SubscriptionBuffer latest() {
+        return new SubscriptionBuffer(Strategy.LATEST, 1);
+    }
+
+    /**
+     * Blocks the WebSocket reader while the buffer is full. Note that this stalls every request and
+     * subscription sharing the connection until the consumer catches up.
+     *
+     * @param capacity number of notifications to buffer
+     * @return buffering policy
+     */
+    public static SubscriptionBuffer block(int capacity) {
+        return new SubscriptionBuffer(Strategy.BLOCK, capacity);
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    /**
+     * Applies this policy to a stream of notifications.
+     *
+     * @param source notifications, which must not be buffered upstream
+     * @param <T> notification type
+     * @return notifications buffered according to this policy
+     */
+    public <T> Flowable<T> apply(Flowable<T> source) {
+        switch (strategy) {
+            case BOUNDED:
+                return source.onBackpressureBuffer(
+                        capacity, false, false, overflowCount::incrementAndGet);
+            case DROP_OLDEST:
+            case LATEST:
+                return source.onBackpressureBuffer(
+                        capacity,
+                        overflowCount::incrementAndGet,
+                        BackpressureOverflowStrategy.DROP_OLDEST);
+            case BLOCK:
+                return source.lift(new BlockingOperator<>(capacity, overflowCount));
+            case UNBOUNDED:
+            default:
+                return source.onBackpressureBuffer();
+        }
+    }
+
+    /** Buffers items and blocks the emitting thread while the buffer is full. */
+    private static class BlockingOperator<T> implements FlowableOperator<T, T> {
+        private final int capacity;
+        private final AtomicLong overflowCount;
+
+        BlockingOperator(int capacity, AtomicLong overflowCount) {
+            this.capacity = capacity;
+            this.overflowCount = overflowCount;
+        }
+
+        @Override
+        public Subscriber<? super T> apply(Subscriber<? super T> subscriber) {
+            return new BlockingSubscriber<>(subscriber, capacity, overflowCount);
+        }
+    }
+
+    private static class BlockingSubscriber<T> implements FlowableSubscriber<T>, Subscription {
+        private final Subscriber<? super T> downstream;
+        private final BlockingQueue<T> queue;
+        private final AtomicLong overflowCount;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private Subscription upstream;
+        private volatile boolean done;
+        private volatile boolean cancelled;
+        private Throwable error;
+
+        BlockingSubscriber(
+                Subscriber<? super T> downstream, int capacity, AtomicLong overflowCount) {
+            this.downstream = downstream;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.overflowCount = overflowCount;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (cancelled) {
+                return;
+            }
+            if (!queue.offer(item)) {
+                overflowCount.incrementAndGet();
+                try {
+                    queue.put(item);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    upstream.cancel();
+                    onError(e);
+                    return;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                return;
+            }
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!requested.compareAndSet(current, next));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+            if (wip.getAndIncrement() == 0) {
+                queue.clear();
+            }
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                long emitted = 0;
+                long limit = requested.get();
+                while (emitted != limit) {
+                    if (cancelled) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean terminated = done;
+                    T item = queue.poll();
+                    if (terminated && item == null) {
+                        signalTermination();
+                        return;
+                    }
+                    if (item == null) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                }
+                if (cancelled) {
+                    queue.clear();
+                    return;
+                }
+                if (done && queue.isEmpty()) {
+                    signalTermination();
+                    return;
+                }
+                if (emitted != 0 && limit != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void signalTermination() {
+            if (error != null) {
+                downstream.onError(error);
+            } else {
+                downstream.onComplete();
+            }
+        }
+    }
+}
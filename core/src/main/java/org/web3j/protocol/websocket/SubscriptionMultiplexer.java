@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.ResultParser;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * Service which shares one upstream subscription between all local subscribers to the same stream
+ * of notifications.
+ *
+ * <p>Subscriptions with the same subscribe method, parameters and notification type are backed by a
+ * single subscription of the wrapped service. The upstream subscription is opened when the first
+ * subscriber subscribes to the returned {@link Flowable}, and closed once the last one has disposed
+ * of its subscription. Requests are passed on to the wrapped service unchanged.
+ *
+ * <pre>
+ *     WebSocketService webSocketService = new WebSocketService("ws://localhost:8546", false);
+ *     webSocketService.connect();
+ *     Web3j web3j = Web3j.build(new SubscriptionMultiplexer(webSocketService));
+ * </pre>
+ *
+ * <p>Unlike the wrapped service, the upstream subscription is only opened once a subscriber
+ * subscribes.
+ */
+public class SubscriptionMultiplexer implements Web3jService {
+
+    private final Web3jService web3jService;
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+
+    // Map of a stream key to the flowable shared by its subscribers
+    private final Map<String, Flowable<?>> sharedForKey = new ConcurrentHashMap<>();
+
+    public SubscriptionMultiplexer(Web3jService web3jService) {
+        this.web3jService = web3jService;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return web3jService.send(request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return web3jService.sendAsync(request, responseType);
+    }
+
+    @Override
+    public <T> Response<T> sendStreaming(Request request, ResultParser<T> resultParser)
+            throws IOException {
+        return web3jService.sendStreaming(request, resultParser);
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        String key = streamKey(request, unsubscribeMethod, responseType);
+        return (Flowable<T>)
+                sharedForKey.computeIfAbsent(
+                        key, k -> share(k, request, unsubscribeMethod, responseType));
+    }
+
+    private <T extends Notification<?>> Flowable<T> share(
+            String key, Request request, String unsubscribeMethod, Class<T> responseType) {
+        AtomicReference<Flowable<T>> shared = new AtomicReference<>();
+        shared.set(
+                Flowable.defer(
+                                () ->
+                                        web3jService.subscribe(
+                                                request, unsubscribeMethod, responseType))
+                        .doFinally(() -> sharedForKey.remove(key, shared.get()))
+                        .publish()
+                        .refCount());
+        return shared.get();
+    }
+
+    private String streamKey(Request request, String unsubscribeMethod, Class<?> responseType) {
+        try {
+            return request.getMethod()
+                    + objectMapper.writeValueAsString(request.getParams())
+                    + unsubscribeMethod
+                    + responseType.getName();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize subscription parameters", e);
+        }
+    }
+
+    /**
+     * Returns the number of distinct streams currently shared.
+     *
+     * @return number of shared streams
+     */
+    public int getSharedStreamCount() {
+        return sharedForKey.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        web3jService.close();
+    }
+}
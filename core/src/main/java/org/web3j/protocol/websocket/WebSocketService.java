@@ -12,21 +12,28 @@
  */
 package org.web3j.protocol.websocket;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
@@ -51,6 +58,11 @@ import org.web3j.protocol.websocket.events.Notification;
  * notifications stream.
  *
  * <p>To unsubscribe from a stream of notifications it should send another JSON-RPC request.
+ *
+ * <p>If created with a {@link ReconnectPolicy} the service reconnects after the connection drops,
+ * re-establishes live subscriptions under their new subscription ids and, if the policy asks for
+ * it, sends {@code newHeads} and {@code logs} subscribers the notifications missed while
+ * disconnected.
  */
 public class WebSocketService implements Web3jService {
 
@@ -65,6 +77,10 @@ public class WebSocketService implements Web3jService {
     private final ScheduledExecutorService executor;
     // Object mapper to map incoming JSON objects
     private final ObjectMapper objectMapper;
+    // Whether replies should carry the raw JSON they were parsed from
+    private final boolean includeRawResponses;
+    // Reconnection policy, null if the service should not reconnect
+    private final ReconnectPolicy reconnectPolicy;
 
     // Map of a sent request id to objects necessary to process this request
     private Map<Long, WebSocketRequest<?>> requestForId = new ConcurrentHashMap<>();
@@ -74,22 +90,60 @@ public class WebSocketService implements Web3jService {
             new ConcurrentHashMap<>();
     // Map of a subscription id to objects necessary to process incoming events
     private Map<String, WebSocketSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
+    // Map of a subject passed to subscribers to its subscription id
+    private Map<BehaviorSubject<?>, String> subscriptionIdForSubject = new ConcurrentHashMap<>();
+    // Ids of subscription requests sent to resume a subscription after a reconnect
+    private Set<Long> resumedRequestIds = ConcurrentHashMap.newKeySet();
+    // Subscriptions waiting for the connection to be re-established
+    private Map<BehaviorSubject<?>, WebSocketSubscription<?>> suspendedSubscriptions =
+            new ConcurrentHashMap<>();
+
+    private final AtomicBoolean reconnecting = new AtomicBoolean();
+    private volatile boolean closed;
 
     public WebSocketService(String serverUrl, boolean includeRawResponses) {
         this(new WebSocketClient(parseURI(serverUrl)), includeRawResponses);
     }
 
     public WebSocketService(WebSocketClient webSocketClient, boolean includeRawResponses) {
-        this(webSocketClient, Executors.newScheduledThreadPool(1), includeRawResponses);
+        this(webSocketClient, includeRawResponses, null);
+    }
+
+    /**
+     * Creates a service which reconnects after the connection drops.
+     *
+     * @param webSocketClient WebSocket client
+     * @param includeRawResponses whether replies should carry the raw JSON they were parsed from
+     * @param reconnectPolicy how to reconnect, or null to not reconnect
+     */
+    public WebSocketService(
+            WebSocketClient webSocketClient,
+            boolean includeRawResponses,
+            ReconnectPolicy reconnectPolicy) {
+        this(
+                webSocketClient,
+                Executors.newScheduledThreadPool(1),
+                includeRawResponses,
+                reconnectPolicy);
     }
 
     WebSocketService(
             WebSocketClient webSocketClient,
             ScheduledExecutorService executor,
             boolean includeRawResponses) {
+        this(webSocketClient, executor, includeRawResponses, null);
+    }
+
+    WebSocketService(
+            WebSocketClient webSocketClient,
+            ScheduledExecutorService executor,
+            boolean includeRawResponses,
+            ReconnectPolicy reconnectPolicy) {
         this.webSocketClient = webSocketClient;
         this.executor = executor;
         this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+        this.includeRawResponses = includeRawResponses;
+        this.reconnectPolicy = reconnectPolicy;
     }
 
     /**
@@ -185,28 +239,29 @@ public class WebSocketService implements Web3jService {
     }
 
     void closeRequest(long requestId, Exception e) {
-        CompletableFuture result = requestForId.get(requestId).getOnReply();
-        requestForId.remove(requestId);
-        result.completeExceptionally(e);
+        WebSocketRequest<?> request = requestForId.remove(requestId);
+        if (request != null) {
+            request.getOnReply().completeExceptionally(e);
+        }
     }
 
     void onWebSocketMessage(String messageStr) throws IOException {
-        JsonNode replyJson = parseToTree(messageStr);
+        MessageHeader header = parseHeader(messageStr);
 
-        if (isReply(replyJson)) {
-            processRequestReply(messageStr, replyJson);
-        } else if (isSubscriptionEvent(replyJson)) {
-            processSubscriptionEvent(messageStr, replyJson);
+        if (header.isReply()) {
+            processRequestReply(messageStr, header);
+        } else if (header.isSubscriptionEvent()) {
+            processSubscriptionEvent(messageStr, header);
         } else {
             throw new IOException("Unknown message type");
         }
     }
 
-    private void processRequestReply(String replyStr, JsonNode replyJson) throws IOException {
-        long replyId = getReplyId(replyJson);
+    private void processRequestReply(String replyStr, MessageHeader header) throws IOException {
+        long replyId = getReplyId(header);
         WebSocketRequest request = getAndRemoveRequest(replyId);
         try {
-            Object reply = objectMapper.convertValue(replyJson, request.getResponseType());
+            Object reply = readValue(replyStr, request.getResponseType());
             // Instead of sending a reply to a caller asynchronously we need to process it here
             // to avoid race conditions we need to modify state of this class.
             if (reply instanceof EthSubscribe) {
@@ -214,45 +269,60 @@ public class WebSocketService implements Web3jService {
             }
 
             sendReplyToListener(request, reply);
-        } catch (IllegalArgumentException e) {
+        } catch (JsonProcessingException e) {
             sendExceptionToListener(replyStr, request, e);
         }
     }
 
-    private void processSubscriptionResponse(long replyId, EthSubscribe reply) throws IOException {
-        WebSocketSubscription subscription = subscriptionRequestForId.get(replyId);
-        processSubscriptionResponse(
-                reply, subscription.getSubject(), subscription.getResponseType());
-    }
-
-    private <T extends Notification<?>> void processSubscriptionResponse(
-            EthSubscribe subscriptionReply, BehaviorSubject<T> subject, Class<T> responseType)
-            throws IOException {
-        if (!subscriptionReply.hasError()) {
-            establishSubscription(subject, responseType, subscriptionReply);
+    private void processSubscriptionResponse(long replyId, EthSubscribe reply) {
+        WebSocketSubscription<?> subscription = subscriptionRequestForId.remove(replyId);
+        boolean resumed = resumedRequestIds.remove(replyId);
+        if (subscription == null) {
+            return;
+        }
+        if (reply.hasError()) {
+            reportSubscriptionError(subscription.getSubject(), reply);
+        } else if (resumed) {
+            resumeSubscription(subscription, reply.getSubscriptionId());
         } else {
-            reportSubscriptionError(subject, subscriptionReply);
+            establishSubscription(subscription, reply.getSubscriptionId());
         }
     }
 
-    private <T extends Notification<?>> void establishSubscription(
-            BehaviorSubject<T> subject, Class<T> responseType, EthSubscribe subscriptionReply) {
-        log.debug("Subscribed to RPC events with id {}", subscriptionReply.getSubscriptionId());
-        subscriptionForId.put(
-                subscriptionReply.getSubscriptionId(),
-                new WebSocketSubscription<>(subject, responseType));
-    }
-
-    private <T extends Notification<?>> String getSubscriptionId(BehaviorSubject<T> subject) {
-        return subscriptionForId.entrySet().stream()
-                .filter(entry -> entry.getValue().getSubject() == subject)
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+    private void establishSubscription(
+            WebSocketSubscription<?> subscription, String subscriptionId) {
+        log.debug("Subscribed to RPC events with id {}", subscriptionId);
+        subscriptionForId.put(subscriptionId, subscription);
+        subscriptionIdForSubject.put(subscription.getSubject(), subscriptionId);
+    }
+
+    private <T> void resumeSubscription(
+            WebSocketSubscription<T> subscription, String subscriptionId) {
+        establishSubscription(subscription, subscriptionId);
+        if (!subscription.getSubject().hasObservers()) {
+            // disposed while the subscription was being re-established
+            closeSubscription(subscription.getSubject(), subscription.getUnsubscribeMethod());
+        } else if (reconnectPolicy.isBackfill() && SubscriptionBackfill.supports(subscription)) {
+            subscription.startBackfill();
+            new SubscriptionBackfill(this, objectMapper, reconnectPolicy.getBackfillBatchSize())
+                    .backfill(subscription, subscriptionId)
+                    .whenComplete(
+                            (events, throwable) -> {
+                                if (throwable != null) {
+                                    log.error(
+                                            "Failed to backfill subscription with id {}",
+                                            subscriptionId,
+                                            throwable);
+                                    subscription.completeBackfill(Collections.emptyList());
+                                } else {
+                                    subscription.completeBackfill(events);
+                                }
+                            });
+        }
     }
 
-    private <T extends Notification<?>> void reportSubscriptionError(
-            BehaviorSubject<T> subject, EthSubscribe subscriptionReply) {
+    private void reportSubscriptionError(
+            BehaviorSubject<?> subject, EthSubscribe subscriptionReply) {
         Response.Error error = subscriptionReply.getError();
         log.error("Subscription request returned error: {}", error.getMessage());
         subject.onError(
@@ -266,7 +336,7 @@ public class WebSocketService implements Web3jService {
     }
 
     private void sendExceptionToListener(
-            String replyStr, WebSocketRequest request, IllegalArgumentException e) {
+            String replyStr, WebSocketRequest request, JsonProcessingException e) {
         request.getOnReply()
                 .completeExceptionally(
                         new IOException(
@@ -276,41 +346,90 @@ public class WebSocketService implements Web3jService {
                                 e));
     }
 
-    private void processSubscriptionEvent(String replyStr, JsonNode replyJson) {
+    private void processSubscriptionEvent(String replyStr, MessageHeader header)
+            throws IOException {
         log.debug("Processing event: {}", replyStr);
-        String subscriptionId = extractSubscriptionId(replyJson);
+        String subscriptionId = header.subscriptionId;
         WebSocketSubscription subscription = subscriptionForId.get(subscriptionId);
 
         if (subscription != null) {
-            sendEventToSubscriber(replyJson, subscription);
+            sendEventToSubscriber(replyStr, subscription);
         } else {
             log.warn("No subscriber for WebSocket event with subscription id {}", subscriptionId);
         }
     }
 
-    private String extractSubscriptionId(JsonNode replyJson) {
-        return replyJson.get("params").get("subscription").asText();
-    }
-
-    private void sendEventToSubscriber(JsonNode replyJson, WebSocketSubscription subscription) {
-        Object event = objectMapper.convertValue(replyJson, subscription.getResponseType());
-        subscription.getSubject().onNext(event);
+    private void sendEventToSubscriber(String replyStr, WebSocketSubscription subscription)
+            throws IOException {
+        Object event = readValue(replyStr, subscription.getResponseType());
+        subscription.onNext(event);
     }
 
-    private boolean isReply(JsonNode replyJson) {
-        return replyJson.has("id");
+    /**
+     * Reads the fields needed to dispatch a message, without building a tree of the whole message.
+     * Parsing stops as soon as the message is known to be a reply, or once the subscription id of
+     * an event has been found.
+     */
+    private MessageHeader parseHeader(String replyStr) throws IOException {
+        MessageHeader header = new MessageHeader();
+        try (JsonParser parser = objectMapper.getFactory().createParser(replyStr)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Incoming WebSocket message is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("id".equals(fieldName)) {
+                    header.id = value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                    header.idText = parser.getText();
+                    return header;
+                } else if ("method".equals(fieldName)) {
+                    header.method = true;
+                } else if ("params".equals(fieldName) && value == JsonToken.START_OBJECT) {
+                    header.subscriptionId = parseSubscriptionId(parser);
+                    if (header.subscriptionId != null) {
+                        // the parser is left inside params, and only events have a subscription
+                        // id, so the method doesn't need to be read
+                        header.method = true;
+                        return header;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+                if (header.isSubscriptionEvent()) {
+                    return header;
+                }
+            }
+        } catch (IOException e) {
+            throw new IOException("Failed to parse incoming WebSocket message", e);
+        }
+        return header;
     }
 
-    private boolean isSubscriptionEvent(JsonNode replyJson) {
-        return replyJson.has("method");
+    /**
+     * Reads the subscription id of an event, returning as soon as it is found so that the result,
+     * usually the largest part of an event, is not parsed. If no subscription id is found the whole
+     * params object is consumed.
+     */
+    private static String parseSubscriptionId(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if ("subscription".equals(fieldName)) {
+                return parser.getText();
+            }
+            parser.skipChildren();
+        }
+        return null;
     }
 
-    private JsonNode parseToTree(String replyStr) throws IOException {
-        try {
-            return objectMapper.readTree(replyStr);
-        } catch (IOException e) {
-            throw new IOException("Failed to parse incoming WebSocket message", e);
+    private <T> T readValue(String replyStr, Class<T> type) throws IOException {
+        if (includeRawResponses) {
+            // raw responses are read back from the input stream the response was parsed from
+            return objectMapper.readValue(
+                    new ByteArrayInputStream(replyStr.getBytes(StandardCharsets.UTF_8)), type);
         }
+        return objectMapper.readValue(replyStr, type);
     }
 
     private WebSocketRequest getAndRemoveRequest(long id) throws IOException {
@@ -323,18 +442,13 @@ public class WebSocketService implements Web3jService {
         return request;
     }
 
-    private long getReplyId(JsonNode replyJson) throws IOException {
-        JsonNode idField = replyJson.get("id");
-        if (idField == null) {
-            throw new IOException("'id' field is missing in the reply");
-        }
-
-        if (!idField.isIntegralNumber()) {
+    private long getReplyId(MessageHeader header) throws IOException {
+        if (header.id == null) {
             throw new IOException(
-                    String.format("'id' expected to be long, but it is: '%s'", idField.asText()));
+                    String.format("'id' expected to be long, but it is: '%s'", header.idText));
         }
 
-        return idField.longValue();
+        return header.id;
     }
 
     private static URI parseURI(String serverUrl) {
@@ -357,31 +471,37 @@ public class WebSocketService implements Web3jService {
         // an Flowable to a client before we got a reply
         // a client can unsubscribe before we know a subscription
         // id and this can cause a race condition
-        subscribeToEventsStream(request, subject, responseType);
+        subscribeToEventsStream(request, subject, responseType, unsubscribeMethod);
 
         return subject.doOnDispose(() -> closeSubscription(subject, unsubscribeMethod))
                 .toFlowable(BackpressureStrategy.BUFFER);
     }
 
     private <T extends Notification<?>> void subscribeToEventsStream(
-            Request request, BehaviorSubject<T> subject, Class<T> responseType) {
+            Request request,
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            String unsubscribeMethod) {
 
         subscriptionRequestForId.put(
-                request.getId(), new WebSocketSubscription<>(subject, responseType));
+                request.getId(),
+                new WebSocketSubscription<>(subject, responseType, request, unsubscribeMethod));
         try {
             send(request, EthSubscribe.class);
         } catch (IOException e) {
             log.error("Failed to subscribe to RPC events with request id {}", request.getId());
+            subscriptionRequestForId.remove(request.getId());
             subject.onError(e);
         }
     }
 
-    private <T extends Notification<?>> void closeSubscription(
-            BehaviorSubject<T> subject, String unsubscribeMethod) {
-        String subscriptionId = getSubscriptionId(subject);
+    private void closeSubscription(BehaviorSubject<?> subject, String unsubscribeMethod) {
+        String subscriptionId = subscriptionIdForSubject.remove(subject);
         if (subscriptionId != null) {
             subscriptionForId.remove(subscriptionId);
             unsubscribeFromEventsStream(subscriptionId, unsubscribeMethod);
+        } else if (suspendedSubscriptions.remove(subject) != null) {
+            log.debug("Dropped a subscription waiting for the connection to be re-established");
         } else {
             log.warn("Trying to unsubscribe from a non-existing subscription. Race condition?");
         }
@@ -415,24 +535,28 @@ public class WebSocketService implements Web3jService {
 
     @Override
     public void close() {
+        closed = true;
         webSocketClient.close();
         executor.shutdown();
     }
 
     void onWebSocketClose() {
-        closeOutstandingRequests();
-        closeOutstandingSubscriptions();
+        if (reconnectPolicy != null && !closed) {
+            suspendSubscriptions();
+            closeOutstandingRequests();
+            if (reconnecting.compareAndSet(false, true)) {
+                scheduleReconnect(1);
+            }
+        } else {
+            closeOutstandingRequests();
+            closeOutstandingSubscriptions();
+        }
     }
 
     private void closeOutstandingRequests() {
-        requestForId
-                .values()
-                .forEach(
-                        request -> {
-                            request.getOnReply()
-                                    .completeExceptionally(
-                                            new IOException("Connection was closed"));
-                        });
+        for (Long requestId : new ArrayList<>(requestForId.keySet())) {
+            closeRequest(requestId, new IOException("Connection was closed"));
+        }
     }
 
     private void closeOutstandingSubscriptions() {
@@ -446,8 +570,111 @@ public class WebSocketService implements Web3jService {
                         });
     }
 
+    private void suspendSubscriptions() {
+        List<WebSocketSubscription<?>> subscriptions = new ArrayList<>(subscriptionForId.values());
+        for (Long requestId : new ArrayList<>(resumedRequestIds)) {
+            WebSocketSubscription<?> subscription = subscriptionRequestForId.remove(requestId);
+            resumedRequestIds.remove(requestId);
+            if (subscription != null) {
+                subscriptions.add(subscription);
+            }
+        }
+        subscriptionForId.clear();
+        subscriptionIdForSubject.clear();
+        for (WebSocketSubscription<?> subscription : subscriptions) {
+            if (subscription.getRequest() != null) {
+                suspendedSubscriptions.put(subscription.getSubject(), subscription);
+            } else {
+                subscription.getSubject().onError(new IOException("Connection was closed"));
+            }
+        }
+    }
+
+    private void scheduleReconnect(int attempt) {
+        long delay = reconnectPolicy.getDelayMillis(attempt);
+        log.info("Reconnecting via WebSocket in {} ms, attempt {}", delay, attempt);
+        executor.schedule(() -> reconnect(attempt), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void reconnect(int attempt) {
+        boolean connected = false;
+        try {
+            connected = !closed && webSocketClient.reconnectBlocking();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while reconnecting via WebSocket protocol");
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconnect via WebSocket protocol", e);
+        }
+
+        if (connected) {
+            log.info("Reconnected via WebSocket after {} attempt(s)", attempt);
+            reconnecting.set(false);
+            resumeSubscriptions();
+        } else if (!closed && attempt < reconnectPolicy.getMaxAttempts()) {
+            scheduleReconnect(attempt + 1);
+        } else {
+            reconnecting.set(false);
+            failSuspendedSubscriptions();
+        }
+    }
+
+    private void resumeSubscriptions() {
+        for (WebSocketSubscription<?> subscription :
+                new ArrayList<>(suspendedSubscriptions.values())) {
+            if (suspendedSubscriptions.remove(subscription.getSubject()) != null) {
+                resubscribe(subscription);
+            }
+        }
+    }
+
+    private void resubscribe(WebSocketSubscription<?> subscription) {
+        Request<?, ?> original = subscription.getRequest();
+        Request<?, EthSubscribe> request =
+                new Request<>(original.getMethod(), original.getParams(), this, EthSubscribe.class);
+        long requestId = request.getId();
+        resumedRequestIds.add(requestId);
+        subscriptionRequestForId.put(requestId, subscription);
+        sendAsync(request, EthSubscribe.class)
+                .exceptionally(
+                        throwable -> {
+                            // a subscription still waiting for this reply was not suspended
+                            // again by a dropped connection, so it can't be resumed
+                            if (subscriptionRequestForId.remove(requestId) != null) {
+                                resumedRequestIds.remove(requestId);
+                                subscription.getSubject().onError(throwable);
+                            }
+                            return null;
+                        });
+    }
+
+    private void failSuspendedSubscriptions() {
+        for (WebSocketSubscription<?> subscription :
+                new ArrayList<>(suspendedSubscriptions.values())) {
+            if (suspendedSubscriptions.remove(subscription.getSubject()) != null) {
+                subscription.getSubject().onError(new IOException("Connection was closed"));
+            }
+        }
+    }
+
     // Method visible for unit-tests
     boolean isWaitingForReply(long requestId) {
         return requestForId.containsKey(requestId);
     }
+
+    /** Fields of an incoming message used to route it to a request or subscription. */
+    private static class MessageHeader {
+        private Long id;
+        private String idText;
+        private boolean method;
+        private String subscriptionId;
+
+        private boolean isReply() {
+            return idText != null;
+        }
+
+        private boolean isSubscriptionEvent() {
+            return method && subscriptionId != null;
+        }
+    }
 }
@@ -12,16 +12,36 @@
  */
 package org.web3j.protocol.websocket;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
 import io.reactivex.subjects.BehaviorSubject;
 
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.websocket.events.LogNotification;
+import org.web3j.protocol.websocket.events.NewHead;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+import org.web3j.utils.Numeric;
+
 /**
  * Objects necessary to process a new item received via a WebSocket subscription.
  *
+ * <p>The subscription also remembers the request it was created with and the position in the chain
+ * of the last event delivered, so that it can be resumed after a reconnect.
+ *
  * @param <T> type of a data item that should be returned by a WebSocket subscription.
  */
 public class WebSocketSubscription<T> {
     private BehaviorSubject<T> subject;
     private Class<T> responseType;
+    private Request<?, ?> request;
+    private String unsubscribeMethod;
+
+    // Position of the last delivered event
+    private Position last;
+    // Events received while a backfill is in progress, null if there is none
+    private List<T> pending;
 
     /**
      * Creates WebSocketSubscription.
@@ -30,8 +50,26 @@ public class WebSocketSubscription<T> {
      * @param responseType type of a data item returned by a WebSocket subscription
      */
     public WebSocketSubscription(BehaviorSubject<T> subject, Class<T> responseType) {
+        this(subject, responseType, null, null);
+    }
+
+    /**
+     * Creates WebSocketSubscription which can be resumed after a reconnect.
+     *
+     * @param subject used to send new data items to listeners
+     * @param responseType type of a data item returned by a WebSocket subscription
+     * @param request request used to subscribe
+     * @param unsubscribeMethod method used to unsubscribe
+     */
+    public WebSocketSubscription(
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            Request<?, ?> request,
+            String unsubscribeMethod) {
         this.subject = subject;
         this.responseType = responseType;
+        this.request = request;
+        this.unsubscribeMethod = unsubscribeMethod;
     }
 
     public BehaviorSubject<T> getSubject() {
@@ -41,4 +79,131 @@ public class WebSocketSubscription<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    public Request<?, ?> getRequest() {
+        return request;
+    }
+
+    public String getUnsubscribeMethod() {
+        return unsubscribeMethod;
+    }
+
+    /**
+     * Returns the kind of events subscribed to, such as {@code newHeads} or {@code logs}.
+     *
+     * @return subscription kind, or null if not known
+     */
+    public String getKind() {
+        if (request == null || request.getParams().isEmpty()) {
+            return null;
+        }
+        Object kind = request.getParams().get(0);
+        return kind instanceof String ? (String) kind : null;
+    }
+
+    public synchronized BigInteger getLastBlockNumber() {
+        return last == null ? null : last.blockNumber;
+    }
+
+    /**
+     * Passes an event on to listeners, or holds on to it if a backfill is in progress.
+     *
+     * @param event received event
+     */
+    public synchronized void onNext(T event) {
+        if (pending != null) {
+            pending.add(event);
+        } else {
+            deliver(event);
+        }
+    }
+
+    /** Holds back events received from now on until {@link #completeBackfill(List)}. */
+    public synchronized void startBackfill() {
+        pending = new ArrayList<>();
+    }
+
+    /**
+     * Delivers backfilled events followed by events held back during the backfill, skipping any
+     * which are not past the last event delivered.
+     *
+     * @param events backfilled events in chain order
+     */
+    public synchronized void completeBackfill(List<T> events) {
+        List<T> held = pending == null ? new ArrayList<>() : pending;
+        pending = null;
+        for (T event : events) {
+            deliverIfNew(event);
+        }
+        for (T event : held) {
+            deliverIfNew(event);
+        }
+    }
+
+    private void deliverIfNew(T event) {
+        Position position = Position.of(event);
+        if (position == null || last == null || position.isAfter(last)) {
+            deliver(event);
+        }
+    }
+
+    private void deliver(T event) {
+        Position position = Position.of(event);
+        if (position != null) {
+            last = position;
+        }
+        subject.onNext(event);
+    }
+
+    /** Position of an event in the chain. */
+    private static class Position {
+        private final BigInteger blockNumber;
+        private final String blockHash;
+        private final BigInteger logIndex;
+
+        private Position(BigInteger blockNumber, String blockHash, BigInteger logIndex) {
+            this.blockNumber = blockNumber;
+            this.blockHash = blockHash;
+            this.logIndex = logIndex;
+        }
+
+        /**
+         * Returns whether this position is past another. An event of a different block at the same
+         * height, such as the new head replacing a reorged block, is past it.
+         */
+        private boolean isAfter(Position other) {
+            int compare = blockNumber.compareTo(other.blockNumber);
+            if (compare != 0) {
+                return compare > 0;
+            }
+            if (blockHash != null
+                    && other.blockHash != null
+                    && !blockHash.equalsIgnoreCase(other.blockHash)) {
+                return true;
+            }
+            return logIndex != null
+                    && other.logIndex != null
+                    && logIndex.compareTo(other.logIndex) > 0;
+        }
+
+        private static Position of(Object event) {
+            try {
+                if (event instanceof NewHeadsNotification) {
+                    NewHead head = ((NewHeadsNotification) event).getParams().getResult();
+                    return new Position(
+                            Numeric.decodeQuantity(head.getNumber()), head.getHash(), null);
+                } else if (event instanceof LogNotification) {
+                    org.web3j.protocol.websocket.events.Log log =
+                            ((LogNotification) event).getParams().getResult();
+                    return new Position(
+                            Numeric.decodeQuantity(log.getBlockNumber()),
+                            log.getBlockHash(),
+                            Numeric.decodeQuantity(log.getLogIndex()));
+                }
+            } catch (RuntimeException e) {
+                // pending events and malformed notifications do not carry a position
+            }
+            return null;
+        }
+    }
 }
@@ -295,18 +295,34 @@ public abstract class Contract extends ManagedTransaction {
     @SuppressWarnings("unchecked")
     protected <T extends Type> T executeCallSingleValueReturn(Function function)
             throws IOException {
-        List<Type> values = executeCall(function);
+        return (T) singleValue(executeCall(function));
+    }
+
+    protected <T extends Type, R> R executeCallSingleValueReturn(
+            Function function, Class<R> returnType) throws IOException {
+        return convertSingleValueReturn(executeCall(function), returnType);
+    }
+
+    private static Type singleValue(List<Type> values) {
         if (!values.isEmpty()) {
-            return (T) values.get(0);
+            return values.get(0);
         } else {
             return null;
         }
     }
 
+    /**
+     * Converts the first value returned by a function to a native Java type.
+     *
+     * @param values values returned by the function
+     * @param returnType native type to convert to
+     * @param <R> native type
+     * @return converted value
+     * @throws ContractCallException if no value was returned, or it can't be converted
+     */
     @SuppressWarnings("unchecked")
-    protected <T extends Type, R> R executeCallSingleValueReturn(
-            Function function, Class<R> returnType) throws IOException {
-        T result = executeCallSingleValueReturn(function);
+    protected static <R> R convertSingleValueReturn(List<Type> values, Class<R> returnType) {
+        Type result = singleValue(values);
         if (result == null) {
             throw new ContractCallException("Empty value (0x) returned from contract");
         }
@@ -378,20 +394,71 @@ public abstract class Contract extends ManagedTransaction {
         return receipt;
     }
 
+    @SuppressWarnings("unchecked")
     protected <T extends Type> RemoteFunctionCall<T> executeRemoteCallSingleValueReturn(
             Function function) {
-        return new RemoteFunctionCall<>(function, () -> executeCallSingleValueReturn(function));
+        return executeRemoteCall(
+                function,
+                value ->
+                        (T)
+                                singleValue(
+                                        FunctionReturnDecoder.decode(
+                                                value, function.getOutputParameters())));
     }
 
     protected <T> RemoteFunctionCall<T> executeRemoteCallSingleValueReturn(
             Function function, Class<T> returnType) {
-        return new RemoteFunctionCall<>(
-                function, () -> executeCallSingleValueReturn(function, returnType));
+        return executeRemoteCall(
+                function,
+                value ->
+                        convertSingleValueReturn(
+                                FunctionReturnDecoder.decode(value, function.getOutputParameters()),
+                                returnType));
     }
 
     protected RemoteFunctionCall<List<Type>> executeRemoteCallMultipleValueReturn(
             Function function) {
-        return new RemoteFunctionCall<>(function, () -> executeCallMultipleValueReturn(function));
+        return executeRemoteCall(
+                function,
+                value -> FunctionReturnDecoder.decode(value, function.getOutputParameters()));
+    }
+
+    /**
+     * Executes a constant function call, converting the values it returns with the given converter.
+     * Calls created this way can be aggregated by a {@link MulticallBatcher}.
+     *
+     * @param function to call
+     * @param converter converts the values returned by the function
+     * @param <T> converted type
+     * @return remote function call
+     */
+    protected <T> RemoteFunctionCall<T> executeRemoteCallMultipleValueReturn(
+            Function function, ResultConverter<T> converter) {
+        return executeRemoteCall(
+                function,
+                value ->
+                        converter.convert(
+                                FunctionReturnDecoder.decode(
+                                        value, function.getOutputParameters())));
+    }
+
+    private <T> RemoteFunctionCall<T> executeRemoteCall(
+            Function function, RemoteFunctionCall.ResultDecoder<T> decoder) {
+        RemoteFunctionCall.CallTarget target =
+                new RemoteFunctionCall.CallTarget(
+                        contractAddress,
+                        transactionManager.getFromAddress(),
+                        defaultBlockParameter);
+        return new RemoteFunctionCall<>(
+                function,
+                target,
+                decoder,
+                () ->
+                        decoder.decode(
+                                call(
+                                        contractAddress,
+                                        FunctionEncoder.encode(function),
+                                        defaultBlockParameter)));
     }
 
     protected RemoteFunctionCall<TransactionReceipt> executeRemoteCallTransaction(
@@ -404,6 +471,41 @@ public abstract class Contract extends ManagedTransaction {
         return new RemoteFunctionCall<>(function, () -> executeTransaction(function, weiValue));
     }
 
+    /**
+     * Executes a constant function call with call data encoded by the caller, as generated by
+     * precompiled codecs.
+     *
+     * @param data encoded function call
+     * @param decoder decodes the value returned by the call
+     * @param <T> decoded return type
+     * @return remote call
+     */
+    protected <T> RemoteCall<T> executeRemoteCallEncoded(
+            String data, java.util.function.Function<String, T> decoder) {
+        return new RemoteCall<>(
+                () -> {
+                    String value = call(contractAddress, data, defaultBlockParameter);
+                    if (Numeric.cleanHexPrefix(value).isEmpty()) {
+                        throw new ContractCallException("Empty value (0x) returned from contract");
+                    }
+                    return decoder.apply(value);
+                });
+    }
+
+    /**
+     * Executes a transaction with call data encoded by the caller, as generated by precompiled
+     * codecs.
+     *
+     * @param data encoded function call
+     * @param weiValue in Wei to send in transaction
+     * @param funcName function name, used to look up gas price and limit
+     * @return remote call
+     */
+    protected RemoteCall<TransactionReceipt> executeRemoteCallEncodedTransaction(
+            String data, BigInteger weiValue, String funcName) {
+        return new RemoteCall<>(() -> executeTransaction(data, weiValue, funcName));
+    }
+
     private static <T extends Contract> T create(
             T contract, String binary, String encodedConstructor, BigInteger value)
             throws IOException, TransactionException {
@@ -764,12 +866,22 @@ public abstract class Contract extends ManagedTransaction {
         return addr == null ? getStaticDeployedAddress(networkId) : addr;
     }
 
+    /**
+     * Converts the values returned by a constant function, as used by generated wrappers for
+     * functions returning tuples or arrays.
+     *
+     * @param <T> converted type
+     */
+    public interface ResultConverter<T> {
+        T convert(List<Type> results) throws Exception;
+    }
+
     /** Adds a log field to {@link EventValues}. */
     public static class EventValuesWithLog {
         private final EventValues eventValues;
         private final Log log;
 
-        private EventValuesWithLog(EventValues eventValues, Log log) {
+        EventValuesWithLog(EventValues eventValues, Log log) {
             this.eventValues = eventValues;
             this.log = log;
         }
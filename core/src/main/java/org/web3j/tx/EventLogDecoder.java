@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.EventValues;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+/**
+ * Bulk decoder for event logs.
+ *
+ * <p>Each log is dispatched on its first topic to one of the registered {@link Event} definitions,
+ * so a batch of logs emitted by several different events can be decoded in a single pass. Batches
+ * of at least {@code parallelThreshold} logs are decoded in parallel on a {@link ForkJoinPool}.
+ * Results are always returned in the order of the logs given, logs which do not match any of the
+ * registered events are skipped.
+ */
+public class EventLogDecoder {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+    private static final int SEQUENTIAL_CHUNK_SIZE = 256;
+
+    private final Map<String, EventDefinition> eventsByTopic;
+    private final ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    public EventLogDecoder(Collection<Event> events) {
+        this(events, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public EventLogDecoder(Collection<Event> events, ForkJoinPool pool, int parallelThreshold) {
+        this.eventsByTopic = new HashMap<>(events.size() * 2);
+        for (Event event : events) {
+            EventDefinition definition = new EventDefinition(event);
+            eventsByTopic.put(definition.topic, definition);
+        }
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Returns the registered event a log was emitted by.
+     *
+     * @param log the log to look up
+     * @return the matching event, or null if none of the registered events match
+     */
+    public Event getEvent(Log log) {
+        EventDefinition definition = lookup(log);
+        return definition == null ? null : definition.event;
+    }
+
+    public List<Contract.EventValuesWithLog> decode(TransactionReceipt transactionReceipt) {
+        return decode(transactionReceipt.getLogs());
+    }
+
+    public List<Contract.EventValuesWithLog> decode(EthLog ethLog) {
+        List<Log> logs = new ArrayList<>(ethLog.getLogs().size());
+        for (EthLog.LogResult logResult : ethLog.getLogs()) {
+            if (logResult instanceof EthLog.LogObject) {
+                logs.add(((EthLog.LogObject) logResult).get());
+            }
+        }
+        return decode(logs);
+    }
+
+    public List<Contract.EventValuesWithLog> decode(List<Log> logs) {
+        Contract.EventValuesWithLog[] decoded = new Contract.EventValuesWithLog[logs.size()];
+        if (logs.size() < parallelThreshold) {
+            decodeRange(logs, decoded, 0, logs.size());
+        } else {
+            pool.invoke(new DecodeTask(logs, decoded, 0, logs.size()));
+        }
+
+        List<Contract.EventValuesWithLog> result = new ArrayList<>(decoded.length);
+        for (Contract.EventValuesWithLog eventValuesWithLog : decoded) {
+            if (eventValuesWithLog != null) {
+                result.add(eventValuesWithLog);
+            }
+        }
+        return result;
+    }
+
+    private void decodeRange(
+            List<Log> logs, Contract.EventValuesWithLog[] decoded, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Log log = logs.get(i);
+            EventDefinition definition = lookup(log);
+            if (definition != null) {
+                decoded[i] = new Contract.EventValuesWithLog(definition.decode(log), log);
+            }
+        }
+    }
+
+    private EventDefinition lookup(Log log) {
+        List<String> topics = log.getTopics();
+        if (topics == null || topics.isEmpty() || topics.get(0) == null) {
+            return null;
+        }
+        return eventsByTopic.get(topics.get(0));
+    }
+
+    private class DecodeTask extends RecursiveAction {
+        private final List<Log> logs;
+        private final Contract.EventValuesWithLog[] decoded;
+        private final int from;
+        private final int to;
+
+        DecodeTask(List<Log> logs, Contract.EventValuesWithLog[] decoded, int from, int to) {
+            this.logs = logs;
+            this.decoded = decoded;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_CHUNK_SIZE) {
+                decodeRange(logs, decoded, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new DecodeTask(logs, decoded, from, middle),
+                        new DecodeTask(logs, decoded, middle, to));
+            }
+        }
+    }
+
+    /** Event with its topic and parameter lists resolved once up front. */
+    private static class EventDefinition {
+        private final Event event;
+        private final String topic;
+        private final List<TypeReference<Type>> indexedParameters;
+        private final List<TypeReference<Type>> nonIndexedParameters;
+
+        EventDefinition(Event event) {
+            this.event = event;
+            this.topic = EventEncoder.encode(event);
+            this.indexedParameters = event.getIndexedParameters();
+            this.nonIndexedParameters = event.getNonIndexedParameters();
+        }
+
+        EventValues decode(Log log) {
+            List<String> topics = log.getTopics();
+            List<Type> nonIndexedValues =
+                    FunctionReturnDecoder.decode(log.getData(), nonIndexedParameters);
+            List<Type> indexedValues = new ArrayList<>(indexedParameters.size());
+            for (int i = 0; i < indexedParameters.size(); i++) {
+                indexedValues.add(
+                        FunctionReturnDecoder.decodeIndexedValue(
+                                topics.get(i + 1), indexedParameters.get(i)));
+            }
+            return new EventValues(indexedValues, nonIndexedValues);
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.web3j.abi.SignatureHashCache;
+import org.web3j.abi.StaticAbiCodec;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.RemoteFunctionCall;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.utils.Numeric;
+
+/**
+ * Gathers read-only {@link RemoteFunctionCall}s, possibly from many contract wrappers, and sends
+ * them to the node together.
+ *
+ * <p>When an aggregator contract is given, such as <a
+ * href="https://github.com/mds1/multicall">Multicall3</a> which is deployed at {@link
+ * #MULTICALL3_ADDRESS} on most networks, each batch is packed into a single {@code eth_call} to its
+ * {@code aggregate3} function and the returned data is split back into the typed result of each
+ * call. The calls are then made with the aggregator as {@code msg.sender}. Without an aggregator,
+ * or if none is deployed at the given address, each batch is sent as a single JSON-RPC batch of
+ * {@code eth_call} requests instead.
+ *
+ * <p>Calls made against different blocks are sent in separate batches. Calls created by wrappers
+ * which predate aggregation, or by other means, are sent one by one.
+ *
+ * <pre>
+ * MulticallBatcher batcher = new MulticallBatcher(web3j, MulticallBatcher.MULTICALL3_ADDRESS);
+ * CompletableFuture&lt;BigInteger&gt; first = batcher.add(token.balanceOf(first));
+ * CompletableFuture&lt;BigInteger&gt; second = batcher.add(token.balanceOf(second));
+ * batcher.send();
+ * </pre>
+ */
+public class MulticallBatcher {
+
+    public static final String MULTICALL3_ADDRESS = "0xcA11bde05977b3631167028862bE2a173976CA11";
+    public static final int DEFAULT_MAX_BATCH_SIZE = 200;
+
+    static final String AGGREGATE3_METHOD_ID =
+            SignatureHashCache.methodId("aggregate3((address,bool,bytes)[])");
+
+    private static final int WORD_LENGTH = 64;
+
+    private final Web3j web3j;
+    private final int maxBatchSize;
+    private volatile String aggregatorAddress;
+    private List<PendingCall<?>> pending = new ArrayList<>();
+
+    /**
+     * Sends calls as JSON-RPC batches.
+     *
+     * @param web3j web3j instance
+     */
+    public MulticallBatcher(Web3j web3j) {
+        this(web3j, null, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Sends calls through an aggregator contract.
+     *
+     * @param web3j web3j instance
+     * @param aggregatorAddress address of a contract implementing Multicall3's {@code aggregate3}
+     */
+    public MulticallBatcher(Web3j web3j, String aggregatorAddress) {
+        this(web3j, aggregatorAddress, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Sends calls through an aggregator contract, or as JSON-RPC batches when no address is given.
+     *
+     * @param web3j web3j instance
+     * @param aggregatorAddress address of a contract implementing Multicall3's {@code aggregate3},
+     *     or null
+     * @param maxBatchSize maximum number of calls sent together
+     */
+    public MulticallBatcher(Web3j web3j, String aggregatorAddress, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.web3j = web3j;
+        this.aggregatorAddress = aggregatorAddress;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Adds a call to the next batch.
+     *
+     * @param call read-only function call
+     * @param <T> result type
+     * @return future completed with the result of the call once the batch is sent
+     */
+    public synchronized <T> CompletableFuture<T> add(RemoteFunctionCall<T> call) {
+        PendingCall<T> pendingCall = new PendingCall<>(call);
+        pending.add(pendingCall);
+        return pendingCall.result;
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the aggregator calls are sent through.
+     *
+     * @return aggregator address, or null if calls are sent as JSON-RPC batches
+     */
+    public String getAggregatorAddress() {
+        return aggregatorAddress;
+    }
+
+    /**
+     * Sends all pending calls and completes their futures. A batch which can't be sent fails the
+     * futures of the calls in it, without affecting other batches.
+     */
+    public void send() {
+        List<PendingCall<?>> calls;
+        synchronized (this) {
+            calls = pending;
+            pending = new ArrayList<>();
+        }
+
+        Map<String, List<PendingCall<?>>> byBlock = new LinkedHashMap<>();
+        for (PendingCall<?> call : calls) {
+            if (call.call.isAggregatable()) {
+                byBlock.computeIfAbsent(
+                                call.call.getTarget().getDefaultBlockParameter().getValue(),
+                                k -> new ArrayList<>())
+                        .add(call);
+            } else {
+                call.sendAlone();
+            }
+        }
+
+        for (List<PendingCall<?>> blockCalls : byBlock.values()) {
+            for (int i = 0; i < blockCalls.size(); i += maxBatchSize) {
+                List<PendingCall<?>> batch =
+                        blockCalls.subList(i, Math.min(i + maxBatchSize, blockCalls.size()));
+                try {
+                    sendBatch(batch);
+                } catch (Exception e) {
+                    for (PendingCall<?> call : batch) {
+                        call.result.completeExceptionally(e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends all pending calls asynchronously.
+     *
+     * @return future completed once every pending call has completed
+     */
+    public CompletableFuture<Void> sendAsync() {
+        return CompletableFuture.runAsync(this::send);
+    }
+
+    /**
+     * Sends the given calls together with any pending calls, and waits for their results.
+     *
+     * @param calls read-only function calls
+     * @param <T> result type
+     * @return results, in the order of the calls
+     * @throws Exception the failure of the first call which failed
+     */
+    public <T> List<T> sendAll(List<? extends RemoteFunctionCall<? extends T>> calls)
+            throws Exception {
+        List<CompletableFuture<? extends T>> futures = new ArrayList<>(calls.size());
+        for (RemoteFunctionCall<? extends T> call : calls) {
+            futures.add(add(call));
+        }
+        send();
+
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<? extends T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+        return results;
+    }
+
+    private void sendBatch(List<PendingCall<?>> batch) throws Exception {
+        String aggregator = aggregatorAddress;
+        if (aggregator != null && batch.size() > 1) {
+            DefaultBlockParameter block = batch.get(0).call.getTarget().getDefaultBlockParameter();
+            EthCall response =
+                    web3j.ethCall(
+                                    Transaction.createEthCallTransaction(
+                                            null, aggregator, encodeAggregate3(batch)),
+                                    block)
+                            .send();
+            if (response.hasError()) {
+                throw new ContractCallException(
+                        "Aggregate call failed: " + response.getError().getMessage());
+            }
+            String value = Numeric.cleanHexPrefix(response.getValue());
+            if (!value.isEmpty()) {
+                completeAggregate3(batch, value);
+                return;
+            }
+            // nothing deployed at the aggregator address
+            aggregatorAddress = null;
+        }
+        sendJsonRpcBatch(batch);
+    }
+
+    private void sendJsonRpcBatch(List<PendingCall<?>> batch) throws Exception {
+        BatchRequest request = web3j.newBatch();
+        for (PendingCall<?> call : batch) {
+            RemoteFunctionCall.CallTarget target = call.call.getTarget();
+            request.add(
+                    web3j.ethCall(
+                            Transaction.createEthCallTransaction(
+                                    target.getFromAddress(),
+                                    target.getContractAddress(),
+                                    call.call.encodeFunctionCall()),
+                            target.getDefaultBlockParameter()));
+        }
+
+        BatchResponse response = request.send();
+        List<? extends Response<?>> responses = response.getResponses();
+        for (int i = 0; i < batch.size(); i++) {
+            EthCall ethCall = (EthCall) responses.get(i);
+            if (ethCall.hasError()) {
+                batch.get(i)
+                        .result
+                        .completeExceptionally(
+                                new ContractCallException(
+                                        "Call failed: " + ethCall.getError().getMessage()));
+            } else {
+                batch.get(i).complete(ethCall.getValue());
+            }
+        }
+    }
+
+    static String encodeAggregate3(List<PendingCall<?>> batch) {
+        List<String> callData = new ArrayList<>(batch.size());
+        for (PendingCall<?> call : batch) {
+            callData.add(Numeric.cleanHexPrefix(call.call.encodeFunctionCall()));
+        }
+
+        StringBuilder data = new StringBuilder(AGGREGATE3_METHOD_ID);
+        StaticAbiCodec.encodeUint(data, BigInteger.valueOf(32), 256);
+        StaticAbiCodec.encodeUint(data, BigInteger.valueOf(batch.size()), 256);
+
+        // offsets of each (address, bool, bytes) tuple, relative to the first offset
+        long offset = 32L * batch.size();
+        for (String hex : callData) {
+            StaticAbiCodec.encodeUint(data, BigInteger.valueOf(offset), 256);
+            offset += 4 * 32 + paddedLength(hex) / 2;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            String hex = callData.get(i);
+            StaticAbiCodec.encodeAddress(data, batch.get(i).call.getTarget().getContractAddress());
+            StaticAbiCodec.encodeBool(data, true);
+            StaticAbiCodec.encodeUint(data, BigInteger.valueOf(3 * 32), 256);
+            StaticAbiCodec.encodeUint(data, BigInteger.valueOf(hex.length() / 2), 256);
+            data.append(hex);
+            for (int j = hex.length(); j < paddedLength(hex); j++) {
+                data.append('0');
+            }
+        }
+        return data.toString();
+    }
+
+    /** Splits the {@code (bool success, bytes returnData)[]} returned by {@code aggregate3}. */
+    static void completeAggregate3(List<PendingCall<?>> batch, String value) {
+        int array = word(value, 0);
+        if (StaticAbiCodec.decodeUint(value, array).intValueExact() != batch.size()) {
+            throw new ContractCallException("Aggregate call returned an unexpected result count");
+        }
+
+        int elements = array + 1;
+        for (int i = 0; i < batch.size(); i++) {
+            int tuple = elements + word(value, elements + i);
+            int bytes = tuple + word(value, tuple + 1);
+            int length = StaticAbiCodec.decodeUint(value, bytes).intValueExact();
+            int start = (bytes + 1) * WORD_LENGTH;
+            if (value.length() < start + 2 * length) {
+                throw new IllegalArgumentException("Insufficient data in aggregate call result");
+            }
+
+            PendingCall<?> call = batch.get(i);
+            if (StaticAbiCodec.decodeBool(value, tuple)) {
+                call.complete("0x" + value.substring(start, start + 2 * length));
+            } else {
+                call.result.completeExceptionally(
+                        new ContractCallException(
+                                "Aggregated call to "
+                                        + call.call.getTarget().getContractAddress()
+                                        + " failed"));
+            }
+        }
+    }
+
+    /** Reads an offset in bytes at the given word, as a word index. */
+    private static int word(String value, int word) {
+        return StaticAbiCodec.decodeUint(value, word).intValueExact() / 32;
+    }
+
+    private static int paddedLength(String hex) {
+        return (hex.length() + WORD_LENGTH - 1) / WORD_LENGTH * WORD_LENGTH;
+    }
+
+    static class PendingCall<T> {
+
+        final RemoteFunctionCall<T> call;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        PendingCall(RemoteFunctionCall<T> call) {
+            this.call = call;
+        }
+
+        void complete(String value) {
+            try {
+                result.complete(call.decodeResult(value));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        void sendAlone() {
+            try {
+                result.complete(call.send());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+}
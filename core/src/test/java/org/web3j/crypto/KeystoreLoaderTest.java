@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import org.web3j.TempFileProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class KeystoreLoaderTest extends TempFileProvider {
+
+    private static final String PASSWORD = "Insecure Pa55w0rd";
+
+    @Test
+    public void testLoadDirectory() throws Exception {
+        List<String> addresses = createWallets(4);
+        Files.write(new File(tempDirPath, ".hidden").toPath(), new byte[] {1});
+
+        KeystoreLoader.Result result =
+                new KeystoreLoader(2, 64 * 1024 * 1024, null)
+                        .loadDirectory(new File(tempDirPath), PASSWORD);
+
+        assertTrue(result.getFailures().isEmpty());
+        List<String> loaded = new ArrayList<>();
+        for (Credentials credentials : result.getCredentials().values()) {
+            loaded.add(credentials.getAddress());
+        }
+        assertEquals(addresses, loaded);
+    }
+
+    @Test
+    public void testWrongPasswordIsReportedAsFailure() throws Exception {
+        createWallets(1);
+        File notKeystore = new File(tempDirPath, "z-not-a-keystore");
+        Files.write(notKeystore.toPath(), "{".getBytes());
+
+        KeystoreLoader loader = new KeystoreLoader(2, 1024, null);
+        List<File> files = Arrays.asList(new File(tempDirPath).listFiles());
+        KeystoreLoader.Result result =
+                loader.load(files, file -> file.equals(notKeystore) ? PASSWORD : "wrong");
+
+        assertTrue(result.getCredentials().isEmpty());
+        assertEquals(2, result.getFailures().size());
+        for (File file : files) {
+            Exception failure = result.getFailures().get(file);
+            assertNotNull(failure);
+            if (!file.equals(notKeystore)) {
+                assertTrue(failure instanceof CipherException);
+            }
+        }
+    }
+
+    @Test
+    public void testPermitsCappedByBudget() throws Exception {
+        WalletFile standard = Wallet.createStandard(PASSWORD, Keys.createEcKeyPair());
+        WalletFile light = Wallet.createLight(PASSWORD, Keys.createEcKeyPair());
+
+        KeystoreLoader loader = new KeystoreLoader(4, 1024L * 1024 * 1024, null);
+        // 128 * r * (N + p + 2) bytes, with r = 8
+        assertEquals((1 << 18) + 1 + 2, loader.permits(standard));
+        assertEquals((1 << 12) + 6 + 2, loader.permits(light));
+
+        KeystoreLoader small = new KeystoreLoader(4, 10 * 1024, null);
+        assertEquals(10, small.permits(standard));
+    }
+
+    @Test
+    public void testCachedKeysSkipDecryption() throws Exception {
+        createWallets(1);
+        File file = new File(tempDirPath).listFiles()[0];
+        DecryptedKeyCache cache = new DecryptedKeyCache(10, 60_000);
+        KeystoreLoader loader = new KeystoreLoader(1, 64 * 1024 * 1024, cache);
+
+        Credentials first = loader.load(file, PASSWORD);
+        assertEquals(1, cache.size());
+        Credentials second = loader.load(file, PASSWORD);
+        assertEquals(first.getEcKeyPair(), second.getEcKeyPair());
+
+        try {
+            loader.load(file, "wrong");
+            fail();
+        } catch (CipherException expected) {
+            // a different password is not served from the cache
+        }
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testCacheEvictionAndExpiry() throws Exception {
+        AtomicLong now = new AtomicLong();
+        DecryptedKeyCache cache = new DecryptedKeyCache(2, 1000, now::get);
+        ECKeyPair keyPair = Keys.createEcKeyPair();
+
+        cache.put("a", keyPair);
+        cache.put("b", keyPair);
+        assertEquals(keyPair, cache.get("a"));
+        cache.put("c", keyPair);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals(keyPair, cache.get("a"));
+
+        now.set(1000);
+        assertNull(cache.get("a"));
+        cache.evictExpired();
+        assertEquals(0, cache.size());
+
+        cache.put("d", keyPair);
+        cache.invalidateAll();
+        assertNull(cache.get("d"));
+    }
+
+    private List<String> createWallets(int count) throws Exception {
+        List<String> fileNames = new ArrayList<>();
+        List<ECKeyPair> keyPairs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ECKeyPair keyPair = Keys.createEcKeyPair();
+            keyPairs.add(keyPair);
+            fileNames.add(
+                    WalletUtils.generateWalletFile(
+                            PASSWORD, keyPair, new File(tempDirPath), false));
+        }
+        List<String> sorted = new ArrayList<>(fileNames);
+        sorted.sort(null);
+        List<String> addresses = new ArrayList<>();
+        for (String fileName : sorted) {
+            addresses.add(
+                    Credentials.create(keyPairs.get(fileNames.indexOf(fileName))).getAddress());
+        }
+        return addresses;
+    }
+}
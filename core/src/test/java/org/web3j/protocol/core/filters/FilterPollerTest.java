@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FilterPollerTest {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final Web3jService web3jService = mock(Web3jService.class);
+    private final ScheduledExecutorService scheduledExecutorService =
+            mock(ScheduledExecutorService.class);
+    private final Web3j web3j = Web3j.build(web3jService, 1000, scheduledExecutorService);
+
+    private final List<BatchRequest> batches = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        when(web3jService.send(any(Request.class), eq(EthFilter.class)))
+                .thenReturn(reply("\"0x1\"", EthFilter.class))
+                .thenReturn(reply("\"0x2\"", EthFilter.class));
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batch = (BatchRequest) invocation.getArguments()[0];
+                            batches.add(batch);
+                            return new BatchResponse(
+                                    batch.getRequests(),
+                                    Arrays.asList(
+                                            reply("[\"0xa\"]", EthLog.class),
+                                            reply("[\"0xb\"]", EthLog.class)));
+                        });
+    }
+
+    @Test
+    public void testPollsAllFiltersInOneBatch() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        FilterPoller poller = new FilterPoller(web3j, scheduledExecutorService, 1000);
+        poller.add(new BlockFilter(web3j, first::add));
+        poller.add(new BlockFilter(web3j, second::add));
+
+        poller.poll();
+
+        assertThat(batches.size(), is(1));
+        assertThat(batches.get(0).getRequests().size(), is(2));
+        assertThat(batches.get(0).getRequests().get(0).getMethod(), is("eth_getFilterChanges"));
+        assertThat(first, is(Arrays.asList("0xa")));
+        assertThat(second, is(Arrays.asList("0xb")));
+        verify(scheduledExecutorService).schedule(any(Runnable.class), eq(0L), any());
+        verify(scheduledExecutorService).schedule(any(Runnable.class), eq(1000L), any());
+    }
+
+    @Test
+    public void testAdaptsPollingIntervalToObservedChanges() {
+        FilterPoller poller = new FilterPoller(web3j, scheduledExecutorService, 1000, 100, 2000);
+
+        long time = 0;
+        for (int i = 0; i < 50; i++) {
+            poller.adaptPollingInterval(time);
+            time += 400;
+        }
+        assertThat(poller.getPollingInterval(), is(200L));
+
+        for (int i = 0; i < 50; i++) {
+            poller.adaptPollingInterval(time);
+            time += 10_000;
+        }
+        assertThat(poller.getPollingInterval(), is(2000L));
+    }
+
+    private <T> T reply(String result, Class<T> type) throws Exception {
+        return objectMapper.readValue(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + result + "}", type);
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.web3j.protocol.core.filters;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -30,7 +31,10 @@ import org.junit.Before;
 import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.response.EthFilter;
 import org.web3j.protocol.core.methods.response.EthLog;
 import org.web3j.protocol.core.methods.response.EthUninstallFilter;
@@ -94,6 +98,18 @@ public abstract class FilterTester {
                 .thenReturn(ethLog);
         when(web3jService.send(any(Request.class), eq(EthUninstallFilter.class)))
                 .thenReturn(ethUninstallFilter);
+        // filter changes are polled in batches
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batch = (BatchRequest) invocation.getArguments()[0];
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ? extends Response<?>> request : batch.getRequests()) {
+                                responses.add(
+                                        web3jService.send(request, request.getResponseType()));
+                            }
+                            return new BatchResponse(batch.getRequests(), responses);
+                        });
 
         Disposable subscription =
                 flowable.subscribe(
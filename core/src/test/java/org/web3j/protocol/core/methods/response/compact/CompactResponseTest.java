@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.methods.response.compact;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import org.web3j.protocol.ResponseTester;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class CompactResponseTest extends ResponseTester {
+
+    private static final String LOG =
+            "{\n"
+                    + "  \"removed\": false,\n"
+                    + "  \"logIndex\": \"0x1\",\n"
+                    + "  \"transactionIndex\": \"0x0\",\n"
+                    + "  \"transactionHash\": \"0xdf829c5a142f1fccd7d8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcf\",\n"
+                    + "  \"blockHash\": \"0x8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcfdf829c5a142f1fccd7d\",\n"
+                    + "  \"blockNumber\":\"0x1b4\",\n"
+                    + "  \"address\": \"0x16c5785ac562ff41e2dcfdf829c5a142f1fccd7d\",\n"
+                    + "  \"data\":\"0x0000000000000000000000000000000000000000000000000000000000000001\",\n"
+                    + "  \"type\":\"mined\",\n"
+                    + "  \"topics\": [\"0x59ebeb90bc63057b6515673c3ecf9438e5058bca0f92585014eced636878c9a5\"]\n"
+                    + "}";
+
+    @Test
+    public void testCompactLogs() {
+        buildResponse("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[" + LOG + "," + LOG + "]}");
+
+        EthCompactLog compact = deserialiseResponse(EthCompactLog.class);
+        EthLog regular = deserialiseResponse(EthLog.class);
+
+        assertThat(compact.getLogs().size(), is(2));
+        CompactLog log = compact.getLogs().get(0);
+        assertThat(log.getLogIndex(), is(1L));
+        assertThat(log.getBlockNumber(), is(436L));
+        assertFalse(log.isPending());
+        assertThat(log.getTopicCount(), is(1));
+        assertThat(log.toLog(), equalTo(regular.getLogs().get(0).get()));
+
+        // addresses and topics repeated across logs share a single array
+        CompactLog other = compact.getLogs().get(1);
+        assertThat(other.getAddressBytes(), sameInstance(log.getAddressBytes()));
+        assertThat(other.getTopicBytes(0), sameInstance(log.getTopicBytes(0)));
+    }
+
+    @Test
+    public void testCompactTransactionReceipt() {
+        buildResponse(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\n"
+                        + "  \"transactionHash\": \"0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786408fcbce568238\",\n"
+                        + "  \"transactionIndex\": \"0x1\",\n"
+                        + "  \"blockHash\": \"0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b\",\n"
+                        + "  \"blockNumber\": \"0xb\",\n"
+                        + "  \"cumulativeGasUsed\": \"0x33bc\",\n"
+                        + "  \"gasUsed\": \"0x4dc\",\n"
+                        + "  \"contractAddress\": \"0xb60e8dd61c5d32be8058bb8eb970870f07233155\",\n"
+                        + "  \"status\": \"0x1\",\n"
+                        + "  \"from\": \"0x407d73d8a49eeb85d32cf465507dd71d507100c1\",\n"
+                        + "  \"to\": \"0x85443d8a49eeb85d32cf465507dd71d507100c1a\",\n"
+                        + "  \"logs\": ["
+                        + LOG
+                        + "],\n"
+                        + "  \"logsBloom\": \"0x00\"\n"
+                        + "}}");
+
+        CompactTransactionReceipt receipt =
+                deserialiseResponse(EthGetCompactTransactionReceipt.class)
+                        .getTransactionReceipt()
+                        .get();
+        EthGetTransactionReceipt regular = deserialiseResponse(EthGetTransactionReceipt.class);
+
+        assertThat(receipt.getBlockNumber(), is(11L));
+        assertThat(receipt.getGasUsed(), is(1244L));
+        assertTrue(receipt.isStatusOK());
+        assertThat(receipt.toTransactionReceipt(), equalTo(regular.getTransactionReceipt().get()));
+    }
+
+    @Test
+    public void testCompactTransaction() {
+        buildResponse(
+                "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\n"
+                        + "  \"hash\":\"0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b\",\n"
+                        + "  \"nonce\":\"0x5\",\n"
+                        + "  \"blockHash\": \"0xbeab0aa2411b7ab17f30a99d3cb9c6ef2fc5426d6ad6fd9e2a26a6aed1d1055b\",\n"
+                        + "  \"blockNumber\": \"0x15df\",\n"
+                        + "  \"transactionIndex\":  \"0x1\",\n"
+                        + "  \"from\":\"0x407d73d8a49eeb85d32cf465507dd71d507100c1\",\n"
+                        + "  \"to\":\"0x85443d8a49eeb85d32cf465507dd71d507100c1a\",\n"
+                        + "  \"value\":\"0x1bc16d674ec800000\",\n"
+                        + "  \"gas\":\"0x7f110\",\n"
+                        + "  \"gasPrice\":\"0x9184e72a000\",\n"
+                        + "  \"input\":\"0x603880600c6000396000f300603880600c6000396000f3603880600c6000396000f360\",\n"
+                        + "  \"publicKey\":\"0x6614d7d7bfe989295821985de0439e868b26ff05f98ae0da0ce5bccc24ea368a083b785323c9fcb405dd4c10a2c95d93312a1b2d68beb24ab4ea7c3c2f7c455b\",\n"
+                        + "  \"raw\":\"0xf8cd83103a0e8504a817c800830e57e0945b2aae2dac2e8f8ba6e97c4ed1b8e7f05b1c2eb80b84\",\n"
+                        + "  \"r\":\"0xf115cc4d7516dd430046504e1c888198e0323e8ded016d755f89c226ba3481dc\",\n"
+                        + "  \"s\":\"0x4a2ae8ee49f1100b5c0202b37ed8bacf4caeddebde6b7f77e12e7a55893e9f62\",\n"
+                        + "  \"v\":0\n"
+                        + "}}");
+
+        CompactTransaction transaction =
+                deserialiseResponse(EthCompactTransaction.class).getTransaction().get();
+        EthTransaction regular = deserialiseResponse(EthTransaction.class);
+
+        // value does not fit in a long, gas price does
+        assertThat(transaction.getValue(), is(new BigInteger("32000000000000000000")));
+        assertThat(transaction.getGasPrice(), is(BigInteger.valueOf(10_000_000_000_000L)));
+        assertThat(transaction.toTransaction(), equalTo(regular.getTransaction().get()));
+    }
+
+    @Test
+    public void testNullResults() {
+        buildResponse("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":null}");
+
+        assertFalse(
+                deserialiseResponse(EthGetCompactTransactionReceipt.class)
+                        .getTransactionReceipt()
+                        .isPresent());
+        assertNull(deserialiseResponse(EthCompactLog.class).getLogs());
+    }
+}
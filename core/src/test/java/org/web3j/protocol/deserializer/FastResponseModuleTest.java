@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.deserializer;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthTransaction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public class FastResponseModuleTest {
+
+    private static final String LOG =
+            "{\"removed\":false,\"logIndex\":\"0x1\",\"transactionIndex\":\"0x0\","
+                    + "\"transactionHash\":\"0xdf829c5a142f1fccd7d8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcf\","
+                    + "\"blockHash\":\"0x8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcfdf829c5a142f1fccd7d\","
+                    + "\"blockNumber\":\"0x1b4\",\"address\":\"0x16c5785ac562ff41e2dcfdf829c5a142f1fccd7d\","
+                    + "\"data\":\"0x0000000000000000000000000000000000000000000000000000000000000001\","
+                    + "\"type\":\"mined\",\"unknown\":{\"nested\":[1,2]},"
+                    + "\"topics\":[\"0x59ebeb90bc63057b6515673c3ecf9438e5058bca0f92585014eced636878c9a5\"]}";
+
+    private static final String TRANSACTION =
+            "{\"hash\":\"0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b\","
+                    + "\"nonce\":\"0x\",\"blockHash\":\"0xbeab0aa2411b7ab17f30a99d3cb9c6ef2fc5426d6ad6fd9e2a26a6aed1d1055b\","
+                    + "\"blockNumber\":\"0x15df\",\"transactionIndex\":\"0x1\","
+                    + "\"from\":\"0x407d73d8a49eeb85d32cf465507dd71d507100c1\","
+                    + "\"to\":\"0x85h43d8a49eeb85d32cf465507dd71d507100c1\",\"value\":\"0x7f110\","
+                    + "\"gas\":\"0x7f110\",\"gasPrice\":\"0x09184e72a000\",\"input\":\"0x603880600c6000396000f300603880600c6000396000f3603880600c6000396000f360\","
+                    + "\"creates\":null,\"publicKey\":\"0x6614d7d7bfe989295821985de0439e868b26ff05f98ae0da0ce5bccc24ea368a083b785323c9fcb405dd4c10a2c95d93312a1b2d68beb24ab4ea7c3c2f7c455b\","
+                    + "\"raw\":\"0xf8cd83103a048504a817c800830e57e0945d3c0fa6a1a1e7b9aa9e3e3a8e9ac76d6e5e8c5e80b864a9059cbb\","
+                    + "\"r\":\"0xf115cc4d7516dd430046504e1c888198e0323e8ded016d755f89c226ba3481dc\","
+                    + "\"s\":\"0x4a2ae8ee49f1100b5c0202b37ed8bacf4caeddebde6b7f77e12e7a55893e9f62\","
+                    + "\"v\":%s}";
+
+    private final ObjectMapper defaultMapper = ObjectMapperFactory.getObjectMapper();
+    private final ObjectMapper strictMapper = ObjectMapperFactory.getStrictObjectMapper();
+
+    @Test
+    public void testBlockWithTransactionObjects() throws IOException {
+        String json =
+                response(
+                        block(
+                                String.format(TRANSACTION, "\"0x25\"")
+                                        + ","
+                                        + String.format(TRANSACTION, "0")));
+
+        EthBlock.Block block = read(json, EthBlock.class).getBlock();
+        assertThat(block, equalTo(readDefault(json, EthBlock.class).getBlock()));
+        assertThat(block.getTransactions().size(), is(2));
+        assertThat(((EthBlock.TransactionObject) block.getTransactions().get(0)).getV(), is(37L));
+    }
+
+    @Test
+    public void testBlockWithTransactionHashes() throws IOException {
+        String json =
+                response(
+                        block(
+                                "\"0xe670ec64341771606e55d6b4ca35a1a6b75ee3d5145a99d05921026d1527331\","
+                                        + "\"0xd5855eb08b3387c0af375e9cdb6acfc05eb8f519e419b874b6ff2ffda7ed1df\""));
+
+        assertThat(
+                read(json, EthBlock.class).getBlock(),
+                equalTo(readDefault(json, EthBlock.class).getBlock()));
+    }
+
+    @Test
+    public void testTransaction() throws IOException {
+        String json = response(String.format(TRANSACTION, "\"0x1c\""));
+
+        assertThat(
+                read(json, EthTransaction.class).getTransaction().get(),
+                equalTo(readDefault(json, EthTransaction.class).getTransaction().get()));
+    }
+
+    @Test
+    public void testTransactionReceipt() throws IOException {
+        String json =
+                response(
+                        "{\"transactionHash\":\"0xb903239f8543d04b5dc1ba6579132b143087c68db1b2168786408fcbce568238\","
+                                + "\"transactionIndex\":\"0x1\","
+                                + "\"blockHash\":\"0xc6ef2fc5426d6ad6fd9e2a26abeab0aa2411b7ab17f30a99d3cb96aed1d1055b\","
+                                + "\"blockNumber\":\"0xb\",\"cumulativeGasUsed\":\"0x33bc\",\"gasUsed\":\"0x4dc\","
+                                + "\"contractAddress\":\"0xb60e8dd61c5d32be8058bb8eb970870f07233155\","
+                                + "\"status\":\"0x1\",\"from\":\"0x407d73d8a49eeb85d32cf465507dd71d507100c1\","
+                                + "\"to\":\"0x85h43d8a49eeb85d32cf465507dd71d507100c1\","
+                                + "\"logs\":["
+                                + LOG
+                                + ","
+                                + LOG
+                                + "],\"logsBloom\":\"0x00\"}");
+
+        assertThat(
+                read(json, EthGetTransactionReceipt.class).getTransactionReceipt().get(),
+                equalTo(
+                        readDefault(json, EthGetTransactionReceipt.class)
+                                .getTransactionReceipt()
+                                .get()));
+    }
+
+    @Test
+    public void testLogs() throws IOException {
+        String json = response("[" + LOG + "," + LOG + "]");
+
+        EthLog ethLog = read(json, EthLog.class);
+        assertThat(ethLog.getLogs(), equalTo(readDefault(json, EthLog.class).getLogs()));
+        assertThat(ethLog.getLogs().size(), is(2));
+    }
+
+    @Test
+    public void testLogHashes() throws IOException {
+        String json =
+                response(
+                        "[\"0xdf829c5a142f1fccd7d8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcf\","
+                                + "\"0x8216c5785ac562ff41e2dcfdf5785ac562ff41e2dcfdf829c5a142f1fccd7d\"]");
+
+        EthLog ethLog = read(json, EthLog.class);
+        assertThat(ethLog.getLogs(), equalTo(readDefault(json, EthLog.class).getLogs()));
+        assertThat(ethLog.getLogs().size(), is(2));
+    }
+
+    @Test
+    public void testNullResult() throws IOException {
+        String json = response("null");
+
+        assertNull(read(json, EthBlock.class).getBlock());
+        assertFalse(read(json, EthGetTransactionReceipt.class).getTransactionReceipt().isPresent());
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void testRejectsUnquotedFieldNames() throws IOException {
+        read("{id:1,\"jsonrpc\":\"2.0\",\"result\":null}", EthBlock.class);
+    }
+
+    private <T> T read(String json, Class<T> type) throws IOException {
+        return strictMapper.readValue(json, type);
+    }
+
+    private <T> T readDefault(String json, Class<T> type) throws IOException {
+        return defaultMapper.readValue(json, type);
+    }
+
+    private static String response(String result) {
+        return "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":" + result + "}";
+    }
+
+    private static String block(String transactions) {
+        return "{\"number\":\"0x1b4\","
+                + "\"hash\":\"0xe670ec64341771606e55d6b4ca35a1a6b75ee3d5145a99d05921026d1527331\","
+                + "\"parentHash\":\"0x9646252be9520f6e71339a8df9c55e4d7619deeb018d2a3f2d21fc165dde5eb5\","
+                + "\"nonce\":\"0xe04d296d2460cfb8472af2c5fd05b5a214109c25688d3704aed5484f9a7792f2\","
+                + "\"sha3Uncles\":\"0x1dcc4de8dec75d7aab85b567b6ccd41ad312451b948a7413f0a142fd40d49347\","
+                + "\"logsBloom\":\"0xe670ec64341771606e55d6b4ca35a1a6b75ee3d5145a99d05921026d1527331\","
+                + "\"transactionsRoot\":\"0x56e81f171bcc55a6ff8345e692c0f86e5b48e01b996cadc001622fb5e363b421\","
+                + "\"stateRoot\":\"0xd5855eb08b3387c0af375e9cdb6acfc05eb8f519e419b874b6ff2ffda7ed1dff\","
+                + "\"receiptsRoot\":\"0x56e81f171bcc55a6ff8345e692c0f86e5b48e01b996cadc001622fb5e363b421\","
+                + "\"author\":\"0x1a95ad5ccdb0677af951810c6ddf4935afe4e5a6\","
+                + "\"miner\":\"0x4e65fda2159562a496f9f3522f89122a3088497a\","
+                + "\"mixHash\":\"0x57919c4e72e79ad7705a26e7ecd5a08ff546ac4fa37882e9cc57be87a3dab26b\","
+                + "\"difficulty\":\"0x027f07\",\"totalDifficulty\":\"0x027f07\","
+                + "\"extraData\":\"0x0000000000000000000000000000000000000000000000000000000000000000\","
+                + "\"size\":\"0x027f07\",\"gasLimit\":\"0x9f759\",\"gasUsed\":\"0x9f759\","
+                + "\"timestamp\":\"0x54e34e8e\",\"transactions\":["
+                + transactions
+                + "],\"uncles\":[\"0x1dcc4de8dec75d7aab85b567b6ccd41ad312451b948a7413f0a142fd40d49347\"],"
+                + "\"sealFields\":[\"0x57919c4e72e79ad7705a26e7ecd5a08ff546ac4fa37882e9cc57be87a3dab26b\"]}";
+    }
+}
@@ -26,9 +26,12 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.response.EthBlockNumber;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
 import org.web3j.protocol.exceptions.ClientConnectionException;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
 
@@ -105,6 +108,50 @@ public class HttpServiceTest {
         Assert.fail("No exception");
     }
 
+    @Test
+    public void testSendBatchWithRepliesInAnyOrder() throws IOException {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        HttpService mockedHttpService = new HttpService(httpClient);
+        Request<?, EthBlockNumber> blockNumber =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        mockedHttpService,
+                        EthBlockNumber.class);
+        Request<?, Web3ClientVersion> clientVersion =
+                new Request<>(
+                        "web3_clientVersion",
+                        Collections.emptyList(),
+                        mockedHttpService,
+                        Web3ClientVersion.class);
+        String content =
+                String.format(
+                        "[{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":\"geth\"},"
+                                + "{\"jsonrpc\":\"2.0\",\"id\":%d,\"result\":\"0x10\"}]",
+                        clientVersion.getId(), blockNumber.getId());
+        Response response =
+                new Response.Builder()
+                        .code(200)
+                        .message("")
+                        .body(ResponseBody.create(null, content))
+                        .request(new okhttp3.Request.Builder().url(HttpService.DEFAULT_URL).build())
+                        .protocol(Protocol.HTTP_1_1)
+                        .build();
+        Call call = Mockito.mock(Call.class);
+        Mockito.when(call.execute()).thenReturn(response);
+        Mockito.when(httpClient.newCall(Mockito.any())).thenReturn(call);
+
+        BatchResponse batchResponse =
+                new BatchRequest(mockedHttpService).add(blockNumber).add(clientVersion).send();
+
+        Assert.assertEquals(
+                16,
+                ((EthBlockNumber) batchResponse.getResponses().get(0)).getBlockNumber().intValue());
+        Assert.assertEquals(
+                "geth",
+                ((Web3ClientVersion) batchResponse.getResponses().get(1)).getWeb3ClientVersion());
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void subscriptionNotSupported() {
         Request<Object, EthSubscribe> subscribeRequest =
@@ -18,8 +18,10 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.core.methods.response.Web3ClientVersion;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -52,4 +54,24 @@ public class IpcServiceTest {
 
         verify(ioFacade).write("{\"jsonrpc\":\"2.0\",\"method\":null,\"params\":null,\"id\":0}");
     }
+
+    @Test
+    public void testSendStreaming() throws IOException {
+        when(ioFacade.read())
+                .thenReturn("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"gas\":21000}}\n");
+
+        Response<Integer> response =
+                ipcService.sendStreaming(
+                        new Request(),
+                        parser -> {
+                            parser.nextToken();
+                            parser.nextToken();
+                            int gas = parser.getIntValue();
+                            parser.nextToken();
+                            return gas;
+                        });
+
+        assertEquals(Integer.valueOf(21000), response.getResult());
+        verify(ioFacade).close();
+    }
 }
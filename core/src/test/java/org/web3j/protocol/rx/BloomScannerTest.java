@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import io.reactivex.Flowable;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.utils.Bloom;
+import org.web3j.utils.Numeric;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BloomScannerTest {
+
+    private static final String CONTRACT = "0x52bc44d5378309ee2abf1539bf71de1b7d7be3b5";
+    private static final String OTHER = "0x0718197b9ac69127381ed0c4b5d0f724f857c4d1";
+    private static final String TRANSFER =
+            "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+    private static final String APPROVAL =
+            "0x8c5be1e5ebec7d5bd14f71427d1e84f3dd0314c0f7b2291e5b200ac8c7c3b925";
+
+    private final Web3jService web3jService = mock(Web3jService.class);
+    private final Web3j web3j = Web3j.build(web3jService);
+
+    private final Map<String, EthGetTransactionReceipt> receipts = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        when(web3jService.send(any(Request.class), eq(EthGetTransactionReceipt.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+                            String hash = (String) request.getParams().get(0);
+                            if (!receipts.containsKey(hash)) {
+                                throw new AssertionError("Unexpected receipt fetch: " + hash);
+                            }
+                            return receipts.get(hash);
+                        });
+        when(web3jService.sendBatchAsync(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batch = (BatchRequest) invocation.getArguments()[0];
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ? extends Response<?>> request : batch.getRequests()) {
+                                responses.add(
+                                        web3jService.send(request, request.getResponseType()));
+                            }
+                            return CompletableFuture.completedFuture(
+                                    new BatchResponse(batch.getRequests(), responses));
+                        });
+    }
+
+    @Test
+    public void testOnlyFetchesReceiptsOfMatchingBlocks() {
+        TransactionReceipt matching = receipt("0x1", log(CONTRACT, TRANSFER));
+        TransactionReceipt otherTopic = receipt("0x2", log(CONTRACT, APPROVAL));
+        TransactionReceipt otherContract = receipt("0x3", log(OTHER, TRANSFER));
+        EthBlock first = block(otherTopic, matching);
+        EthBlock second = block(otherContract);
+        // not registered, so fetching its receipt fails the test
+        EthBlock skipped = block(receipt("0x4", log(OTHER, APPROVAL)));
+        receipts.remove("0x4");
+
+        BloomScanner scanner =
+                new BloomScanner(
+                        web3j,
+                        Collections.singletonList(CONTRACT),
+                        Collections.singletonList(Collections.singletonList(TRANSFER)));
+        List<String> found =
+                scanner.scan(Flowable.just(first, second, skipped))
+                        .map(TransactionReceipt::getTransactionHash)
+                        .toList()
+                        .blockingGet();
+
+        assertThat(found, is(Collections.singletonList("0x1")));
+        assertThat(scanner.getScannedBlockCount(), is(3L));
+        assertThat(scanner.getMatchedBlockCount(), is(1L));
+        // the receipts of the matching block are fetched in one batch
+        verify(web3jService, times(1)).sendBatchAsync(any(BatchRequest.class));
+    }
+
+    @Test
+    public void testFailsIfReceiptIsMissing() {
+        EthBlock block = block(receipt("0x1", log(CONTRACT, TRANSFER)));
+        // not mined yet, or pruned by the node
+        receipts.put("0x1", new EthGetTransactionReceipt());
+
+        BloomScanner scanner =
+                new BloomScanner(
+                        web3j, Collections.singletonList(CONTRACT), Collections.emptyList());
+        scanner.scan(Flowable.just(block))
+                .test()
+                .assertError(
+                        e ->
+                                e instanceof IOException
+                                        && e.getMessage()
+                                                .equals("Missing receipt of transaction 0x1"));
+    }
+
+    @Test
+    public void testMatchesLogs() {
+        BloomScanner scanner =
+                new BloomScanner(
+                        web3j,
+                        Collections.emptyList(),
+                        Arrays.asList(
+                                Collections.emptyList(), Collections.singletonList(APPROVAL)));
+
+        assertThat(scanner.matches(log(OTHER, APPROVAL, TRANSFER)), is(false));
+        assertThat(scanner.matches(log(OTHER, TRANSFER, APPROVAL.toUpperCase())), is(true));
+        assertThat(scanner.matches(log(OTHER, TRANSFER, APPROVAL)), is(true));
+        assertThat(scanner.matches(log(OTHER, TRANSFER)), is(false));
+    }
+
+    private TransactionReceipt receipt(String hash, Log... logs) {
+        byte[] bits = new byte[Bloom.BYTES];
+        for (Log log : logs) {
+            Bloom.Key.of(log.getAddress()).addTo(bits);
+            log.getTopics().forEach(topic -> Bloom.Key.of(topic).addTo(bits));
+        }
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash(hash);
+        receipt.setLogs(Arrays.asList(logs));
+        receipt.setLogsBloom(Numeric.toHexString(bits));
+        EthGetTransactionReceipt response = new EthGetTransactionReceipt();
+        response.setResult(receipt);
+        receipts.put(hash, response);
+        return receipt;
+    }
+
+    private static EthBlock block(TransactionReceipt... receipts) {
+        byte[] bits = new byte[Bloom.BYTES];
+        for (TransactionReceipt receipt : receipts) {
+            byte[] receiptBits = Numeric.hexStringToByteArray(receipt.getLogsBloom());
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] |= receiptBits[i];
+            }
+        }
+        EthBlock.Block block = new EthBlock.Block();
+        block.setLogsBloom(Numeric.toHexString(bits));
+        block.setTransactions(
+                Arrays.stream(receipts)
+                        .map(
+                                receipt ->
+                                        (EthBlock.TransactionResult)
+                                                new EthBlock.TransactionHash(
+                                                        receipt.getTransactionHash()))
+                        .collect(Collectors.toList()));
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        return ethBlock;
+    }
+
+    private static Log log(String address, String... topics) {
+        Log log = new Log();
+        log.setAddress(address);
+        log.setTopics(Arrays.asList(topics));
+        return log;
+    }
+}
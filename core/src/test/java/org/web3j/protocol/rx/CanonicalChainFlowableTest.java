@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.reactivex.Flowable;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.utils.Numeric;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CanonicalChainFlowableTest {
+
+    private final Web3jService web3jService = mock(Web3jService.class);
+    private final Web3j web3j = Web3j.build(web3jService);
+
+    private final Map<String, EthBlock> blocksByHash = new HashMap<>();
+    private final List<String> fetched = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        when(web3jService.send(any(Request.class), eq(EthBlock.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+                            String hash = (String) request.getParams().get(0);
+                            fetched.add(hash);
+                            return blocksByHash.get(hash);
+                        });
+    }
+
+    @Test
+    public void testEmitsAddedBlocksInOrder() {
+        List<String> events =
+                events(block(1, "a1", "a0"), block(2, "a2", "a1"), block(3, "a3", "a2"));
+
+        assertThat(events, is(Arrays.asList("+a1", "+a2", "+a3")));
+    }
+
+    @Test
+    public void testFetchesSkippedBlocks() {
+        block(2, "a2", "a1");
+        List<String> events = events(block(1, "a1", "a0"), block(3, "a3", "a2"));
+
+        assertThat(events, is(Arrays.asList("+a1", "+a2", "+a3")));
+    }
+
+    @Test
+    public void testDetectsReorg() {
+        block(2, "b2", "a1");
+        List<String> events =
+                events(
+                        block(1, "a1", "a0"),
+                        block(2, "a2", "a1"),
+                        block(3, "a3", "a2"),
+                        block(3, "b3", "b2"),
+                        block(4, "b4", "b3"));
+
+        assertThat(
+                events, is(Arrays.asList("+a1", "+a2", "+a3", "-a3", "-a2", "+b2", "+b3", "+b4")));
+    }
+
+    @Test
+    public void testIgnoresDuplicateBlocks() {
+        List<String> events = events(block(1, "a1", "a0"), block(1, "a1", "a0"));
+
+        assertThat(events, is(Arrays.asList("+a1")));
+    }
+
+    @Test
+    public void testConfirmed() {
+        block(2, "b2", "a1");
+        Flowable<EthBlock> blocks =
+                Flowable.just(
+                        block(1, "a1", "a0"),
+                        block(2, "a2", "a1"),
+                        block(3, "b3", "b2"),
+                        block(4, "b4", "b3"),
+                        block(5, "b5", "b4"));
+
+        List<String> confirmed =
+                new CanonicalChainFlowable(web3j, blocks, false, 8)
+                        .confirmed(2)
+                        .map(EthBlock.Block::getHash)
+                        .toList()
+                        .blockingGet();
+
+        assertThat(confirmed, is(Arrays.asList("a1", "b2", "b3")));
+    }
+
+    @Test
+    public void testSubscriptionsShareChain() throws Exception {
+        block(2, "a2", "a1");
+        PublishProcessor<EthBlock> blocks = PublishProcessor.create();
+        CanonicalChainFlowable chain = new CanonicalChainFlowable(web3j, blocks, false, 8);
+
+        TestSubscriber<CanonicalChainFlowable.BlockEvent> events = chain.events().test();
+        TestSubscriber<String> confirmed = chain.confirmed(2).map(EthBlock.Block::getHash).test();
+        blocks.onNext(block(1, "a1", "a0"));
+        blocks.onNext(block(3, "a3", "a2"));
+
+        events.assertValueCount(3);
+        confirmed.assertValues("a1");
+        // the skipped block is fetched once for both subscriptions, and the confirmed one by hash
+        assertThat(fetched, is(Arrays.asList("a2", "a1")));
+        assertThat(blocks.hasSubscribers(), is(true));
+
+        events.dispose();
+        confirmed.dispose();
+        assertThat(blocks.hasSubscribers(), is(false));
+    }
+
+    @Test
+    public void testResetsOnReorgDeeperThanCapacity() {
+        block(1, "b1", "b0");
+        block(2, "b2", "b1");
+        Flowable<EthBlock> blocks =
+                Flowable.just(block(2, "a2", "a1"), block(3, "a3", "a2"), block(3, "b3", "b2"));
+
+        List<String> events = events(2, blocks);
+
+        assertThat(events, is(Arrays.asList("+a2", "+a3", "!a3", "+b2", "+b3")));
+    }
+
+    private List<String> events(EthBlock... blocks) {
+        return events(8, Flowable.fromArray(blocks));
+    }
+
+    private List<String> events(int capacity, Flowable<EthBlock> blocks) {
+        return new CanonicalChainFlowable(web3j, blocks, false, capacity)
+                .events()
+                .map(CanonicalChainFlowableTest::describe)
+                .toList()
+                .blockingGet();
+    }
+
+    private static String describe(CanonicalChainFlowable.BlockEvent event) {
+        if (event instanceof CanonicalChainFlowable.BlockAdded) {
+            return "+" + event.getBlockHash();
+        } else if (event instanceof CanonicalChainFlowable.BlockRemoved) {
+            return "-" + event.getBlockHash();
+        } else {
+            return "!" + event.getBlockHash();
+        }
+    }
+
+    private EthBlock block(long number, String hash, String parentHash) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setNumber(Numeric.encodeQuantity(BigInteger.valueOf(number)));
+        block.setHash(hash);
+        block.setParentHash(parentHash);
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        blocksByHash.put(hash, ethBlock);
+        return ethBlock;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx.replay;
+
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import org.web3j.TempFileProvider;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MappedFileCursorStoreTest extends TempFileProvider {
+
+    private static final String HASH_1 =
+            "0x31c2342b1e0b8ffda1507fbffddf213c4b3c1e819ff6a84b943faabb0ebf2403";
+    private static final String HASH_2 =
+            "0xccc0d2e07c1febcaca0c3341c4e1268204b06fefa4bb0c8c0d693d8e581c82da";
+
+    @Test
+    public void testEmptyStore() throws Exception {
+        try (MappedFileCursorStore store = new MappedFileCursorStore(path())) {
+            assertThat(store.load(), is(Optional.empty()));
+        }
+    }
+
+    @Test
+    public void testResumesFromLastCommit() throws Exception {
+        try (MappedFileCursorStore store = new MappedFileCursorStore(path())) {
+            store.commit(cursor(1, HASH_1));
+            store.commit(cursor(2, HASH_2));
+        }
+
+        try (MappedFileCursorStore store = new MappedFileCursorStore(path())) {
+            assertThat(store.load(), is(Optional.of(cursor(2, HASH_2))));
+        }
+    }
+
+    @Test
+    public void testIgnoresTornRecord() throws Exception {
+        try (MappedFileCursorStore store = new MappedFileCursorStore(path())) {
+            store.commit(cursor(1, HASH_1));
+            store.commit(cursor(2, HASH_2));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path().toFile(), "rw")) {
+            file.seek(MappedFileCursorStore.RECORD_SIZE + 10);
+            file.write(0xff);
+        }
+
+        try (MappedFileCursorStore store = new MappedFileCursorStore(path())) {
+            assertThat(store.load(), is(Optional.of(cursor(1, HASH_1))));
+        }
+    }
+
+    @Test
+    public void testCompactsWhenFull() throws Exception {
+        try (MappedFileCursorStore store = new MappedFileCursorStore(path(), 2)) {
+            for (int i = 1; i <= 5; i++) {
+                store.commit(cursor(i, i % 2 == 0 ? HASH_2 : HASH_1));
+            }
+            assertThat(store.load(), is(Optional.of(cursor(5, HASH_1))));
+        }
+
+        try (MappedFileCursorStore store = new MappedFileCursorStore(path(), 2)) {
+            assertThat(store.load(), is(Optional.of(cursor(5, HASH_1))));
+        }
+    }
+
+    private Path path() {
+        return Paths.get(tempDirPath, "replay.cursor");
+    }
+
+    private static BlockCursor cursor(long blockNumber, String blockHash) {
+        return new BlockCursor(BigInteger.valueOf(blockNumber), blockHash);
+    }
+}
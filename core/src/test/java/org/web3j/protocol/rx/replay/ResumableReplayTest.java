@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.rx.replay;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import io.reactivex.Flowable;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.utils.Numeric;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResumableReplayTest {
+
+    private static final String HASH_1 =
+            "0x31c2342b1e0b8ffda1507fbffddf213c4b3c1e819ff6a84b943faabb0ebf2403";
+    private static final String HASH_2 =
+            "0xccc0d2e07c1febcaca0c3341c4e1268204b06fefa4bb0c8c0d693d8e581c82da";
+
+    private final Web3j web3j = mock(Web3j.class);
+    private final InMemoryCursorStore cursorStore = new InMemoryCursorStore();
+
+    @Test
+    public void testStartsFromStartBlockWithoutCursor() throws Exception {
+        when(web3j.replayPastBlocksFlowable(
+                        any(DefaultBlockParameter.class),
+                        any(DefaultBlockParameter.class),
+                        eq(false)))
+                .thenReturn(Flowable.just(block(1, HASH_1), block(2, HASH_2)));
+
+        List<ReplayedBlock> replayed =
+                new ResumableReplay(web3j, cursorStore)
+                        .replayPastBlocksFlowable(
+                                DefaultBlockParameterName.EARLIEST,
+                                DefaultBlockParameterName.LATEST,
+                                false)
+                        .toList()
+                        .blockingGet();
+        replayed.get(0).ack();
+
+        verify(web3j)
+                .replayPastBlocksFlowable(
+                        DefaultBlockParameterName.EARLIEST,
+                        DefaultBlockParameterName.LATEST,
+                        false);
+        assertThat(cursorStore.cursor, is(new BlockCursor(BigInteger.ONE, HASH_1)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testResumesAfterCommittedBlock() throws Exception {
+        cursorStore.cursor = new BlockCursor(BigInteger.ONE, HASH_1);
+        Request<?, EthBlock> request = mock(Request.class);
+        when(request.send()).thenReturn(block(1, HASH_1));
+        when((Request<?, EthBlock>) web3j.ethGetBlockByNumber(any(), eq(false)))
+                .thenReturn((Request) request);
+        when(web3j.replayPastBlocksFlowable(
+                        any(DefaultBlockParameter.class),
+                        any(DefaultBlockParameter.class),
+                        eq(false)))
+                .thenReturn(Flowable.just(block(2, HASH_2)));
+
+        ResumableReplay replay = new ResumableReplay(web3j, cursorStore);
+        replay.replayPastBlocksFlowable(
+                        DefaultBlockParameterName.EARLIEST, DefaultBlockParameterName.LATEST, false)
+                .blockingForEach(ReplayedBlock::ack);
+
+        ArgumentCaptor<DefaultBlockParameter> startBlock =
+                ArgumentCaptor.forClass(DefaultBlockParameter.class);
+        verify(web3j)
+                .replayPastBlocksFlowable(
+                        startBlock.capture(), eq(DefaultBlockParameterName.LATEST), eq(false));
+        assertThat(startBlock.getValue().getValue(), is("0x2"));
+        assertThat(cursorStore.cursor, is(new BlockCursor(BigInteger.valueOf(2), HASH_2)));
+        assertThat(cursorStore.commits, is(1));
+    }
+
+    @Test
+    public void testOutOfOrderAckDoesntSkipBlocks() throws Exception {
+        when(web3j.replayPastBlocksFlowable(
+                        any(DefaultBlockParameter.class),
+                        any(DefaultBlockParameter.class),
+                        eq(false)))
+                .thenReturn(Flowable.just(block(1, HASH_1), block(2, HASH_2), block(3, HASH_1)));
+
+        List<ReplayedBlock> replayed =
+                new ResumableReplay(web3j, cursorStore)
+                        .replayPastBlocksFlowable(
+                                DefaultBlockParameterName.EARLIEST,
+                                DefaultBlockParameterName.LATEST,
+                                false)
+                        .toList()
+                        .blockingGet();
+
+        replayed.get(2).ack();
+        replayed.get(0).ack();
+        assertThat(cursorStore.cursor, is(new BlockCursor(BigInteger.ONE, HASH_1)));
+
+        replayed.get(1).ack();
+        assertThat(cursorStore.cursor, is(new BlockCursor(BigInteger.valueOf(3), HASH_1)));
+        assertThat(cursorStore.commits, is(2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @SuppressWarnings("unchecked")
+    public void testFailsIfCommittedBlockIsNoLongerCanonical() throws Exception {
+        cursorStore.cursor = new BlockCursor(BigInteger.ONE, HASH_1);
+        Request<?, EthBlock> request = mock(Request.class);
+        when(request.send()).thenReturn(block(1, HASH_2));
+        when((Request<?, EthBlock>) web3j.ethGetBlockByNumber(any(), eq(false)))
+                .thenReturn((Request) request);
+
+        new ResumableReplay(web3j, cursorStore)
+                .replayPastBlocksFlowable(
+                        DefaultBlockParameterName.EARLIEST, DefaultBlockParameterName.LATEST, false)
+                .blockingFirst();
+    }
+
+    @Test
+    public void testCommitsBlockOnceAllTransactionsAcked() throws Exception {
+        when(web3j.replayPastBlocksFlowable(
+                        any(DefaultBlockParameter.class),
+                        any(DefaultBlockParameter.class),
+                        eq(true)))
+                .thenReturn(Flowable.just(block(1, HASH_1, "0x1", "0x2"), block(2, HASH_2, "0x3")));
+
+        List<ReplayedTransaction> replayed =
+                new ResumableReplay(web3j, cursorStore)
+                        .replayPastTransactionsFlowable(
+                                DefaultBlockParameterName.EARLIEST,
+                                DefaultBlockParameterName.LATEST)
+                        .toList()
+                        .blockingGet();
+        assertThat(replayed.size(), is(3));
+        assertThat(replayed.get(2).getTransaction().getHash(), is("0x3"));
+
+        replayed.get(1).ack();
+        replayed.get(1).ack();
+        assertThat(cursorStore.commits, is(0));
+
+        replayed.get(0).ack();
+        assertThat(cursorStore.cursor, is(new BlockCursor(BigInteger.ONE, HASH_1)));
+
+        replayed.get(2).ack();
+        assertThat(cursorStore.cursor, is(new BlockCursor(BigInteger.valueOf(2), HASH_2)));
+        assertThat(cursorStore.commits, is(2));
+    }
+
+    private static EthBlock block(long number, String hash, String... transactionHashes) {
+        EthBlock ethBlock = block(number, hash);
+        List<EthBlock.TransactionResult> results = new ArrayList<>();
+        for (String transactionHash : transactionHashes) {
+            EthBlock.TransactionObject result = new EthBlock.TransactionObject();
+            result.setHash(transactionHash);
+            results.add(result);
+        }
+        ethBlock.getBlock().setTransactions(results);
+        return ethBlock;
+    }
+
+    private static EthBlock block(long number, String hash) {
+        EthBlock.Block block = new EthBlock.Block();
+        block.setNumber(Numeric.encodeQuantity(BigInteger.valueOf(number)));
+        block.setHash(hash);
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        return ethBlock;
+    }
+
+    private static class InMemoryCursorStore implements CursorStore {
+        private BlockCursor cursor;
+        private int commits;
+
+        @Override
+        public Optional<BlockCursor> load() throws IOException {
+            return Optional.ofNullable(cursor);
+        }
+
+        @Override
+        public void commit(BlockCursor cursor) throws IOException {
+            this.cursor = cursor;
+            commits++;
+        }
+    }
+}
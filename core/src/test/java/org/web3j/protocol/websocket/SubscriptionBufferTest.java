@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.exceptions.MissingBackpressureException;
+import io.reactivex.subscribers.TestSubscriber;
+import io.reactivex.subjects.PublishSubject;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SubscriptionBufferTest {
+
+    private final PublishSubject<Integer> subject = PublishSubject.create();
+
+    @Test
+    public void testDropOldest() {
+        SubscriptionBuffer buffer = SubscriptionBuffer.dropOldest(2);
+        TestSubscriber<Integer> subscriber = subscribe(buffer);
+
+        emit(1, 2, 3, 4, 5);
+        subscriber.request(10);
+
+        subscriber.assertValues(4, 5);
+        assertEquals(3, buffer.getOverflowCount());
+    }
+
+    @Test
+    public void testLatest() {
+        SubscriptionBuffer buffer = SubscriptionBuffer.latest();
+        TestSubscriber<Integer> subscriber = subscribe(buffer);
+
+        emit(1, 2, 3);
+        subscriber.request(1);
+        emit(4);
+        subscriber.request(1);
+
+        subscriber.assertValues(3, 4);
+        assertEquals(2, buffer.getOverflowCount());
+    }
+
+    @Test
+    public void testBoundedFailsOnOverflow() {
+        SubscriptionBuffer buffer = SubscriptionBuffer.bounded(2);
+        TestSubscriber<Integer> subscriber = subscribe(buffer);
+
+        emit(1, 2, 3);
+
+        subscriber.assertError(MissingBackpressureException.class);
+        assertEquals(1, buffer.getOverflowCount());
+    }
+
+    @Test
+    public void testUnbounded() {
+        TestSubscriber<Integer> subscriber = subscribe(SubscriptionBuffer.unbounded());
+
+        emit(1, 2, 3);
+        subscriber.request(3);
+
+        subscriber.assertValues(1, 2, 3);
+    }
+
+    @Test
+    public void testBlockWaitsForConsumer() throws Exception {
+        SubscriptionBuffer buffer = SubscriptionBuffer.block(1);
+        TestSubscriber<Integer> subscriber = subscribe(buffer);
+
+        CountDownLatch emitted = new CountDownLatch(1);
+        Thread reader =
+                new Thread(
+                        () -> {
+                            emit(1, 2, 3);
+                            emitted.countDown();
+                        });
+        reader.start();
+
+        // the reader can buffer one notification, then has to wait for the consumer
+        assertFalse(emitted.await(200, TimeUnit.MILLISECONDS));
+        subscriber.assertNoValues();
+
+        subscriber.request(3);
+        assertTrue(emitted.await(2, TimeUnit.SECONDS));
+
+        subscriber.assertValues(1, 2, 3);
+        assertTrue(buffer.getOverflowCount() >= 1);
+    }
+
+    private TestSubscriber<Integer> subscribe(SubscriptionBuffer buffer) {
+        return buffer.apply(subject.toFlowable(BackpressureStrategy.BUFFER)).test(0);
+    }
+
+    private void emit(Integer... values) {
+        for (Integer value : values) {
+            subject.onNext(value);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.reactivex.disposables.Disposable;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SubscriptionMultiplexerTest {
+
+    private final Web3jService web3jService = mock(Web3jService.class);
+    private final PublishProcessor<NewHeadsNotification> upstream = PublishProcessor.create();
+
+    private final SubscriptionMultiplexer multiplexer = new SubscriptionMultiplexer(web3jService);
+
+    @Before
+    public void setUp() {
+        when(web3jService.subscribe(
+                        any(Request.class), eq("eth_unsubscribe"), eq(NewHeadsNotification.class)))
+                .thenReturn(upstream);
+    }
+
+    @Test
+    public void testSharesUpstreamSubscription() {
+        TestSubscriber<NewHeadsNotification> first =
+                multiplexer
+                        .subscribe(newHeads(), "eth_unsubscribe", NewHeadsNotification.class)
+                        .test();
+        TestSubscriber<NewHeadsNotification> second =
+                multiplexer
+                        .subscribe(newHeads(), "eth_unsubscribe", NewHeadsNotification.class)
+                        .test();
+
+        NewHeadsNotification notification = new NewHeadsNotification();
+        upstream.onNext(notification);
+
+        first.assertValues(notification);
+        second.assertValues(notification);
+        verify(web3jService, times(1))
+                .subscribe(any(Request.class), eq("eth_unsubscribe"), any(Class.class));
+        assertEquals(1, multiplexer.getSharedStreamCount());
+    }
+
+    @Test
+    public void testClosesUpstreamAfterLastSubscriber() {
+        Disposable first =
+                multiplexer
+                        .subscribe(newHeads(), "eth_unsubscribe", NewHeadsNotification.class)
+                        .subscribe();
+        Disposable second =
+                multiplexer
+                        .subscribe(newHeads(), "eth_unsubscribe", NewHeadsNotification.class)
+                        .subscribe();
+
+        first.dispose();
+        assertEquals(1, multiplexer.getSharedStreamCount());
+        second.dispose();
+
+        assertFalse(upstream.hasSubscribers());
+        assertEquals(0, multiplexer.getSharedStreamCount());
+
+        multiplexer.subscribe(newHeads(), "eth_unsubscribe", NewHeadsNotification.class).test();
+        verify(web3jService, times(2))
+                .subscribe(any(Request.class), eq("eth_unsubscribe"), any(Class.class));
+    }
+
+    @Test
+    public void testSeparatesDistinctFilters() {
+        multiplexer.subscribe(newHeads(), "eth_unsubscribe", NewHeadsNotification.class).test();
+        multiplexer.subscribe(logs("0x1"), "eth_unsubscribe", NewHeadsNotification.class).test();
+        multiplexer.subscribe(logs("0x2"), "eth_unsubscribe", NewHeadsNotification.class).test();
+
+        assertEquals(3, multiplexer.getSharedStreamCount());
+    }
+
+    private Request<?, EthSubscribe> newHeads() {
+        return new Request<>(
+                "eth_subscribe",
+                Collections.singletonList("newHeads"),
+                multiplexer,
+                EthSubscribe.class);
+    }
+
+    private Request<?, EthSubscribe> logs(String address) {
+        return new Request<>(
+                "eth_subscribe",
+                Arrays.asList(
+                        "logs",
+                        Collections.singletonMap("address", Collections.singletonList(address))),
+                multiplexer,
+                EthSubscribe.class);
+    }
+}
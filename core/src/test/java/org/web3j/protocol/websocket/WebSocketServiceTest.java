@@ -14,16 +14,21 @@ package org.web3j.protocol.websocket;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
 import org.junit.Before;
@@ -43,6 +48,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.startsWith;
@@ -298,6 +304,40 @@ public class WebSocketServiceTest {
                 actualNotificationRef.get().getParams().getResult().getDifficulty());
     }
 
+    @Test
+    public void testPropagateSubscriptionEventWithFieldsInAnyOrder() throws Exception {
+        AtomicReference<NewHeadsNotification> actualNotificationRef = new AtomicReference<>();
+        CountDownLatch eventReceived = new CountDownLatch(1);
+
+        runAsync(
+                () ->
+                        subscribeToEvents()
+                                .subscribe(
+                                        newHeadsNotification -> {
+                                            actualNotificationRef.set(newHeadsNotification);
+                                            eventReceived.countDown();
+                                        }));
+
+        sendSubscriptionConfirmation();
+        service.onWebSocketMessage(
+                "{"
+                        + "  \"params\":{"
+                        + "    \"result\":{"
+                        + "      \"difficulty\":\"0xd9263f42a87\","
+                        + "      \"uncles\":[]"
+                        + "    },"
+                        + "    \"subscription\":\"0xcd0c3e8af590364c09d0fa6a1210faf5\""
+                        + "  },"
+                        + "  \"method\":\"eth_subscription\","
+                        + "  \"jsonrpc\":\"2.0\""
+                        + "}");
+
+        assertTrue(eventReceived.await(2, TimeUnit.SECONDS));
+        assertEquals(
+                "0xd9263f42a87",
+                actualNotificationRef.get().getParams().getResult().getDifficulty());
+    }
+
     @Test
     public void testSendUnsubscribeRequest() throws Exception {
         CountDownLatch unsubscribed = new CountDownLatch(1);
@@ -424,6 +464,97 @@ public class WebSocketServiceTest {
                 "Subscription request failed with error: Error message", throwable.getMessage());
     }
 
+    @Test
+    public void testResubscribeAndBackfillAfterReconnect() throws Exception {
+        List<String> sent = new CopyOnWriteArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            sent.add((String) invocation.getArguments()[0]);
+                            return null;
+                        })
+                .when(webSocketClient)
+                .send(anyString());
+        List<Runnable> reconnects = new ArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            reconnects.add((Runnable) invocation.getArguments()[0]);
+                            return null;
+                        })
+                .when(executorService)
+                .schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        when(webSocketClient.reconnectBlocking()).thenReturn(true);
+
+        service =
+                new WebSocketService(
+                        webSocketClient,
+                        executorService,
+                        false,
+                        new ReconnectPolicy(1, 1, 3, true, 10));
+        List<String> blockNumbers = new CopyOnWriteArrayList<>();
+        CountDownLatch firstReceived = new CountDownLatch(1);
+        CountDownLatch received = new CountDownLatch(4);
+        runAsync(
+                () ->
+                        subscribeToEvents()
+                                .subscribe(
+                                        notification -> {
+                                            blockNumbers.add(
+                                                    notification
+                                                            .getParams()
+                                                            .getResult()
+                                                            .getNumber());
+                                            firstReceived.countDown();
+                                            received.countDown();
+                                        }));
+        sendSubscriptionConfirmation();
+        service.onWebSocketMessage(newHeadEvent("0xcd0c3e8af590364c09d0fa6a1210faf5", "0x1"));
+
+        // subscriptions without observers are dropped on reconnect
+        assertTrue(firstReceived.await(2, TimeUnit.SECONDS));
+        service.onWebSocketClose();
+        assertEquals(1, reconnects.size());
+        reconnects.get(0).run();
+
+        replyToFirstPending(sent, "eth_subscribe", "\"0x2a\"");
+        replyToFirstPending(sent, "eth_blockNumber", "\"0x3\"");
+        service.onWebSocketMessage(newHeadEvent("0x2a", "0x4"));
+        replyToFirstPending(sent, "eth_getBlockByNumber", "{\"number\":\"0x2\"}");
+        replyToFirstPending(sent, "eth_getBlockByNumber", "{\"number\":\"0x3\"}");
+
+        assertTrue(received.await(2, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("0x1", "0x2", "0x3", "0x4"), blockNumbers);
+    }
+
+    private void replyToFirstPending(List<String> sent, String method, String result)
+            throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (String payload : sent) {
+            JsonNode request = objectMapper.readTree(payload);
+            long id = request.get("id").asLong();
+            if (request.get("method").asText().equals(method) && service.isWaitingForReply(id)) {
+                service.onWebSocketMessage(
+                        "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":" + result + "}");
+                return;
+            }
+        }
+        throw new AssertionError("No pending request for " + method);
+    }
+
+    private static String newHeadEvent(String subscriptionId, String number) {
+        return "{"
+                + "  \"jsonrpc\":\"2.0\","
+                + "  \"method\":\"eth_subscription\","
+                + "  \"params\":{"
+                + "    \"subscription\":\""
+                + subscriptionId
+                + "\","
+                + "    \"result\":{\"number\":\""
+                + number
+                + "\"}"
+                + "  }"
+                + "}";
+    }
+
     private void runAsync(Runnable runnable) {
         Executors.newSingleThreadExecutor().execute(runnable);
     }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.BehaviorSubject;
+import org.junit.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+public class WebSocketSubscriptionTest {
+
+    private final BehaviorSubject<NewHeadsNotification> subject = BehaviorSubject.create();
+    private final WebSocketSubscription<NewHeadsNotification> subscription =
+            new WebSocketSubscription<>(subject, NewHeadsNotification.class);
+
+    @Test
+    public void testBackfillSkipsDeliveredHeads() throws IOException {
+        TestObserver<String> hashes = subject.map(this::hash).test();
+        subscription.onNext(head(1, "0xa1"));
+        subscription.onNext(head(2, "0xa2"));
+
+        subscription.startBackfill();
+        subscription.completeBackfill(Arrays.asList(head(2, "0xa2"), head(3, "0xa3")));
+
+        hashes.assertValues("0xa1", "0xa2", "0xa3");
+    }
+
+    @Test
+    public void testBackfillDeliversReplacedHeadAtSameHeight() throws IOException {
+        TestObserver<String> hashes = subject.map(this::hash).test();
+        subscription.onNext(head(2, "0xa2"));
+
+        subscription.startBackfill();
+        subscription.onNext(head(2, "0xb2"));
+        subscription.completeBackfill(Collections.emptyList());
+
+        hashes.assertValues("0xa2", "0xb2");
+    }
+
+    private String hash(NewHeadsNotification notification) {
+        return notification.getParams().getResult().getHash();
+    }
+
+    private static NewHeadsNotification head(long number, String hash) throws IOException {
+        return ObjectMapperFactory.getObjectMapper()
+                .readValue(
+                        "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\",\"params\":"
+                                + "{\"subscription\":\"0x1\",\"result\":{\"number\":\"0x"
+                                + Long.toHexString(number)
+                                + "\",\"hash\":\""
+                                + hash
+                                + "\"}}}",
+                        NewHeadsNotification.class);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+import org.web3j.utils.Numeric;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class EventLogDecoderTest {
+
+    private static final Event TRANSFER_EVENT =
+            new Event(
+                    "Transfer",
+                    Arrays.asList(
+                            new TypeReference<Address>(true) {}, new TypeReference<Uint256>() {}));
+
+    private static final Event APPROVAL_EVENT =
+            new Event("Approval", singletonList(new TypeReference<Uint256>() {}));
+
+    private static final String ADDRESS = "0x3d6cb163f7c72d20b0fcd6baae5889329d138a4a";
+
+    @Test
+    public void testDecodeDispatchesOnTopic() {
+        List<Log> logs =
+                Arrays.asList(
+                        approvalLog(7), unknownLog(), transferLog(1), new Log(), approvalLog(8));
+
+        EventLogDecoder decoder =
+                new EventLogDecoder(Arrays.asList(TRANSFER_EVENT, APPROVAL_EVENT));
+        List<Contract.EventValuesWithLog> decoded = decoder.decode(logs);
+
+        assertThat(decoded.size(), is(3));
+        assertThat(decoded.get(0).getLog(), is(logs.get(0)));
+        assertThat(
+                decoded.get(0).getNonIndexedValues(),
+                equalTo(singletonList(new Uint256(BigInteger.valueOf(7)))));
+        assertThat(decoded.get(1).getLog(), is(logs.get(2)));
+        assertThat(decoded.get(1).getIndexedValues(), equalTo(singletonList(new Address(ADDRESS))));
+        assertThat(
+                decoded.get(1).getNonIndexedValues(),
+                equalTo(singletonList(new Uint256(BigInteger.ONE))));
+        assertThat(decoded.get(2).getLog(), is(logs.get(4)));
+
+        assertThat(decoder.getEvent(logs.get(2)), is(TRANSFER_EVENT));
+        assertThat(decoder.getEvent(logs.get(1)), nullValue());
+    }
+
+    @Test
+    public void testParallelDecodeKeepsOrder() {
+        List<Log> logs = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            logs.add(i % 3 == 0 ? unknownLog() : transferLog(i));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<Contract.EventValuesWithLog> decoded;
+        try {
+            decoded = new EventLogDecoder(singletonList(TRANSFER_EVENT), pool, 100).decode(logs);
+        } finally {
+            pool.shutdown();
+        }
+
+        int expected = 0;
+        for (int i = 0; i < logs.size(); i++) {
+            if (i % 3 != 0) {
+                Contract.EventValuesWithLog eventValuesWithLog = decoded.get(expected++);
+                assertThat(eventValuesWithLog.getLog(), is(logs.get(i)));
+                assertThat(
+                        eventValuesWithLog.getNonIndexedValues(),
+                        equalTo(singletonList(new Uint256(BigInteger.valueOf(i)))));
+            }
+        }
+        assertThat(decoded.size(), is(expected));
+    }
+
+    @Test
+    public void testDecodeEthLog() {
+        EthLog ethLog = new EthLog();
+        List<EthLog.LogResult> results = new ArrayList<>();
+        results.add(new EthLog.Hash("0x01"));
+        results.add(logObject(approvalLog(3)));
+        ethLog.setResult(results);
+
+        List<Contract.EventValuesWithLog> decoded =
+                new EventLogDecoder(singletonList(APPROVAL_EVENT)).decode(ethLog);
+
+        assertThat(decoded.size(), is(1));
+        assertThat(
+                decoded.get(0).getNonIndexedValues(),
+                equalTo(singletonList(new Uint256(BigInteger.valueOf(3)))));
+    }
+
+    private static Log transferLog(long value) {
+        Log log = new Log();
+        log.setTopics(
+                Arrays.asList(
+                        EventEncoder.encode(TRANSFER_EVENT),
+                        Numeric.toHexStringWithPrefixZeroPadded(Numeric.toBigInt(ADDRESS), 64)));
+        log.setData(Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(value), 64));
+        return log;
+    }
+
+    private static Log approvalLog(long value) {
+        Log log = new Log();
+        log.setTopics(singletonList(EventEncoder.encode(APPROVAL_EVENT)));
+        log.setData(Numeric.toHexStringWithPrefixZeroPadded(BigInteger.valueOf(value), 64));
+        return log;
+    }
+
+    private static Log unknownLog() {
+        Log log = new Log();
+        log.setTopics(singletonList(EventEncoder.buildEventSignature("Unknown()")));
+        log.setData("0x");
+        return log;
+    }
+
+    private static EthLog.LogObject logObject(Log log) {
+        EthLog.LogObject logObject = new EthLog.LogObject();
+        logObject.setTopics(log.getTopics());
+        logObject.setData(log.getData());
+        return logObject;
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.RemoteFunctionCall;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.tx.exceptions.ContractCallException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MulticallBatcherTest {
+
+    private static final String AGGREGATOR = "0xca11bde05977b3631167028862be2a173976ca11";
+    private static final String FIRST = "0x00000000000000000000000000000000000000aa";
+    private static final String SECOND = "0x00000000000000000000000000000000000000bb";
+
+    private final Function function =
+            new Function(
+                    "get",
+                    Collections.<Type>emptyList(),
+                    Collections.<TypeReference<?>>singletonList(new TypeReference<Uint256>() {}));
+
+    // eth_call result per contract address, calls to other addresses revert
+    private final Map<String, String> results = new HashMap<>();
+    private final List<Transaction> calls = new ArrayList<>();
+
+    private Web3jService service;
+    private Web3j web3j;
+
+    @Before
+    public void setUp() throws Exception {
+        service = mock(Web3jService.class);
+        when(service.send(any(Request.class), eq(EthCall.class)))
+                .thenAnswer(
+                        invocation -> {
+                            Request<?, ?> request = (Request<?, ?>) invocation.getArguments()[0];
+                            Transaction transaction = (Transaction) request.getParams().get(0);
+                            calls.add(transaction);
+                            EthCall ethCall = new EthCall();
+                            String result = results.get(transaction.getTo());
+                            if (result != null) {
+                                ethCall.setResult(result);
+                            } else {
+                                ethCall.setError(new Response.Error(-32000, "execution reverted"));
+                            }
+                            return ethCall;
+                        });
+        when(service.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batch = (BatchRequest) invocation.getArguments()[0];
+                            List<Response<?>> responses = new ArrayList<>();
+                            for (Request<?, ? extends Response<?>> request : batch.getRequests()) {
+                                responses.add(service.send(request, request.getResponseType()));
+                            }
+                            return new BatchResponse(batch.getRequests(), responses);
+                        });
+        web3j = Web3j.build(service);
+    }
+
+    @Test
+    public void testAggregatesCalls() throws Exception {
+        results.put(
+                AGGREGATOR,
+                "0x"
+                        + word(0x20)
+                        + word(2)
+                        + word(0x40)
+                        + word(0xc0)
+                        + word(1)
+                        + word(0x40)
+                        + word(32)
+                        + word(55)
+                        + word(0)
+                        + word(0x40)
+                        + word(0));
+
+        MulticallBatcher batcher = new MulticallBatcher(web3j, AGGREGATOR);
+        CompletableFuture<BigInteger> first = batcher.add(call(FIRST));
+        CompletableFuture<BigInteger> second = batcher.add(call(SECOND));
+        batcher.send();
+
+        assertThat(first.get(), is(BigInteger.valueOf(55)));
+        assertFailure(second, ContractCallException.class);
+
+        String selector = FunctionEncoder.encode(function).substring(2);
+        String paddedSelector =
+                selector + "00000000000000000000000000000000000000000000000000000000";
+        assertThat(calls.size(), is(1));
+        assertThat(
+                calls.get(0).getData(),
+                is(
+                        MulticallBatcher.AGGREGATE3_METHOD_ID
+                                + word(0x20)
+                                + word(2)
+                                + word(0x40)
+                                + word(0xe0)
+                                + word(0xaa)
+                                + word(1)
+                                + word(0x60)
+                                + word(4)
+                                + paddedSelector
+                                + word(0xbb)
+                                + word(1)
+                                + word(0x60)
+                                + word(4)
+                                + paddedSelector));
+    }
+
+    @Test
+    public void testFallsBackWithoutDeployedAggregator() throws Exception {
+        results.put(AGGREGATOR, "0x");
+        results.put(FIRST, "0x" + word(1));
+        results.put(SECOND, "0x" + word(2));
+
+        MulticallBatcher batcher = new MulticallBatcher(web3j, AGGREGATOR);
+        List<BigInteger> results = batcher.sendAll(Arrays.asList(call(FIRST), call(SECOND)));
+
+        assertThat(results, is(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(2))));
+        assertThat(batcher.getAggregatorAddress(), nullValue());
+        verify(service, times(1)).sendBatch(any(BatchRequest.class));
+    }
+
+    @Test
+    public void testJsonRpcBatches() throws Exception {
+        results.put(FIRST, "0x" + word(1));
+
+        MulticallBatcher batcher = new MulticallBatcher(web3j, null, 2);
+        CompletableFuture<BigInteger> first = batcher.add(call(FIRST));
+        CompletableFuture<BigInteger> second = batcher.add(call(SECOND));
+        CompletableFuture<BigInteger> third = batcher.add(call(FIRST));
+        CompletableFuture<BigInteger> other =
+                batcher.add(call(FIRST, DefaultBlockParameter.valueOf(BigInteger.TEN)));
+        assertThat(batcher.getPendingCount(), is(4));
+        batcher.send();
+
+        assertThat(first.get(), is(BigInteger.ONE));
+        assertFailure(second, ContractCallException.class);
+        assertThat(third.get(), is(BigInteger.ONE));
+        assertThat(other.get(), is(BigInteger.ONE));
+        assertThat(batcher.getPendingCount(), is(0));
+        // two batches for the latest block, one for block ten
+        verify(service, times(3)).sendBatch(any(BatchRequest.class));
+    }
+
+    @Test
+    public void testSendsNonAggregatableCallsAlone() throws Exception {
+        MulticallBatcher batcher = new MulticallBatcher(web3j, AGGREGATOR);
+        CompletableFuture<String> result =
+                batcher.add(new RemoteFunctionCall<>(function, () -> "value"));
+        batcher.send();
+
+        assertThat(result.get(), is("value"));
+        assertThat(calls.size(), is(0));
+    }
+
+    private RemoteFunctionCall<BigInteger> call(String address) {
+        return call(address, DefaultBlockParameterName.LATEST);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RemoteFunctionCall<BigInteger> call(String address, DefaultBlockParameter block) {
+        RemoteFunctionCall.ResultDecoder<BigInteger> decoder =
+                value -> {
+                    List<Type> values =
+                            FunctionReturnDecoder.decode(value, function.getOutputParameters());
+                    if (values.isEmpty()) {
+                        throw new ContractCallException("Empty value (0x) returned from contract");
+                    }
+                    return ((Uint256) values.get(0)).getValue();
+                };
+        return new RemoteFunctionCall<>(
+                function,
+                new RemoteFunctionCall.CallTarget(address, null, block),
+                decoder,
+                () -> {
+                    throw new AssertionError("Call should be batched");
+                });
+    }
+
+    private static void assertFailure(CompletableFuture<?> future, Class<?> type)
+            throws InterruptedException {
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(type));
+        }
+    }
+
+    private static String word(long value) {
+        String hex = Long.toHexString(value);
+        StringBuilder word = new StringBuilder();
+        for (int i = hex.length(); i < 64; i++) {
+            word.append('0');
+        }
+        return word.append(hex).toString();
+    }
+}
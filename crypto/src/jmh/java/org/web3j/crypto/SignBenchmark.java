@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Compares {@link Sign#signMessage(byte[], ECKeyPair, boolean)}, which derives the recovery id
+ * while signing, with signing and then searching for the recovery id by recovering each candidate
+ * public key in turn.
+ *
+ * <p>Run with {@code ./gradlew :crypto:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignBenchmark {
+
+    private ECKeyPair keyPair;
+    private byte[] messageHash;
+
+    @Setup
+    public void setUp() {
+        keyPair =
+                ECKeyPair.create(
+                        Numeric.toBigInt(
+                                "0xa392604efc2fad9c0b3da43b5f698a2e3f270f170d859912be0d54742275c5f6"));
+        messageHash = Hash.sha3("A test message".getBytes());
+    }
+
+    @Benchmark
+    public Sign.SignatureData signWithRecoveryId() {
+        return Sign.signMessage(messageHash, keyPair, false);
+    }
+
+    @Benchmark
+    public Sign.SignatureData signWithRecoveryLoop() {
+        ECDSASignature sig = keyPair.sign(messageHash);
+        BigInteger publicKey = keyPair.getPublicKey();
+        int recId = -1;
+        for (int i = 0; i < 4; i++) {
+            BigInteger k = Sign.recoverFromSignature(i, sig, messageHash);
+            if (k != null && k.equals(publicKey)) {
+                recId = i;
+                break;
+            }
+        }
+        return new Sign.SignatureData(
+                (byte) (recId + 27),
+                Numeric.toBytesPadded(sig.r, 32),
+                Numeric.toBytesPadded(sig.s, 32));
+    }
+}
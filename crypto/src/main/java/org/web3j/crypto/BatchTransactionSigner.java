@@ -0,0 +1,231 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.web3j.utils.Numeric;
+
+/**
+ * Signs batches of transactions in parallel.
+ *
+ * <p>Nonces are assigned in list order before signing, so the signed transactions can be submitted
+ * in the order returned. Signing itself is split across the threads of a work-stealing {@link
+ * ForkJoinPool}.
+ *
+ * @param <T> raw transaction type
+ */
+public class BatchTransactionSigner<T extends RawTransaction> {
+
+    private static final int SEQUENTIAL_CHUNK_SIZE = 64;
+
+    private final NonceAssigner<T> nonceAssigner;
+    private final TransactionSigner<T> transactionSigner;
+    private final ForkJoinPool pool;
+    private final boolean hashTransactions;
+
+    public BatchTransactionSigner(
+            NonceAssigner<T> nonceAssigner,
+            TransactionSigner<T> transactionSigner,
+            ForkJoinPool pool) {
+        this(nonceAssigner, transactionSigner, pool, true);
+    }
+
+    /**
+     * Creates a signer.
+     *
+     * @param nonceAssigner creates copies of transactions with assigned nonces
+     * @param transactionSigner signs and encodes a single transaction
+     * @param pool pool signing is split across
+     * @param hashTransactions whether the hash of each signed message is its transaction hash; not
+     *     the case for private transactions, which are submitted wrapped in a privacy marker
+     *     transaction
+     */
+    public BatchTransactionSigner(
+            NonceAssigner<T> nonceAssigner,
+            TransactionSigner<T> transactionSigner,
+            ForkJoinPool pool,
+            boolean hashTransactions) {
+        this.nonceAssigner = nonceAssigner;
+        this.transactionSigner = transactionSigner;
+        this.pool = pool;
+        this.hashTransactions = hashTransactions;
+    }
+
+    public static BatchTransactionSigner<RawTransaction> create(Credentials credentials) {
+        return create(credentials, ForkJoinPool.commonPool());
+    }
+
+    public static BatchTransactionSigner<RawTransaction> create(
+            Credentials credentials, ForkJoinPool pool) {
+        return new BatchTransactionSigner<>(
+                BatchTransactionSigner::withNonce,
+                rawTransaction -> TransactionEncoder.signMessage(rawTransaction, credentials),
+                pool);
+    }
+
+    public static BatchTransactionSigner<RawTransaction> create(
+            long chainId, Credentials credentials) {
+        return create(chainId, credentials, ForkJoinPool.commonPool());
+    }
+
+    public static BatchTransactionSigner<RawTransaction> create(
+            long chainId, Credentials credentials, ForkJoinPool pool) {
+        return new BatchTransactionSigner<>(
+                BatchTransactionSigner::withNonce,
+                rawTransaction ->
+                        TransactionEncoder.signMessage(rawTransaction, chainId, credentials),
+                pool);
+    }
+
+    /**
+     * Signs the transactions with the nonces they already carry.
+     *
+     * @param transactions transactions to sign
+     * @return signed transactions, in the same order as the transactions given
+     */
+    public List<SignedTransaction> sign(List<T> transactions) {
+        SignedTransaction[] signed = new SignedTransaction[transactions.size()];
+        pool.invoke(new SignTask(transactions, null, signed, 0, signed.length));
+        return Arrays.asList(signed);
+    }
+
+    /**
+     * Signs the transactions, assigning consecutive nonces starting from {@code startNonce} in list
+     * order.
+     *
+     * @param transactions transactions to sign, their own nonces are ignored
+     * @param startNonce nonce of the first transaction
+     * @return signed transactions, in the same order as the transactions given
+     */
+    public List<SignedTransaction> sign(List<T> transactions, BigInteger startNonce) {
+        SignedTransaction[] signed = new SignedTransaction[transactions.size()];
+        pool.invoke(new SignTask(transactions, startNonce, signed, 0, signed.length));
+        return Arrays.asList(signed);
+    }
+
+    private void signRange(
+            List<T> transactions,
+            BigInteger startNonce,
+            SignedTransaction[] signed,
+            int from,
+            int to) {
+        for (int i = from; i < to; i++) {
+            T transaction = transactions.get(i);
+            if (startNonce != null) {
+                transaction =
+                        nonceAssigner.withNonce(transaction, startNonce.add(BigInteger.valueOf(i)));
+            }
+            byte[] signedMessage = transactionSigner.sign(transaction);
+            signed[i] =
+                    new SignedTransaction(
+                            transaction.getNonce(),
+                            signedMessage,
+                            hashTransactions
+                                    ? Numeric.toHexString(Hash.sha3(signedMessage))
+                                    : null);
+        }
+    }
+
+    private static RawTransaction withNonce(RawTransaction rawTransaction, BigInteger nonce) {
+        return RawTransaction.createTransaction(
+                nonce,
+                rawTransaction.getGasPrice(),
+                rawTransaction.getGasLimit(),
+                rawTransaction.getTo(),
+                rawTransaction.getValue(),
+                rawTransaction.getData());
+    }
+
+    private class SignTask extends RecursiveAction {
+        private final List<T> transactions;
+        private final BigInteger startNonce;
+        private final SignedTransaction[] signed;
+        private final int from;
+        private final int to;
+
+        SignTask(
+                List<T> transactions,
+                BigInteger startNonce,
+                SignedTransaction[] signed,
+                int from,
+                int to) {
+            this.transactions = transactions;
+            this.startNonce = startNonce;
+            this.signed = signed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_CHUNK_SIZE) {
+                signRange(transactions, startNonce, signed, from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new SignTask(transactions, startNonce, signed, from, middle),
+                        new SignTask(transactions, startNonce, signed, middle, to));
+            }
+        }
+    }
+
+    /** Creates a copy of a transaction with a different nonce. */
+    public interface NonceAssigner<T extends RawTransaction> {
+        T withNonce(T transaction, BigInteger nonce);
+    }
+
+    /** Signs and RLP encodes a single transaction. */
+    public interface TransactionSigner<T extends RawTransaction> {
+        byte[] sign(T transaction);
+    }
+
+    /** A signed transaction along with its nonce and hash. */
+    public static class SignedTransaction {
+        private final BigInteger nonce;
+        private final byte[] signedMessage;
+        private final String transactionHash;
+
+        public SignedTransaction(BigInteger nonce, byte[] signedMessage, String transactionHash) {
+            this.nonce = nonce;
+            this.signedMessage = signedMessage;
+            this.transactionHash = transactionHash;
+        }
+
+        public BigInteger getNonce() {
+            return nonce;
+        }
+
+        public byte[] getSignedMessage() {
+            return signedMessage;
+        }
+
+        public String getHexValue() {
+            return Numeric.toHexString(signedMessage);
+        }
+
+        /**
+         * Returns the hash of the transaction, which can be matched with its receipt.
+         *
+         * @return transaction hash, or null for private transactions, whose receipts are found by
+         *     the hash of the privacy marker transaction returned when they are sent
+         */
+        public String getTransactionHash() {
+            return transactionHash;
+        }
+    }
+}
@@ -106,12 +106,12 @@ public class Keys {
                     Strings.zeros(PUBLIC_KEY_LENGTH_IN_HEX - publicKeyNoPrefix.length())
                             + publicKeyNoPrefix;
         }
-        String hash = Hash.sha3(publicKeyNoPrefix);
-        return hash.substring(hash.length() - ADDRESS_LENGTH_IN_HEX); // right most 160 bits
+        byte[] hash = Keccak256.hash(Numeric.hexStringToByteArray(publicKeyNoPrefix));
+        return Numeric.toHexString(hash, hash.length - 20, 20, false); // right most 160 bits
     }
 
     public static byte[] getAddress(byte[] publicKey) {
-        byte[] hash = Hash.sha3(publicKey);
+        byte[] hash = Keccak256.hash(publicKey);
         return Arrays.copyOfRange(hash, hash.length - 20, hash.length); // right most 160 bits
     }
 
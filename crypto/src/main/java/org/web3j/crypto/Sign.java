@@ -19,7 +19,9 @@ import java.util.Arrays;
 import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.asn1.x9.X9IntegerConverter;
 import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.crypto.digests.SHA256Digest;
 import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.bouncycastle.math.ec.ECAlgorithms;
 import org.bouncycastle.math.ec.ECPoint;
 import org.bouncycastle.math.ec.FixedPointCombMultiplier;
@@ -47,6 +49,9 @@ public class Sign {
                     CURVE_PARAMS.getH());
     static final BigInteger HALF_CURVE_ORDER = CURVE_PARAMS.getN().shiftRight(1);
 
+    private static final FixedPointCombMultiplier BASE_POINT_MULTIPLIER =
+            new FixedPointCombMultiplier();
+
     static final String MESSAGE_PREFIX = "\u0019Ethereum Signed Message:\n";
 
     static byte[] getEthereumMessagePrefix(int messageLength) {
@@ -54,13 +59,7 @@ public class Sign {
     }
 
     static byte[] getEthereumMessageHash(byte[] message) {
-        byte[] prefix = getEthereumMessagePrefix(message.length);
-
-        byte[] result = new byte[prefix.length + message.length];
-        System.arraycopy(prefix, 0, result, 0, prefix.length);
-        System.arraycopy(message, 0, result, prefix.length, message.length);
-
-        return Hash.sha3(result);
+        return Keccak256.hash(getEthereumMessagePrefix(message.length), message);
     }
 
     public static SignatureData signPrefixedMessage(byte[] message, ECKeyPair keyPair) {
@@ -72,7 +71,6 @@ public class Sign {
     }
 
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair, boolean needToHash) {
-        BigInteger publicKey = keyPair.getPublicKey();
         byte[] messageHash;
         if (needToHash) {
             messageHash = Hash.sha3(message);
@@ -80,29 +78,64 @@ public class Sign {
             messageHash = message;
         }
 
-        ECDSASignature sig = keyPair.sign(messageHash);
-        // Now we have to work backwards to figure out the recId needed to recover the signature.
-        int recId = -1;
-        for (int i = 0; i < 4; i++) {
-            BigInteger k = recoverFromSignature(i, sig, messageHash);
-            if (k != null && k.equals(publicKey)) {
-                recId = i;
-                break;
-            }
-        }
-        if (recId == -1) {
-            throw new RuntimeException(
-                    "Could not construct a recoverable key. Are your credentials valid?");
+        return sign(messageHash, keyPair.getPrivateKey());
+    }
+
+    /**
+     * Deterministic ECDSA signing as per <a href="https://tools.ietf.org/html/rfc6979">RFC
+     * 6979</a>, producing the same signature as {@link ECKeyPair#sign(byte[])}.
+     *
+     * <p>The recovery id is taken from the nonce point R while signing: bit 0 is the parity of its
+     * y co-ordinate and bit 1 is set if its x co-ordinate overflowed the curve order. This avoids
+     * recovering up to four candidate public keys to work out which one matches.
+     */
+    private static SignatureData sign(byte[] messageHash, BigInteger privateKey) {
+        BigInteger n = CURVE.getN();
+        BigInteger e = calculateE(n, messageHash);
+
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(n, privateKey, messageHash);
+
+        BigInteger r;
+        BigInteger s;
+        int recId;
+        do {
+            BigInteger k;
+            BigInteger x;
+            ECPoint p;
+            do {
+                k = kCalculator.nextK();
+                p = BASE_POINT_MULTIPLIER.multiply(CURVE.getG(), k).normalize();
+                x = p.getAffineXCoord().toBigInteger();
+                r = x.mod(n);
+            } while (r.signum() == 0);
+
+            s = k.modInverse(n).multiply(e.add(privateKey.multiply(r))).mod(n);
+            recId = (p.getAffineYCoord().testBitZero() ? 1 : 0) | (x.compareTo(n) >= 0 ? 2 : 0);
+        } while (s.signum() == 0);
+
+        // Ethereum only accepts the low s value, negating s flips the parity of R's y co-ordinate
+        if (s.compareTo(HALF_CURVE_ORDER) > 0) {
+            s = n.subtract(s);
+            recId ^= 1;
         }
 
         int headerByte = recId + 27;
 
         // 1 header + 32 bytes for R + 32 bytes for S
         byte[] v = new byte[] {(byte) headerByte};
-        byte[] r = Numeric.toBytesPadded(sig.r, 32);
-        byte[] s = Numeric.toBytesPadded(sig.s, 32);
+        return new SignatureData(v, Numeric.toBytesPadded(r, 32), Numeric.toBytesPadded(s, 32));
+    }
 
-        return new SignatureData(v, r, s);
+    private static BigInteger calculateE(BigInteger n, byte[] message) {
+        int log2n = n.bitLength();
+        int messageBitLength = message.length * 8;
+
+        BigInteger e = new BigInteger(1, message);
+        if (log2n < messageBitLength) {
+            e = e.shiftRight(messageBitLength - log2n);
+        }
+        return e;
     }
 
     /**
@@ -290,7 +323,7 @@ public class Sign {
         if (privKey.bitLength() > CURVE.getN().bitLength()) {
             privKey = privKey.mod(CURVE.getN());
         }
-        return new FixedPointCombMultiplier().multiply(CURVE.getG(), privKey);
+        return BASE_POINT_MULTIPLIER.multiply(CURVE.getG(), privKey);
     }
 
     /**
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+public class BatchTransactionSignerTest {
+
+    @Test
+    public void testSignAssignsNoncesInOrder() {
+        List<RawTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            transactions.add(createTransaction(BigInteger.ZERO, i));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<BatchTransactionSigner.SignedTransaction> signed;
+        try {
+            signed =
+                    BatchTransactionSigner.create(1L, SampleKeys.CREDENTIALS, pool)
+                            .sign(transactions, BigInteger.TEN);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(signed.size(), is(transactions.size()));
+        for (int i = 0; i < transactions.size(); i++) {
+            BigInteger nonce = BigInteger.valueOf(10 + i);
+            byte[] expected =
+                    TransactionEncoder.signMessage(
+                            createTransaction(nonce, i), 1L, SampleKeys.CREDENTIALS);
+
+            BatchTransactionSigner.SignedTransaction signedTransaction = signed.get(i);
+            assertThat(signedTransaction.getNonce(), is(nonce));
+            assertArrayEquals(expected, signedTransaction.getSignedMessage());
+            assertThat(
+                    signedTransaction.getTransactionHash(),
+                    is(Numeric.toHexString(Hash.sha3(expected))));
+        }
+    }
+
+    @Test
+    public void testSignKeepsNonces() {
+        List<RawTransaction> transactions = new ArrayList<>();
+        transactions.add(createTransaction(BigInteger.valueOf(5), 0));
+        transactions.add(createTransaction(BigInteger.valueOf(3), 1));
+
+        List<BatchTransactionSigner.SignedTransaction> signed =
+                BatchTransactionSigner.create(SampleKeys.CREDENTIALS).sign(transactions);
+
+        assertThat(signed.get(0).getNonce(), is(BigInteger.valueOf(5)));
+        assertThat(signed.get(1).getNonce(), is(BigInteger.valueOf(3)));
+        assertArrayEquals(
+                TransactionEncoder.signMessage(transactions.get(1), SampleKeys.CREDENTIALS),
+                signed.get(1).getSignedMessage());
+    }
+
+    private static RawTransaction createTransaction(BigInteger nonce, int value) {
+        return RawTransaction.createEtherTransaction(
+                nonce,
+                BigInteger.ONE,
+                BigInteger.valueOf(21000),
+                "0xadd5355",
+                BigInteger.valueOf(value));
+    }
+}
@@ -44,6 +44,23 @@ public class SignTest {
         assertThat(signatureData, is(expected));
     }
 
+    @Test
+    public void testSignMessageRecoveryId() throws SignatureException {
+        for (int i = 1; i <= 64; i++) {
+            ECKeyPair keyPair = ECKeyPair.create(Hash.sha3(BigInteger.valueOf(i).toByteArray()));
+            byte[] messageHash = Hash.sha3(BigInteger.valueOf(-i).toByteArray());
+
+            Sign.SignatureData signatureData = Sign.signMessage(messageHash, keyPair, false);
+
+            ECDSASignature expected = keyPair.sign(messageHash);
+            assertThat(Numeric.toBigInt(signatureData.getR()), equalTo(expected.r));
+            assertThat(Numeric.toBigInt(signatureData.getS()), equalTo(expected.s));
+            assertThat(
+                    Sign.signedMessageHashToKey(messageHash, signatureData),
+                    equalTo(keyPair.getPublicKey()));
+        }
+    }
+
     @Test
     public void testSignedMessageToKey() throws SignatureException {
         Sign.SignatureData signatureData =
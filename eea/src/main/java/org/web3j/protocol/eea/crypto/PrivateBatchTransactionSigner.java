@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.eea.crypto;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+import org.web3j.crypto.BatchTransactionSigner;
+import org.web3j.crypto.Credentials;
+
+/**
+ * Factory methods for {@link BatchTransactionSigner}s of private transactions.
+ *
+ * <p>Signed private transactions carry no transaction hash: the hash returned when one is sent is
+ * the hash of the privacy marker transaction created by the node, not of the signed payload.
+ */
+public class PrivateBatchTransactionSigner {
+
+    private PrivateBatchTransactionSigner() {}
+
+    public static BatchTransactionSigner<RawPrivateTransaction> create(
+            final Credentials credentials) {
+        return create(credentials, ForkJoinPool.commonPool());
+    }
+
+    public static BatchTransactionSigner<RawPrivateTransaction> create(
+            final Credentials credentials, final ForkJoinPool pool) {
+        return new BatchTransactionSigner<>(
+                PrivateBatchTransactionSigner::withNonce,
+                rawTransaction ->
+                        PrivateTransactionEncoder.signMessage(rawTransaction, credentials),
+                pool,
+                false);
+    }
+
+    public static BatchTransactionSigner<RawPrivateTransaction> create(
+            final long chainId, final Credentials credentials) {
+        return create(chainId, credentials, ForkJoinPool.commonPool());
+    }
+
+    public static BatchTransactionSigner<RawPrivateTransaction> create(
+            final long chainId, final Credentials credentials, final ForkJoinPool pool) {
+        return new BatchTransactionSigner<>(
+                PrivateBatchTransactionSigner::withNonce,
+                rawTransaction ->
+                        PrivateTransactionEncoder.signMessage(rawTransaction, chainId, credentials),
+                pool,
+                false);
+    }
+
+    private static RawPrivateTransaction withNonce(
+            final RawPrivateTransaction rawTransaction, final BigInteger nonce) {
+        return new RawPrivateTransaction(
+                nonce,
+                rawTransaction.getGasPrice(),
+                rawTransaction.getGasLimit(),
+                rawTransaction.getTo(),
+                rawTransaction.getData(),
+                rawTransaction.getPrivateFrom(),
+                rawTransaction.getPrivateFor().orElse(null),
+                rawTransaction.getPrivacyGroupId().orElse(null),
+                rawTransaction.getRestriction());
+    }
+}
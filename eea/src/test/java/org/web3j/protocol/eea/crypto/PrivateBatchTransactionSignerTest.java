@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.eea.crypto;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import org.web3j.crypto.BatchTransactionSigner;
+import org.web3j.crypto.Credentials;
+import org.web3j.utils.Base64String;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.web3j.utils.Restriction.RESTRICTED;
+
+public class PrivateBatchTransactionSignerTest {
+
+    private static final Base64String MOCK_ENCLAVE_KEY =
+            Base64String.wrap("A1aVtMxLCUHmBVHXoZzzBgPbW/wj5axDpW9X8l91SGo=");
+    private static final Base64String MOCK_PRIVACY_GROUP_ID =
+            Base64String.wrap("DyAOiF/ynpc+JXa2YAGB0bCitSlOMNm+ShmB/7M6C4w=");
+    private static final Credentials CREDENTIALS =
+            Credentials.create("8f2a55949038a9610f50fb23b5883af3b4ecb3c3bb792cbcefbd1542c692be63");
+    private static final long CHAIN_ID = 2018;
+
+    @Test
+    public void testSignAssignsNoncesInOrder() {
+        List<RawPrivateTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            transactions.add(createTransaction(BigInteger.ZERO, i));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<BatchTransactionSigner.SignedTransaction> signed;
+        try {
+            signed =
+                    PrivateBatchTransactionSigner.create(CHAIN_ID, CREDENTIALS, pool)
+                            .sign(transactions, BigInteger.TEN);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(transactions.size(), signed.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            BigInteger nonce = BigInteger.valueOf(10 + i);
+            BatchTransactionSigner.SignedTransaction signedTransaction = signed.get(i);
+
+            assertEquals(nonce, signedTransaction.getNonce());
+            assertArrayEquals(
+                    PrivateTransactionEncoder.signMessage(
+                            createTransaction(nonce, i), CHAIN_ID, CREDENTIALS),
+                    signedTransaction.getSignedMessage());
+            // the privacy marker transaction hash is only known once sent
+            assertNull(signedTransaction.getTransactionHash());
+        }
+    }
+
+    @Test
+    public void testSignKeepsNonces() {
+        List<RawPrivateTransaction> transactions = new ArrayList<>();
+        transactions.add(createTransaction(BigInteger.valueOf(5), 0));
+        transactions.add(createTransaction(BigInteger.valueOf(3), 1));
+
+        List<BatchTransactionSigner.SignedTransaction> signed =
+                PrivateBatchTransactionSigner.create(CREDENTIALS).sign(transactions);
+
+        assertEquals(BigInteger.valueOf(5), signed.get(0).getNonce());
+        assertEquals(BigInteger.valueOf(3), signed.get(1).getNonce());
+        assertArrayEquals(
+                PrivateTransactionEncoder.signMessage(transactions.get(1), CREDENTIALS),
+                signed.get(1).getSignedMessage());
+    }
+
+    private static RawPrivateTransaction createTransaction(BigInteger nonce, int index) {
+        return new RawPrivateTransaction(
+                nonce,
+                BigInteger.valueOf(1000),
+                BigInteger.valueOf(3000000),
+                "0x627306090abab3a6e1400e9345bc60c78a8bef57",
+                "0x" + Integer.toHexString(0x100 + index),
+                MOCK_ENCLAVE_KEY,
+                null,
+                MOCK_PRIVACY_GROUP_ID,
+                RESTRICTED);
+    }
+}
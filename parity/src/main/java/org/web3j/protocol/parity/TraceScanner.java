@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.parity;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.parity.methods.request.TraceFilter;
+import org.web3j.protocol.parity.methods.response.FullTraceInfo;
+import org.web3j.protocol.parity.methods.response.Trace;
+import org.web3j.protocol.parity.methods.response.TraceParser;
+
+/**
+ * Traces block ranges with {@code trace_block} or {@code trace_filter}, with several requests in
+ * flight at once.
+ *
+ * <p>Traces are emitted in block order, and at most {@code parallelism} blocks or filter ranges are
+ * requested or buffered at any time. Responses are read with a {@link TraceParser}, so only the
+ * traces of the ranges in flight are held in memory.
+ *
+ * <p>Filters are split into ranges of {@code blocksPerFilter} blocks. A range the node refuses to
+ * trace because of its size is split in two, and later ranges are made smaller as well.
+ *
+ * <pre>
+ *     new TraceScanner(parity, Schedulers.io(), 16, 100)
+ *             .traceBlocks(BigInteger.valueOf(9_000_000), BigInteger.valueOf(9_999_999))
+ *             .subscribe(trace -&gt; ...);
+ * </pre>
+ */
+public class TraceScanner {
+
+    public static final int DEFAULT_PARALLELISM = 8;
+    public static final int DEFAULT_BLOCKS_PER_FILTER = 100;
+
+    private final Parity parity;
+    private final Scheduler scheduler;
+    private final int parallelism;
+    private final AtomicInteger blocksPerFilter;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong splits = new AtomicLong();
+
+    public TraceScanner(Parity parity) {
+        this(parity, Schedulers.io(), DEFAULT_PARALLELISM, DEFAULT_BLOCKS_PER_FILTER);
+    }
+
+    /**
+     * Creates a scanner.
+     *
+     * @param parity client sending the trace requests
+     * @param scheduler scheduler the requests are sent on
+     * @param parallelism maximum number of requests in flight
+     * @param blocksPerFilter initial number of blocks per {@code trace_filter} request
+     */
+    public TraceScanner(Parity parity, Scheduler scheduler, int parallelism, int blocksPerFilter) {
+        if (parallelism <= 0 || blocksPerFilter <= 0) {
+            throw new IllegalArgumentException(
+                    "Parallelism and blocks per filter must be positive");
+        }
+        this.parity = parity;
+        this.scheduler = scheduler;
+        this.parallelism = parallelism;
+        this.blocksPerFilter = new AtomicInteger(blocksPerFilter);
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits the traces of all blocks in the requested
+     * range, with one {@code trace_block} request per block.
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock block number to finish with
+     * @return a {@link Flowable} instance to emit traces in the order of the blocks
+     */
+    public Flowable<Trace> traceBlocks(BigInteger startBlock, BigInteger endBlock) {
+        long start = startBlock.longValueExact();
+        long count = endBlock.longValueExact() - start + 1;
+        if (count <= 0) {
+            return Flowable.empty();
+        }
+        return Flowable.rangeLong(start, count)
+                .concatMapEager(
+                        blockNumber ->
+                                traces(
+                                        () ->
+                                                traceBlock(
+                                                        DefaultBlockParameter.valueOf(
+                                                                BigInteger.valueOf(blockNumber)))),
+                        parallelism,
+                        1);
+    }
+
+    /**
+     * Creates a {@link Flowable} instance that emits the traces matching a filter, splitting its
+     * block range into several {@code trace_filter} requests.
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock block number to finish with
+     * @param fromAddresses addresses the traces are sent from, or null for any address
+     * @param toAddresses addresses the traces are sent to, or null for any address
+     * @return a {@link Flowable} instance to emit traces in the order of the blocks
+     */
+    public Flowable<Trace> traceFilter(
+            BigInteger startBlock,
+            BigInteger endBlock,
+            List<String> fromAddresses,
+            List<String> toAddresses) {
+        long end = endBlock.longValueExact();
+        return Flowable.<long[], long[]>generate(
+                        () -> new long[] {startBlock.longValueExact()},
+                        (next, emitter) -> {
+                            if (next[0] > end) {
+                                emitter.onComplete();
+                            } else {
+                                // picks up ranges made smaller by earlier size errors
+                                long to = Math.min(end, next[0] + blocksPerFilter.get() - 1);
+                                emitter.onNext(new long[] {next[0], to});
+                                next[0] = to + 1;
+                            }
+                            return next;
+                        })
+                .concatMapEager(
+                        range ->
+                                traces(
+                                        () ->
+                                                traceFilter(
+                                                        range[0],
+                                                        range[1],
+                                                        fromAddresses,
+                                                        toAddresses)),
+                        parallelism,
+                        1);
+    }
+
+    /**
+     * Returns the number of trace requests sent.
+     *
+     * @return number of requests
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * Returns the number of filter ranges split because of their size.
+     *
+     * @return number of splits
+     */
+    public long getSplitCount() {
+        return splits.get();
+    }
+
+    /**
+     * Returns whether an error means that the range of a filter has to be made smaller.
+     *
+     * @param error error returned by {@code trace_filter}
+     * @return true if the range should be split
+     */
+    protected boolean isSizeError(Response.Error error) {
+        String message = error.getMessage() == null ? "" : error.getMessage().toLowerCase();
+        return message.contains("too many")
+                || message.contains("too large")
+                || message.contains("limit")
+                || message.contains("exceed")
+                || message.contains("size")
+                || message.contains("timeout")
+                || message.contains("timed out");
+    }
+
+    private Flowable<Trace> traces(TraceRequest request) {
+        return Flowable.fromCallable(request::call)
+                .subscribeOn(scheduler)
+                .flatMapIterable(traces -> traces);
+    }
+
+    private List<Trace> traceBlock(DefaultBlockParameter block) throws IOException {
+        List<Trace> traces = new ArrayList<>();
+        Response<FullTraceInfo> response = send(parity.traceBlock(block), traces);
+        if (response.hasError()) {
+            throw new IOException(
+                    "Error tracing block "
+                            + block.getValue()
+                            + ": "
+                            + response.getError().getMessage());
+        }
+        return traces;
+    }
+
+    private List<Trace> traceFilter(
+            long from, long to, List<String> fromAddresses, List<String> toAddresses)
+            throws IOException {
+        List<Trace> traces = new ArrayList<>();
+        Response<FullTraceInfo> response =
+                send(
+                        parity.traceFilter(
+                                new TraceFilter(
+                                        DefaultBlockParameter.valueOf(BigInteger.valueOf(from)),
+                                        DefaultBlockParameter.valueOf(BigInteger.valueOf(to)),
+                                        fromAddresses,
+                                        toAddresses)),
+                        traces);
+        if (!response.hasError()) {
+            return traces;
+        }
+
+        if (from < to && isSizeError(response.getError())) {
+            splits.incrementAndGet();
+            long blocks = to - from + 1;
+            blocksPerFilter.accumulateAndGet((int) Math.max(1, blocks / 2), Math::min);
+
+            long middle = from + blocks / 2 - 1;
+            List<Trace> split = traceFilter(from, middle, fromAddresses, toAddresses);
+            split.addAll(traceFilter(middle + 1, to, fromAddresses, toAddresses));
+            return split;
+        }
+        throw new IOException(
+                "Error tracing blocks "
+                        + from
+                        + " to "
+                        + to
+                        + ": "
+                        + response.getError().getMessage());
+    }
+
+    private Response<FullTraceInfo> send(Request<?, ?> request, List<Trace> traces)
+            throws IOException {
+        requests.incrementAndGet();
+        Response<FullTraceInfo> response =
+                request.sendStreaming(
+                        new TraceParser(
+                                new TraceParser.Visitor() {
+                                    @Override
+                                    public void visitTrace(Trace trace) {
+                                        traces.add(trace);
+                                    }
+                                },
+                                EnumSet.noneOf(TraceParser.Field.class)));
+        if (response == null) {
+            throw new IOException("No response to trace request");
+        }
+        return response;
+    }
+
+    private interface TraceRequest {
+        List<Trace> call() throws IOException;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.parity.methods.response;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.web3j.protocol.core.ResultParser;
+
+/**
+ * Reads trace results while they are parsed, handing each trace, state diff and VM operation to a
+ * visitor instead of keeping them, so that traces of any size can be processed.
+ *
+ * <p>Both the results of {@code trace_call}, {@code trace_rawTransaction} and {@code
+ * trace_replayTransaction}, and the lists of traces returned by {@code trace_block}, {@code
+ * trace_filter} and {@code trace_transaction} are supported:
+ *
+ * <pre>
+ *     Response&lt;FullTraceInfo&gt; response =
+ *             parity.traceReplayTransaction(hash, Arrays.asList("trace", "vmTrace"))
+ *                     .sendStreaming(
+ *                             new TraceParser(visitor, EnumSet.of(TraceParser.Field.STORAGE)));
+ * </pre>
+ *
+ * <p>VM operations are visited in execution order: an operation with a sub trace, such as a call,
+ * is visited before the operations of its sub trace, which are visited with a depth one higher.
+ * Fields of VM operations which are not selected are skipped while parsing and left {@code null}.
+ */
+public class TraceParser implements ResultParser<FullTraceInfo> {
+
+    /** Optional fields of VM traces. */
+    public enum Field {
+        CODE,
+        MEMORY,
+        PUSH,
+        STORAGE
+    }
+
+    /** Receives the parts of a trace result. */
+    public interface Visitor {
+
+        default void visitTrace(Trace trace) {}
+
+        default void visitStateDiff(String address, StateDiff stateDiff) {}
+
+        /**
+         * Receives the code of a VM trace, if selected, before its operations.
+         *
+         * @param code code executed
+         * @param depth 0 for the transaction, incremented for each nested call
+         */
+        default void visitCode(String code, int depth) {}
+
+        /**
+         * Receives a VM operation, without its sub trace.
+         *
+         * @param operation operation executed
+         * @param depth 0 for the transaction, incremented for each nested call
+         */
+        default void visitVMOperation(VMTrace.VMOperation operation, int depth) {}
+    }
+
+    private final Visitor visitor;
+    private final Set<Field> fields;
+
+    public TraceParser(Visitor visitor) {
+        this(visitor, EnumSet.allOf(Field.class));
+    }
+
+    /**
+     * Creates a parser.
+     *
+     * @param visitor receives the parts of the trace
+     * @param fields optional fields of VM traces to read
+     */
+    public TraceParser(Visitor visitor, Set<Field> fields) {
+        this.visitor = visitor;
+        this.fields = fields.isEmpty() ? EnumSet.noneOf(Field.class) : EnumSet.copyOf(fields);
+    }
+
+    /**
+     * Reads a trace result.
+     *
+     * @return the output of the transaction, without any trace, or an empty instance for lists of
+     *     traces
+     */
+    @Override
+    public FullTraceInfo parse(JsonParser parser) throws IOException {
+        FullTraceInfo fullTraceInfo = new FullTraceInfo();
+        if (parser.getCurrentToken() == JsonToken.START_ARRAY) {
+            parseTraces(parser);
+            return fullTraceInfo;
+        }
+        expect(parser, JsonToken.START_OBJECT);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "output":
+                    fullTraceInfo.setOutput(parser.getValueAsString());
+                    break;
+                case "trace":
+                    if (token == JsonToken.START_ARRAY) {
+                        parseTraces(parser);
+                    }
+                    break;
+                case "stateDiff":
+                    if (token == JsonToken.START_OBJECT) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String address = parser.getCurrentName();
+                            parser.nextToken();
+                            visitor.visitStateDiff(address, parser.readValueAs(StateDiff.class));
+                        }
+                    }
+                    break;
+                case "vmTrace":
+                    if (token == JsonToken.START_OBJECT) {
+                        parseVMTrace(parser, 0);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return fullTraceInfo;
+    }
+
+    private void parseTraces(JsonParser parser) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            visitor.visitTrace(parser.readValueAs(Trace.class));
+        }
+    }
+
+    private void parseVMTrace(JsonParser parser, int depth) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (fieldName.equals("code") && fields.contains(Field.CODE)) {
+                visitor.visitCode(parser.getValueAsString(), depth);
+            } else if (fieldName.equals("ops") && token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    expect(parser, JsonToken.START_OBJECT);
+                    parseVMOperation(parser, depth);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void parseVMOperation(JsonParser parser, int depth) throws IOException {
+        VMTrace.VMOperation operation = new VMTrace.VMOperation();
+        boolean visited = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "cost":
+                    operation.setCost(parseBigInteger(parser));
+                    break;
+                case "pc":
+                    operation.setPc(parseBigInteger(parser));
+                    break;
+                case "ex":
+                    if (token == JsonToken.START_OBJECT) {
+                        operation.setEx(parseEx(parser));
+                    }
+                    break;
+                case "sub":
+                    if (token == JsonToken.START_OBJECT) {
+                        // the sub trace is executed by this operation, so it's visited first
+                        visitor.visitVMOperation(operation, depth);
+                        visited = true;
+                        parseVMTrace(parser, depth + 1);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (!visited) {
+            visitor.visitVMOperation(operation, depth);
+        }
+    }
+
+    private VMTrace.VMOperation.Ex parseEx(JsonParser parser) throws IOException {
+        VMTrace.VMOperation.Ex ex = new VMTrace.VMOperation.Ex();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (fieldName.equals("used")) {
+                ex.setUsed(parseBigInteger(parser));
+            } else if (fieldName.equals("mem")
+                    && token == JsonToken.START_OBJECT
+                    && fields.contains(Field.MEMORY)) {
+                ex.setMem(parser.readValueAs(VMTrace.VMOperation.Ex.Mem.class));
+            } else if (fieldName.equals("store")
+                    && token == JsonToken.START_OBJECT
+                    && fields.contains(Field.STORAGE)) {
+                ex.setStore(parser.readValueAs(VMTrace.VMOperation.Ex.Store.class));
+            } else if (fieldName.equals("push")
+                    && token == JsonToken.START_ARRAY
+                    && fields.contains(Field.PUSH)) {
+                List<String> push = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    push.add(parser.getValueAsString());
+                }
+                ex.setPush(push);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return ex;
+    }
+
+    private static BigInteger parseBigInteger(JsonParser parser) throws IOException {
+        switch (parser.getCurrentToken()) {
+            case VALUE_NUMBER_INT:
+                return parser.getBigIntegerValue();
+            case VALUE_STRING:
+                return new BigInteger(parser.getText());
+            default:
+                parser.skipChildren();
+                return null;
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.getCurrentToken() != token) {
+            throw new IOException("Expected " + token + " but found " + parser.getCurrentToken());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.parity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.web3j.protocol.Service;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.parity.methods.response.FullTraceInfo;
+import org.web3j.protocol.parity.methods.response.StateDiff;
+import org.web3j.protocol.parity.methods.response.Trace;
+import org.web3j.protocol.parity.methods.response.TraceParser;
+import org.web3j.protocol.parity.methods.response.VMTrace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TraceParserTest {
+
+    private static final String VM_TRACE =
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{\"output\":\"0x01\","
+                    + "\"stateDiff\":{\"0x00a0a24b9f0e5ec7aa4c7389b8302fd0123194de\":{"
+                    + "\"balance\":\"=\",\"code\":\"=\",\"nonce\":\"=\",\"storage\":{}}},"
+                    + "\"trace\":[],"
+                    + "\"vmTrace\":{\"code\":\"0x6060\",\"ops\":["
+                    + "{\"cost\":20000,\"ex\":{\"mem\":null,\"push\":[],"
+                    + "\"store\":{\"key\":\"0x0\",\"val\":\"0x1\"},\"used\":241835},"
+                    + "\"pc\":79,\"sub\":null},"
+                    + "{\"cost\":9700,\"ex\":{\"mem\":{\"data\":\"0x\",\"off\":96},\"push\":[\"0x1\"],"
+                    + "\"store\":null,\"used\":317494},\"pc\":337,"
+                    + "\"sub\":{\"code\":\"0x6061\",\"ops\":["
+                    + "{\"cost\":3,\"ex\":{\"mem\":null,\"push\":[\"0x60\"],\"store\":null,"
+                    + "\"used\":5753235},\"pc\":0,\"sub\":null}]}},"
+                    + "{\"cost\":3,\"ex\":null,\"pc\":338,\"sub\":null}"
+                    + "]}}}";
+
+    private static final String TRACES =
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":[{"
+                    + "\"action\":{\"callType\":\"call\","
+                    + "\"from\":\"0x14772e4f805b4dd2e69bd6d3f9b5edf0dfa5385a\",\"gas\":\"0x4f6c5\","
+                    + "\"input\":\"0xb46300ec\",\"to\":\"0x781ab1a38837e351bfe1e318c6587766848abffa\","
+                    + "\"value\":\"0x0\"},"
+                    + "\"blockNumber\":4019912,\"subtraces\":0,\"traceAddress\":[],\"type\":\"call\"}"
+                    + "]}";
+
+    @Test
+    public void testVisitsVMOperationsInExecutionOrder() throws IOException {
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        Response<FullTraceInfo> response =
+                parity(VM_TRACE)
+                        .traceReplayTransaction("0x01", Arrays.asList("stateDiff", "vmTrace"))
+                        .sendStreaming(new TraceParser(visitor));
+
+        assertEquals("0x01", response.getResult().getOutput());
+        assertNull(response.getResult().getVmTrace());
+        assertEquals(
+                Collections.singletonList("0x00a0a24b9f0e5ec7aa4c7389b8302fd0123194de"),
+                visitor.stateDiffs);
+        assertEquals(Arrays.asList("0:0x6060", "1:0x6061"), visitor.code);
+        assertEquals(Arrays.asList("0:79", "0:337", "1:0", "0:338"), visitor.operations);
+
+        VMTrace.VMOperation call = visitor.vmOperations.get(1);
+        assertEquals(BigInteger.valueOf(9700), call.getCost());
+        assertNull(call.getSub());
+        assertEquals(BigInteger.valueOf(96), call.getEx().getMem().getOff());
+        assertEquals(Collections.singletonList("0x1"), call.getEx().getPush());
+        assertEquals("0x1", visitor.vmOperations.get(0).getEx().getStore().getVal());
+    }
+
+    @Test
+    public void testSkipsUnselectedFields() throws IOException {
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        parity(VM_TRACE)
+                .traceReplayTransaction("0x01", Collections.singletonList("vmTrace"))
+                .sendStreaming(new TraceParser(visitor, EnumSet.of(TraceParser.Field.PUSH)));
+
+        assertEquals(4, visitor.vmOperations.size());
+        assertEquals(Collections.emptyList(), visitor.code);
+        VMTrace.VMOperation.Ex ex = visitor.vmOperations.get(1).getEx();
+        assertNull(ex.getMem());
+        assertEquals(Collections.singletonList("0x1"), ex.getPush());
+        assertEquals(BigInteger.valueOf(317494), ex.getUsed());
+        assertNull(visitor.vmOperations.get(0).getEx().getStore());
+    }
+
+    @Test
+    public void testVisitsListOfTraces() throws IOException {
+        RecordingVisitor visitor = new RecordingVisitor();
+
+        parity(TRACES)
+                .traceBlock(DefaultBlockParameter.valueOf(BigInteger.valueOf(4019912)))
+                .sendStreaming(new TraceParser(visitor));
+
+        assertEquals(1, visitor.traces.size());
+        Trace.CallAction action = (Trace.CallAction) visitor.traces.get(0).getAction();
+        assertEquals("0xb46300ec", action.getInput());
+    }
+
+    private static Parity parity(String reply) {
+        return Parity.build(
+                new Service(false) {
+                    @Override
+                    protected InputStream performIO(String payload) {
+                        return new ByteArrayInputStream(reply.getBytes(StandardCharsets.UTF_8));
+                    }
+
+                    @Override
+                    public void close() {}
+                });
+    }
+
+    private static class RecordingVisitor implements TraceParser.Visitor {
+
+        final List<Trace> traces = new ArrayList<>();
+        final List<String> stateDiffs = new ArrayList<>();
+        final List<String> code = new ArrayList<>();
+        final List<String> operations = new ArrayList<>();
+        final List<VMTrace.VMOperation> vmOperations = new ArrayList<>();
+
+        @Override
+        public void visitTrace(Trace trace) {
+            traces.add(trace);
+        }
+
+        @Override
+        public void visitStateDiff(String address, StateDiff stateDiff) {
+            stateDiffs.add(address);
+        }
+
+        @Override
+        public void visitCode(String code, int depth) {
+            this.code.add(depth + ":" + code);
+        }
+
+        @Override
+        public void visitVMOperation(VMTrace.VMOperation operation, int depth) {
+            operations.add(depth + ":" + operation.getPc());
+            vmOperations.add(operation);
+        }
+    }
+}
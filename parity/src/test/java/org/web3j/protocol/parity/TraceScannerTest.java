@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.parity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.Test;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Service;
+import org.web3j.protocol.parity.methods.response.Trace;
+import org.web3j.utils.Numeric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TraceScannerTest {
+
+    @Test
+    public void testTracesBlocksInOrder() {
+        FakeService service = new FakeService(Integer.MAX_VALUE);
+        TraceScanner scanner = new TraceScanner(Parity.build(service), Schedulers.io(), 4, 10);
+
+        List<Trace> traces =
+                scanner.traceBlocks(BigInteger.valueOf(100), BigInteger.valueOf(149))
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(100, traces.size());
+        for (int i = 0; i < traces.size(); i++) {
+            assertEquals(BigInteger.valueOf(100 + i / 2), traces.get(i).getBlockNumber());
+        }
+        assertEquals(50, scanner.getRequestCount());
+        assertTrue(service.maxConcurrency.get() <= 4);
+    }
+
+    @Test
+    public void testSplitsFilterRangesOnSizeErrors() {
+        FakeService service = new FakeService(8);
+        TraceScanner scanner = new TraceScanner(Parity.build(service), Schedulers.io(), 3, 50);
+
+        List<BigInteger> blockNumbers =
+                scanner.traceFilter(BigInteger.ZERO, BigInteger.valueOf(99), null, null)
+                        .map(Trace::getBlockNumber)
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(200, blockNumbers.size());
+        for (int i = 0; i < blockNumbers.size(); i++) {
+            assertEquals(BigInteger.valueOf(i / 2), blockNumbers.get(i));
+        }
+        assertTrue(scanner.getSplitCount() > 0);
+        assertTrue(service.rangeSizes.stream().allMatch(size -> size <= 50));
+    }
+
+    @Test
+    public void testFailsOnOtherErrors() {
+        FakeService service = new FakeService(0);
+        TraceScanner scanner = new TraceScanner(Parity.build(service), Schedulers.io(), 2, 10);
+
+        scanner.traceFilter(BigInteger.ZERO, BigInteger.ZERO, null, null)
+                .test()
+                .awaitDone(5, TimeUnit.SECONDS)
+                .assertError(IOException.class);
+    }
+
+    /** Replies with two traces per block, refusing filters over more than a number of blocks. */
+    private static class FakeService extends Service {
+
+        private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+        private final int maxFilterBlocks;
+        private final AtomicInteger concurrency = new AtomicInteger();
+        final AtomicInteger maxConcurrency = new AtomicInteger();
+        final Set<Long> rangeSizes = ConcurrentHashMap.newKeySet();
+
+        FakeService(int maxFilterBlocks) {
+            super(false);
+            this.maxFilterBlocks = maxFilterBlocks;
+        }
+
+        @Override
+        protected InputStream performIO(String payload) throws IOException {
+            int current = concurrency.incrementAndGet();
+            maxConcurrency.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+                return new ByteArrayInputStream(
+                        reply(objectMapper.readTree(payload)).getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                concurrency.decrementAndGet();
+            }
+        }
+
+        private String reply(JsonNode request) {
+            JsonNode param = request.get("params").get(0);
+            long from;
+            long to;
+            if (request.get("method").asText().equals("trace_block")) {
+                from = to = Numeric.toBigInt(param.asText()).longValue();
+            } else {
+                from = Numeric.toBigInt(param.get("fromBlock").asText()).longValue();
+                to = Numeric.toBigInt(param.get("toBlock").asText()).longValue();
+                rangeSizes.add(to - from + 1);
+                if (to - from + 1 > maxFilterBlocks) {
+                    String message =
+                            maxFilterBlocks == 0 ? "Unknown block" : "Response size limit exceeded";
+                    return "{\"jsonrpc\":\"2.0\",\"id\":"
+                            + request.get("id")
+                            + ",\"error\":{\"code\":-32000,\"message\":\""
+                            + message
+                            + "\"}}";
+                }
+            }
+
+            StringBuilder result = new StringBuilder();
+            for (long block = from; block <= to; block++) {
+                for (int i = 0; i < 2; i++) {
+                    result.append(result.length() == 0 ? "" : ",")
+                            .append("{\"action\":{\"author\":\"0x01\",\"rewardType\":\"block\",")
+                            .append("\"value\":\"0x1\"},\"blockNumber\":")
+                            .append(block)
+                            .append(",\"subtraces\":0,\"traceAddress\":[],\"type\":\"reward\"}");
+                }
+            }
+            return "{\"jsonrpc\":\"2.0\",\"id\":"
+                    + request.get("id")
+                    + ",\"result\":["
+                    + result
+                    + "]}";
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -21,7 +21,6 @@ import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.macs.HMac;
 import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.jcajce.provider.digest.Blake2b;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import org.web3j.utils.Numeric;
 
@@ -67,9 +66,7 @@ public class Hash {
      * @return hash value
      */
     public static byte[] sha3(byte[] input, int offset, int length) {
-        Keccak.DigestKeccak kecc = new Keccak.Digest256();
-        kecc.update(input, offset, length);
-        return kecc.digest();
+        return Keccak256.hash(input, offset, length);
     }
 
     /**
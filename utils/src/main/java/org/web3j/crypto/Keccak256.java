@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.nio.ByteBuffer;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+
+/**
+ * Keccak-256 hash function backed by a digest which is reused per thread.
+ *
+ * <p>The methods writing to a caller provided output array do not allocate, which makes them
+ * suitable for hashing on hot paths.
+ */
+public final class Keccak256 {
+
+    public static final int DIGEST_LENGTH = 32;
+
+    private static final int BUFFER_SIZE = 1024;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private Keccak256() {}
+
+    /**
+     * Hashes the input data.
+     *
+     * @param input binary encoded input data
+     * @return hash value
+     */
+    public static byte[] hash(byte[] input) {
+        return hash(input, 0, input.length);
+    }
+
+    /**
+     * Hashes a range of the input data.
+     *
+     * @param input binary encoded input data
+     * @param offset of start of data
+     * @param length of data
+     * @return hash value
+     */
+    public static byte[] hash(byte[] input, int offset, int length) {
+        byte[] out = new byte[DIGEST_LENGTH];
+        hash(input, offset, length, out, 0);
+        return out;
+    }
+
+    /**
+     * Hashes a range of the input data into the given output array.
+     *
+     * @param input binary encoded input data
+     * @param offset of start of data
+     * @param length of data
+     * @param out array to write the 32 byte hash value to
+     * @param outOffset offset in out to write the hash value at
+     */
+    public static void hash(byte[] input, int offset, int length, byte[] out, int outOffset) {
+        checkRange(input.length, offset, length);
+        checkOutput(out, outOffset);
+        KeccakDigest digest = STATE.get().digest;
+        try {
+            digest.update(input, offset, length);
+            digest.doFinal(out, outOffset);
+        } catch (RuntimeException e) {
+            digest.reset();
+            throw e;
+        }
+    }
+
+    /**
+     * Hashes the remaining bytes of the buffer into the given output array. The position of the
+     * buffer is advanced to its limit.
+     *
+     * @param input buffer holding the input data
+     * @param out array to write the 32 byte hash value to
+     * @param outOffset offset in out to write the hash value at
+     */
+    public static void hash(ByteBuffer input, byte[] out, int outOffset) {
+        checkOutput(out, outOffset);
+        State state = STATE.get();
+        try {
+            update(state, input);
+            state.digest.doFinal(out, outOffset);
+        } catch (RuntimeException e) {
+            state.digest.reset();
+            throw e;
+        }
+    }
+
+    /**
+     * Hashes the concatenation of the inputs, without copying them into a single array first.
+     *
+     * @param inputs binary encoded input data
+     * @return hash value
+     */
+    public static byte[] hash(byte[]... inputs) {
+        byte[] out = new byte[DIGEST_LENGTH];
+        hash(inputs, out, 0);
+        return out;
+    }
+
+    /**
+     * Hashes the concatenation of the inputs into the given output array.
+     *
+     * @param inputs binary encoded input data
+     * @param out array to write the 32 byte hash value to
+     * @param outOffset offset in out to write the hash value at
+     */
+    public static void hash(byte[][] inputs, byte[] out, int outOffset) {
+        checkOutput(out, outOffset);
+        KeccakDigest digest = STATE.get().digest;
+        try {
+            for (byte[] input : inputs) {
+                digest.update(input, 0, input.length);
+            }
+            digest.doFinal(out, outOffset);
+        } catch (RuntimeException e) {
+            digest.reset();
+            throw e;
+        }
+    }
+
+    /**
+     * Hashes the concatenation of the remaining bytes of each buffer into the given output array.
+     * The position of each buffer is advanced to its limit.
+     *
+     * @param inputs buffers holding the input data
+     * @param out array to write the 32 byte hash value to
+     * @param outOffset offset in out to write the hash value at
+     */
+    public static void hash(ByteBuffer[] inputs, byte[] out, int outOffset) {
+        checkOutput(out, outOffset);
+        State state = STATE.get();
+        try {
+            for (ByteBuffer input : inputs) {
+                update(state, input);
+            }
+            state.digest.doFinal(out, outOffset);
+        } catch (RuntimeException e) {
+            state.digest.reset();
+            throw e;
+        }
+    }
+
+    private static void checkRange(int size, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > size - length) {
+            throw new IndexOutOfBoundsException(
+                    "Range ["
+                            + offset
+                            + ", "
+                            + offset
+                            + " + "
+                            + length
+                            + ") out of bounds for length "
+                            + size);
+        }
+    }
+
+    private static void checkOutput(byte[] out, int outOffset) {
+        if (outOffset < 0 || outOffset > out.length - DIGEST_LENGTH) {
+            throw new IndexOutOfBoundsException(
+                    "Output of length "
+                            + out.length
+                            + " too small for hash at offset "
+                            + outOffset);
+        }
+    }
+
+    private static void update(State state, ByteBuffer input) {
+        if (input.hasArray()) {
+            state.digest.update(
+                    input.array(), input.arrayOffset() + input.position(), input.remaining());
+            input.position(input.limit());
+        } else {
+            while (input.hasRemaining()) {
+                int length = Math.min(input.remaining(), BUFFER_SIZE);
+                input.get(state.buffer, 0, length);
+                state.digest.update(state.buffer, 0, length);
+            }
+        }
+    }
+
+    private static class State {
+        private final KeccakDigest digest = new KeccakDigest(256);
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import org.web3j.crypto.Keccak256;
+
+/**
+ * The 2048 bit bloom filter of the logs of a block or transaction receipt, as found in their {@code
+ * logsBloom} field.
+ *
+ * <p>Log addresses and topics are added to the filter by setting three bits selected by the
+ * Keccak-256 hash of the value. A {@link Key} precomputes these bits, so that testing a value
+ * against many filters costs three byte lookups per filter.
+ */
+public final class Bloom {
+
+    public static final int BYTES = 256;
+
+    private final byte[] bits;
+
+    public Bloom(byte[] bits) {
+        if (bits.length != BYTES) {
+            throw new IllegalArgumentException("Bloom filter must be " + BYTES + " bytes long");
+        }
+        this.bits = bits;
+    }
+
+    public static Bloom fromHex(String logsBloom) {
+        return new Bloom(Numeric.hexStringToByteArray(logsBloom));
+    }
+
+    /**
+     * Returns whether a value may have been added to the filter. False positives are possible,
+     * false negatives are not.
+     *
+     * @param key value to test
+     * @return false if the value was certainly not added
+     */
+    public boolean mightContain(Key key) {
+        for (int i = 0; i < Key.BITS; i++) {
+            if ((bits[key.byteIndex[i]] & key.mask[i]) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether any of the given values may have been added to the filter.
+     *
+     * @param keys values to test
+     * @return false if none of the values was added
+     */
+    public boolean mightContainAny(Key... keys) {
+        for (Key key : keys) {
+            if (mightContain(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** The bits set in a bloom filter for an address or topic. */
+    public static final class Key {
+        static final int BITS = 3;
+
+        private final int[] byteIndex = new int[BITS];
+        private final byte[] mask = new byte[BITS];
+
+        private Key(byte[] value) {
+            byte[] hash = Keccak256.hash(value);
+            for (int i = 0; i < BITS; i++) {
+                // the low 11 bits of each of the first three pairs of bytes select a bit
+                int bit = ((hash[2 * i] & 0x07) << 8) | (hash[2 * i + 1] & 0xff);
+                byteIndex[i] = BYTES - 1 - (bit >>> 3);
+                mask[i] = (byte) (1 << (bit & 0x07));
+            }
+        }
+
+        /**
+         * Creates the key for a 20 byte address or 32 byte topic in hex.
+         *
+         * @param value hex encoded address or topic
+         * @return bloom key
+         */
+        public static Key of(String value) {
+            return new Key(Numeric.hexStringToByteArray(value));
+        }
+
+        public static Key of(byte[] value) {
+            return new Key(value);
+        }
+
+        /**
+         * Sets the bits of this key in a bloom filter.
+         *
+         * @param bits bloom filter bits
+         */
+        public void addTo(byte[] bits) {
+            for (int i = 0; i < BITS; i++) {
+                bits[byteIndex[i]] |= mask[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class Keccak256Test {
+
+    private static final byte[] INPUT = "hello world".getBytes(StandardCharsets.UTF_8);
+    private static final String EXPECTED =
+            "0x47173285a8d7341e5e972fc677286384f802f8ef42a5ec5f03bbfa254cb01fad";
+
+    @Test
+    public void testHash() {
+        assertThat(Numeric.toHexString(Keccak256.hash(INPUT)), is(EXPECTED));
+        // the digest is reused, so make sure it was reset by the previous call
+        assertThat(Numeric.toHexString(Keccak256.hash(INPUT)), is(EXPECTED));
+    }
+
+    @Test
+    public void testHashIntoOutput() {
+        byte[] input = new byte[INPUT.length + 4];
+        System.arraycopy(INPUT, 0, input, 2, INPUT.length);
+        byte[] out = new byte[Keccak256.DIGEST_LENGTH + 1];
+
+        Keccak256.hash(input, 2, INPUT.length, out, 1);
+
+        assertThat(Numeric.toHexString(out, 1, Keccak256.DIGEST_LENGTH, true), is(EXPECTED));
+    }
+
+    @Test
+    public void testHashByteBuffer() {
+        byte[] out = new byte[Keccak256.DIGEST_LENGTH];
+
+        ByteBuffer heap = ByteBuffer.wrap(INPUT);
+        Keccak256.hash(heap, out, 0);
+        assertThat(Numeric.toHexString(out), is(EXPECTED));
+        assertThat(heap.hasRemaining(), is(false));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(INPUT.length);
+        direct.put(INPUT).flip();
+        Keccak256.hash(direct, out, 0);
+        assertThat(Numeric.toHexString(out), is(EXPECTED));
+    }
+
+    @Test
+    public void testHashGather() {
+        byte[] hello = "hello".getBytes(StandardCharsets.UTF_8);
+        byte[] world = " world".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(Numeric.toHexString(Keccak256.hash(hello, world)), is(EXPECTED));
+
+        byte[] out = new byte[Keccak256.DIGEST_LENGTH];
+        Keccak256.hash(new ByteBuffer[] {ByteBuffer.wrap(hello), ByteBuffer.wrap(world)}, out, 0);
+        assertThat(Numeric.toHexString(out), is(EXPECTED));
+    }
+
+    @Test
+    public void testFailedCallLeavesDigestUsable() {
+        try {
+            Keccak256.hash(INPUT, 0, 3, new byte[16], 0);
+            fail();
+        } catch (IndexOutOfBoundsException expected) {
+        }
+        try {
+            Keccak256.hash(INPUT, 4, INPUT.length, new byte[Keccak256.DIGEST_LENGTH], 0);
+            fail();
+        } catch (IndexOutOfBoundsException expected) {
+        }
+        try {
+            // fails after the first input has been absorbed
+            Keccak256.hash(new byte[][] {INPUT, null}, new byte[Keccak256.DIGEST_LENGTH], 0);
+            fail();
+        } catch (NullPointerException expected) {
+        }
+
+        assertThat(Numeric.toHexString(Keccak256.hash(INPUT)), is(EXPECTED));
+        assertThat(Numeric.toHexString(Hash.sha3(INPUT)), is(EXPECTED));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 Web3 Labs LTD.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import org.junit.Test;
+
+import org.web3j.crypto.Keccak256;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BloomTest {
+
+    private static final String ADDRESS = "0x52bc44d5378309ee2abf1539bf71de1b7d7be3b5";
+    private static final String TOPIC =
+            "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+
+    @Test
+    public void testEmptyBloomContainsNothing() {
+        Bloom bloom = new Bloom(new byte[Bloom.BYTES]);
+
+        assertThat(bloom.mightContain(Bloom.Key.of(ADDRESS)), is(false));
+    }
+
+    @Test
+    public void testContainsAddedKeys() {
+        byte[] bits = new byte[Bloom.BYTES];
+        Bloom.Key.of(ADDRESS).addTo(bits);
+        Bloom.Key.of(TOPIC).addTo(bits);
+        Bloom bloom = Bloom.fromHex(Numeric.toHexString(bits));
+
+        assertThat(bloom.mightContain(Bloom.Key.of(ADDRESS)), is(true));
+        assertThat(bloom.mightContain(Bloom.Key.of(TOPIC)), is(true));
+        assertThat(
+                bloom.mightContainAny(Bloom.Key.of(TOPIC.replace('d', 'e')), Bloom.Key.of(TOPIC)),
+                is(true));
+        assertThat(bloom.mightContain(Bloom.Key.of(TOPIC.replace('d', 'e'))), is(false));
+    }
+
+    @Test
+    public void testBitPositions() {
+        byte[] value = Numeric.hexStringToByteArray(ADDRESS);
+        byte[] hash = Keccak256.hash(value);
+        byte[] bits = new byte[Bloom.BYTES];
+        Bloom.Key.of(value).addTo(bits);
+
+        // bit positions as in the yellow paper: the low 11 bits of the first three byte pairs,
+        // counted from the least significant bit of the big-endian 2048 bit value
+        byte[] expected = new byte[Bloom.BYTES];
+        for (int i = 0; i < 6; i += 2) {
+            int bit = ((hash[i] & 0xff) << 8 | (hash[i + 1] & 0xff)) & 2047;
+            expected[Bloom.BYTES - 1 - bit / 8] |= (byte) (1 << (bit % 8));
+        }
+        assertThat(bits, is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsWrongLength() {
+        new Bloom(new byte[32]);
+    }
+}